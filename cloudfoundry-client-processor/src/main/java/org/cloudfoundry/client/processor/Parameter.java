@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.processor;
+
+/**
+ * A parameter discovered on a request type
+ */
+final class Parameter {
+
+    private final String accessor;
+
+    private final Kind kind;
+
+    private final String name;
+
+    Parameter(Kind kind, String accessor, String name) {
+        this.accessor = accessor;
+        this.kind = kind;
+        this.name = name;
+    }
+
+    String getAccessor() {
+        return this.accessor;
+    }
+
+    Kind getKind() {
+        return this.kind;
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    boolean isFilter() {
+        return this.kind != Kind.QUERY;
+    }
+
+    /**
+     * The kinds of parameter, and the {@code QueryWriter} method used to write each
+     */
+    enum Kind {
+
+        QUERY("addQuery"),
+
+        V2_FILTER("addV2Filter"),
+
+        V3_FILTER("addV3Filter");
+
+        private final String methodName;
+
+        Kind(String methodName) {
+            this.methodName = methodName;
+        }
+
+        String getMethodName() {
+            return this.methodName;
+        }
+
+    }
+
+}
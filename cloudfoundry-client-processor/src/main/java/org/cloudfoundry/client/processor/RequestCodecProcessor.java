@@ -0,0 +1,401 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An annotation processor that generates a {@code QueryWriter} for each request type that declares a {@code RequestPath}, or has methods annotated with {@code QueryParameter}, a V2
+ * {@code FilterParameter} meta-annotation, or a V3 {@code FilterParameter}.  A {@code GeneratedQueryWriters} registry mapping each request type to its writer is generated alongside them so that
+ * paths and parameters can be rendered without runtime reflection.  A request type for which a writer cannot be generated fails the build.
+ */
+@SupportedAnnotationTypes("org.cloudfoundry.client.*")
+public final class RequestCodecProcessor extends AbstractProcessor {
+
+    static final String QUERY_PARAMETER = "org.cloudfoundry.client.QueryParameter";
+
+    static final String QUERY_WRITER = "org.cloudfoundry.client.QueryWriter";
+
+    static final String REGISTRY_NAME = "GeneratedQueryWriters";
+
+    static final String REGISTRY_PACKAGE = "org.cloudfoundry.client";
+
+    static final String REQUEST_PATH = "org.cloudfoundry.client.RequestPath";
+
+    static final String V2_FILTER_PARAMETER = "org.cloudfoundry.client.v2.FilterParameter";
+
+    static final String V3_FILTER_PARAMETER = "org.cloudfoundry.client.v3.FilterParameter";
+
+    static final String WRITER_SUFFIX = "QueryWriter";
+
+    private final Map<String, String> writers = new TreeMap<>();
+
+    private boolean registryWritten = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (this.registryWritten) {
+            return false;
+        }
+
+        for (TypeElement type : getTypes(roundEnv.getRootElements())) {
+            String path = getPath(type);
+            List<Parameter> parameters = getParameters(type);
+
+            if (parameters == null || (path == null && parameters.isEmpty()) || !isCandidate(type, path)) {
+                continue;
+            }
+
+            List<String> variables = path != null ? getVariables(type, path) : Collections.<String>emptyList();
+            if (variables != null) {
+                writeWriter(type, path, variables, parameters);
+            }
+        }
+
+        if (!this.writers.isEmpty()) {
+            writeRegistry();
+            this.registryWritten = true;
+        }
+
+        return false;
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+    private static String getAccessorName(String variable) {
+        return "get" + Character.toUpperCase(variable.charAt(0)) + variable.substring(1);
+    }
+
+    private static String getQualifiedName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static List<TypeElement> getTypes(Collection<? extends Element> elements) {
+        List<TypeElement> types = new ArrayList<>();
+
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            if (type.getKind() == ElementKind.CLASS) {
+                types.add(type);
+            }
+
+            types.addAll(getTypes(type.getEnclosedElements()));
+        }
+
+        return types;
+    }
+
+    private static String getWriterName(TypeElement type) {
+        StringBuilder sb = new StringBuilder(WRITER_SUFFIX);
+
+        for (Element element = type; element.getKind().isClass() || element.getKind().isInterface(); element = element.getEnclosingElement()) {
+            sb.insert(0, element.getSimpleName());
+        }
+
+        return sb.toString();
+    }
+
+    private static boolean isAccessor(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC) && method.getParameters().isEmpty();
+    }
+
+    private void error(Element element, String format, Object... arguments) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, arguments), element);
+    }
+
+    private String getAnnotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+
+        return null;
+    }
+
+    private Parameter getParameter(ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            String qualifiedName = getQualifiedName(annotation);
+
+            if (QUERY_PARAMETER.equals(qualifiedName)) {
+                return new Parameter(Parameter.Kind.QUERY, method.getSimpleName().toString(), getAnnotationValue(annotation, "value"));
+            }
+
+            if (V3_FILTER_PARAMETER.equals(qualifiedName)) {
+                return new Parameter(Parameter.Kind.V3_FILTER, method.getSimpleName().toString(), getAnnotationValue(annotation, "value"));
+            }
+
+            for (AnnotationMirror metaAnnotation : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+                if (V2_FILTER_PARAMETER.equals(getQualifiedName(metaAnnotation))) {
+                    String prefix = getAnnotationValue(annotation, "value") + getAnnotationValue(metaAnnotation, "operator");
+                    return new Parameter(Parameter.Kind.V2_FILTER, method.getSimpleName().toString(), prefix);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<Parameter> getParameters(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>(ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type)));
+        Collections.sort(methods, MethodNameComparator.INSTANCE);
+
+        List<Parameter> parameters = new ArrayList<>();
+        for (ExecutableElement method : methods) {
+            Parameter parameter = getParameter(method);
+            if (parameter == null) {
+                continue;
+            }
+
+            if (!isAccessor(method)) {
+                error(method, "Parameter method %s of %s must be a public accessor", method, type);
+                return null;
+            }
+
+            parameters.add(parameter);
+        }
+
+        return parameters;
+    }
+
+    private String getPath(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (REQUEST_PATH.equals(getQualifiedName(annotation))) {
+                return getAnnotationValue(annotation, "value");
+            }
+        }
+
+        return null;
+    }
+
+    private List<String> getVariables(TypeElement type, String path) {
+        List<String> variables = new ArrayList<>();
+        boolean valid = true;
+
+        for (String segment : path.split("/")) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String variable = segment.substring(1, segment.length() - 1);
+                String accessor = getAccessorName(variable);
+
+                if (!hasAccessor(type, accessor)) {
+                    error(type, "Variable {%s} of path '%s' has no public accessor %s() on %s", variable, path, accessor, type);
+                    valid = false;
+                }
+
+                variables.add(variable);
+            } else if (segment.indexOf('{') != -1 || segment.indexOf('}') != -1) {
+                error(type, "Segment '%s' of path '%s' must be either literal or a single variable", segment, path);
+                valid = false;
+            }
+        }
+
+        return valid ? variables : null;
+    }
+
+    private boolean hasAccessor(TypeElement type, String name) {
+        for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) && isAccessor(method)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isCandidate(TypeElement type, String path) {
+        Set<Modifier> modifiers = type.getModifiers();
+
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            if (path != null) {
+                error(type, "Request type %s declares a path but is abstract", type);
+            }
+
+            return false;  // Parameters of an abstract type are written by the writers of its concrete subclasses
+        }
+
+        if (!modifiers.contains(Modifier.PUBLIC) || (type.getNestingKind().isNested() && !modifiers.contains(Modifier.STATIC))) {
+            error(type, "Request type %s must be public and, if nested, static", type);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void writeParameters(PrintWriter out, String methodName, String typeName, List<Parameter> parameters, boolean filters) {
+        out.println("    @Override");
+        out.printf("    public void %s(Object request, Sink sink) {%n", methodName);
+
+        boolean first = true;
+        for (Parameter parameter : parameters) {
+            if (parameter.isFilter() != filters) {
+                continue;
+            }
+
+            if (first) {
+                out.printf("        %s instance = (%s) request;%n", typeName, typeName);
+                first = false;
+            }
+
+            out.printf("        %s(sink, \"%s\", instance.%s());%n", parameter.getKind().getMethodName(), escape(parameter.getName()), parameter.getAccessor());
+        }
+
+        out.println("    }");
+    }
+
+    private void writePath(PrintWriter out, String typeName, String path, List<String> variables) {
+        out.println("    @Override");
+        out.println("    public String getPath() {");
+        out.printf("        return %s;%n", path != null ? "\"" + escape(path) + "\"" : "null");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public Object[] getPathVariables(Object request) {");
+
+        if (variables.isEmpty()) {
+            out.println("        return NO_VARIABLES;");
+        } else {
+            out.printf("        %s instance = (%s) request;%n", typeName, typeName);
+            out.print("        return new Object[]{");
+            for (int i = 0; i < variables.size(); i++) {
+                out.printf("%sinstance.%s()", i == 0 ? "" : ", ", getAccessorName(variables.get(i)));
+            }
+            out.println("};");
+        }
+
+        out.println("    }");
+    }
+
+    private void writeRegistry() {
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_NAME);
+
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                out.printf("package %s;%n%n", REGISTRY_PACKAGE);
+                out.println("import java.util.Collections;");
+                out.println("import java.util.HashMap;");
+                out.println("import java.util.Map;");
+                out.println();
+                out.printf("// Generated by %s.  Do not edit.%n", RequestCodecProcessor.class.getName());
+                out.printf("public final class %s {%n%n", REGISTRY_NAME);
+                out.printf("    private static final Map<Class<?>, %s> WRITERS;%n%n", QUERY_WRITER);
+                out.println("    static {");
+                out.printf("        Map<Class<?>, %s> writers = new HashMap<>();%n", QUERY_WRITER);
+
+                for (Map.Entry<String, String> entry : this.writers.entrySet()) {
+                    out.printf("        writers.put(%s.class, new %s());%n", entry.getKey(), entry.getValue());
+                }
+
+                out.println("        WRITERS = Collections.unmodifiableMap(writers);");
+                out.println("    }");
+                out.println();
+                out.printf("    private %s() {%n", REGISTRY_NAME);
+                out.println("    }");
+                out.println();
+                out.printf("    public static %s get(Class<?> type) {%n", QUERY_WRITER);
+                out.println("        return WRITERS.get(type);");
+                out.println("    }");
+                out.println();
+                out.println("}");
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Unable to write %s: %s", REGISTRY_NAME, e.getMessage()));
+        }
+    }
+
+    private void writeWriter(TypeElement type, String path, List<String> variables, List<Parameter> parameters) {
+        PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String writerName = getWriterName(type);
+        String qualifiedWriterName = packageElement.isUnnamed() ? writerName : packageName + "." + writerName;
+
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedWriterName, type);
+
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                if (!packageElement.isUnnamed()) {
+                    out.printf("package %s;%n%n", packageName);
+                }
+
+                out.printf("// Generated by %s.  Do not edit.%n", RequestCodecProcessor.class.getName());
+                out.printf("public final class %s extends %s {%n%n", writerName, QUERY_WRITER);
+                writePath(out, typeName, path, variables);
+                out.println();
+                writeParameters(out, "writeFilters", typeName, parameters, true);
+                out.println();
+                writeParameters(out, "writeQueries", typeName, parameters, false);
+                out.println();
+                out.println("}");
+            }
+
+            this.writers.put(typeName, qualifiedWriterName);
+        } catch (IOException e) {
+            error(type, "Unable to write %s: %s", qualifiedWriterName, e.getMessage());
+        }
+    }
+
+    private static final class MethodNameComparator implements Comparator<ExecutableElement> {
+
+        private static final MethodNameComparator INSTANCE = new MethodNameComparator();
+
+        @Override
+        public int compare(ExecutableElement a, ExecutableElement b) {
+            return a.getSimpleName().toString().compareTo(b.getSimpleName().toString());
+        }
+
+    }
+
+}
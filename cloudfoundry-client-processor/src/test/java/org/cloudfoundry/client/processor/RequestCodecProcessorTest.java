@@ -0,0 +1,257 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.processor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RequestCodecProcessorTest {
+
+    private static final JavaFileObject FILTER_PARAMETER = source("org.cloudfoundry.client.v2.FilterParameter",
+            "package org.cloudfoundry.client.v2;",
+            "@java.lang.annotation.Target(java.lang.annotation.ElementType.ANNOTATION_TYPE)",
+            "public @interface FilterParameter { String operator(); }");
+
+    private static final JavaFileObject IN_FILTER_PARAMETER = source("org.cloudfoundry.client.v2.InFilterParameter",
+            "package org.cloudfoundry.client.v2;",
+            "@FilterParameter(operator = \" IN \")",
+            "public @interface InFilterParameter { String value(); }");
+
+    private static final JavaFileObject QUERY_PARAMETER = source("org.cloudfoundry.client.QueryParameter",
+            "package org.cloudfoundry.client;",
+            "public @interface QueryParameter { String value(); }");
+
+    private static final JavaFileObject QUERY_WRITER = source("org.cloudfoundry.client.QueryWriter",
+            "package org.cloudfoundry.client;",
+            "public abstract class QueryWriter {",
+            "    protected static final Object[] NO_VARIABLES = new Object[0];",
+            "    public abstract String getPath();",
+            "    public abstract Object[] getPathVariables(Object request);",
+            "    public abstract void writeFilters(Object request, Sink sink);",
+            "    public abstract void writeQueries(Object request, Sink sink);",
+            "    protected static void addQuery(Sink sink, String name, Object value) { }",
+            "    protected static void addV2Filter(Sink sink, String prefix, Object value) { }",
+            "    protected static void addV3Filter(Sink sink, String name, Object value) { }",
+            "    public interface Sink { void add(String name, Object value); }",
+            "}");
+
+    private static final JavaFileObject REQUEST_PATH = source("org.cloudfoundry.client.RequestPath",
+            "package org.cloudfoundry.client;",
+            "public @interface RequestPath { String value(); }");
+
+    private Path output;
+
+    @Before
+    public void createOutput() throws IOException {
+        this.output = Files.createTempDirectory("request-codec-processor");
+    }
+
+    @After
+    public void deleteOutput() throws IOException {
+        Files.walkFileTree(this.output, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+    }
+
+    @Test
+    public void nested() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequests",
+                "package org.cloudfoundry.client.test;",
+                "public final class TestRequests {",
+                "    public static final class TestRequest {",
+                "        @org.cloudfoundry.client.QueryParameter(\"page\") public Integer getPage() { return 1; }",
+                "    }",
+                "}");
+
+        assertEquals(Collections.emptyList(), compile(request));
+
+        String registry = read("org/cloudfoundry/client/GeneratedQueryWriters.java");
+        assertTrue(registry.contains("writers.put(org.cloudfoundry.client.test.TestRequests.TestRequest.class, new org.cloudfoundry.client.test.TestRequestsTestRequestQueryWriter());"));
+    }
+
+    @Test
+    public void nonPublicAccessor() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "public final class TestRequest {",
+                "    @org.cloudfoundry.client.QueryParameter(\"page\") Integer getPage() { return 1; }",
+                "}");
+
+        assertEquals(1, compile(request).size());
+        assertFalse(Files.exists(this.output.resolve("org/cloudfoundry/client/test/TestRequestQueryWriter.java")));
+    }
+
+    @Test
+    public void nonPublicType() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "final class TestRequest {",
+                "    @org.cloudfoundry.client.QueryParameter(\"page\") public Integer getPage() { return 1; }",
+                "}");
+
+        assertEquals(1, compile(request).size());
+        assertFalse(Files.exists(this.output.resolve("org/cloudfoundry/client/test/TestRequestQueryWriter.java")));
+    }
+
+    @Test
+    public void path() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "@org.cloudfoundry.client.RequestPath(\"/v2/test/{id}/routes/{routeId}\")",
+                "public final class TestRequest {",
+                "    public String getId() { return null; }",
+                "    public String getRouteId() { return null; }",
+                "}");
+
+        assertEquals(Collections.emptyList(), compile(request));
+
+        String writer = read("org/cloudfoundry/client/test/TestRequestQueryWriter.java");
+        assertTrue(writer.contains("return \"/v2/test/{id}/routes/{routeId}\";"));
+        assertTrue(writer.contains("return new Object[]{instance.getId(), instance.getRouteId()};"));
+    }
+
+    @Test
+    public void pathNoAccessor() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "@org.cloudfoundry.client.RequestPath(\"/v2/test/{id}\")",
+                "public final class TestRequest {",
+                "}");
+
+        assertEquals(1, compile(request).size());
+        assertFalse(Files.exists(this.output.resolve("org/cloudfoundry/client/test/TestRequestQueryWriter.java")));
+    }
+
+    @Test
+    public void pathNoVariables() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "@org.cloudfoundry.client.RequestPath(\"/v2/test\")",
+                "public final class TestRequest {",
+                "}");
+
+        assertEquals(Collections.emptyList(), compile(request));
+
+        String writer = read("org/cloudfoundry/client/test/TestRequestQueryWriter.java");
+        assertTrue(writer.contains("return NO_VARIABLES;"));
+    }
+
+    @Test
+    public void request() throws IOException {
+        JavaFileObject request = source("org.cloudfoundry.client.test.TestRequest",
+                "package org.cloudfoundry.client.test;",
+                "public final class TestRequest {",
+                "    @org.cloudfoundry.client.v2.InFilterParameter(\"name\") public java.util.List<String> getNames() { return null; }",
+                "    @org.cloudfoundry.client.QueryParameter(\"page\") public Integer getPage() { return 1; }",
+                "}");
+
+        assertEquals(Collections.emptyList(), compile(request));
+
+        String writer = read("org/cloudfoundry/client/test/TestRequestQueryWriter.java");
+        assertTrue(writer.contains("public final class TestRequestQueryWriter extends org.cloudfoundry.client.QueryWriter"));
+        assertTrue(writer.contains("return null;"));
+        assertTrue(writer.contains("addV2Filter(sink, \"name IN \", instance.getNames());"));
+        assertTrue(writer.contains("addQuery(sink, \"page\", instance.getPage());"));
+
+        String registry = read("org/cloudfoundry/client/GeneratedQueryWriters.java");
+        assertTrue(registry.contains("writers.put(org.cloudfoundry.client.test.TestRequest.class, new org.cloudfoundry.client.test.TestRequestQueryWriter());"));
+    }
+
+    private static JavaFileObject source(String name, String... lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+
+        final String content = sb.toString();
+
+        return new SimpleJavaFileObject(URI.create(String.format("string:///%s.java", name.replace('.', '/'))), JavaFileObject.Kind.SOURCE) {
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+
+        };
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(JavaFileObject request) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", this.output.toString(), "-s", this.output.toString());
+            List<JavaFileObject> sources = Arrays.asList(FILTER_PARAMETER, IN_FILTER_PARAMETER, QUERY_PARAMETER, QUERY_WRITER, REQUEST_PATH, request);
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+            task.setProcessors(Collections.singletonList(new RequestCodecProcessor()));
+            task.call();
+        }
+
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+
+        return errors;
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(this.output.resolve(path.replace('/', File.separatorChar))), StandardCharsets.UTF_8);
+    }
+
+}
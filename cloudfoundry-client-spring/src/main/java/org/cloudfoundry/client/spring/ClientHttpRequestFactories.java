@@ -0,0 +1,154 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsAsyncClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.OkHttpClientHttpRequestFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import java.util.Arrays;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Factories for the {@link ClientHttpRequestFactory}s and {@link AsyncClientHttpRequestFactory}s used by a {@link SpringCloudFoundryClient}
+ */
+final class ClientHttpRequestFactories {
+
+    private ClientHttpRequestFactories() {
+    }
+
+    /**
+     * Creates a request factory that multiplexes concurrent requests over HTTP/2 connections, falling back to pooled HTTP/1.1 connections when ALPN negotiation fails.  The returned instance is
+     * both a {@link ClientHttpRequestFactory} and an {@link AsyncClientHttpRequestFactory}.
+     *
+     * @param connectionPool   the connection pool configuration
+     * @param sslSocketFactory the SSL socket factory to create connections with
+     * @param hostnameVerifier the hostname verifier to verify connections with
+     * @return the request factory
+     */
+    static OkHttpClientHttpRequestFactory http2(ConnectionPoolConfiguration connectionPool, SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier) {
+        OkHttpClient httpClient = new OkHttpClient();
+        httpClient.setConnectTimeout(connectionPool.getConnectTimeout(), MILLISECONDS);
+        httpClient.setConnectionPool(new ConnectionPool(connectionPool.getMaxConnectionsPerRoute(), connectionPool.getIdleTimeout()));
+        httpClient.setHostnameVerifier(hostnameVerifier);
+        httpClient.setProtocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        httpClient.setReadTimeout(connectionPool.getReadTimeout(), MILLISECONDS);
+        httpClient.setSslSocketFactory(sslSocketFactory);
+
+        httpClient.getDispatcher().setMaxRequests(connectionPool.getMaxConnections());
+        httpClient.getDispatcher().setMaxRequestsPerHost(connectionPool.getMaxConnectionsPerRoute());
+
+        return new OkHttpClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Creates a request factory that uses pooled, keep-alive HTTP/1.1 connections
+     *
+     * @param connectionPool   the connection pool configuration
+     * @param sslSocketFactory the SSL socket factory to create connections with
+     * @param hostnameVerifier the hostname verifier to verify connections with
+     * @return the request factory
+     */
+    static ClientHttpRequestFactory pooled(ConnectionPoolConfiguration connectionPool, SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslSocketFactory, hostnameVerifier))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setDefaultMaxPerRoute(connectionPool.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(connectionPool.getMaxConnections());
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(getRequestConfig(connectionPool))
+                .setKeepAliveStrategy(getKeepAliveStrategy(connectionPool))
+                .evictExpiredConnections()
+                .evictIdleConnections(connectionPool.getIdleTimeout().longValue(), MILLISECONDS)
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Creates a non-blocking request factory that uses pooled, keep-alive HTTP/1.1 connections
+     *
+     * @param connectionPool   the connection pool configuration
+     * @param sslContext       the SSL context to create connections with
+     * @param hostnameVerifier the hostname verifier to verify connections with
+     * @return the request factory
+     */
+    static AsyncClientHttpRequestFactory pooledAsync(ConnectionPoolConfiguration connectionPool, SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+        CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom()
+                .setDefaultRequestConfig(getRequestConfig(connectionPool))
+                .setKeepAliveStrategy(getKeepAliveStrategy(connectionPool))
+                .setMaxConnPerRoute(connectionPool.getMaxConnectionsPerRoute())
+                .setMaxConnTotal(connectionPool.getMaxConnections())
+                .setSSLContext(sslContext)
+                .setSSLHostnameVerifier(hostnameVerifier)
+                .build();
+
+        httpAsyncClient.start();
+        return new HttpComponentsAsyncClientHttpRequestFactory(httpAsyncClient);
+    }
+
+    private static ConnectionKeepAliveStrategy getKeepAliveStrategy(final ConnectionPoolConfiguration connectionPool) {
+        return new ConnectionKeepAliveStrategy() {
+
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                long idleTimeout = connectionPool.getIdleTimeout();
+                long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+
+                return keepAlive > 0 ? Math.min(keepAlive, idleTimeout) : idleTimeout;
+            }
+
+        };
+    }
+
+    private static RequestConfig getRequestConfig(ConnectionPoolConfiguration connectionPool) {
+        return RequestConfig.custom()
+                .setConnectTimeout(connectionPool.getConnectTimeout())
+                .setSocketTimeout(connectionPool.getReadTimeout())
+                .build();
+    }
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * A {@link ClientHttpRequestInterceptor} that adapts the number of requests allowed in flight to how the server is coping.  The limit grows by roughly one for every limit's worth of requests
+ * that complete while it is in use, and shrinks multiplicatively when the server responds with {@code 429 Too Many Requests} or {@code 503 Service Unavailable}, or when response times inflate
+ * well beyond the fastest recently seen for the same endpoint.  The limit shrinks at most once for the requests that were in flight when it last shrank.  Requests beyond the limit wait in a
+ * first-in, first-out queue before they are dispatched, so that a waiting request does not hold a thread.  As an interceptor it only measures responses, up to the receipt of the response
+ * headers; slots are taken and freed by the caller that dispatches the request.
+ */
+public final class AdaptiveConcurrencyLimiter implements ClientHttpRequestInterceptor {
+
+    private static final int ENDPOINTS_CAPACITY = 256;
+
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    private static final double OVERLOAD_BACKOFF_RATIO = 0.5;
+
+    private static final int RTT_WINDOW = 100;
+
+    private final Map<String, RttWindow> endpoints = new LinkedHashMap<String, RttWindow>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RttWindow> eldest) {
+            return size() > ENDPOINTS_CAPACITY;
+        }
+
+    };
+
+    private final int maximumLimit;
+
+    private final int minimumLimit;
+
+    private final Object monitor = new Object();
+
+    private final Queue<SettableListenableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private int inFlight;
+
+    private long lastDecrease = System.nanoTime();
+
+    private double latencyGradient = 1.0;
+
+    private double limit;
+
+    /**
+     * Creates an instance that starts at 20 requests in flight and adapts between 1 and 200
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(1, 200, 20);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param minimumLimit the smallest number of requests in flight to shrink to
+     * @param maximumLimit the largest number of requests in flight to grow to
+     * @param initialLimit the number of requests in flight to start with
+     */
+    public AdaptiveConcurrencyLimiter(int minimumLimit, int maximumLimit, int initialLimit) {
+        if (minimumLimit < 1 || maximumLimit < minimumLimit || initialLimit < minimumLimit || initialLimit > maximumLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minimum <= initial <= maximum");
+        }
+
+        this.limit = initialLimit;
+        this.maximumLimit = maximumLimit;
+        this.minimumLimit = minimumLimit;
+    }
+
+    /**
+     * Returns the number of requests currently in flight
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        synchronized (this.monitor) {
+            return this.inFlight;
+        }
+    }
+
+    /**
+     * Returns the number of requests currently allowed in flight
+     *
+     * @return the current limit
+     */
+    public int getLimit() {
+        synchronized (this.monitor) {
+            return (int) this.limit;
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for the number in flight to drop below the limit
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        synchronized (this.monitor) {
+            return this.waiters.size();
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+
+        Integer statusCode = getStatusCode(response);
+        if (statusCode != null) {
+            record(Endpoints.getEndpoint(request.getMethod(), request.getURI()), start, System.nanoTime() - start, statusCode);
+        }
+
+        return response;
+    }
+
+    ListenableFuture<Void> acquireAsync() {
+        SettableListenableFuture<Void> permit = new SettableListenableFuture<>();
+
+        synchronized (this.monitor) {
+            if (this.waiters.isEmpty() && this.inFlight < (int) this.limit) {
+                this.inFlight++;
+                permit.set(null);
+            } else {
+                this.waiters.add(permit);
+            }
+        }
+
+        return permit;
+    }
+
+    void record(String endpoint, long start, long rtt, int statusCode) {
+        synchronized (this.monitor) {
+            if (statusCode == 429 || statusCode == 503) {
+                decrease(start, OVERLOAD_BACKOFF_RATIO);
+            } else {
+                recordRtt(endpoint, start, rtt);
+            }
+        }
+
+        grant();
+    }
+
+    void release() {
+        synchronized (this.monitor) {
+            this.inFlight--;
+        }
+
+        grant();
+    }
+
+    void release(HttpRequest request, long start, ClientHttpResponse response) {
+        long rtt = System.nanoTime() - start;
+
+        synchronized (this.monitor) {
+            this.inFlight--;
+        }
+
+        Integer statusCode = getStatusCode(response);
+        if (statusCode != null) {
+            record(Endpoints.getEndpoint(request.getMethod(), request.getURI()), start, rtt, statusCode);
+        } else {
+            grant();
+        }
+    }
+
+    private static Integer getStatusCode(ClientHttpResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        try {
+            return response.getRawStatusCode();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void decrease(long start, double ratio) {
+        if (start - this.lastDecrease > 0) {
+            this.limit = Math.max(this.minimumLimit, this.limit * ratio);
+            this.lastDecrease = System.nanoTime();
+            this.latencyGradient = 1.0;
+        }
+    }
+
+    private void grant() {
+        for (; ; ) {
+            SettableListenableFuture<Void> waiter;
+
+            synchronized (this.monitor) {
+                if (this.waiters.isEmpty() || this.inFlight >= (int) this.limit) {
+                    return;
+                }
+
+                waiter = this.waiters.poll();
+                this.inFlight++;
+            }
+
+            if (!waiter.set(null)) {
+                synchronized (this.monitor) {
+                    this.inFlight--;
+                }
+            }
+        }
+    }
+
+    private void recordRtt(String endpoint, long start, long rtt) {
+        RttWindow window = this.endpoints.get(endpoint);
+        if (window == null) {
+            window = new RttWindow();
+            this.endpoints.put(endpoint, window);
+        }
+
+        long baseline = window.record(rtt);
+        this.latencyGradient += ((double) rtt / Math.max(baseline, 1) - this.latencyGradient) * LATENCY_SMOOTHING;
+
+        if (this.latencyGradient > LATENCY_TOLERANCE) {
+            decrease(start, LATENCY_BACKOFF_RATIO);
+        } else if (this.inFlight + 1 >= this.limit / 2) {
+            this.limit = Math.min(this.maximumLimit, this.limit + 1 / this.limit);
+        }
+    }
+
+    private static final class RttWindow {
+
+        private long minimum = Long.MAX_VALUE;
+
+        private long previousMinimum = Long.MAX_VALUE;
+
+        private int samples;
+
+        private long record(long rtt) {
+            this.minimum = Math.min(this.minimum, rtt);
+
+            long baseline = Math.min(this.minimum, this.previousMinimum);
+
+            if (++this.samples >= RTT_WINDOW) {
+                this.previousMinimum = this.minimum;
+                this.minimum = Long.MAX_VALUE;
+                this.samples = 0;
+            }
+
+            return baseline;
+        }
+
+    }
+
+}
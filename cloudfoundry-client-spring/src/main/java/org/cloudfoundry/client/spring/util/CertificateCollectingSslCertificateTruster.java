@@ -13,10 +13,11 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.cloudfoundry.client.spring.util;
 
-import javax.net.ssl.HttpsURLConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLSocket;
@@ -24,64 +25,114 @@ import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FileFilter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
- * An {@link SslCertificateTruster} that collects the SSL certificate presented by a connection
+ * An {@link SslCertificateTruster} that collects the SSL certificate presented by a connection.  The collected certificate chain is trusted only by the {@link SSLContext} returned for the host;
+ * the JVM's default trust configuration is left untouched.
+ *
+ * <p>The connection that collects the certificate is made asynchronously, in parallel with any other connections made through the returned {@link SSLContext}, which only wait for it if they are
+ * presented with a certificate that is not otherwise trusted.  If a directory is configured, collected certificate chains are cached in it by host and fingerprint, and cached chains are trusted
+ * immediately on later use; a connection is then only made to collect the certificate if the server presents a certificate that has not been cached.</p>
  */
 public final class CertificateCollectingSslCertificateTruster implements SslCertificateTruster {
 
-    @Override
-    public void trust(String host, int port, int timeout, TimeUnit timeUnit) throws GeneralSecurityException, IOException {
-        X509Certificate[] untrusted = getUntrustedCertificate(host, port, timeout, timeUnit);
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
 
-        if (untrusted != null) {
-            appendToTruststore(untrusted);
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cloudfoundry-client-spring-certificate-probe");
+            thread.setDaemon(true);
+            return thread;
         }
 
-        HttpsURLConnection.setDefaultHostnameVerifier(new ExplicitHostnameVerifier(host));
+    });
+
+    private static final String EXTENSION = ".pkipath";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CertificateCollectingSslCertificateTruster.class);
+
+    private final File directory;
+
+    /**
+     * Creates a new instance that does not cache collected certificates
+     */
+    public CertificateCollectingSslCertificateTruster() {
+        this(null);
     }
 
-    private void appendToTruststore(X509Certificate[] chain) throws KeyStoreException, NoSuchAlgorithmException, IOException, CertificateException {
-        KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
-        trustStore.load(null);
+    /**
+     * Creates a new instance
+     *
+     * @param directory the directory that collected certificate chains are cached in.  May be {@code null}, in which case chains are not cached.
+     */
+    public CertificateCollectingSslCertificateTruster(File directory) {
+        this.directory = directory;
+    }
 
-        int count = 0;
-        for (X509Certificate cert : getDefaultTrustManager().getAcceptedIssuers()) {
-            trustStore.setCertificateEntry(String.valueOf(count++), cert);
-        }
-        for (X509Certificate cert : chain) {
-            trustStore.setCertificateEntry("" + count++, cert);
-        }
+    @Override
+    public SSLContext trust(final String host, final int port, final int timeout, final TimeUnit timeUnit) throws GeneralSecurityException, IOException {
+        PinnedCertificateTrustManager trustManager = new PinnedCertificateTrustManager(getDefaultTrustManager(), new Callable<X509Certificate[]>() {
+
+            @Override
+            public X509Certificate[] call() throws Exception {
+                X509Certificate[] untrusted = getUntrustedCertificate(host, port, timeout, timeUnit);
 
-        String password = UUID.randomUUID().toString();
+                if (untrusted != null) {
+                    writeCachedChain(host, untrusted);
+                }
 
-        File trustStoreOutputFile = File.createTempFile("truststore", null);
-        trustStoreOutputFile.deleteOnExit();
-        trustStore.store(new FileOutputStream(trustStoreOutputFile), password.toCharArray());
+                return untrusted;
+            }
 
-        System.setProperty("javax.net.ssl.trustStore", trustStoreOutputFile.getAbsolutePath());
-        System.setProperty("javax.net.ssl.trustStorePassword", password);
+        }, EXECUTOR, timeout, timeUnit);
+
+        List<X509Certificate[]> cachedChains = readCachedChains(host);
+        for (X509Certificate[] chain : cachedChains) {
+            trustManager.pin(chain);
+        }
+
+        if (cachedChains.isEmpty()) {
+            trustManager.startProbe();
+        }
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[]{trustManager}, null);
+        return sslContext;
     }
 
-    private X509TrustManager getDefaultTrustManager() throws NoSuchAlgorithmException, KeyStoreException {
+    private static X509TrustManager getDefaultTrustManager() throws NoSuchAlgorithmException, KeyStoreException {
         TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
         factory.init((KeyStore) null);
         return (X509TrustManager) factory.getTrustManagers()[0];
     }
 
-    private X509Certificate[] getUntrustedCertificate(String host, int port, int timeout, TimeUnit timeUnit)
+    private static String getPrefix(String host) {
+        return String.format("%s-", host.replaceAll("[^A-Za-z0-9.\\-]", "_"));
+    }
+
+    private static X509Certificate[] getUntrustedCertificate(String host, int port, int timeout, TimeUnit timeUnit)
             throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException, IOException, CertificateException {
 
         CertificateCollectingTrustManager collector = new CertificateCollectingTrustManager(getDefaultTrustManager());
@@ -112,4 +163,49 @@ public final class CertificateCollectingSslCertificateTruster implements SslCert
         }
     }
 
+    private List<X509Certificate[]> readCachedChains(String host) {
+        List<X509Certificate[]> chains = new ArrayList<>();
+
+        if (this.directory == null) {
+            return chains;
+        }
+
+        final String prefix = getPrefix(host);
+        File[] files = this.directory.listFiles(new FileFilter() {
+
+            @Override
+            public boolean accept(File file) {
+                return file.getName().startsWith(prefix) && file.getName().endsWith(EXTENSION);
+            }
+
+        });
+
+        if (files == null) {
+            return chains;
+        }
+
+        for (File file : files) {
+            try {
+                List<? extends Certificate> certificates = CertificateFactory.getInstance("X.509")
+                        .generateCertPath(new ByteArrayInputStream(Files.readAllBytes(file.toPath())), "PkiPath")
+                        .getCertificates();
+
+                chains.add(certificates.toArray(new X509Certificate[certificates.size()]));
+            } catch (CertificateException | IOException | ArrayStoreException e) {
+                LOGGER.debug("Unable to read cached certificate chain {}: {}", file, e.getMessage());
+            }
+        }
+
+        return chains;
+    }
+
+    private void writeCachedChain(String host, X509Certificate[] chain) throws CertificateException, IOException {
+        if (this.directory == null) {
+            return;
+        }
+
+        byte[] encoded = CertificateFactory.getInstance("X.509").generateCertPath(Arrays.asList(chain)).getEncoded("PkiPath");
+        PrivateFiles.writeAtomically(new File(this.directory, String.format("%s%s%s", getPrefix(host), PinnedCertificateTrustManager.fingerprint(chain[0]), EXTENSION)), encoded);
+    }
+
 }
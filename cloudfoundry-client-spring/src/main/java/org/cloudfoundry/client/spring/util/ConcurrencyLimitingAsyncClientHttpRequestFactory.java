@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+
+/**
+ * An {@link AsyncClientHttpRequestFactory} whose requests wait, without blocking, for an {@link AdaptiveConcurrencyLimiter} to allow them in flight before they are executed
+ */
+public final class ConcurrencyLimitingAsyncClientHttpRequestFactory implements AsyncClientHttpRequestFactory {
+
+    private final AsyncClientHttpRequestFactory delegate;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Creates an instance
+     *
+     * @param delegate the {@link AsyncClientHttpRequestFactory} that creates the underlying requests
+     * @param limiter  the {@link AdaptiveConcurrencyLimiter} that limits the number of requests in flight
+     */
+    public ConcurrencyLimitingAsyncClientHttpRequestFactory(AsyncClientHttpRequestFactory delegate, AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new ConcurrencyLimitingAsyncClientHttpRequest(this.delegate.createAsyncRequest(uri, httpMethod), this.limiter);
+    }
+
+    private static final class ConcurrencyLimitingAsyncClientHttpRequest implements AsyncClientHttpRequest {
+
+        private final AsyncClientHttpRequest delegate;
+
+        private final AdaptiveConcurrencyLimiter limiter;
+
+        private ConcurrencyLimitingAsyncClientHttpRequest(AsyncClientHttpRequest delegate, AdaptiveConcurrencyLimiter limiter) {
+            this.delegate = delegate;
+            this.limiter = limiter;
+        }
+
+        @Override
+        public ListenableFuture<ClientHttpResponse> executeAsync() throws IOException {
+            final SettableListenableFuture<ClientHttpResponse> result = new SettableListenableFuture<>();
+
+            this.limiter.acquireAsync().addCallback(new ListenableFutureCallback<Void>() {
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    result.setException(throwable);
+                }
+
+                @Override
+                public void onSuccess(Void permit) {
+                    execute(result);
+                }
+
+            });
+
+            return result;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return this.delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.delegate.getHeaders();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return this.delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return this.delegate.getURI();
+        }
+
+        private void execute(final SettableListenableFuture<ClientHttpResponse> result) {
+            final long start = System.nanoTime();
+
+            if (result.isCancelled()) {
+                this.limiter.release(this, start, null);
+                return;
+            }
+
+            try {
+                this.delegate.executeAsync().addCallback(new ListenableFutureCallback<ClientHttpResponse>() {
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        ConcurrencyLimitingAsyncClientHttpRequest.this.limiter.release(ConcurrencyLimitingAsyncClientHttpRequest.this, start, null);
+                        result.setException(throwable);
+                    }
+
+                    @Override
+                    public void onSuccess(ClientHttpResponse response) {
+                        ConcurrencyLimitingAsyncClientHttpRequest.this.limiter.release(ConcurrencyLimitingAsyncClientHttpRequest.this, start, response);
+                        result.set(response);
+                    }
+
+                });
+            } catch (IOException | RuntimeException e) {
+                this.limiter.release(this, start, null);
+                result.setException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * A {@link SessionCache} that stores each host and user's session in its own encrypted file.  Files are encrypted with AES and authenticated with HMAC-SHA256 using keys derived from a password
+ * with PBKDF2; a file that cannot be authenticated, for example because it was written with a different password, is treated as empty.  Failures to read or write files are logged and
+ * otherwise ignored, so that the cache can never prevent a client from connecting.
+ */
+public final class EncryptedFileSessionCache implements SessionCache {
+
+    private static final String ACCESS_TOKEN = "access_token";
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final String EXPIRATION = "expiration";
+
+    private static final int ITERATIONS = 10000;
+
+    private static final String LOGGING_ENDPOINT = "logging_endpoint";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EncryptedFileSessionCache.class);
+
+    private static final int MAC_SIZE = 32;
+
+    private static final String REFRESH_TOKEN = "refresh_token";
+
+    private static final String SCOPE = "scope";
+
+    private static final String TOKEN_ENDPOINT = "token_endpoint";
+
+    private static final String TOKEN_TYPE = "token_type";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File directory;
+
+    private SecretKeySpec encryptionKey;
+
+    private SecretKeySpec macKey;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final char[] password;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory the directory that session files are stored in.  It is created if it does not exist.
+     * @param password  the password that the encryption keys are derived from
+     */
+    public EncryptedFileSessionCache(File directory, char[] password) {
+        this.directory = directory;
+        this.password = password.clone();
+    }
+
+    @Override
+    public synchronized OAuth2AccessToken getAccessToken(String host, String username) {
+        Map<String, Object> session = read(host, username);
+
+        String value = (String) session.get(ACCESS_TOKEN);
+        if (value == null) {
+            return null;
+        }
+
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(value);
+        accessToken.setTokenType((String) session.get(TOKEN_TYPE));
+
+        Number expiration = (Number) session.get(EXPIRATION);
+        if (expiration != null) {
+            accessToken.setExpiration(new Date(expiration.longValue()));
+        }
+
+        String refreshToken = (String) session.get(REFRESH_TOKEN);
+        if (refreshToken != null) {
+            accessToken.setRefreshToken(new DefaultOAuth2RefreshToken(refreshToken));
+        }
+
+        @SuppressWarnings("unchecked")
+        Collection<String> scope = (Collection<String>) session.get(SCOPE);
+        if (scope != null) {
+            accessToken.setScope(new LinkedHashSet<>(scope));
+        }
+
+        return accessToken;
+    }
+
+    @Override
+    public synchronized String getLoggingEndpoint(String host, String username) {
+        return (String) read(host, username).get(LOGGING_ENDPOINT);
+    }
+
+    @Override
+    public synchronized String getTokenEndpoint(String host, String username) {
+        return (String) read(host, username).get(TOKEN_ENDPOINT);
+    }
+
+    @Override
+    public synchronized void putAccessToken(String host, String username, OAuth2AccessToken accessToken) {
+        Map<String, Object> session = read(host, username);
+
+        session.put(ACCESS_TOKEN, accessToken.getValue());
+        session.put(EXPIRATION, accessToken.getExpiration() != null ? accessToken.getExpiration().getTime() : null);
+        session.put(REFRESH_TOKEN, accessToken.getRefreshToken() != null ? accessToken.getRefreshToken().getValue() : null);
+        session.put(SCOPE, accessToken.getScope() != null ? new ArrayList<>(accessToken.getScope()) : null);
+        session.put(TOKEN_TYPE, accessToken.getTokenType());
+
+        write(host, username, session);
+    }
+
+    @Override
+    public synchronized void putLoggingEndpoint(String host, String username, String loggingEndpoint) {
+        Map<String, Object> session = read(host, username);
+        session.put(LOGGING_ENDPOINT, loggingEndpoint);
+        write(host, username, session);
+    }
+
+    @Override
+    public synchronized void putTokenEndpoint(String host, String username, String tokenEndpoint) {
+        Map<String, Object> session = read(host, username);
+        session.put(TOKEN_ENDPOINT, tokenEndpoint);
+        write(host, username, session);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private byte[] decrypt(byte[] contents) throws GeneralSecurityException {
+        if (contents.length < BLOCK_SIZE + MAC_SIZE) {
+            throw new GeneralSecurityException("Session file is truncated");
+        }
+
+        byte[] message = Arrays.copyOfRange(contents, 0, contents.length - MAC_SIZE);
+        byte[] mac = Arrays.copyOfRange(contents, contents.length - MAC_SIZE, contents.length);
+
+        if (!MessageDigest.isEqual(mac, mac(message))) {
+            throw new GeneralSecurityException("Session file failed authentication");
+        }
+
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, new IvParameterSpec(message, 0, BLOCK_SIZE));
+        return cipher.doFinal(message, BLOCK_SIZE, message.length - BLOCK_SIZE);
+    }
+
+    private void deriveKeys() throws GeneralSecurityException, IOException {
+        if (this.encryptionKey != null) {
+            return;
+        }
+
+        File saltFile = new File(this.directory, "salt");
+        byte[] salt;
+
+        if (saltFile.exists()) {
+            salt = Files.readAllBytes(saltFile.toPath());
+        } else {
+            salt = new byte[BLOCK_SIZE];
+            this.random.nextBytes(salt);
+            PrivateFiles.writeAtomically(saltFile, salt);
+        }
+
+        PBEKeySpec keySpec = new PBEKeySpec(this.password, salt, ITERATIONS, 2 * BLOCK_SIZE * 8);
+        byte[] keys = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA1").generateSecret(keySpec).getEncoded();
+        keySpec.clearPassword();
+
+        this.encryptionKey = new SecretKeySpec(keys, 0, BLOCK_SIZE, "AES");
+        this.macKey = new SecretKeySpec(keys, BLOCK_SIZE, BLOCK_SIZE, "HmacSHA256");
+    }
+
+    private byte[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[BLOCK_SIZE];
+        this.random.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, new IvParameterSpec(iv));
+        byte[] ciphertext = cipher.doFinal(plaintext);
+
+        byte[] message = new byte[BLOCK_SIZE + ciphertext.length];
+        System.arraycopy(iv, 0, message, 0, BLOCK_SIZE);
+        System.arraycopy(ciphertext, 0, message, BLOCK_SIZE, ciphertext.length);
+
+        byte[] mac = mac(message);
+
+        byte[] contents = Arrays.copyOf(message, message.length + MAC_SIZE);
+        System.arraycopy(mac, 0, contents, message.length, MAC_SIZE);
+        return contents;
+    }
+
+    private File getSessionFile(String host, String username) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(String.format("%s\n%s", host, username).getBytes(UTF_8));
+        return new File(this.directory, String.format("%s.session", toHex(digest)));
+    }
+
+    private byte[] mac(byte[] message) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(this.macKey);
+        return mac.doFinal(message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> read(String host, String username) {
+        try {
+            File sessionFile = getSessionFile(host, username);
+            if (!sessionFile.exists()) {
+                return new HashMap<>();
+            }
+
+            deriveKeys();
+            return this.objectMapper.readValue(decrypt(Files.readAllBytes(sessionFile.toPath())), Map.class);
+        } catch (GeneralSecurityException | IOException e) {
+            LOGGER.debug("Unable to read session for {} on {}: {}", username, host, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private void write(String host, String username, Map<String, Object> session) {
+        try {
+            deriveKeys();
+            PrivateFiles.writeAtomically(getSessionFile(host, username), encrypt(this.objectMapper.writeValueAsBytes(session)));
+        } catch (GeneralSecurityException | IOException e) {
+            LOGGER.warn("Unable to write session for {} on {}: {}", username, host, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Utilities for identifying the endpoint that a request is made to
+ */
+final class Endpoints {
+
+    private static final Pattern ID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private Endpoints() {
+    }
+
+    /**
+     * Returns a key identifying the endpoint of a request.  The key is made up of the method and path of the request, with any GUIDs in the path replaced by {@code {id}}, so that requests for
+     * different instances of the same resource share a key.
+     *
+     * @param method the method of the request
+     * @param uri    the {@link URI} of the request
+     * @return the endpoint key
+     */
+    static String getEndpoint(HttpMethod method, URI uri) {
+        return String.format("%s %s", method, getPath(uri));
+    }
+
+    /**
+     * Returns the path of a request, with any GUIDs replaced by {@code {id}}
+     *
+     * @param uri the {@link URI} of the request
+     * @return the normalized path
+     */
+    static String getPath(URI uri) {
+        String path = uri.getPath();
+        return path != null ? ID.matcher(path).replaceAll("{id}") : "";
+    }
+
+}
@@ -19,11 +19,14 @@ package org.cloudfoundry.client.spring.util;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
 
-final class ExplicitHostnameVerifier implements HostnameVerifier {
+/**
+ * A {@link HostnameVerifier} that only accepts a single, explicitly configured host name
+ */
+public final class ExplicitHostnameVerifier implements HostnameVerifier {
 
     private final String hostname;
 
-    ExplicitHostnameVerifier(String hostname) {
+    public ExplicitHostnameVerifier(String hostname) {
         this.hostname = hostname;
     }
 
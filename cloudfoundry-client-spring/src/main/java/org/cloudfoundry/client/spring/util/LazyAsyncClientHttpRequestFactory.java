@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import reactor.fn.Supplier;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * An asynchronous request factory that does not create its delegate until the first request is made.  This allows any expensive setup required by the delegate, such as establishing trust in a
+ * server's certificate, to be deferred until a connection is actually needed.
+ */
+public final class LazyAsyncClientHttpRequestFactory implements AsyncClientHttpRequestFactory {
+
+    private final Supplier<AsyncClientHttpRequestFactory> delegate;
+
+    /**
+     * Creates an instance
+     *
+     * @param delegate the {@link Supplier} of the {@link AsyncClientHttpRequestFactory} that creates the underlying asynchronous requests
+     */
+    public LazyAsyncClientHttpRequestFactory(Supplier<? extends AsyncClientHttpRequestFactory> delegate) {
+        this.delegate = new MemoizingSupplier<AsyncClientHttpRequestFactory>(delegate);
+    }
+
+    @Override
+    public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return this.delegate.get().createAsyncRequest(uri, httpMethod);
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import reactor.fn.Supplier;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * A request factory that does not create its delegate until the first request is made.  This allows any expensive setup required by the delegate, such as establishing trust in a server's
+ * certificate, to be deferred until a connection is actually needed.
+ */
+public final class LazyClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final Supplier<ClientHttpRequestFactory> delegate;
+
+    /**
+     * Creates an instance
+     *
+     * @param delegate the {@link Supplier} of the {@link ClientHttpRequestFactory} that creates the underlying requests
+     */
+    public LazyClientHttpRequestFactory(Supplier<? extends ClientHttpRequestFactory> delegate) {
+        this.delegate = new MemoizingSupplier<ClientHttpRequestFactory>(delegate);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return this.delegate.get().createRequest(uri, httpMethod);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import reactor.fn.Supplier;
+
+/**
+ * A {@link Supplier} that calls a delegate the first time a value is requested and returns that value from then on.  Concurrent first requests call the delegate only once.  If the delegate
+ * throws, nothing is remembered and the next request calls it again.
+ *
+ * @param <T> the type of the value
+ */
+public final class MemoizingSupplier<T> implements Supplier<T> {
+
+    private final Object monitor = new Object();
+
+    private Supplier<? extends T> delegate;
+
+    private volatile T value;
+
+    /**
+     * Creates a new instance
+     *
+     * @param delegate the {@link Supplier} that is called to create the value
+     */
+    public MemoizingSupplier(Supplier<? extends T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T get() {
+        T value = this.value;
+        if (value != null) {
+            return value;
+        }
+
+        synchronized (this.monitor) {
+            if (this.value == null) {
+                this.value = this.delegate.get();
+                this.delegate = null;
+            }
+
+            return this.value;
+        }
+    }
+
+    /**
+     * Returns whether the value has been created
+     *
+     * @return {@code true} if the value has been created, otherwise {@code false}
+     */
+    public boolean isResolved() {
+        return this.value != null;
+    }
+
+}
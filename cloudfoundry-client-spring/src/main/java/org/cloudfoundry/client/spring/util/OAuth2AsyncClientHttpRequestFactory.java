@@ -0,0 +1,245 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.security.oauth2.client.OAuth2ClientContext;
+import org.springframework.security.oauth2.client.OAuth2RestOperations;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+import static org.springframework.security.oauth2.common.OAuth2AccessToken.BEARER_TYPE;
+
+/**
+ * An {@link AsyncClientHttpRequestFactory} that adds the access token of an {@link OAuth2RestOperations} to every request it creates.  The token is added when a request is executed.  A token
+ * that is still valid is added straight away.  A token that must first be obtained or refreshed is requested once, on a small fixed pool of threads, and every request waiting for it is executed
+ * when it has been received, so neither the threads executing requests nor one thread per request ever wait for the token endpoint.  As with {@link
+ * org.springframework.security.oauth2.client.OAuth2RestTemplate}, a request that is rejected as unauthorized discards the token it was sent with and is sent once more with a new token.  The
+ * headers and body of each request are buffered so that it can be sent again.
+ */
+public final class OAuth2AsyncClientHttpRequestFactory implements AsyncClientHttpRequestFactory {
+
+    private static final int ACCESS_TOKEN_THREADS = 2;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(ACCESS_TOKEN_THREADS, new ThreadFactory() {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cloudfoundry-client-spring-access-token");
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    });
+
+    private final AsyncClientHttpRequestFactory delegate;
+
+    private final Object monitor = new Object();
+
+    private final OAuth2RestOperations restOperations;
+
+    private SettableListenableFuture<OAuth2AccessToken> accessTokenRequest;
+
+    /**
+     * Creates an instance
+     *
+     * @param delegate       the {@link AsyncClientHttpRequestFactory} that creates the underlying requests
+     * @param restOperations the {@link OAuth2RestOperations} that manages the access token
+     */
+    public OAuth2AsyncClientHttpRequestFactory(AsyncClientHttpRequestFactory delegate, OAuth2RestOperations restOperations) {
+        this.delegate = delegate;
+        this.restOperations = restOperations;
+    }
+
+    @Override
+    public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new AuthorizingAsyncClientHttpRequest(uri, httpMethod);
+    }
+
+    private static boolean isUnauthorized(ClientHttpResponse response) {
+        try {
+            return response.getRawStatusCode() == UNAUTHORIZED.value();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void discardAccessToken(OAuth2AccessToken accessToken) {
+        synchronized (this.monitor) {
+            OAuth2ClientContext context = this.restOperations.getOAuth2ClientContext();
+            if (context.getAccessToken() == accessToken) {
+                context.setAccessToken(null);
+            }
+        }
+    }
+
+    private ListenableFuture<OAuth2AccessToken> getAccessToken() {
+        OAuth2AccessToken accessToken = this.restOperations.getOAuth2ClientContext().getAccessToken();
+        if (accessToken != null && !accessToken.isExpired()) {
+            SettableListenableFuture<OAuth2AccessToken> result = new SettableListenableFuture<>();
+            result.set(accessToken);
+            return result;
+        }
+
+        synchronized (this.monitor) {
+            if (this.accessTokenRequest == null) {
+                final SettableListenableFuture<OAuth2AccessToken> accessTokenRequest = new SettableListenableFuture<>();
+                this.accessTokenRequest = accessTokenRequest;
+
+                EXECUTOR.execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            OAuth2AccessToken accessToken = OAuth2AsyncClientHttpRequestFactory.this.restOperations.getAccessToken();
+                            requestCompleted(accessTokenRequest);
+                            accessTokenRequest.set(accessToken);
+                        } catch (RuntimeException e) {
+                            requestCompleted(accessTokenRequest);
+                            accessTokenRequest.setException(e);
+                        }
+                    }
+
+                });
+            }
+
+            return this.accessTokenRequest;
+        }
+    }
+
+    private void requestCompleted(SettableListenableFuture<OAuth2AccessToken> accessTokenRequest) {
+        synchronized (this.monitor) {
+            if (this.accessTokenRequest == accessTokenRequest) {
+                this.accessTokenRequest = null;
+            }
+        }
+    }
+
+    private final class AuthorizingAsyncClientHttpRequest implements AsyncClientHttpRequest {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final HttpMethod method;
+
+        private final URI uri;
+
+        private AuthorizingAsyncClientHttpRequest(URI uri, HttpMethod method) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        @Override
+        public ListenableFuture<ClientHttpResponse> executeAsync() throws IOException {
+            SettableListenableFuture<ClientHttpResponse> result = new SettableListenableFuture<>();
+            execute(true, result);
+            return result;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return this.method;
+        }
+
+        @Override
+        public URI getURI() {
+            return this.uri;
+        }
+
+        private void execute(final boolean replayable, final SettableListenableFuture<ClientHttpResponse> result) {
+            getAccessToken().addCallback(new ListenableFutureCallback<OAuth2AccessToken>() {
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    result.setException(throwable);
+                }
+
+                @Override
+                public void onSuccess(OAuth2AccessToken accessToken) {
+                    execute(accessToken, replayable, result);
+                }
+
+            });
+        }
+
+        private void execute(final OAuth2AccessToken accessToken, final boolean replayable, final SettableListenableFuture<ClientHttpResponse> result) {
+            if (result.isCancelled()) {
+                return;
+            }
+
+            try {
+                AsyncClientHttpRequest request = OAuth2AsyncClientHttpRequestFactory.this.delegate.createAsyncRequest(this.uri, this.method);
+                request.getHeaders().putAll(this.headers);
+                request.getHeaders().set(AUTHORIZATION, String.format("%s %s", BEARER_TYPE, accessToken.getValue()));
+                if (this.body.size() > 0) {
+                    this.body.writeTo(request.getBody());
+                }
+
+                request.executeAsync().addCallback(new ListenableFutureCallback<ClientHttpResponse>() {
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        result.setException(throwable);
+                    }
+
+                    @Override
+                    public void onSuccess(ClientHttpResponse response) {
+                        if (replayable && isUnauthorized(response)) {
+                            response.close();
+                            discardAccessToken(accessToken);
+                            execute(false, result);
+                        } else {
+                            result.set(response);
+                        }
+                    }
+
+                });
+            } catch (IOException | RuntimeException e) {
+                result.setException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ClientHttpRequestInterceptor} that chooses the {@code results-per-page} of paginated v2 requests that do not specify one.  Each endpoint starts at the server maximum and the page
+ * size is halved when responses exceed the target latency or size, and doubled again when they are well within both.  A page size is only chosen when a listing is first requested, and
+ * every page of the same listing uses that size until the listing has gone unused for ten minutes, so that page numbers stay consistent for every consumer that is still paging through it,
+ * however many others are started.  Requests that explicitly set {@code results-per-page} are left untouched.
+ *
+ * <p>Callers that key requests on their {@link URI}, such as a {@link ResponseCache} or {@link RequestCoalescer}, should apply {@link #tune(URI)} first, so that requests for pages of different
+ * sizes are never confused.  Requests tuned that way are still measured when they are executed through this interceptor.  Requests that are executed without it, such as asynchronous ones,
+ * should report their responses with {@link #record(URI, long, long)}.</p>
+ */
+public final class PageSizeTuningInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * The maximum number of results per page allowed by the Cloud Controller
+     */
+    public static final int MAXIMUM_RESULTS_PER_PAGE = 100;
+
+    private static final long LISTING_EXPIRY = TimeUnit.MINUTES.toNanos(10);
+
+    private static final String PAGE = "page";
+
+    private static final String RESULTS_PER_PAGE = "results-per-page";
+
+    private final ConcurrentMap<String, Integer> endpoints = new ConcurrentHashMap<>();
+
+    private final Map<String, Listing> listings = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int maximumResultsPerPage;
+
+    private final int minimumResultsPerPage;
+
+    private final long targetBytes;
+
+    private final long targetLatency;
+
+    /**
+     * Creates an instance that targets responses of at most 2 seconds and 1 MiB, with page sizes between 10 and {@link #MAXIMUM_RESULTS_PER_PAGE}
+     */
+    public PageSizeTuningInterceptor() {
+        this(10, MAXIMUM_RESULTS_PER_PAGE, 2, TimeUnit.SECONDS, 1024 * 1024);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param minimumResultsPerPage the smallest page size to shrink to
+     * @param maximumResultsPerPage the largest page size to grow to, and the initial page size of every endpoint
+     * @param targetLatency         the response latency above which the page size is reduced
+     * @param unit                  the unit of {@code targetLatency}
+     * @param targetBytes           the response size above which the page size is reduced
+     */
+    public PageSizeTuningInterceptor(int minimumResultsPerPage, int maximumResultsPerPage, long targetLatency, TimeUnit unit, long targetBytes) {
+        if (minimumResultsPerPage < 1 || maximumResultsPerPage < minimumResultsPerPage) {
+            throw new IllegalArgumentException("Results per page bounds must satisfy 1 <= minimum <= maximum");
+        }
+
+        this.maximumResultsPerPage = maximumResultsPerPage;
+        this.minimumResultsPerPage = minimumResultsPerPage;
+        this.targetBytes = targetBytes;
+        this.targetLatency = unit.toNanos(targetLatency);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        UriComponents uri = UriComponentsBuilder.fromUri(request.getURI()).build(true);
+
+        if (request.getMethod() != HttpMethod.GET || !isPaginated(uri)) {
+            return execution.execute(request, body);
+        }
+
+        String endpoint = uri.getPath();
+        MultiValueMap<String, String> queryParams = uri.getQueryParams();
+        String listingKey = getListingKey(endpoint, queryParams);
+
+        HttpRequest tunedRequest;
+        int resultsPerPage;
+
+        if (queryParams.containsKey(RESULTS_PER_PAGE)) {
+            Integer tuned = getTunedResultsPerPage(listingKey, queryParams.getFirst(RESULTS_PER_PAGE));
+            if (tuned == null) {
+                return execution.execute(request, body);
+            }
+
+            resultsPerPage = tuned;
+            tunedRequest = request;
+        } else {
+            resultsPerPage = getResultsPerPage(endpoint, listingKey);
+            final URI tunedUri = withResultsPerPage(request.getURI(), resultsPerPage);
+
+            tunedRequest = new HttpRequestWrapper(request) {
+
+                @Override
+                public URI getURI() {
+                    return tunedUri;
+                }
+
+            };
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(tunedRequest, body);
+
+        record(endpoint, resultsPerPage, System.nanoTime() - start, response.getHeaders().getContentLength());
+        return response;
+    }
+
+    /**
+     * Records the response to a request that was made without this interceptor, such as an asynchronous one.  Only requests whose {@link URI} was tuned by {@link #tune(URI)} are measured.
+     *
+     * @param uri     the {@link URI} that the request was made with
+     * @param latency the time taken to receive the response, in nanoseconds
+     * @param bytes   the length of the response body, or {@code -1} if it is not known
+     */
+    public void record(URI uri, long latency, long bytes) {
+        UriComponents components = UriComponentsBuilder.fromUri(uri).build(true);
+        MultiValueMap<String, String> queryParams = components.getQueryParams();
+
+        if (!isPaginated(components) || !queryParams.containsKey(RESULTS_PER_PAGE)) {
+            return;
+        }
+
+        String endpoint = components.getPath();
+        Integer resultsPerPage = getTunedResultsPerPage(getListingKey(endpoint, queryParams), queryParams.getFirst(RESULTS_PER_PAGE));
+        if (resultsPerPage != null) {
+            record(endpoint, resultsPerPage, latency, bytes);
+        }
+    }
+
+    /**
+     * Returns the {@link URI} of a request with the {@code results-per-page} that it will be made with.  A paginated v2 request that does not specify one is given the size of its listing,
+     * and any other request is returned unchanged.
+     *
+     * @param uri the {@link URI} of the request
+     * @return the {@link URI} with the chosen {@code results-per-page}
+     */
+    public URI tune(URI uri) {
+        UriComponents components = UriComponentsBuilder.fromUri(uri).build(true);
+        MultiValueMap<String, String> queryParams = components.getQueryParams();
+
+        if (!isPaginated(components) || queryParams.containsKey(RESULTS_PER_PAGE)) {
+            return uri;
+        }
+
+        String endpoint = components.getPath();
+        return withResultsPerPage(uri, getResultsPerPage(endpoint, getListingKey(endpoint, queryParams)));
+    }
+
+    int getResultsPerPage(String endpoint) {
+        Integer resultsPerPage = this.endpoints.get(endpoint);
+        return resultsPerPage != null ? resultsPerPage : this.maximumResultsPerPage;
+    }
+
+    void record(String endpoint, int resultsPerPage, long latency, long bytes) {
+        int tuned = resultsPerPage;
+
+        if (latency > this.targetLatency || bytes > this.targetBytes) {
+            tuned = Math.max(this.minimumResultsPerPage, resultsPerPage / 2);
+        } else if (latency < this.targetLatency / 4 && (bytes < 0 || bytes < this.targetBytes / 4)) {
+            tuned = Math.min(this.maximumResultsPerPage, resultsPerPage * 2);
+        }
+
+        this.endpoints.put(endpoint, tuned);
+    }
+
+    private static String getListingKey(String endpoint, MultiValueMap<String, String> queryParams) {
+        Map<String, Object> key = new TreeMap<>();
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            if (!PAGE.equals(entry.getKey()) && !RESULTS_PER_PAGE.equals(entry.getKey())) {
+                key.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return endpoint + key;
+    }
+
+    private static boolean isPaginated(UriComponents uri) {
+        return uri.getPath() != null && uri.getPath().startsWith("/v2/") && uri.getQueryParams().containsKey(PAGE);
+    }
+
+    private static URI withResultsPerPage(URI uri, int resultsPerPage) {
+        return UriComponentsBuilder.fromUri(uri)
+                .queryParam(RESULTS_PER_PAGE, resultsPerPage)
+                .build(true).toUri();
+    }
+
+    private void expireListings(long now) {
+        Iterator<Listing> listings = this.listings.values().iterator();
+
+        while (listings.hasNext() && now - listings.next().lastUsed > LISTING_EXPIRY) {
+            listings.remove();
+        }
+    }
+
+    private int getResultsPerPage(String endpoint, String listingKey) {
+        long now = System.nanoTime();
+
+        synchronized (this.listings) {
+            expireListings(now);
+            Listing listing = this.listings.get(listingKey);
+
+            if (listing == null) {
+                listing = new Listing(getResultsPerPage(endpoint));
+                this.listings.put(listingKey, listing);
+            }
+
+            listing.lastUsed = now;
+            return listing.resultsPerPage;
+        }
+    }
+
+    private Integer getTunedResultsPerPage(String listingKey, String resultsPerPage) {
+        long now = System.nanoTime();
+
+        synchronized (this.listings) {
+            expireListings(now);
+            Listing listing = this.listings.get(listingKey);
+
+            if (listing == null || !String.valueOf(listing.resultsPerPage).equals(resultsPerPage)) {
+                return null;
+            }
+
+            listing.lastUsed = now;
+            return listing.resultsPerPage;
+        }
+    }
+
+    private static final class Listing {
+
+        private final int resultsPerPage;
+
+        private long lastUsed;
+
+        private Listing(int resultsPerPage) {
+            this.resultsPerPage = resultsPerPage;
+        }
+
+    }
+
+}
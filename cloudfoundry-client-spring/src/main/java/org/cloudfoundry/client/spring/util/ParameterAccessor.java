@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.QueryWriter;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+
+/**
+ * A pre-computed accessor for a request parameter, pairing the rendered name of the parameter with a {@link MethodHandle} for the method that returns its value
+ */
+public final class ParameterAccessor {
+
+    /**
+     * The system property that must be {@code true} for the parameters of a type without a generated {@link QueryWriter} to be discovered reflectively
+     */
+    public static final String REFLECTION_PROPERTY = "cloudfoundry.client.reflectiveParameters";
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final MethodHandle getter;
+
+    private final String name;
+
+    /**
+     * Creates a new instance
+     *
+     * @param method the method that returns the value of the parameter
+     * @param name   the rendered name of the parameter
+     */
+    public ParameterAccessor(Method method, String name) {
+        this.getter = unreflect(method);
+        this.name = name;
+    }
+
+    /**
+     * Checks that the parameters of a type without a generated {@link QueryWriter} may be discovered reflectively
+     *
+     * @param type the type whose parameters are to be discovered
+     * @throws IllegalArgumentException if reflection has not been enabled with the {@value #REFLECTION_PROPERTY} system property
+     */
+    public static void checkReflectionEnabled(Class<?> type) {
+        if (!Boolean.getBoolean(REFLECTION_PROPERTY)) {
+            throw new IllegalArgumentException(String.format("No QueryWriter has been generated for %s.  Set the %s system property to true to discover its parameters reflectively.", type.getName(),
+                    REFLECTION_PROPERTY));
+        }
+    }
+
+    /**
+     * Returns the declared methods of a type and its super types, sorted by name
+     *
+     * @param type the type to inspect
+     * @return the declared methods sorted by name
+     */
+    public static Method[] getSortedMethods(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
+        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+        return methods;
+    }
+
+    /**
+     * Returns the rendered name of the parameter
+     *
+     * @return the rendered name of the parameter
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the value of the parameter
+     *
+     * @param instance the instance to invoke the method on
+     * @return the value of the parameter
+     */
+    public Object getValue(Object instance) {
+        try {
+            return this.getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        ReflectionUtils.makeAccessible(method);
+
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Unable to access %s", method), e);
+        }
+    }
+
+}
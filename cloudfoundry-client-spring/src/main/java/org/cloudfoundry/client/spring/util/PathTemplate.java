@@ -0,0 +1,220 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.GeneratedQueryWriters;
+import org.cloudfoundry.client.QueryWriter;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A request path that is parsed and encoded once, when it is declared.  A template such as {@code /v2/apps/{id}/routes/{routeId}} is stored as the encoded literal text between its variables, so that
+ * expanding it only encodes the variable segments and the query parameters of the request.  Encoding follows the rules {@link org.springframework.web.util.UriComponentsBuilder} uses for path
+ * segments and query parameters, so an expanded template is identical to the equivalent builder output.  The template of each request type is read from the {@link QueryWriter} generated for it.
+ */
+public final class PathTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final boolean[] PATH_SEGMENT = new boolean[128];
+
+    private static final boolean[] QUERY_PARAM = new boolean[128];
+
+    private static final ClassValue<PathTemplate> TEMPLATES = new ClassValue<PathTemplate>() {
+
+        @Override
+        protected PathTemplate computeValue(Class<?> requestType) {
+            String path = getWriter(requestType).getPath();
+            if (path == null) {
+                throw new IllegalArgumentException(String.format("Request type %s does not declare a path", requestType.getName()));
+            }
+
+            return compile(path);
+        }
+
+    };
+
+    static {
+        String unreserved = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~";
+        String subDelimiters = "!$&'()*+,;=";
+
+        for (char c : (unreserved + subDelimiters + ":@").toCharArray()) {
+            PATH_SEGMENT[c] = true;
+            QUERY_PARAM[c] = true;
+        }
+
+        QUERY_PARAM['/'] = true;
+        QUERY_PARAM['?'] = true;
+        QUERY_PARAM['='] = false;
+        QUERY_PARAM['&'] = false;
+    }
+
+    private final String[] literals;
+
+    private final String template;
+
+    private PathTemplate(String template, String[] literals) {
+        this.template = template;
+        this.literals = literals;
+    }
+
+    /**
+     * Parses a template.  Each segment of the template is either literal text or a variable of the form {@code {name}}.
+     *
+     * @param template the template to parse
+     * @return the parsed template
+     * @throws IllegalArgumentException if a segment contains both literal text and a variable
+     */
+    public static PathTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        for (String segment : template.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            literal.append('/');
+
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+            } else if (segment.indexOf('{') != -1 || segment.indexOf('}') != -1) {
+                throw new IllegalArgumentException(String.format("Segment '%s' of template '%s' must be either literal or a single variable", segment, template));
+            } else {
+                encode(literal, segment, PATH_SEGMENT);
+            }
+        }
+
+        literals.add(literal.toString());
+        return new PathTemplate(template, literals.toArray(new String[literals.size()]));
+    }
+
+    /**
+     * Expands the template against a root {@link URI}.  The values of the variables and the filter and query parameters of the request are read using the {@link QueryWriter} generated for its type.
+     *
+     * @param root    the root {@link URI} of the server
+     * @param request the request whose variables and parameters are expanded
+     * @return the expanded {@link URI}
+     * @throws IllegalArgumentException if no writer has been generated for the type of the request, or if the number of its path variables does not match the number of variables
+     */
+    public URI expand(URI root, Object request) {
+        QueryWriter writer = getWriter(request.getClass());
+
+        Object[] variables = writer.getPathVariables(request);
+        if (variables.length != this.literals.length - 1) {
+            throw new IllegalArgumentException(String.format("Template '%s' requires %d variables, but %d were provided", this.template, this.literals.length - 1, variables.length));
+        }
+
+        String prefix = root.toString();
+        int prefixLength = prefix.endsWith("/") ? prefix.length() - 1 : prefix.length();
+
+        StringBuilder sb = new StringBuilder(prefixLength + this.template.length() + 64).append(prefix, 0, prefixLength);
+
+        for (int i = 0; i < variables.length; i++) {
+            sb.append(this.literals[i]);
+            encode(sb, String.valueOf(variables[i]), PATH_SEGMENT);
+        }
+        sb.append(this.literals[variables.length]);
+
+        QuerySink sink = new QuerySink(sb);
+        writer.writeFilters(request, sink);
+        writer.writeQueries(request, sink);
+
+        return URI.create(sb.toString());
+    }
+
+    /**
+     * Returns the template declared by a request type.  Templates are parsed once per type.
+     *
+     * @param requestType the request type
+     * @return the template of the request type
+     * @throws IllegalArgumentException if no writer has been generated for the request type, or if it does not declare a path
+     */
+    public static PathTemplate of(Class<?> requestType) {
+        return TEMPLATES.get(requestType);
+    }
+
+    @Override
+    public String toString() {
+        return this.template;
+    }
+
+    private static void encode(StringBuilder sb, String value, boolean[] allowed) {
+        int length = value.length();
+
+        int i = 0;
+        while (i < length && isAllowed(value.charAt(i), allowed)) {
+            i++;
+        }
+
+        if (i == length) {
+            sb.append(value);
+            return;
+        }
+
+        sb.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            int c = b & 0xFF;
+
+            if (c < 128 && allowed[c]) {
+                sb.append((char) c);
+            } else {
+                sb.append('%').append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    private static QueryWriter getWriter(Class<?> requestType) {
+        QueryWriter writer = GeneratedQueryWriters.get(requestType);
+        if (writer == null) {
+            throw new IllegalArgumentException(String.format("No query writer has been generated for %s", requestType.getName()));
+        }
+
+        return writer;
+    }
+
+    private static boolean isAllowed(char c, boolean[] allowed) {
+        return c < 128 && allowed[c];
+    }
+
+    private static final class QuerySink implements QueryWriter.Sink {
+
+        private final StringBuilder sb;
+
+        private boolean first = true;
+
+        private QuerySink(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        @Override
+        public void add(String name, Object value) {
+            this.sb.append(this.first ? '?' : '&');
+            this.first = false;
+
+            encode(this.sb, name, QUERY_PARAM);
+            this.sb.append('=');
+            encode(this.sb, String.valueOf(value), QUERY_PARAM);
+        }
+
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An {@link X509TrustManager} that trusts certificate chains trusted by a delegate and, in addition, chains that have been pinned to it.  A chain is trusted if its leaf certificate has been
+ * pinned or if it can be validated using the pinned certificates as trust anchors.  A probe that discovers certificates to pin may be run asynchronously; a chain that is not otherwise trusted
+ * waits for the probe to complete before it is rejected.
+ */
+final class PinnedCertificateTrustManager implements X509TrustManager {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final X509TrustManager delegate;
+
+    private final ExecutorService executor;
+
+    private final Object monitor = new Object();
+
+    private final ConcurrentMap<String, X509Certificate[]> pinned = new ConcurrentHashMap<>();
+
+    private volatile X509TrustManager pinnedTrustManager;
+
+    private final Callable<X509Certificate[]> probe;
+
+    private Future<X509Certificate[]> probeResult;
+
+    private final long timeout;
+
+    PinnedCertificateTrustManager(X509TrustManager delegate, Callable<X509Certificate[]> probe, ExecutorService executor, long timeout, TimeUnit timeUnit) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.probe = probe;
+        this.timeout = timeUnit.toMillis(timeout);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        this.delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        try {
+            this.delegate.checkServerTrusted(chain, authType);
+        } catch (CertificateException e) {
+            if (isPinned(chain, authType)) {
+                return;
+            }
+
+            if (awaitProbe() && isPinned(chain, authType)) {
+                return;
+            }
+
+            throw e;
+        }
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return this.delegate.getAcceptedIssuers();
+    }
+
+    static String fingerprint(X509Certificate certificate) throws CertificateException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded());
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (GeneralSecurityException e) {
+            throw new CertificateException(e);
+        }
+    }
+
+    boolean pin(X509Certificate[] chain) throws CertificateException {
+        if (chain == null || chain.length == 0 || this.pinned.putIfAbsent(fingerprint(chain[0]), chain) != null) {
+            return false;
+        }
+
+        synchronized (this.monitor) {
+            try {
+                this.pinnedTrustManager = createPinnedTrustManager();
+            } catch (GeneralSecurityException e) {
+                this.logger.debug("Unable to use pinned certificates as trust anchors: {}", e.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    Future<X509Certificate[]> startProbe() {
+        synchronized (this.monitor) {
+            if (this.probeResult == null) {
+                this.probeResult = this.executor.submit(new Callable<X509Certificate[]>() {
+
+                    @Override
+                    public X509Certificate[] call() throws Exception {
+                        X509Certificate[] chain = PinnedCertificateTrustManager.this.probe.call();
+                        pin(chain);
+                        return chain;
+                    }
+
+                });
+            }
+
+            return this.probeResult;
+        }
+    }
+
+    private boolean awaitProbe() {
+        try {
+            startProbe().get(this.timeout, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            this.logger.warn("Unable to obtain server certificate chain: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private X509TrustManager createPinnedTrustManager() throws GeneralSecurityException {
+        KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+
+        try {
+            trustStore.load(null);
+        } catch (IOException e) {
+            throw new GeneralSecurityException(e);
+        }
+
+        int count = 0;
+        for (X509Certificate[] chain : this.pinned.values()) {
+            for (X509Certificate certificate : chain) {
+                trustStore.setCertificateEntry(String.valueOf(count++), certificate);
+            }
+        }
+
+        TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(trustStore);
+        return (X509TrustManager) factory.getTrustManagers()[0];
+    }
+
+    private boolean isPinned(X509Certificate[] chain, String authType) throws CertificateException {
+        if (chain.length > 0 && this.pinned.containsKey(fingerprint(chain[0]))) {
+            return true;
+        }
+
+        X509TrustManager pinnedTrustManager = this.pinnedTrustManager;
+        if (pinnedTrustManager == null) {
+            return false;
+        }
+
+        try {
+            pinnedTrustManager.checkServerTrusted(chain, authType);
+            return true;
+        } catch (CertificateException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+package org.cloudfoundry.client.spring.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/**
+ * Utilities for writing files that only their owner may read
+ */
+final class PrivateFiles {
+
+    private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+    private PrivateFiles() {
+    }
+
+    /**
+     * Writes a file atomically, creating its directory if necessary.  The contents are written to a temporary file that is created readable and writable only by its owner, and which then
+     * replaces the file, so that the contents are never visible to other users or partially written.
+     *
+     * @param file     the file to write
+     * @param contents the contents of the file
+     * @throws IOException if the file cannot be written
+     */
+    static void writeAtomically(File file, byte[] contents) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException(String.format("Unable to create directory %s", directory));
+        }
+
+        Path temporary = createTemporaryFile(directory.toPath());
+
+        try {
+            Files.write(temporary, contents);
+            Files.move(temporary, file.toPath(), ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static Path createTemporaryFile(Path directory) throws IOException {
+        try {
+            return Files.createTempFile(directory, "private", null, OWNER_ONLY);
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system, so restrict access as far as it allows
+            File temporary = Files.createTempFile(directory, "private", null).toFile();
+            temporary.setReadable(false, false);
+            temporary.setReadable(true, true);
+            temporary.setWritable(false, false);
+            temporary.setWritable(true, true);
+            return temporary.toPath();
+        }
+    }
+
+}
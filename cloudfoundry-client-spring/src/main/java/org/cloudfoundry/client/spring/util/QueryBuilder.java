@@ -16,43 +16,66 @@
 
 package org.cloudfoundry.client.spring.util;
 
+import org.cloudfoundry.client.GeneratedQueryWriters;
 import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.QueryWriter;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A builder for Cloud Foundry queries
  */
 public final class QueryBuilder {
 
+    private static final ClassValue<List<ParameterAccessor>> ACCESSORS = new ClassValue<List<ParameterAccessor>>() {
+
+        @Override
+        protected List<ParameterAccessor> computeValue(Class<?> type) {
+            List<ParameterAccessor> accessors = new ArrayList<>();
+
+            for (Method method : ParameterAccessor.getSortedMethods(type)) {
+                QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
+                if (queryParameter != null) {
+                    accessors.add(new ParameterAccessor(method, queryParameter.value()));
+                }
+            }
+
+            return Collections.unmodifiableList(accessors);
+        }
+
+    };
+
     private QueryBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link QueryParameter}
+     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link QueryParameter}.  Request types use the {@link QueryWriter}
+     * generated for them at compile time.  The annotated methods of any other type are discovered once and cached, if reflection has been enabled
+     * with {@link ParameterAccessor#REFLECTION_PROPERTY}.
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
+     * @throws IllegalArgumentException if no {@link QueryWriter} has been generated for the type of the instance and reflection has not been enabled
      */
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
-        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+        QueryWriter writer = GeneratedQueryWriters.get(instance.getClass());
+        if (writer != null) {
+            writer.writeQueries(instance, new UriComponentsBuilderSink(builder));
+            return;
+        }
 
-        for (Method method : methods) {
-            QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
-            if (queryParameter == null) {
-                continue;
-            }
+        ParameterAccessor.checkReflectionEnabled(instance.getClass());
 
-            ReflectionUtils.makeAccessible(method);
-            Object value = ReflectionUtils.invokeMethod(method, instance);
+        for (ParameterAccessor accessor : ACCESSORS.get(instance.getClass())) {
+            Object value = accessor.getValue(instance);
 
             if (value != null) {
-                builder.queryParam(queryParameter.value(), value);
+                builder.queryParam(accessor.getName(), value);
             }
         }
     }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.client.DefaultOAuth2ClientContext;
+import org.springframework.security.oauth2.client.OAuth2ClientContext;
+import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.AccessTokenRequest;
+import org.springframework.security.oauth2.client.token.DefaultAccessTokenRequest;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import reactor.fn.Consumer;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * An {@link OAuth2ClientContext} that manages a single access token shared by every request made through it.  The current token is served without locking.  Ahead of its expiry, a new token is
+ * requested on a background scheduler so that request threads do not stall on a refresh.  Concurrent refreshes are deduplicated: when a request is rejected because its token is no longer
+ * valid, the token is refreshed once and every thread that used the rejected token receives the refreshed one.
+ *
+ * <p>Background refreshes only continue while the token is in use.  A context whose token has not been requested since the last refresh stops refreshing until it is next used.</p>
+ */
+public final class RefreshingOAuth2ClientContext implements OAuth2ClientContext {
+
+    private static final long DEFAULT_REFRESH_AHEAD = SECONDS.toMillis(60);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshingOAuth2ClientContext.class);
+
+    private static final long RETRY_INTERVAL = SECONDS.toMillis(10);
+
+    private volatile OAuth2AccessToken accessToken;
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    private final OAuth2ClientContext delegate = new DefaultOAuth2ClientContext(new DefaultAccessTokenRequest());
+
+    private final ThreadLocal<OAuth2AccessToken> lastServed = new ThreadLocal<>();
+
+    private final Consumer<OAuth2AccessToken> listener;
+
+    private final Object monitor = new Object();
+
+    private volatile long refreshAhead = DEFAULT_REFRESH_AHEAD;
+
+    private volatile long refreshCount;
+
+    private final OAuth2ProtectedResourceDetails resource;
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean used;
+
+    /**
+     * Creates a new instance
+     *
+     * @param resource            the resource that access tokens are requested for
+     * @param accessTokenProvider the {@link AccessTokenProvider} used to request access tokens
+     * @param scheduler           the {@link ScheduledExecutorService} that background refreshes are run on
+     */
+    public RefreshingOAuth2ClientContext(OAuth2ProtectedResourceDetails resource, AccessTokenProvider accessTokenProvider, ScheduledExecutorService scheduler) {
+        this(resource, accessTokenProvider, scheduler, null);
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param resource            the resource that access tokens are requested for
+     * @param accessTokenProvider the {@link AccessTokenProvider} used to request access tokens
+     * @param scheduler           the {@link ScheduledExecutorService} that background refreshes are run on
+     * @param listener            a {@link Consumer} that is notified of every new access token.  May be {@code null}.
+     */
+    public RefreshingOAuth2ClientContext(OAuth2ProtectedResourceDetails resource, AccessTokenProvider accessTokenProvider, ScheduledExecutorService scheduler,
+                                         Consumer<OAuth2AccessToken> listener) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.listener = listener;
+        this.resource = resource;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the current access token, requesting a new one only if there is no current token or it has expired
+     *
+     * @return the current access token
+     */
+    @Override
+    public OAuth2AccessToken getAccessToken() {
+        OAuth2AccessToken accessToken = this.accessToken;
+
+        if (accessToken == null || accessToken.isExpired()) {
+            accessToken = refresh(accessToken);
+        }
+
+        this.used = true;
+        this.lastServed.set(accessToken);
+        return accessToken;
+    }
+
+    @Override
+    public AccessTokenRequest getAccessTokenRequest() {
+        return this.delegate.getAccessTokenRequest();
+    }
+
+    /**
+     * Returns the number of times an access token has been requested
+     *
+     * @return the number of times an access token has been requested
+     */
+    public long getRefreshCount() {
+        return this.refreshCount;
+    }
+
+    /**
+     * Configure how long before an access token expires a new one is requested in the background.  Defaults to 60 seconds.  Tokens whose lifetime is less than twice this value are refreshed
+     * half way through their lifetime instead.
+     *
+     * @param duration the time before expiry
+     * @param timeUnit the unit of {@code duration}
+     * @return {@code this}
+     */
+    public RefreshingOAuth2ClientContext refreshAhead(long duration, TimeUnit timeUnit) {
+        this.refreshAhead = timeUnit.toMillis(duration);
+        return this;
+    }
+
+    @Override
+    public Object removePreservedState(String stateKey) {
+        return this.delegate.removePreservedState(stateKey);
+    }
+
+    /**
+     * Sets the current access token, for example one restored from a {@link SessionCache}.  Setting {@code null} signals that the last token served to the calling thread was rejected; it is
+     * refreshed unless another thread has already done so.
+     *
+     * @param accessToken the access token or {@code null}
+     */
+    @Override
+    public void setAccessToken(OAuth2AccessToken accessToken) {
+        if (accessToken == null) {
+            OAuth2AccessToken rejected = this.lastServed.get();
+            this.lastServed.remove();
+
+            LOGGER.debug("Access token rejected");
+            refresh(rejected);
+        } else {
+            synchronized (this.monitor) {
+                this.accessToken = accessToken;
+            }
+
+            if (accessToken.getExpiration() != null && !accessToken.isExpired()) {
+                schedule(accessToken, getRefreshDelay(accessToken));
+            }
+        }
+    }
+
+    @Override
+    public void setPreservedState(String stateKey, Object preservedState) {
+        this.delegate.setPreservedState(stateKey, preservedState);
+    }
+
+    private long getRefreshDelay(OAuth2AccessToken accessToken) {
+        long lifetime = SECONDS.toMillis(accessToken.getExpiresIn());
+        return lifetime > 2 * this.refreshAhead ? lifetime - this.refreshAhead : lifetime / 2;
+    }
+
+    private OAuth2AccessToken refresh(OAuth2AccessToken stale) {
+        synchronized (this.monitor) {
+            OAuth2AccessToken current = this.accessToken;
+            if (current != null && current != stale && !current.isExpired()) {
+                return current;
+            }
+
+            OAuth2AccessToken accessToken = requestAccessToken(current);
+            this.accessToken = accessToken;
+            this.refreshCount++;
+            this.used = false;
+
+            if (this.listener != null) {
+                this.listener.accept(accessToken);
+            }
+
+            if (accessToken.getExpiration() != null) {
+                schedule(accessToken, getRefreshDelay(accessToken));
+            }
+
+            return accessToken;
+        }
+    }
+
+    private OAuth2AccessToken requestAccessToken(OAuth2AccessToken current) {
+        OAuth2RefreshToken refreshToken = current != null ? current.getRefreshToken() : null;
+
+        if (refreshToken != null && this.accessTokenProvider.supportsRefresh(this.resource)) {
+            try {
+                LOGGER.debug("Refreshing access token");
+                return this.accessTokenProvider.refreshAccessToken(this.resource, refreshToken, new DefaultAccessTokenRequest());
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to refresh access token, requesting a new one: {}", e.getMessage());
+            }
+        }
+
+        LOGGER.debug("Requesting access token");
+        return this.accessTokenProvider.obtainAccessToken(this.resource, new DefaultAccessTokenRequest());
+    }
+
+    private void schedule(final OAuth2AccessToken accessToken, long delay) {
+        this.scheduler.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                if (accessToken != RefreshingOAuth2ClientContext.this.accessToken) {
+                    return;
+                }
+
+                if (!RefreshingOAuth2ClientContext.this.used) {
+                    LOGGER.debug("Access token unused since last refresh, skipping background refresh");
+                    return;
+                }
+
+                try {
+                    refresh(accessToken);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Background access token refresh failed: {}", e.getMessage());
+
+                    if (!accessToken.isExpired()) {
+                        schedule(accessToken, RETRY_INTERVAL);
+                    }
+                }
+            }
+
+        }, delay, MILLISECONDS);
+    }
+
+}
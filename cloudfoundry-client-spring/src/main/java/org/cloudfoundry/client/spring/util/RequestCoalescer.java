@@ -0,0 +1,152 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import reactor.fn.Supplier;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces identical in-flight {@code GET} requests into a single exchange.  While a request for a {@link URI} and response type is in flight, any identical request shares its result, or its
+ * failure, instead of issuing another exchange.  Sharing requests are handed the in-flight exchange's future rather than waiting for it, so no thread is held while an exchange completes.
+ * Results are not retained once the exchange completes.
+ */
+public final class RequestCoalescer {
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private final ConcurrentMap<String, SettableListenableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * Returns the number of requests that shared the exchange of an identical in-flight request
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalesced() {
+        return this.coalesced.get();
+    }
+
+    /**
+     * Returns the fraction of requests that shared the exchange of an identical in-flight request
+     *
+     * @return the coalescing hit rate, or {@code 0} if no requests have been made
+     */
+    public double getHitRate() {
+        long requests = this.requests.get();
+        return requests == 0 ? 0 : (double) this.coalesced.get() / requests;
+    }
+
+    /**
+     * Returns the number of requests made through this coalescer
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return this.requests.get();
+    }
+
+    /**
+     * Starts an exchange that results in a response body, unless an identical exchange is already in flight, in which case its result is shared
+     *
+     * @param uri          the {@link URI} of the request
+     * @param responseType the type of the response
+     * @param exchange     the exchange to start
+     * @param <T>          the type of the response
+     * @return a future completed with the result of the exchange
+     */
+    public <T> ListenableFuture<T> execute(URI uri, Class<T> responseType, Supplier<ListenableFuture<T>> exchange) {
+        return coalesce(getKey(uri, responseType), exchange);
+    }
+
+    /**
+     * Starts an exchange that results in a response entity, unless an identical exchange is already in flight, in which case its result is shared
+     *
+     * @param uri          the {@link URI} of the request
+     * @param responseType the type of the response
+     * @param exchange     the exchange to start
+     * @param <T>          the type of the response
+     * @param <R>          the type of the result of the exchange
+     * @return a future completed with the result of the exchange
+     */
+    public <T, R> ListenableFuture<R> executeAsync(URI uri, Class<T> responseType, Supplier<ListenableFuture<R>> exchange) {
+        return coalesce("async " + getKey(uri, responseType), exchange);
+    }
+
+    private static String getKey(URI uri, Class<?> responseType) {
+        return responseType.getName() + ' ' + uri;
+    }
+
+    private <R> ListenableFuture<R> coalesce(final String key, Supplier<ListenableFuture<R>> exchange) {
+        final SettableListenableFuture<R> candidate = new SettableListenableFuture<>();
+
+        SettableListenableFuture<R> existing = putIfAbsent(key, candidate);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            exchange.get().addCallback(new ListenableFutureCallback<R>() {
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    fail(key, candidate, throwable);
+                }
+
+                @Override
+                public void onSuccess(R result) {
+                    complete(key, candidate, result);
+                }
+
+            });
+        } catch (RuntimeException | Error e) {
+            fail(key, candidate, e);
+        }
+
+        return candidate;
+    }
+
+    private <T> void complete(String key, SettableListenableFuture<T> future, T result) {
+        this.inFlight.remove(key, future);
+        future.set(result);
+    }
+
+    private void fail(String key, SettableListenableFuture<?> future, Throwable throwable) {
+        this.inFlight.remove(key, future);
+        future.setException(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> SettableListenableFuture<T> putIfAbsent(String key, SettableListenableFuture<T> candidate) {
+        this.requests.incrementAndGet();
+
+        SettableListenableFuture<T> existing = (SettableListenableFuture<T>) this.inFlight.putIfAbsent(key, candidate);
+        if (existing != null) {
+            this.coalesced.incrementAndGet();
+        }
+
+        return existing;
+    }
+
+}
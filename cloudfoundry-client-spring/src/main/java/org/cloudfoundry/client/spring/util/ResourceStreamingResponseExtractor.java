@@ -0,0 +1,124 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.client.v2.Pagination;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+import reactor.fn.Consumer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of {@link ResponseExtractor} that reads the resources of a paginated response incrementally, deserializing each resource as soon as it has been parsed rather than
+ * deserializing the entire page into a response first.  The pagination metadata is passed to an optional callback before the first resource is read.  The whole page is read before it is
+ * returned, so that the connection is released as soon as possible and is never held open while a slow subscriber consumes the resources.
+ *
+ * @param <T> the type of resource
+ */
+public final class ResourceStreamingResponseExtractor<T> implements ResponseExtractor<List<T>> {
+
+    private final ObjectMapper objectMapper;
+
+    private final Consumer<Pagination> paginationCallback;
+
+    private final Class<T> resourceType;
+
+    /**
+     * Creates an instance
+     *
+     * @param objectMapper       the {@link ObjectMapper} to deserialize resources with
+     * @param resourceType       the type of resource
+     * @param paginationCallback a callback that receives the pagination metadata.  May be {@code null}.
+     */
+    public ResourceStreamingResponseExtractor(ObjectMapper objectMapper, Class<T> resourceType, Consumer<Pagination> paginationCallback) {
+        this.objectMapper = objectMapper;
+        this.paginationCallback = paginationCallback;
+        this.resourceType = resourceType;
+    }
+
+    @Override
+    public List<T> extractData(ClientHttpResponse response) throws IOException {
+        try (InputStream in = response.getBody(); JsonParser parser = this.objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected paginated response to be a JSON object");
+            }
+
+            Pagination.PaginationBuilder pagination = Pagination.builder();
+            List<T> resources = new ArrayList<>();
+            boolean paginationNotified = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                switch (name) {
+                    case "next_url":
+                        pagination.nextUrl(parser.getValueAsString());
+                        break;
+                    case "prev_url":
+                        pagination.previousUrl(parser.getValueAsString());
+                        break;
+                    case "total_pages":
+                        pagination.totalPages(value == JsonToken.VALUE_NULL ? null : parser.getIntValue());
+                        break;
+                    case "total_results":
+                        pagination.totalResults(value == JsonToken.VALUE_NULL ? null : parser.getIntValue());
+                        break;
+                    case "resources":
+                        notifyPagination(pagination.build());
+                        paginationNotified = true;
+
+                        readResources(parser, resources);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (!paginationNotified) {
+                notifyPagination(pagination.build());
+            }
+
+            return resources;
+        }
+    }
+
+    private void notifyPagination(Pagination pagination) {
+        if (this.paginationCallback != null) {
+            this.paginationCallback.accept(pagination);
+        }
+    }
+
+    private void readResources(JsonParser parser, List<T> resources) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            resources.add(this.objectMapper.readValue(parser, this.resourceType));
+        }
+    }
+
+}
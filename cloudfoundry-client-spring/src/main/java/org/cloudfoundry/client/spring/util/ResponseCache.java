@@ -0,0 +1,236 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A size-bounded cache of deserialized {@code GET} responses that revalidates entries with conditional requests.  Responses that carry an {@code ETag} or {@code Last-Modified} validator are
+ * stored, and later requests for the same {@link URI} send {@code If-None-Match} or {@code If-Modified-Since} so that a {@code 304 Not Modified} response can be answered with the cached object
+ * without transferring or parsing the body again.  An entry may also be served without revalidation for a time-to-live configured per endpoint.  The least recently used entry is evicted when
+ * the cache is full.
+ */
+public final class ResponseCache {
+
+    private final Map<String, Entry<?>> entries;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final List<TimeToLive> timesToLive = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an instance
+     *
+     * @param maximumSize the maximum number of responses to retain
+     */
+    public ResponseCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+
+        this.entries = new LinkedHashMap<String, Entry<?>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<?>> eldest) {
+                return size() > maximumSize;
+            }
+
+        };
+    }
+
+    /**
+     * Returns the cached entry for a request
+     *
+     * @param uri          the {@link URI} of the request
+     * @param responseType the type of the response
+     * @param <T>          the type of the response
+     * @return the cached entry or {@code null} if the response is not cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Entry<T> get(URI uri, Class<T> responseType) {
+        synchronized (this.entries) {
+            return (Entry<T>) this.entries.get(getKey(uri, responseType));
+        }
+    }
+
+    /**
+     * Returns the number of cached responses
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Configures the time that responses from matching endpoints are served without revalidation.  Patterns are matched against the path of the request in the order they are configured, and
+     * endpoints that match no pattern are revalidated on every request.
+     *
+     * @param pattern  an Ant-style path pattern such as {@code /v2/apps/{id}/summary}
+     * @param duration the time-to-live of matching responses
+     * @param unit     the unit of {@code duration}
+     * @return {@code this}
+     */
+    public ResponseCache timeToLive(String pattern, long duration, TimeUnit unit) {
+        this.timesToLive.add(new TimeToLive(pattern, unit.toNanos(duration)));
+        return this;
+    }
+
+    /**
+     * Records the response to a request and returns the object to use as its result.  A {@code 304 Not Modified} response refreshes the cached entry and returns its object.  Any other successful
+     * response replaces the cached entry if it can be revalidated or has a time-to-live.
+     *
+     * @param uri          the {@link URI} of the request
+     * @param responseType the type of the response
+     * @param entry        the entry whose validators were sent with the request, or {@code null} if the request was not conditional
+     * @param response     the response to the request
+     * @param <T>          the type of the response
+     * @return the object to use as the result of the request
+     */
+    public <T> T update(URI uri, Class<T> responseType, Entry<T> entry, ResponseEntity<T> response) {
+        String key = getKey(uri, responseType);
+        HttpHeaders headers = response.getHeaders();
+        long timeToLive = getTimeToLive(uri);
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && entry != null) {
+            String eTag = headers.getETag() != null ? headers.getETag() : entry.eTag;
+            long lastModified = headers.getLastModified() != -1 ? headers.getLastModified() : entry.lastModified;
+
+            put(key, new Entry<>(entry.value, eTag, lastModified, timeToLive));
+            return entry.value;
+        }
+
+        T value = response.getBody();
+        if (response.getStatusCode() == HttpStatus.OK && value != null && (headers.getETag() != null || headers.getLastModified() != -1 || timeToLive > 0)) {
+            put(key, new Entry<>(value, headers.getETag(), headers.getLastModified(), timeToLive));
+        }
+
+        return value;
+    }
+
+    private static String getKey(URI uri, Class<?> responseType) {
+        return responseType.getName() + ' ' + uri;
+    }
+
+    private long getTimeToLive(URI uri) {
+        String path = uri.getPath();
+
+        for (TimeToLive timeToLive : this.timesToLive) {
+            if (this.pathMatcher.match(timeToLive.pattern, path)) {
+                return timeToLive.duration;
+            }
+        }
+
+        return 0;
+    }
+
+    private void put(String key, Entry<?> entry) {
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+        }
+    }
+
+    /**
+     * A cached response
+     *
+     * @param <T> the type of the response
+     */
+    public static final class Entry<T> {
+
+        private final String eTag;
+
+        private final long expiration;
+
+        private final long lastModified;
+
+        private final T value;
+
+        private Entry(T value, String eTag, long lastModified, long timeToLive) {
+            this.eTag = eTag;
+            this.expiration = System.nanoTime() + timeToLive;
+            this.lastModified = lastModified;
+            this.value = value;
+        }
+
+        /**
+         * Returns the headers that make a request conditional on this entry having changed
+         *
+         * @return the {@code If-None-Match} and {@code If-Modified-Since} headers for this entry
+         */
+        public HttpHeaders getConditionalHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+
+            if (this.eTag != null) {
+                headers.setIfNoneMatch(this.eTag);
+            }
+
+            if (this.lastModified != -1) {
+                headers.setIfModifiedSince(this.lastModified);
+            }
+
+            return headers;
+        }
+
+        /**
+         * Returns the cached object
+         *
+         * @return the cached object
+         */
+        public T getValue() {
+            return this.value;
+        }
+
+        /**
+         * Returns whether the entry is within its time-to-live and may be used without revalidation
+         *
+         * @return {@code true} if the entry may be used without revalidation
+         */
+        public boolean isFresh() {
+            return System.nanoTime() - this.expiration < 0;
+        }
+
+    }
+
+    private static final class TimeToLive {
+
+        private final long duration;
+
+        private final String pattern;
+
+        private TimeToLive(String pattern, long duration) {
+            this.duration = duration;
+            this.pattern = pattern;
+        }
+
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.HEAD;
+import static org.springframework.http.HttpMethod.OPTIONS;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpMethod.PUT;
+
+/**
+ * A policy for retrying requests that fail transiently.  A request is retried if it fails with an {@link IOException} or with a {@code 429}, {@code 502}, {@code 503} or {@code 504} response, provided that it is idempotent: {@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT} and {@code DELETE} requests are, and {@code POST} requests are only if
+ * their path has been marked safe with {@link #retryPost(String)}.  Retries are delayed using exponential backoff with decorrelated jitter, or for as long as a {@code Retry-After} header asks.
+ * Every endpoint has a retry budget that each request adds a fraction of a retry to and each retry spends a whole retry from, so that retries cannot multiply the load on a server that is
+ * already failing.  Every attempt is a separate request, so each is admitted and measured by an {@link AdaptiveConcurrencyLimiter} in its own right, and no thread is held while waiting to
+ * retry.
+ */
+public final class RetryPolicy {
+
+    private static final int BUDGETS_CAPACITY = 256;
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(DELETE, GET, HEAD, OPTIONS, PUT)));
+
+    private static final double MAXIMUM_BUDGET = 10;
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("cloudfoundry-client-spring-retry-scheduler"));
+
+    private static final int WORKER_THREADS = 4;
+
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(WORKER_THREADS, daemonThreadFactory("cloudfoundry-client-spring-retry"));
+
+    private final long baseDelay;
+
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    private final double budgetRatio;
+
+    private final Map<String, Double> budgets = new LinkedHashMap<String, Double>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+            return size() > BUDGETS_CAPACITY;
+        }
+
+    };
+
+    private final long maximumDelay;
+
+    private final int maximumRetries;
+
+    private final AtomicLong retries = new AtomicLong();
+
+    private final Set<String> safePostPaths = new CopyOnWriteArraySet<>();
+
+    /**
+     * Creates an instance that retries a request up to 3 times, with delays between 100 milliseconds and 10 seconds, and that allows retries of up to 20% of the requests to an endpoint
+     */
+    public RetryPolicy() {
+        this(3, 100, 10000, TimeUnit.MILLISECONDS, 0.2);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param maximumRetries the maximum number of times a request is retried
+     * @param baseDelay      the shortest delay before a retry
+     * @param maximumDelay   the longest delay before a retry.  Requests whose {@code Retry-After} asks for a longer delay are not retried.
+     * @param unit           the unit of {@code baseDelay} and {@code maximumDelay}
+     * @param budgetRatio    the number of retries each request to an endpoint adds to its retry budget
+     */
+    public RetryPolicy(int maximumRetries, long baseDelay, long maximumDelay, TimeUnit unit, double budgetRatio) {
+        if (maximumRetries < 0 || baseDelay < 1 || maximumDelay < baseDelay || budgetRatio < 0) {
+            throw new IllegalArgumentException("Retry policy must satisfy 0 <= retries, 1 <= base delay <= maximum delay, and 0 <= budget ratio");
+        }
+
+        this.baseDelay = unit.toMillis(baseDelay);
+        this.budgetRatio = budgetRatio;
+        this.maximumDelay = unit.toMillis(maximumDelay);
+        this.maximumRetries = maximumRetries;
+    }
+
+    /**
+     * Returns the number of retries that were not made because the retry budget of their endpoint was spent
+     *
+     * @return the number of retries refused by the retry budget
+     */
+    public long getBudgetExhausted() {
+        return this.budgetExhausted.get();
+    }
+
+    /**
+     * Returns the number of retries made using this policy
+     *
+     * @return the number of retries
+     */
+    public long getRetries() {
+        return this.retries.get();
+    }
+
+    /**
+     * Marks {@code POST} requests to a path as safe to retry.  GUIDs in a request's path are matched by {@code {id}}, so that for example {@code /v2/apps/{id}/restage} marks the restaging of
+     * any application as safe to retry.
+     *
+     * @param path the path of the requests to retry
+     * @return {@code this}
+     */
+    public RetryPolicy retryPost(String path) {
+        this.safePostPaths.add(path);
+        return this;
+    }
+
+    static long getRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return -1;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, so try an HTTP-date
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        try {
+            return Math.max(0, format.parse(retryAfter.trim()).getTime() - System.currentTimeMillis());
+        } catch (ParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Runs a retry that does not block after a delay.  The retry runs on the thread that schedules retries, so it must only start the request and return.
+     *
+     * @param retry the retry to run
+     * @param delay the delay in milliseconds
+     */
+    void schedule(Runnable retry, long delay) {
+        SCHEDULER.schedule(retry, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a retry that blocks after a delay.  The retry runs on one of a small, fixed number of threads dedicated to retries, so that it may block without holding up any other work.  Retries
+     * that are due while all of those threads are busy wait for one to become free.
+     *
+     * @param retry the retry to run
+     * @param delay the delay in milliseconds
+     */
+    void scheduleBlocking(final Runnable retry, long delay) {
+        SCHEDULER.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                WORKERS.execute(retry);
+            }
+
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    Attempt start(HttpMethod method, URI uri) {
+        boolean retryable = IDEMPOTENT_METHODS.contains(method) || (method == POST && this.safePostPaths.contains(Endpoints.getPath(uri)));
+        String endpoint = Endpoints.getEndpoint(method, uri);
+
+        if (retryable) {
+            synchronized (this.budgets) {
+                Double budget = this.budgets.get(endpoint);
+                this.budgets.put(endpoint, Math.min(MAXIMUM_BUDGET, (budget != null ? budget : MAXIMUM_BUDGET) + this.budgetRatio));
+            }
+        }
+
+        return new Attempt(endpoint, retryable);
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+
+        };
+    }
+
+    private boolean spend(String endpoint) {
+        synchronized (this.budgets) {
+            Double budget = this.budgets.get(endpoint);
+            if (budget == null || budget < 1) {
+                return false;
+            }
+
+            this.budgets.put(endpoint, budget - 1);
+            return true;
+        }
+    }
+
+    final class Attempt {
+
+        private final String endpoint;
+
+        private long previousDelay = RetryPolicy.this.baseDelay;
+
+        private int retries;
+
+        private final boolean retryable;
+
+        private Attempt(String endpoint, boolean retryable) {
+            this.endpoint = endpoint;
+            this.retryable = retryable;
+        }
+
+        long onFailure(Throwable failure) {
+            if (failure instanceof HttpStatusCodeException) {
+                HttpStatusCodeException e = (HttpStatusCodeException) failure;
+                return onResponse(e.getRawStatusCode(), e.getResponseHeaders());
+            }
+
+            return failure instanceof IOException || failure instanceof ResourceAccessException ? nextDelay(0) : -1;
+        }
+
+        long onResponse(int statusCode, HttpHeaders headers) {
+            return RETRYABLE_STATUS_CODES.contains(statusCode) ? nextDelay(Math.max(0, getRetryAfter(headers))) : -1;
+        }
+
+        private long nextDelay(long retryAfter) {
+            if (!this.retryable || this.retries >= RetryPolicy.this.maximumRetries || retryAfter > RetryPolicy.this.maximumDelay) {
+                return -1;
+            }
+
+            if (!spend(this.endpoint)) {
+                RetryPolicy.this.budgetExhausted.incrementAndGet();
+                return -1;
+            }
+
+            long base = RetryPolicy.this.baseDelay;
+            long delay = Math.min(RetryPolicy.this.maximumDelay, base + (long) (ThreadLocalRandom.current().nextDouble() * (this.previousDelay * 3 - base)));
+
+            this.previousDelay = delay;
+            this.retries++;
+            RetryPolicy.this.retries.incrementAndGet();
+
+            return Math.max(delay, retryAfter);
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+
+/**
+ * An {@link AsyncClientHttpRequestFactory} whose requests are retried according to a {@link RetryPolicy}.  The headers and body of each request are buffered so that they can be sent again, and
+ * retries are scheduled rather than waited for.  Each attempt is created by the delegate, so a delegate that limits concurrency admits and measures every attempt separately.
+ */
+public final class RetryingAsyncClientHttpRequestFactory implements AsyncClientHttpRequestFactory {
+
+    private final AsyncClientHttpRequestFactory delegate;
+
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Creates an instance
+     *
+     * @param delegate    the {@link AsyncClientHttpRequestFactory} that creates the underlying requests
+     * @param retryPolicy the {@link RetryPolicy} that decides whether and when requests are retried
+     */
+    public RetryingAsyncClientHttpRequestFactory(AsyncClientHttpRequestFactory delegate, RetryPolicy retryPolicy) {
+        this.delegate = delegate;
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new RetryingAsyncClientHttpRequest(uri, httpMethod);
+    }
+
+    private final class RetryingAsyncClientHttpRequest implements AsyncClientHttpRequest {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final HttpMethod method;
+
+        private final URI uri;
+
+        private RetryingAsyncClientHttpRequest(URI uri, HttpMethod method) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        @Override
+        public ListenableFuture<ClientHttpResponse> executeAsync() throws IOException {
+            SettableListenableFuture<ClientHttpResponse> result = new SettableListenableFuture<>();
+            execute(RetryingAsyncClientHttpRequestFactory.this.retryPolicy.start(this.method, this.uri), result);
+            return result;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return this.method;
+        }
+
+        @Override
+        public URI getURI() {
+            return this.uri;
+        }
+
+        private void execute(final RetryPolicy.Attempt attempt, final SettableListenableFuture<ClientHttpResponse> result) {
+            if (result.isCancelled()) {
+                return;
+            }
+
+            try {
+                AsyncClientHttpRequest request = RetryingAsyncClientHttpRequestFactory.this.delegate.createAsyncRequest(this.uri, this.method);
+                request.getHeaders().putAll(this.headers);
+                if (this.body.size() > 0) {
+                    this.body.writeTo(request.getBody());
+                }
+
+                request.executeAsync().addCallback(new ListenableFutureCallback<ClientHttpResponse>() {
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        retry(attempt, result, attempt.onFailure(throwable), throwable);
+                    }
+
+                    @Override
+                    public void onSuccess(ClientHttpResponse response) {
+                        long delay;
+                        try {
+                            delay = attempt.onResponse(response.getRawStatusCode(), response.getHeaders());
+                        } catch (IOException e) {
+                            delay = -1;
+                        }
+
+                        if (delay < 0) {
+                            result.set(response);
+                        } else {
+                            response.close();
+                            retry(attempt, result, delay, null);
+                        }
+                    }
+
+                });
+            } catch (IOException | RuntimeException e) {
+                retry(attempt, result, attempt.onFailure(e), e);
+            }
+        }
+
+        private void retry(final RetryPolicy.Attempt attempt, final SettableListenableFuture<ClientHttpResponse> result, long delay, Throwable failure) {
+            if (delay < 0) {
+                result.setException(failure);
+                return;
+            }
+
+            RetryingAsyncClientHttpRequestFactory.this.retryPolicy.schedule(new Runnable() {
+
+                @Override
+                public void run() {
+                    execute(attempt, result);
+                }
+
+            }, delay);
+        }
+
+    }
+
+}
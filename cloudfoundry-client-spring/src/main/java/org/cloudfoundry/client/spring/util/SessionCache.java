@@ -0,0 +1,80 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+
+/**
+ * A cache of the state a client establishes before making its first request: the endpoints discovered from {@code /info} and the access and refresh tokens granted by the token endpoint.
+ * Caching this state across processes allows a short-lived process to skip discovery and the password grant.  All state is keyed by host and user.
+ */
+public interface SessionCache {
+
+    /**
+     * Returns the cached access token
+     *
+     * @param host     the host of the Cloud Controller
+     * @param username the user
+     * @return the cached access token, which may have expired, or {@code null} if none is cached
+     */
+    OAuth2AccessToken getAccessToken(String host, String username);
+
+    /**
+     * Returns the cached logging endpoint
+     *
+     * @param host     the host of the Cloud Controller
+     * @param username the user
+     * @return the cached logging endpoint or {@code null} if none is cached
+     */
+    String getLoggingEndpoint(String host, String username);
+
+    /**
+     * Returns the cached token endpoint
+     *
+     * @param host     the host of the Cloud Controller
+     * @param username the user
+     * @return the cached token endpoint or {@code null} if none is cached
+     */
+    String getTokenEndpoint(String host, String username);
+
+    /**
+     * Caches an access token, along with its refresh token
+     *
+     * @param host        the host of the Cloud Controller
+     * @param username    the user
+     * @param accessToken the access token
+     */
+    void putAccessToken(String host, String username, OAuth2AccessToken accessToken);
+
+    /**
+     * Caches a logging endpoint
+     *
+     * @param host            the host of the Cloud Controller
+     * @param username        the user
+     * @param loggingEndpoint the logging endpoint
+     */
+    void putLoggingEndpoint(String host, String username, String loggingEndpoint);
+
+    /**
+     * Caches a token endpoint
+     *
+     * @param host          the host of the Cloud Controller
+     * @param username      the user
+     * @param tokenEndpoint the token endpoint
+     */
+    void putTokenEndpoint(String host, String username, String tokenEndpoint);
+
+}
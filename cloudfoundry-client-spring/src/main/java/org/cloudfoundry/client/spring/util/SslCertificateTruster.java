@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.client.spring.util;
 
+import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.concurrent.TimeUnit;
@@ -26,13 +27,14 @@ import java.util.concurrent.TimeUnit;
 public interface SslCertificateTruster {
 
     /**
-     * Trust the certificate provided by a connection
+     * Trust the certificate provided by a connection.  Only connections made with the returned {@link SSLContext} trust the certificate.
      *
      * @param host     the host
      * @param port     the port
      * @param timeout  the maximum time to wait
      * @param timeUnit the time unit of the {@code timeout} argument
+     * @return an {@link SSLContext} that trusts the certificate, in addition to the certificates trusted by default
      */
-    void trust(String host, int port, int timeout, TimeUnit timeUnit) throws GeneralSecurityException, IOException;
+    SSLContext trust(String host, int port, int timeout, TimeUnit timeUnit) throws GeneralSecurityException, IOException;
 
 }
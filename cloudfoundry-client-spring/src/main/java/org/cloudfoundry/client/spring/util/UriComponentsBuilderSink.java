@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.QueryWriter;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * A {@link QueryWriter.Sink} that adds parameters to a {@link UriComponentsBuilder}
+ */
+public final class UriComponentsBuilderSink implements QueryWriter.Sink {
+
+    private final UriComponentsBuilder builder;
+
+    /**
+     * Creates a new instance
+     *
+     * @param builder the builder to add parameters to
+     */
+    public UriComponentsBuilderSink(UriComponentsBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public void add(String name, Object value) {
+        this.builder.queryParam(name, value);
+    }
+
+}
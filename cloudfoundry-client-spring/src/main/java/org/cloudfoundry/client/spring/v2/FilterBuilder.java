@@ -16,66 +16,87 @@
 
 package org.cloudfoundry.client.spring.v2;
 
-import org.cloudfoundry.client.spring.util.MethodNameComparator;
+import org.cloudfoundry.client.GeneratedQueryWriters;
+import org.cloudfoundry.client.QueryWriter;
+import org.cloudfoundry.client.spring.util.ParameterAccessor;
+import org.cloudfoundry.client.spring.util.UriComponentsBuilderSink;
 import org.cloudfoundry.client.v2.FilterParameter;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A builder for Cloud Foundry V2 filters
  */
 public final class FilterBuilder {
 
+    private static final ClassValue<List<ParameterAccessor>> ACCESSORS = new ClassValue<List<ParameterAccessor>>() {
+
+        @Override
+        protected List<ParameterAccessor> computeValue(Class<?> type) {
+            List<ParameterAccessor> accessors = new ArrayList<>();
+
+            for (Method method : ParameterAccessor.getSortedMethods(type)) {
+                for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
+                    FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation.annotationType(), FilterParameter.class);
+
+                    if (filterParameter != null) {
+                        accessors.add(new ParameterAccessor(method, String.format("%s%s", AnnotationUtils.getValue(annotation), filterParameter.operator())));
+                        break;
+                    }
+                }
+            }
+
+            return Collections.unmodifiableList(accessors);
+        }
+
+    };
+
     private FilterBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}
+     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}.  Request types use the {@link QueryWriter}
+     * generated for them at compile time.  The annotated methods of any other type are discovered once and cached, if reflection has been enabled
+     * with {@link ParameterAccessor#REFLECTION_PROPERTY}.
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
+     * @throws IllegalArgumentException if no {@link QueryWriter} has been generated for the type of the instance and reflection has not been enabled
      */
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
-        Arrays.sort(methods, MethodNameComparator.INSTANCE);
-
-        for (Method method : methods) {
-            for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
-                if (AnnotationUtils.isAnnotationMetaPresent(annotation.getClass(), FilterParameter.class)) {
-                    Object value = getValue(method, instance);
-
-                    if (value != null) {
-                        FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
+        QueryWriter writer = GeneratedQueryWriters.get(instance.getClass());
+        if (writer != null) {
+            writer.writeFilters(instance, new UriComponentsBuilderSink(builder));
+            return;
+        }
 
-                        Object name = AnnotationUtils.getValue(annotation);
-                        String operation = filterParameter.operator();
+        ParameterAccessor.checkReflectionEnabled(instance.getClass());
 
-                        builder.queryParam("q", String.format("%s%s%s", name, operation, value));
-                    }
+        for (ParameterAccessor accessor : ACCESSORS.get(instance.getClass())) {
+            Object value = getValue(accessor, instance);
 
-                    break;
-                }
+            if (value != null) {
+                builder.queryParam("q", accessor.getName() + value);
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Object getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        Object value = ReflectionUtils.invokeMethod(method, instance);
+    private static Object getValue(ParameterAccessor accessor, Object instance) {
+        Object value = accessor.getValue(instance);
 
         if (!(value instanceof Collection)) {
             return value;
         }
 
-        Collection<?> collection = (Collection) value;
+        Collection<?> collection = (Collection<?>) value;
 
         if (collection.isEmpty()) {
             return null;
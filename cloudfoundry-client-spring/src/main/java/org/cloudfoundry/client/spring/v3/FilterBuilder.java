@@ -16,59 +16,77 @@
 
 package org.cloudfoundry.client.spring.v3;
 
-import org.cloudfoundry.client.spring.util.MethodNameComparator;
+import org.cloudfoundry.client.GeneratedQueryWriters;
+import org.cloudfoundry.client.QueryWriter;
+import org.cloudfoundry.client.spring.util.ParameterAccessor;
+import org.cloudfoundry.client.spring.util.UriComponentsBuilderSink;
 import org.cloudfoundry.client.v3.FilterParameter;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public final class FilterBuilder {
 
+    private static final ClassValue<List<ParameterAccessor>> ACCESSORS = new ClassValue<List<ParameterAccessor>>() {
+
+        @Override
+        protected List<ParameterAccessor> computeValue(Class<?> type) {
+            List<ParameterAccessor> accessors = new ArrayList<>();
+
+            for (Method method : ParameterAccessor.getSortedMethods(type)) {
+                FilterParameter filterParameter = AnnotationUtils.getAnnotation(method, FilterParameter.class);
+                if (filterParameter != null) {
+                    accessors.add(new ParameterAccessor(method, filterParameter.value()));
+                }
+            }
+
+            return Collections.unmodifiableList(accessors);
+        }
+
+    };
+
     private FilterBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}
+     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}.  Request types use the {@link QueryWriter}
+     * generated for them at compile time.  The annotated methods of any other type are discovered once and cached, if reflection has been enabled
+     * with {@link ParameterAccessor#REFLECTION_PROPERTY}.
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
+     * @throws IllegalArgumentException if no {@link QueryWriter} has been generated for the type of the instance and reflection has not been enabled
      */
-    @SuppressWarnings("unchecked")
     public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
-        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+        QueryWriter writer = GeneratedQueryWriters.get(instance.getClass());
+        if (writer != null) {
+            writer.writeFilters(instance, new UriComponentsBuilderSink(builder));
+            return;
+        }
 
-        for (Method method : methods) {
-            FilterParameter filterParameter = AnnotationUtils.getAnnotation(method, FilterParameter.class);
-            if (filterParameter == null) {
-                continue;
-            }
+        ParameterAccessor.checkReflectionEnabled(instance.getClass());
 
-            Object value = getValue(method, instance);
+        for (ParameterAccessor accessor : ACCESSORS.get(instance.getClass())) {
+            Object value = accessor.getValue(instance);
             if (value == null) {
                 continue;
             }
 
             if (!(value instanceof Collection)) {
-                builder.queryParam(filterParameter.value(), value);
+                builder.queryParam(accessor.getName(), value);
                 continue;
             }
 
-            String name = String.format("%s[]", filterParameter.value());
-            for (Object item : (Collection) value) {
+            String name = String.format("%s[]", accessor.getName());
+            for (Object item : (Collection<?>) value) {
                 builder.queryParam(name, item);
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Object getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        return ReflectionUtils.invokeMethod(method, instance);
-    }
-
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The configuration of the pooled, keep-alive HTTP connections used by a {@link SpringCloudFoundryClient}.  A single pool is shared by the token endpoint, the Cloud Controller API and the
+ * Loggregator {@code recent} endpoint.
+ */
+@Data
+public final class ConnectionPoolConfiguration {
+
+    /**
+     * The configuration used when none is specified
+     */
+    public static final ConnectionPoolConfiguration DEFAULT = ConnectionPoolConfiguration.builder().build();
+
+    /**
+     * The timeout, in milliseconds, for establishing a connection.  Defaults to {@code 10000}.
+     *
+     * @param connectTimeout the connect timeout
+     * @return the connect timeout
+     */
+    private final Integer connectTimeout;
+
+    /**
+     * The time, in milliseconds, after which an idle connection is evicted from the pool.  Defaults to {@code 30000}.
+     *
+     * @param idleTimeout the idle timeout
+     * @return the idle timeout
+     */
+    private final Integer idleTimeout;
+
+    /**
+     * The maximum number of pooled connections.  Defaults to {@code 200}.
+     *
+     * @param maxConnections the maximum number of connections
+     * @return the maximum number of connections
+     */
+    private final Integer maxConnections;
+
+    /**
+     * The maximum number of pooled connections to a single route (scheme, host and port).  Defaults to {@code 50}.
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per route
+     * @return the maximum number of connections per route
+     */
+    private final Integer maxConnectionsPerRoute;
+
+    /**
+     * The timeout, in milliseconds, waiting for data on an established connection.  Defaults to {@code 60000}.
+     *
+     * @param readTimeout the read timeout
+     * @return the read timeout
+     */
+    private final Integer readTimeout;
+
+    @Builder
+    ConnectionPoolConfiguration(Integer connectTimeout, Integer idleTimeout, Integer maxConnections, Integer maxConnectionsPerRoute, Integer readTimeout) {
+        this.connectTimeout = connectTimeout != null ? connectTimeout : 10_000;
+        this.idleTimeout = idleTimeout != null ? idleTimeout : 30_000;
+        this.maxConnections = maxConnections != null ? maxConnections : 200;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute != null ? maxConnectionsPerRoute : 50;
+        this.readTimeout = readTimeout != null ? readTimeout : 60_000;
+    }
+
+}
@@ -22,10 +22,26 @@ import lombok.Builder;
 import lombok.NonNull;
 import lombok.Singular;
 import lombok.ToString;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.ssl.SSLContexts;
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.client.spring.loggregator.LoggregatorMessageHttpMessageConverter;
+import org.cloudfoundry.client.spring.util.AdaptiveConcurrencyLimiter;
 import org.cloudfoundry.client.spring.util.CertificateCollectingSslCertificateTruster;
+import org.cloudfoundry.client.spring.util.ConcurrencyLimitingAsyncClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.ExplicitHostnameVerifier;
 import org.cloudfoundry.client.spring.util.FallbackHttpMessageConverter;
+import org.cloudfoundry.client.spring.util.LazyAsyncClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.LazyClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.MemoizingSupplier;
+import org.cloudfoundry.client.spring.util.OAuth2AsyncClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.PageSizeTuningInterceptor;
+import org.cloudfoundry.client.spring.util.RefreshingOAuth2ClientContext;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.spring.util.RetryingAsyncClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.SessionCache;
 import org.cloudfoundry.client.spring.util.SslCertificateTruster;
 import org.cloudfoundry.client.spring.v2.applications.SpringApplicationsV2;
 import org.cloudfoundry.client.spring.v2.domains.SpringDomains;
@@ -44,6 +60,7 @@ import org.cloudfoundry.client.spring.v2.stacks.SpringStacks;
 import org.cloudfoundry.client.spring.v2.users.SpringUsers;
 import org.cloudfoundry.client.spring.v3.applications.SpringApplicationsV3;
 import org.cloudfoundry.client.spring.v3.droplets.SpringDroplets;
+import org.cloudfoundry.client.spring.v3.links.SpringLinks;
 import org.cloudfoundry.client.spring.v3.packages.SpringPackages;
 import org.cloudfoundry.client.v2.applications.ApplicationsV2;
 import org.cloudfoundry.client.v2.domains.Domains;
@@ -62,18 +79,27 @@ import org.cloudfoundry.client.v2.stacks.Stacks;
 import org.cloudfoundry.client.v2.users.Users;
 import org.cloudfoundry.client.v3.applications.ApplicationsV3;
 import org.cloudfoundry.client.v3.droplets.Droplets;
+import org.cloudfoundry.client.v3.links.Links;
 import org.cloudfoundry.client.v3.packages.Packages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.OkHttpClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.security.oauth2.client.DefaultOAuth2ClientContext;
 import org.springframework.security.oauth2.client.OAuth2ClientContext;
 import org.springframework.security.oauth2.client.OAuth2RestOperations;
 import org.springframework.security.oauth2.client.OAuth2RestTemplate;
 import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
-import org.springframework.security.oauth2.client.token.DefaultAccessTokenRequest;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.AccessTokenProviderChain;
+import org.springframework.security.oauth2.client.token.grant.password.ResourceOwnerPasswordAccessTokenProvider;
 import org.springframework.security.oauth2.client.token.grant.password.ResourceOwnerPasswordResourceDetails;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.AsyncRestTemplate;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -81,12 +107,21 @@ import reactor.core.publisher.ProcessorGroup;
 import reactor.core.publisher.Processors;
 import reactor.core.util.ReactiveState;
 import reactor.fn.Consumer;
+import reactor.fn.Supplier;
 
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -99,28 +134,46 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SpringCloudFoundryClient.class);
 
+    private static final ScheduledExecutorService TOKEN_REFRESH_SCHEDULER = createScheduler("cloudfoundry-client-spring-token-refresh");
+
     private final ApplicationsV2 applicationsV2;
 
     private final ApplicationsV3 applicationsV3;
 
+    private final AsyncRestOperations asyncRestOperations;
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
     private final Domains domains;
 
     private final Droplets droplets;
 
     private final Events events;
 
+    private final String host;
+
     private final Info info;
 
     private final Jobs jobs;
 
+    private final Links links;
+
     private final Organizations organizations;
 
     private final Packages packages;
 
     private final ProcessorGroup<?> processorGroup;
 
+    private final RequestCoalescer requestCoalescer;
+
+    private final ClientHttpRequestFactory requestFactory;
+
+    private final ResponseCache responseCache;
+
     private final OAuth2RestOperations restOperations;
 
+    private final RetryPolicy retryPolicy;
+
     private final Routes routes;
 
     private final ServiceBindings serviceBindings;
@@ -129,16 +182,22 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
 
     private final ServiceInstances serviceInstances;
 
+    private final SessionCache sessionCache;
+
     private final SharedDomains sharedDomains;
 
     private final SpaceQuotaDefinitions spaceQuotaDefinitions;
 
     private final Spaces spaces;
 
+    private final Supplier<SSLContext> sslContext;
+
     private final Stacks stacks;
 
     private final Users users;
 
+    private final String username;
+
     @Builder
     SpringCloudFoundryClient(@NonNull String host,
                              Boolean skipSslValidation,
@@ -146,8 +205,19 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
                              String clientSecret,
                              @NonNull String username,
                              @NonNull String password,
+                             Boolean nonBlocking,
+                             Boolean http2,
+                             ConnectionPoolConfiguration connectionPool,
+                             Boolean coalesceRequests,
+                             ResponseCache responseCache,
+                             Boolean lazyBootstrap,
+                             SessionCache sessionCache,
+                             File certificateCacheDirectory,
+                             AdaptiveConcurrencyLimiter concurrencyLimiter,
+                             RetryPolicy retryPolicy,
                              @Singular List<DeserializationProblemHandler> deserializationProblemHandlers) {
-        this(host, skipSslValidation, clientId, clientSecret, username, password, new RestTemplate(), new CertificateCollectingSslCertificateTruster(), deserializationProblemHandlers);
+        this(host, skipSslValidation, clientId, clientSecret, username, password, nonBlocking, http2, connectionPool, coalesceRequests, responseCache, lazyBootstrap, sessionCache,
+                concurrencyLimiter, retryPolicy, null, new CertificateCollectingSslCertificateTruster(certificateCacheDirectory), deserializationProblemHandlers);
     }
 
     SpringCloudFoundryClient(String host,
@@ -156,70 +226,123 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
                              String clientSecret,
                              String username,
                              String password,
+                             Boolean nonBlocking,
+                             Boolean http2,
+                             ConnectionPoolConfiguration connectionPool,
+                             Boolean coalesceRequests,
+                             ResponseCache responseCache,
+                             Boolean lazyBootstrap,
+                             SessionCache sessionCache,
+                             AdaptiveConcurrencyLimiter concurrencyLimiter,
+                             RetryPolicy retryPolicy,
                              RestOperations bootstrapRestOperations,
                              SslCertificateTruster sslCertificateTruster,
                              List<DeserializationProblemHandler> deserializationProblemHandlers) {
 
-        LOGGER.debug("Cloud Foundry Connection: {}, skipSslValidation={}", host, skipSslValidation);
+        LOGGER.debug("Cloud Foundry Connection: {}, skipSslValidation={}, nonBlocking={}, http2={}, coalesceRequests={}, lazyBootstrap={}", host, skipSslValidation, nonBlocking, http2,
+                coalesceRequests, lazyBootstrap);
         LOGGER.debug("Cloud Foundry Credentials: {} / {}", username, password);
         LOGGER.debug("OAuth2 Credentials: {} / {}", clientId, clientSecret);
 
-        if (skipSslValidation != null && skipSslValidation) {
-            try {
-                sslCertificateTruster.trust(host, 443, 5, SECONDS);
-            } catch (GeneralSecurityException | IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
         URI root = getRoot(host);
+        ConnectionPoolConfiguration connectionPoolConfiguration = connectionPool != null ? connectionPool : ConnectionPoolConfiguration.DEFAULT;
+        HostnameVerifier hostnameVerifier = getHostnameVerifier(host, skipSslValidation);
+
+        Supplier<SSLContext> sslContext = new MemoizingSupplier<>(createSslContext(host, skipSslValidation, sslCertificateTruster));
+
+        Supplier<OkHttpClientHttpRequestFactory> http2RequestFactory = http2 != null && http2 ?
+                new MemoizingSupplier<>(createHttp2RequestFactory(connectionPoolConfiguration, sslContext, hostnameVerifier)) : null;
+
+        Supplier<ClientHttpRequestFactory> requestFactory = new MemoizingSupplier<>(createRequestFactory(connectionPoolConfiguration, sslContext, hostnameVerifier, http2RequestFactory));
+        Supplier<AsyncClientHttpRequestFactory> asyncRequestFactory = nonBlocking != null && nonBlocking ?
+                createAsyncRequestFactory(connectionPoolConfiguration, sslContext, hostnameVerifier, http2RequestFactory) : null;
+
+        RestOperations bootstrap = bootstrapRestOperations != null ? bootstrapRestOperations : new RestTemplate(new LazyClientHttpRequestFactory(requestFactory));
+        Supplier<String> accessTokenUri = new MemoizingSupplier<>(requestAccessTokenUri(host, username, sessionCache, bootstrap));
+
+        if (lazyBootstrap != null && lazyBootstrap) {
+            this.requestFactory = new LazyClientHttpRequestFactory(requestFactory);
+            this.restOperations = createRestOperations(clientId, clientSecret, accessTokenUri, host, username, password, sessionCache, concurrencyLimiter,
+                    this.requestFactory, deserializationProblemHandlers);
+            this.asyncRestOperations = asyncRequestFactory != null ?
+                    createAsyncRestOperations(this.restOperations, new LazyAsyncClientHttpRequestFactory(asyncRequestFactory), concurrencyLimiter, retryPolicy) : null;
+        } else {
+            this.requestFactory = requestFactory.get();
+            accessTokenUri.get();  // Resolves the token endpoint up front rather than on first use
+
+            this.restOperations = createRestOperations(clientId, clientSecret, accessTokenUri, host, username, password, sessionCache, concurrencyLimiter,
+                    this.requestFactory, deserializationProblemHandlers);
+            this.asyncRestOperations = asyncRequestFactory != null ? createAsyncRestOperations(this.restOperations, asyncRequestFactory.get(), concurrencyLimiter, retryPolicy) : null;
+        }
 
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.host = host;
         this.processorGroup = createProcessorGroup();
-        this.restOperations = createRestOperations(clientId, clientSecret, host, username, password, bootstrapRestOperations, deserializationProblemHandlers);
-
-        this.applicationsV2 = new SpringApplicationsV2(this.restOperations, root, this.processorGroup);
-        this.applicationsV3 = new SpringApplicationsV3(this.restOperations, root, this.processorGroup);
-        this.domains = new SpringDomains(this.restOperations, root, this.processorGroup);
-        this.droplets = new SpringDroplets(this.restOperations, root, this.processorGroup);
-        this.events = new SpringEvents(this.restOperations, root, this.processorGroup);
-        this.info = new SpringInfo(this.restOperations, root, this.processorGroup);
-        this.jobs = new SpringJobs(this.restOperations, root, this.processorGroup);
-        this.organizations = new SpringOrganizations(this.restOperations, root, this.processorGroup);
-        this.packages = new SpringPackages(this.restOperations, root, this.processorGroup);
-        this.routes = new SpringRoutes(this.restOperations, root, this.processorGroup);
-        this.sharedDomains = new SpringSharedDomains(this.restOperations, root, this.processorGroup);
-        this.serviceBindings = new SpringServiceBindings(this.restOperations, root, this.processorGroup);
-        this.serviceBrokers = new SpringServiceBrokers(this.restOperations, root, this.processorGroup);
-        this.serviceInstances = new SpringServiceInstances(this.restOperations, root, this.processorGroup);
-        this.spaceQuotaDefinitions = new SpringSpaceQuotaDefinitions(this.restOperations, root, this.processorGroup);
-        this.spaces = new SpringSpaces(this.restOperations, root, this.processorGroup);
-        this.stacks = new SpringStacks(this.restOperations, root, this.processorGroup);
-        this.users = new SpringUsers(this.restOperations, root, this.processorGroup);
+        this.requestCoalescer = coalesceRequests != null && coalesceRequests ? new RequestCoalescer() : null;
+        this.responseCache = responseCache;
+        this.retryPolicy = retryPolicy;
+        this.sessionCache = sessionCache;
+        this.sslContext = sslContext;
+        this.username = username;
+
+        this.applicationsV2 = new SpringApplicationsV2(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.applicationsV3 = new SpringApplicationsV3(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.domains = new SpringDomains(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.droplets = new SpringDroplets(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.events = new SpringEvents(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.info = new SpringInfo(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.jobs = new SpringJobs(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.links = new SpringLinks(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.organizations = new SpringOrganizations(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.packages = new SpringPackages(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.routes = new SpringRoutes(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.sharedDomains = new SpringSharedDomains(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceBindings = new SpringServiceBindings(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceBrokers = new SpringServiceBrokers(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceInstances = new SpringServiceInstances(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.spaceQuotaDefinitions = new SpringSpaceQuotaDefinitions(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.spaces = new SpringSpaces(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.stacks = new SpringStacks(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.users = new SpringUsers(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
     }
 
     SpringCloudFoundryClient(OAuth2RestOperations restOperations, URI root, ProcessorGroup<?> processorGroup) {
+        this(restOperations, null, root, processorGroup);
+    }
+
+    SpringCloudFoundryClient(OAuth2RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        this.asyncRestOperations = asyncRestOperations;
+        this.concurrencyLimiter = null;
+        this.host = null;
         this.processorGroup = processorGroup;
+        this.requestCoalescer = null;
+        this.requestFactory = null;
+        this.responseCache = null;
         this.restOperations = restOperations;
-
-        this.applicationsV2 = new SpringApplicationsV2(this.restOperations, root, this.processorGroup);
-        this.applicationsV3 = new SpringApplicationsV3(this.restOperations, root, this.processorGroup);
-        this.domains = new SpringDomains(this.restOperations, root, this.processorGroup);
-        this.droplets = new SpringDroplets(this.restOperations, root, this.processorGroup);
-        this.events = new SpringEvents(this.restOperations, root, this.processorGroup);
-        this.info = new SpringInfo(this.restOperations, root, this.processorGroup);
-        this.jobs = new SpringJobs(this.restOperations, root, this.processorGroup);
-        this.organizations = new SpringOrganizations(this.restOperations, root, this.processorGroup);
-        this.packages = new SpringPackages(this.restOperations, root, this.processorGroup);
-        this.routes = new SpringRoutes(this.restOperations, root, this.processorGroup);
-
-        this.sharedDomains = new SpringSharedDomains(this.restOperations, root, this.processorGroup);
-        this.serviceBindings = new SpringServiceBindings(this.restOperations, root, this.processorGroup);
-        this.serviceBrokers = new SpringServiceBrokers(this.restOperations, root, this.processorGroup);
-        this.serviceInstances = new SpringServiceInstances(this.restOperations, root, this.processorGroup);
-        this.spaceQuotaDefinitions = new SpringSpaceQuotaDefinitions(this.restOperations, root, this.processorGroup);
-        this.spaces = new SpringSpaces(this.restOperations, root, this.processorGroup);
-        this.stacks = new SpringStacks(this.restOperations, root, this.processorGroup);
-        this.users = new SpringUsers(this.restOperations, root, this.processorGroup);
+        this.retryPolicy = null;
+        this.sessionCache = null;
+        this.sslContext = null;
+        this.username = null;
+
+        this.applicationsV2 = new SpringApplicationsV2(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.applicationsV3 = new SpringApplicationsV3(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.domains = new SpringDomains(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.droplets = new SpringDroplets(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.events = new SpringEvents(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.info = new SpringInfo(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.jobs = new SpringJobs(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.links = new SpringLinks(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.organizations = new SpringOrganizations(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.packages = new SpringPackages(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.routes = new SpringRoutes(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.sharedDomains = new SpringSharedDomains(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceBindings = new SpringServiceBindings(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceBrokers = new SpringServiceBrokers(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.serviceInstances = new SpringServiceInstances(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.spaceQuotaDefinitions = new SpringSpaceQuotaDefinitions(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.spaces = new SpringSpaces(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.stacks = new SpringStacks(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
+        this.users = new SpringUsers(this.restOperations, this.asyncRestOperations, root, this.processorGroup, this.requestCoalescer, this.responseCache, this.retryPolicy);
     }
 
     @Override
@@ -247,6 +370,33 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
         return this.events;
     }
 
+    /**
+     * Returns the {@link AdaptiveConcurrencyLimiter} that limits the number of requests in flight, and that reports the current limit and queue depth
+     *
+     * @return the {@link AdaptiveConcurrencyLimiter} or {@code null} if concurrency limiting is not enabled
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return this.concurrencyLimiter;
+    }
+
+    /**
+     * Returns the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through, and that records the coalescing hit rate
+     *
+     * @return the {@link RequestCoalescer} or {@code null} if request coalescing is not enabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return this.requestCoalescer;
+    }
+
+    /**
+     * Returns the {@link RetryPolicy} that transiently failing requests are retried according to, and that records the number of retries made
+     *
+     * @return the {@link RetryPolicy} or {@code null} if retries are not enabled
+     */
+    public RetryPolicy getRetryPolicy() {
+        return this.retryPolicy;
+    }
+
     @Override
     public Info info() {
         return this.info;
@@ -257,6 +407,11 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
         return this.jobs;
     }
 
+    @Override
+    public Links links() {
+        return this.links;
+    }
+
     @Override
     public Organizations organizations() {
         return this.organizations;
@@ -312,28 +467,122 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
         return this.users;
     }
 
+    AsyncRestOperations getAsyncRestOperations() {
+        return this.asyncRestOperations;
+    }
+
     String getAccessToken() {
         return this.restOperations.getAccessToken().getValue();
     }
 
+    String getHost() {
+        return this.host;
+    }
+
     ProcessorGroup<?> getProcessorGroup() {
         return this.processorGroup;
     }
 
+    ClientHttpRequestFactory getRequestFactory() {
+        return this.requestFactory;
+    }
+
+    ResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
     OAuth2RestOperations getRestOperations() {
         return this.restOperations;
     }
 
+    SessionCache getSessionCache() {
+        return this.sessionCache;
+    }
+
+    SSLContext getSslContext() {
+        return this.sslContext != null ? this.sslContext.get() : null;
+    }
+
+    String getUsername() {
+        return this.username;
+    }
+
     private static ProcessorGroup<?> createProcessorGroup() {
         return Processors.ioGroup("cloudfoundry-client-spring", ReactiveState.MEDIUM_BUFFER_SIZE, Processors.DEFAULT_POOL_SIZE, uncaughtExceptionHandler(), null, false);
     }
 
-    private static OAuth2RestOperations createRestOperations(String clientId, String clientSecret, String host, String username, String password, RestOperations bootstrapRestOperations,
-                                                             List<DeserializationProblemHandler> deserializationProblemHandlers) {
-        OAuth2ProtectedResourceDetails oAuth2ProtectedResourceDetails = getOAuth2ProtectedResourceDetails(clientId, clientSecret, host, username, password, bootstrapRestOperations);
-        OAuth2ClientContext oAuth2ClientContext = getOAuth2ClientContext();
+    private static AsyncRestOperations createAsyncRestOperations(OAuth2RestOperations restOperations, AsyncClientHttpRequestFactory asyncRequestFactory,
+                                                                 AdaptiveConcurrencyLimiter concurrencyLimiter, RetryPolicy retryPolicy) {
+        AsyncClientHttpRequestFactory limitedRequestFactory = concurrencyLimiter != null ?
+                new ConcurrencyLimitingAsyncClientHttpRequestFactory(asyncRequestFactory, concurrencyLimiter) : asyncRequestFactory;
+
+        AsyncClientHttpRequestFactory retryingRequestFactory = retryPolicy != null ?
+                new RetryingAsyncClientHttpRequestFactory(limitedRequestFactory, retryPolicy) : limitedRequestFactory;  // Outside the limiter, so that every attempt is admitted in its own right
+
+        OAuth2AsyncClientHttpRequestFactory requestFactory = new OAuth2AsyncClientHttpRequestFactory(retryingRequestFactory, restOperations);
+        return new AsyncRestTemplate(requestFactory, (RestTemplate) restOperations);
+    }
+
+    private static Supplier<AsyncClientHttpRequestFactory> createAsyncRequestFactory(final ConnectionPoolConfiguration connectionPool, final Supplier<SSLContext> sslContext,
+                                                                                     final HostnameVerifier hostnameVerifier,
+                                                                                     final Supplier<OkHttpClientHttpRequestFactory> http2RequestFactory) {
+        return new Supplier<AsyncClientHttpRequestFactory>() {
+
+            @Override
+            public AsyncClientHttpRequestFactory get() {
+                if (http2RequestFactory != null) {
+                    return http2RequestFactory.get();
+                }
+
+                return ClientHttpRequestFactories.pooledAsync(connectionPool, sslContext.get(), hostnameVerifier);
+            }
+
+        };
+    }
+
+    private static Supplier<OkHttpClientHttpRequestFactory> createHttp2RequestFactory(final ConnectionPoolConfiguration connectionPool, final Supplier<SSLContext> sslContext,
+                                                                                      final HostnameVerifier hostnameVerifier) {
+        return new Supplier<OkHttpClientHttpRequestFactory>() {
+
+            @Override
+            public OkHttpClientHttpRequestFactory get() {
+                return ClientHttpRequestFactories.http2(connectionPool, sslContext.get().getSocketFactory(), hostnameVerifier);
+            }
+
+        };
+    }
+
+    private static Supplier<ClientHttpRequestFactory> createRequestFactory(final ConnectionPoolConfiguration connectionPool, final Supplier<SSLContext> sslContext,
+                                                                           final HostnameVerifier hostnameVerifier, final Supplier<OkHttpClientHttpRequestFactory> http2RequestFactory) {
+        return new Supplier<ClientHttpRequestFactory>() {
+
+            @Override
+            public ClientHttpRequestFactory get() {
+                if (http2RequestFactory != null) {
+                    return http2RequestFactory.get();
+                }
+
+                return ClientHttpRequestFactories.pooled(connectionPool, sslContext.get().getSocketFactory(), hostnameVerifier);
+            }
+
+        };
+    }
+
+    private static OAuth2RestOperations createRestOperations(String clientId, String clientSecret, Supplier<String> accessTokenUri, String host, String username, String password,
+                                                             SessionCache sessionCache, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                                             ClientHttpRequestFactory requestFactory, List<DeserializationProblemHandler> deserializationProblemHandlers) {
+        OAuth2ProtectedResourceDetails oAuth2ProtectedResourceDetails = getOAuth2ProtectedResourceDetails(clientId, clientSecret, accessTokenUri, username, password);
+
+        ResourceOwnerPasswordAccessTokenProvider resourceOwnerPasswordAccessTokenProvider = new ResourceOwnerPasswordAccessTokenProvider();
+        resourceOwnerPasswordAccessTokenProvider.setRequestFactory(requestFactory);
+
+        AccessTokenProvider accessTokenProvider = new AccessTokenProviderChain(Collections.singletonList(resourceOwnerPasswordAccessTokenProvider));
+        OAuth2ClientContext oAuth2ClientContext = getOAuth2ClientContext(oAuth2ProtectedResourceDetails, accessTokenProvider, host, username, sessionCache);
 
         OAuth2RestTemplate restTemplate = new OAuth2RestTemplate(oAuth2ProtectedResourceDetails, oAuth2ClientContext);
+        restTemplate.setAccessTokenProvider(accessTokenProvider);
+        restTemplate.setInterceptors(getInterceptors(concurrencyLimiter));
+        restTemplate.setRequestFactory(requestFactory);
         List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
 
         for (HttpMessageConverter<?> messageConverter : messageConverters) {
@@ -355,29 +604,101 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
         return restTemplate;
     }
 
-    @SuppressWarnings("unchecked")
-    private static String getAccessTokenUri(String host, RestOperations bootstrapRestOperations) {
-        String infoUri = UriComponentsBuilder.newInstance()
-                .scheme("https").host(host).pathSegment("info")
-                .build().toUriString();
+    private static ScheduledExecutorService createScheduler(final String name) {
+        return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
 
-        Map<String, String> results = bootstrapRestOperations.getForObject(infoUri, Map.class);
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+
+        });
+    }
+
+    private static Supplier<SSLContext> createSslContext(final String host, final Boolean skipSslValidation, final SslCertificateTruster sslCertificateTruster) {
+        return new Supplier<SSLContext>() {
+
+            @Override
+            public SSLContext get() {
+                if (skipSslValidation != null && skipSslValidation) {
+                    try {
+                        return sslCertificateTruster.trust(host, 443, 5, SECONDS);
+                    } catch (GeneralSecurityException | IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
 
-        return UriComponentsBuilder.fromUriString(results.get("token_endpoint"))
+                return SSLContexts.createDefault();
+            }
+
+        };
+    }
+
+    private static String getAccessTokenUri(String tokenEndpoint) {
+        return UriComponentsBuilder.fromUriString(tokenEndpoint)
                 .pathSegment("oauth", "token")
                 .build().toUriString();
     }
 
-    private static OAuth2ClientContext getOAuth2ClientContext() {
-        return new DefaultOAuth2ClientContext(new DefaultAccessTokenRequest());
+    private static HostnameVerifier getHostnameVerifier(String host, Boolean skipSslValidation) {
+        if (skipSslValidation != null && skipSslValidation) {
+            return new ExplicitHostnameVerifier(host);
+        }
+
+        return SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+    }
+
+    private static List<ClientHttpRequestInterceptor> getInterceptors(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+
+        if (concurrencyLimiter != null) {
+            interceptors.add(concurrencyLimiter);  // Only measures responses; operations wait for a slot before dispatching, so that queued requests hold no thread
+        }
+
+        interceptors.add(new PageSizeTuningInterceptor());
+
+        return interceptors;
     }
 
-    private static OAuth2ProtectedResourceDetails getOAuth2ProtectedResourceDetails(String clientId, String clientSecret, String host, String username, String password, RestOperations
-            bootstrapRestOperations) {
-        ResourceOwnerPasswordResourceDetails details = new ResourceOwnerPasswordResourceDetails();
+    private static OAuth2ClientContext getOAuth2ClientContext(OAuth2ProtectedResourceDetails oAuth2ProtectedResourceDetails, AccessTokenProvider accessTokenProvider, final String host,
+                                                              final String username, final SessionCache sessionCache) {
+        if (sessionCache == null) {
+            return new RefreshingOAuth2ClientContext(oAuth2ProtectedResourceDetails, accessTokenProvider, TOKEN_REFRESH_SCHEDULER);
+        }
+
+        RefreshingOAuth2ClientContext oAuth2ClientContext = new RefreshingOAuth2ClientContext(oAuth2ProtectedResourceDetails, accessTokenProvider, TOKEN_REFRESH_SCHEDULER,
+                new Consumer<OAuth2AccessToken>() {
+
+                    @Override
+                    public void accept(OAuth2AccessToken accessToken) {
+                        sessionCache.putAccessToken(host, username, accessToken);
+                    }
+
+                });
+
+        OAuth2AccessToken accessToken = sessionCache.getAccessToken(host, username);
+        if (accessToken != null) {
+            oAuth2ClientContext.setAccessToken(accessToken);
+        }
+
+        return oAuth2ClientContext;
+    }
+
+    private static OAuth2ProtectedResourceDetails getOAuth2ProtectedResourceDetails(String clientId, String clientSecret, final Supplier<String> accessTokenUri, String username,
+                                                                                    String password) {
+        ResourceOwnerPasswordResourceDetails details = new ResourceOwnerPasswordResourceDetails() {
+
+            @Override
+            public String getAccessTokenUri() {
+                return accessTokenUri.get();
+            }
+
+        };
+
         details.setClientId(clientId != null ? clientId : "cf");
         details.setClientSecret(clientSecret != null ? clientSecret : "");
-        details.setAccessTokenUri(getAccessTokenUri(host, bootstrapRestOperations));
         details.setUsername(username);
         details.setPassword(password);
 
@@ -388,6 +709,37 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient {
         return UriComponentsBuilder.newInstance().scheme("https").host(host).build().toUri();
     }
 
+    private static Supplier<String> requestAccessTokenUri(final String host, final String username, final SessionCache sessionCache, final RestOperations bootstrapRestOperations) {
+        return new Supplier<String>() {
+
+            @Override
+            public String get() {
+                String tokenEndpoint = sessionCache != null ? sessionCache.getTokenEndpoint(host, username) : null;
+
+                if (tokenEndpoint == null) {
+                    tokenEndpoint = requestTokenEndpoint(host, bootstrapRestOperations);
+
+                    if (sessionCache != null) {
+                        sessionCache.putTokenEndpoint(host, username, tokenEndpoint);
+                    }
+                }
+
+                return getAccessTokenUri(tokenEndpoint);
+            }
+
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String requestTokenEndpoint(String host, RestOperations bootstrapRestOperations) {
+        String infoUri = UriComponentsBuilder.newInstance()
+                .scheme("https").host(host).pathSegment("info")
+                .build().toUriString();
+
+        Map<String, String> results = bootstrapRestOperations.getForObject(infoUri, Map.class);
+        return results.get("token_endpoint");
+    }
+
     private static Consumer<Throwable> uncaughtExceptionHandler() {
         return new Consumer<Throwable>() {
 
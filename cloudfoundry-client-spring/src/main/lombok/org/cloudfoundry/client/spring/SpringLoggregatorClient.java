@@ -27,6 +27,7 @@ import org.cloudfoundry.client.loggregator.StreamLogsRequest;
 import org.cloudfoundry.client.spring.loggregator.LoggregatorMessageHandler;
 import org.cloudfoundry.client.spring.loggregator.ReactiveEndpoint;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
+import org.cloudfoundry.client.spring.util.SessionCache;
 import org.cloudfoundry.client.spring.util.Validators;
 import org.cloudfoundry.client.v2.info.GetInfoRequest;
 import org.cloudfoundry.client.v2.info.GetInfoResponse;
@@ -34,6 +35,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.ProcessorGroup;
@@ -43,6 +45,7 @@ import reactor.fn.Consumer;
 import reactor.fn.Function;
 import reactor.rx.Stream;
 
+import javax.net.ssl.SSLContext;
 import javax.websocket.ClientEndpointConfig;
 import javax.websocket.ContainerProvider;
 import javax.websocket.DeploymentException;
@@ -59,6 +62,8 @@ import java.util.concurrent.atomic.AtomicReference;
 @ToString(callSuper = true)
 public final class SpringLoggregatorClient extends AbstractSpringOperations implements LoggregatorClient {
 
+    private static final String SSL_CONTEXT_PROPERTY = "org.apache.tomcat.websocket.SSL_CONTEXT";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final ClientEndpointConfig clientEndpointConfig;
@@ -73,9 +78,9 @@ public final class SpringLoggregatorClient extends AbstractSpringOperations impl
     }
 
     SpringLoggregatorClient(SpringCloudFoundryClient cloudFoundryClient, WebSocketContainer webSocketContainer) {
-        super(getRestOperations(cloudFoundryClient), getRoot(cloudFoundryClient), getProcessorGroup(cloudFoundryClient));
+        super(getRestOperations(cloudFoundryClient), getAsyncRestOperations(cloudFoundryClient), getRoot(cloudFoundryClient), getProcessorGroup(cloudFoundryClient));
 
-        this.clientEndpointConfig = getClientEndpointConfig(cloudFoundryClient);
+        this.clientEndpointConfig = getClientEndpointConfig(new AuthorizationConfigurator(cloudFoundryClient), cloudFoundryClient.getSslContext());
         this.root = UriComponentsBuilder.fromUri(super.root).scheme("wss").build().toUri();
         this.webSocketContainer = webSocketContainer;
     }
@@ -127,6 +132,20 @@ public final class SpringLoggregatorClient extends AbstractSpringOperations impl
         });
     }
 
+    static ClientEndpointConfig getClientEndpointConfig(ClientEndpointConfig.Configurator configurator, SSLContext sslContext) {
+        ClientEndpointConfig clientEndpointConfig = ClientEndpointConfig.Builder.create().configurator(configurator).build();
+
+        if (sslContext != null) {
+            clientEndpointConfig.getUserProperties().put(SSL_CONTEXT_PROPERTY, sslContext);  // Trusts what the client's other connections trust, rather than the JVM's defaults
+        }
+
+        return clientEndpointConfig;
+    }
+
+    private static AsyncRestOperations getAsyncRestOperations(SpringCloudFoundryClient cloudFoundryClient) {
+        return cloudFoundryClient.getAsyncRestOperations();
+    }
+
     private static ProcessorGroup<?> getProcessorGroup(SpringCloudFoundryClient cloudFoundryClient) {
         return cloudFoundryClient.getProcessorGroup();
     }
@@ -136,6 +155,21 @@ public final class SpringLoggregatorClient extends AbstractSpringOperations impl
     }
 
     private static URI getRoot(SpringCloudFoundryClient cloudFoundryClient) {
+        SessionCache sessionCache = cloudFoundryClient.getSessionCache();
+        String loggingEndpoint = sessionCache != null ? sessionCache.getLoggingEndpoint(cloudFoundryClient.getHost(), cloudFoundryClient.getUsername()) : null;
+
+        if (loggingEndpoint == null) {
+            loggingEndpoint = requestLoggingEndpoint(cloudFoundryClient);
+
+            if (sessionCache != null) {
+                sessionCache.putLoggingEndpoint(cloudFoundryClient.getHost(), cloudFoundryClient.getUsername(), loggingEndpoint);
+            }
+        }
+
+        return UriComponentsBuilder.fromUriString(loggingEndpoint).scheme("https").build().toUri();
+    }
+
+    private static String requestLoggingEndpoint(SpringCloudFoundryClient cloudFoundryClient) {
         GetInfoRequest request = GetInfoRequest.builder()
                 .build();
 
@@ -147,17 +181,8 @@ public final class SpringLoggregatorClient extends AbstractSpringOperations impl
                         return getInfoResponse.getLoggingEndpoint();
                     }
 
-                })
-                .map(new Function<String, URI>() {
-
-                    @Override
-                    public URI apply(String loggingEndpoint) {
-                        return UriComponentsBuilder.fromUriString(loggingEndpoint).scheme("https").build().toUri();
-                    }
-
                 })
                 .get();
-
     }
 
     @SuppressWarnings("unchecked")
@@ -187,11 +212,6 @@ public final class SpringLoggregatorClient extends AbstractSpringOperations impl
                 });
     }
 
-    private ClientEndpointConfig getClientEndpointConfig(SpringCloudFoundryClient cloudFoundryClient) {
-        ClientEndpointConfig.Configurator configurator = new AuthorizationConfigurator(cloudFoundryClient);
-        return ClientEndpointConfig.Builder.create().configurator(configurator).build();
-    }
-
     private <T> Stream<T> ws(Validatable request, final Consumer<UriComponentsBuilder> builderCallback, final Function<Subscriber<T>, MessageHandler> messageHandlerCreator) {
         final AtomicReference<Session> session = new AtomicReference<>();
 
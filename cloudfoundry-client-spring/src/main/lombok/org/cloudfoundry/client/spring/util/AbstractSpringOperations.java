@@ -16,17 +16,36 @@
 
 package org.cloudfoundry.client.spring.util;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.ToString;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.spring.v2.CloudFoundryExceptionBuilder;
+import org.cloudfoundry.client.v2.Pagination;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
@@ -40,9 +59,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.PATCH;
+import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
 
 @ToString
@@ -52,26 +76,353 @@ public abstract class AbstractSpringOperations {
 
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client-spring");
 
+    protected final AsyncRestOperations asyncRestOperations;
+
     protected final RestOperations restOperations;
 
     protected final URI root;
 
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private final PageSizeTuningInterceptor pageSizeTuningInterceptor;
+
     private final ProcessorGroup<?> processorGroup;
 
+    private final RequestCoalescer requestCoalescer;
+
+    private final ResponseCache responseCache;
+
+    private final RetryPolicy retryPolicy;
+
     protected AbstractSpringOperations(RestOperations restOperations, URI root, ProcessorGroup<?> processorGroup) {
+        this(restOperations, null, root, processorGroup);
+    }
+
+    protected AbstractSpringOperations(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        this(restOperations, asyncRestOperations, root, processorGroup, null, null, null);
+    }
+
+    protected AbstractSpringOperations(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                                       ResponseCache responseCache, RetryPolicy retryPolicy) {
+        this.asyncRestOperations = asyncRestOperations;
         this.restOperations = restOperations;
         this.root = root;
+        this.concurrencyLimiter = getInterceptor(restOperations, AdaptiveConcurrencyLimiter.class);
+        this.pageSizeTuningInterceptor = getInterceptor(restOperations, PageSizeTuningInterceptor.class);
         this.processorGroup = processorGroup;
+        this.requestCoalescer = requestCoalescer;
+        this.responseCache = responseCache;
+        this.retryPolicy = retryPolicy;
+    }
+
+    protected final Mono<Void> delete(Validatable request) {
+        return delete(request, expand(request));
+    }
+
+    protected final Mono<Void> delete(Validatable request, Consumer<UriComponentsBuilder> builderCallback) {
+        return delete(request, build(builderCallback));
+    }
+
+    protected final <T, V extends Validatable> Stream<T> exchange(V request, final HttpMethod method, final Supplier<URI> uriSupplier, final boolean streaming,
+                                                                  final Function<ReactiveSession<T>, T> exchange) {
+        return Stream
+                .from(Validators
+                        .validate(request)
+                        .flatMap(new Function<V, Stream<T>>() {
+
+                            @Override
+                            public Stream<T> apply(V request) {
+                                if (AbstractSpringOperations.this.concurrencyLimiter == null) {
+                                    return dispatch(method, uriSupplier, streaming, exchange, null);
+                                }
+
+                                // Wait for a slot before dispatching, so that a queued request does not hold a thread while it waits
+                                return Stream
+                                        .from(acquire(AbstractSpringOperations.this.concurrencyLimiter))
+                                        .concatMap(new Function<AdaptiveConcurrencyLimiter, Stream<T>>() {
+
+                                            @Override
+                                            public Stream<T> apply(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+                                                return dispatch(method, uriSupplier, streaming, exchange, concurrencyLimiter)
+                                                        .publishOn(AbstractSpringOperations.this.processorGroup);
+                                            }
+
+                                        });
+                            }
+
+                        }))
+                .publishOn(this.processorGroup)
+                .onBackpressureBlock();
+    }
+
+    protected final <T> Mono<T> get(Validatable request, Class<T> responseType) {
+        return get(request, responseType, expand(request));
+    }
+
+    protected final <T> Mono<T> get(Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return get(request, responseType, build(builderCallback));
+    }
+
+    protected final <T> Stream<T> getResources(Validatable request, Class<T> resourceType, Consumer<Pagination> paginationCallback) {
+        return getResources(request, resourceType, paginationCallback, expand(request));
+    }
+
+    protected final <T> Stream<T> getResources(Validatable request, Class<T> resourceType, Consumer<Pagination> paginationCallback, Consumer<UriComponentsBuilder> builderCallback) {
+        return getResources(request, resourceType, paginationCallback, build(builderCallback));
+    }
+
+    protected final Stream<byte[]> getStream(Validatable request) {
+        return getStream(request, expand(request));
+    }
+
+    protected final Stream<byte[]> getStream(Validatable request, Consumer<UriComponentsBuilder> builderCallback) {
+        return getStream(request, build(builderCallback));
+    }
+
+    protected final <T> Mono<T> patch(Validatable request, Class<T> responseType) {
+        return patch(request, responseType, expand(request));
+    }
+
+    protected final <T> Mono<T> patch(Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return patch(request, responseType, build(builderCallback));
     }
 
-    protected final Mono<Void> delete(final Validatable request, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<Void>, Void>() {
+    protected final <T> Mono<T> post(Validatable request, Class<T> responseType) {
+        return postWithBody(request, supply(request), responseType, expand(request));
+    }
+
+    protected final <T> Mono<T> post(Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return postWithBody(request, supply(request), responseType, build(builderCallback));
+    }
+
+    protected final <T, B> Mono<T> postWithBody(Validatable request, Supplier<B> bodySupplier, Class<T> responseType) {
+        return postWithBody(request, bodySupplier, responseType, expand(request));
+    }
+
+    protected final <T, B> Mono<T> postWithBody(Validatable request, Supplier<B> bodySupplier, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return postWithBody(request, bodySupplier, responseType, build(builderCallback));
+    }
+
+    protected final <T> Mono<T> put(Validatable request, Class<T> responseType) {
+        return putWithBody(request, supply(request), responseType, expand(request));
+    }
+
+    protected final <T> Mono<T> put(Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return putWithBody(request, supply(request), responseType, build(builderCallback));
+    }
+
+    protected final <T, B> Mono<T> putWithBody(Validatable request, Supplier<B> bodySupplier, Class<T> responseType) {
+        return putWithBody(request, bodySupplier, responseType, expand(request));
+    }
+
+    protected final <T, B> Mono<T> putWithBody(Validatable request, Supplier<B> bodySupplier, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
+        return putWithBody(request, bodySupplier, responseType, build(builderCallback));
+    }
+
+    private static Publisher<AdaptiveConcurrencyLimiter> acquire(final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return new Publisher<AdaptiveConcurrencyLimiter>() {
 
             @Override
-            public Void apply(ReactiveSession<Void> session) {
+            public void subscribe(final Subscriber<? super AdaptiveConcurrencyLimiter> subscriber) {
+                final ListenableFuture<Void> permit = concurrencyLimiter.acquireAsync();
+                final AtomicBoolean claimed = new AtomicBoolean();
+                final AtomicBoolean requested = new AtomicBoolean();
+
+                subscriber.onSubscribe(new Subscription() {
+
+                    @Override
+                    public void cancel() {
+                        if (!permit.cancel(false) && claimed.compareAndSet(false, true)) {
+                            concurrencyLimiter.release();
+                        }
+                    }
+
+                    @Override
+                    public void request(long n) {
+                        if (!requested.compareAndSet(false, true)) {
+                            return;
+                        }
+
+                        permit.addCallback(new ListenableFutureCallback<Void>() {
+
+                            @Override
+                            public void onFailure(Throwable throwable) {
+                            }
+
+                            @Override
+                            public void onSuccess(Void result) {
+                                if (claimed.compareAndSet(false, true)) {
+                                    subscriber.onNext(concurrencyLimiter);
+                                    subscriber.onComplete();
+                                }
+                            }
+
+                        });
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    private static <T extends ClientHttpRequestInterceptor> T getInterceptor(RestOperations restOperations, Class<T> type) {
+        if (restOperations instanceof RestTemplate) {
+            for (ClientHttpRequestInterceptor interceptor : ((RestTemplate) restOperations).getInterceptors()) {
+                if (type.isInstance(interceptor)) {
+                    return type.cast(interceptor);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static Supplier<Validatable> supply(final Validatable request) {
+        return new Supplier<Validatable>() {
+
+            @Override
+            public Validatable get() {
+                return request;
+            }
+
+        };
+    }
+
+    private static <T> ListenableFuture<T> toFuture(Mono<T> mono) {
+        final SettableListenableFuture<T> future = new SettableListenableFuture<>();
+
+        mono.subscribe(new Subscriber<T>() {
+
+            private T result;
+
+            @Override
+            public void onComplete() {
+                future.set(this.result);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.setException(throwable);
+            }
+
+            @Override
+            public void onNext(T result) {
+                this.result = result;
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+        });
+
+        return future;
+    }
+
+    private <T> void attempt(ReactiveSession<T> session, Function<ReactiveSession<T>, T> exchange, RetryPolicy.Attempt attempt, boolean streaming, Runnable release) {
+        boolean retrying = false;
+
+        try {
+            T result = exchange.apply(session);
+            if (result != null) {
+                session.onNext(result);
+            }
+
+            session.onComplete();
+        } catch (HttpStatusCodeException e) {
+            retrying = retry(session, exchange, attempt, streaming, release, e);
+            if (!retrying) {
+                session.onError(CloudFoundryExceptionBuilder.build(e));
+            }
+        } catch (ResourceAccessException e) {
+            // An I/O failure part way through a streamed response may follow items that have already been emitted
+            retrying = !streaming && retry(session, exchange, attempt, streaming, release, e);
+            if (!retrying) {
+                throw e;
+            }
+        } finally {
+            // A retry keeps the concurrency slot through its back-off, so that retries cannot exceed the limit
+            if (!retrying) {
+                release.run();
+            }
+        }
+    }
+
+    private Supplier<URI> build(final Consumer<UriComponentsBuilder> builderCallback) {
+        return new Supplier<URI>() {
+
+            @Override
+            public URI get() {
                 UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
                 builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+                return builder.build().encode().toUri();
+            }
+
+        };
+    }
+
+    private <T, V extends Validatable> Mono<T> coalesce(V request, final Class<T> responseType, final Supplier<URI> uriSupplier, final Mono<T> exchange) {
+        return Stream
+                .from(Validators
+                        .validate(request)
+                        .flatMap(new Function<V, Stream<T>>() {
+
+                            @Override
+                            public Stream<T> apply(V request) {
+                                return Stream
+                                        .yield(new Consumer<ReactiveSession<T>>() {
+
+                                            @Override
+                                            public void accept(final ReactiveSession<T> session) {
+                                                AbstractSpringOperations.this.requestCoalescer
+                                                        .execute(uriSupplier.get(), responseType, new Supplier<ListenableFuture<T>>() {
+
+                                                            @Override
+                                                            public ListenableFuture<T> get() {
+                                                                return toFuture(exchange);
+                                                            }
+
+                                                        })
+                                                        .addCallback(new ListenableFutureCallback<T>() {
+
+                                                            @Override
+                                                            public void onFailure(Throwable throwable) {
+                                                                session.onError(throwable);
+                                                            }
+
+                                                            @Override
+                                                            public void onSuccess(T result) {
+                                                                if (result != null) {
+                                                                    session.onNext(result);
+                                                                }
+
+                                                                session.onComplete();
+                                                            }
+
+                                                        });
+                                            }
+
+                                        });
+                            }
+
+                        }))
+                .publishOn(this.processorGroup)
+                .onBackpressureBlock()
+                .next();
+    }
+
+    private Mono<Void> delete(final Validatable request, final Supplier<URI> uriSupplier) {
+        if (this.asyncRestOperations != null) {
+            return exchangeAsync(request, DELETE, supply(request), Void.class, uriSupplier).next();
+        }
+
+        return exchange(request, DELETE, uriSupplier, false, new Function<ReactiveSession<Void>, Void>() {
+
+            @Override
+            public Void apply(ReactiveSession<Void> session) {
+                URI uri = uriSupplier.get();
 
                 AbstractSpringOperations.this.logger.debug("DELETE {}", uri);
                 AbstractSpringOperations.this.restOperations.exchange(new RequestEntity<>(request, DELETE, uri), Void.class);
@@ -82,7 +433,35 @@ public abstract class AbstractSpringOperations {
                 .next();
     }
 
-    protected final <T, V extends Validatable> Stream<T> exchange(V request, final Function<ReactiveSession<T>, T> exchange) {
+    private <T> Stream<T> dispatch(final HttpMethod method, final Supplier<URI> uriSupplier, final boolean streaming, final Function<ReactiveSession<T>, T> exchange,
+                                   final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        final AtomicBoolean released = new AtomicBoolean();
+        final Runnable release = new Runnable() {
+
+            @Override
+            public void run() {
+                if (concurrencyLimiter != null && released.compareAndSet(false, true)) {
+                    concurrencyLimiter.release();
+                }
+            }
+
+        };
+
+        return Stream
+                .yield(new Consumer<ReactiveSession<T>>() {
+
+                    @Override
+                    public void accept(ReactiveSession<T> session) {
+                        RetryPolicy retryPolicy = AbstractSpringOperations.this.retryPolicy;
+                        attempt(session, exchange, retryPolicy != null ? retryPolicy.start(method, uriSupplier.get()) : null, streaming, release);
+                    }
+
+                })
+                .doOnCancel(release);
+    }
+
+    private <T, V extends Validatable> Stream<T> exchangeAsync(V request, final HttpMethod method, final Supplier<?> bodySupplier, final Class<T> responseType,
+                                                               final Supplier<URI> uriSupplier) {
         return Stream
                 .from(Validators
                         .validate(request)
@@ -94,17 +473,35 @@ public abstract class AbstractSpringOperations {
                                         .yield(new Consumer<ReactiveSession<T>>() {
 
                                             @Override
-                                            public void accept(ReactiveSession<T> session) {
-                                                try {
-                                                    T result = exchange.apply(session);
-                                                    if (result != null) {
-                                                        session.onNext(result);
-                                                    }
-
-                                                    session.onComplete();
-                                                } catch (HttpStatusCodeException e) {
-                                                    session.onError(CloudFoundryExceptionBuilder.build(e));
-                                                }
+                                            public void accept(final ReactiveSession<T> session) {
+                                                URI uri = uriSupplier.get();
+
+                                                HttpEntity<Object> requestEntity = new HttpEntity<Object>(bodySupplier != null ? bodySupplier.get() : null);
+
+                                                AbstractSpringOperations.this.logger.debug("{} {} (async)", method, uri);
+                                                startExchange(uri, method, requestEntity, responseType)
+                                                        .addCallback(new ListenableFutureCallback<ResponseEntity<T>>() {
+
+                                                            @Override
+                                                            public void onFailure(Throwable throwable) {
+                                                                if (throwable instanceof HttpStatusCodeException) {
+                                                                    session.onError(CloudFoundryExceptionBuilder.build((HttpStatusCodeException) throwable));
+                                                                } else {
+                                                                    session.onError(throwable);
+                                                                }
+                                                            }
+
+                                                            @Override
+                                                            public void onSuccess(ResponseEntity<T> response) {
+                                                                T result = response.getBody();
+                                                                if (result != null) {
+                                                                    session.onNext(result);
+                                                                }
+
+                                                                session.onComplete();
+                                                            }
+
+                                                        });
                                             }
 
                                         });
@@ -115,31 +512,95 @@ public abstract class AbstractSpringOperations {
                 .onBackpressureBlock();
     }
 
-    protected final <T> Mono<T> get(Validatable request, final Class<T> responseType, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<T>, T>() {
+    private Supplier<URI> expand(final Validatable request) {
+        return new Supplier<URI>() {
+
+            @Override
+            public URI get() {
+                return PathTemplate.of(request.getClass()).expand(AbstractSpringOperations.this.root, request);
+            }
+
+        };
+    }
+
+    private <T> Mono<T> get(Validatable request, final Class<T> responseType, Supplier<URI> uriSupplier) {
+        final Supplier<URI> tunedUriSupplier = tune(uriSupplier);  // Before the URI is used as a cache or coalescing key, so that pages of different sizes are not confused
+
+        if (this.asyncRestOperations != null) {
+            return exchangeAsync(request, GET, null, responseType, tunedUriSupplier).next();
+        }
+
+        Mono<T> exchange = exchange(request, GET, tunedUriSupplier, false, new Function<ReactiveSession<T>, T>() {
 
             @Override
             public T apply(ReactiveSession<T> session) {
-                UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
-                builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+                URI uri = tunedUriSupplier.get();
 
                 AbstractSpringOperations.this.logger.debug("GET {}", uri);
-                return AbstractSpringOperations.this.restOperations.getForObject(uri, responseType);
+                return getForObject(uri, responseType);
             }
 
         })
                 .next();
+
+        if (this.requestCoalescer == null) {
+            return exchange;
+        }
+
+        return coalesce(request, responseType, tunedUriSupplier, exchange);
     }
 
-    protected final Stream<byte[]> getStream(final Validatable request, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<byte[]>, byte[]>() {
+    private <T> T getForObject(URI uri, Class<T> responseType) {
+        ResponseCache.Entry<T> entry = this.responseCache != null ? this.responseCache.get(uri, responseType) : null;
+        if (entry != null && entry.isFresh()) {
+            return entry.getValue();
+        }
+
+        return requestForObject(uri, responseType, entry);
+    }
+
+    private ObjectMapper getObjectMapper() {
+        if (this.restOperations instanceof RestTemplate) {
+            for (HttpMessageConverter<?> messageConverter : ((RestTemplate) this.restOperations).getMessageConverters()) {
+                if (messageConverter instanceof MappingJackson2HttpMessageConverter) {
+                    return ((MappingJackson2HttpMessageConverter) messageConverter).getObjectMapper();
+                }
+            }
+        }
+
+        return new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private <T> Stream<T> getResources(Validatable request, final Class<T> resourceType, final Consumer<Pagination> paginationCallback, final Supplier<URI> uriSupplier) {
+        return this
+                .exchange(request, GET, uriSupplier, false, new Function<ReactiveSession<List<T>>, List<T>>() {
+
+                    @Override
+                    public List<T> apply(ReactiveSession<List<T>> session) {
+                        URI uri = uriSupplier.get();
+
+                        AbstractSpringOperations.this.logger.debug("GET {} (streaming)", uri);
+                        return AbstractSpringOperations.this.restOperations.execute(uri, HttpMethod.GET, null,
+                                new ResourceStreamingResponseExtractor<>(getObjectMapper(), resourceType, paginationCallback));
+                    }
+
+                })
+                .concatMap(new Function<List<T>, Stream<T>>() {
+
+                    @Override
+                    public Stream<T> apply(List<T> resources) {
+                        return Stream.fromIterable(resources);
+                    }
+
+                });
+    }
+
+    private Stream<byte[]> getStream(final Validatable request, final Supplier<URI> uriSupplier) {
+        return exchange(request, GET, uriSupplier, true, new Function<ReactiveSession<byte[]>, byte[]>() {
 
             @Override
             public byte[] apply(final ReactiveSession<byte[]> session) {
-                UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
-                builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+                URI uri = uriSupplier.get();
 
                 AbstractSpringOperations.this.logger.debug("GET {}", uri);
                 return AbstractSpringOperations.this.restOperations.execute(uri, HttpMethod.GET, null, new ResponseExtractor<byte[]>() {
@@ -165,14 +626,16 @@ public abstract class AbstractSpringOperations {
         });
     }
 
-    protected final <T> Mono<T> patch(final Validatable request, final Class<T> responseType, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<T>, T>() {
+    private <T> Mono<T> patch(final Validatable request, final Class<T> responseType, final Supplier<URI> uriSupplier) {
+        if (this.asyncRestOperations != null) {
+            return exchangeAsync(request, PATCH, supply(request), responseType, uriSupplier).next();
+        }
+
+        return exchange(request, PATCH, uriSupplier, false, new Function<ReactiveSession<T>, T>() {
 
             @Override
             public T apply(ReactiveSession<T> session) {
-                UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
-                builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+                URI uri = uriSupplier.get();
 
                 AbstractSpringOperations.this.logger.debug("PATCH {}", uri);
                 return AbstractSpringOperations.this.restOperations.exchange(new RequestEntity<>(request, PATCH, uri), responseType).getBody();
@@ -182,60 +645,156 @@ public abstract class AbstractSpringOperations {
                 .next();
     }
 
-    protected final <T> Mono<T> post(final Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
-        return postWithBody(request, new Supplier<Validatable>() {
+    private <T, B> Mono<T> postWithBody(Validatable request, final Supplier<B> bodySupplier, final Class<T> responseType, final Supplier<URI> uriSupplier) {
+        if (this.asyncRestOperations != null) {
+            return exchangeAsync(request, POST, bodySupplier, responseType, uriSupplier).next();
+        }
+
+        return exchange(request, POST, uriSupplier, false, new Function<ReactiveSession<T>, T>() {
 
             @Override
-            public Validatable get() {
-                return request;
+            public T apply(ReactiveSession<T> session) {
+                URI uri = uriSupplier.get();
+
+                AbstractSpringOperations.this.logger.debug("POST {}", uri);
+                return AbstractSpringOperations.this.restOperations.postForObject(uri, bodySupplier.get(), responseType);
             }
 
-        }, responseType, builderCallback);
+        })
+                .next();
     }
 
-    protected final <T, B> Mono<T> postWithBody(Validatable request, final Supplier<B> bodySupplier, final Class<T> responseType, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<T>, T>() {
+    private <T, B> Mono<T> putWithBody(Validatable request, final Supplier<B> bodySupplier, final Class<T> responseType, final Supplier<URI> uriSupplier) {
+        if (this.asyncRestOperations != null) {
+            return exchangeAsync(request, PUT, bodySupplier, responseType, uriSupplier).next();
+        }
+
+        return exchange(request, PUT, uriSupplier, false, new Function<ReactiveSession<T>, T>() {
 
             @Override
             public T apply(ReactiveSession<T> session) {
-                UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
-                builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+                URI uri = uriSupplier.get();
 
-                AbstractSpringOperations.this.logger.debug("POST {}", uri);
-                return AbstractSpringOperations.this.restOperations.postForObject(uri, bodySupplier.get(), responseType);
+                AbstractSpringOperations.this.logger.debug("PUT {}", uri);
+                return AbstractSpringOperations.this.restOperations.exchange(new RequestEntity<>(bodySupplier.get(), null, PUT, uri), responseType).getBody();
             }
 
         })
                 .next();
     }
 
-    protected final <T> Mono<T> put(final Validatable request, Class<T> responseType, Consumer<UriComponentsBuilder> builderCallback) {
-        return putWithBody(request, new Supplier<Validatable>() {
+    private <T> ListenableFuture<ResponseEntity<T>> requestForEntity(final URI uri, final Class<T> responseType, final ResponseCache.Entry<T> entry) {
+        HttpHeaders headers = entry != null ? entry.getConditionalHeaders() : new HttpHeaders();
+
+        return new ListenableFutureAdapter<ResponseEntity<T>, ResponseEntity<T>>(this.asyncRestOperations.exchange(uri, GET, new HttpEntity<Void>(headers), responseType)) {
 
             @Override
-            public Validatable get() {
-                return request;
+            protected ResponseEntity<T> adapt(ResponseEntity<T> response) {
+                T value = AbstractSpringOperations.this.responseCache.update(uri, responseType, entry, response);
+                return new ResponseEntity<>(value, response.getHeaders(), response.getStatusCode());
             }
 
-        }, responseType, builderCallback);
+        };
     }
 
-    protected final <T, B> Mono<T> putWithBody(Validatable request, final Supplier<B> bodySupplier, final Class<T> responseType, final Consumer<UriComponentsBuilder> builderCallback) {
-        return exchange(request, new Function<ReactiveSession<T>, T>() {
+    private <T> T requestForObject(URI uri, Class<T> responseType, ResponseCache.Entry<T> entry) {
+        if (this.responseCache == null) {
+            return this.restOperations.getForObject(uri, responseType);
+        }
+
+        HttpHeaders headers = entry != null ? entry.getConditionalHeaders() : new HttpHeaders();
+        ResponseEntity<T> response = this.restOperations.exchange(new RequestEntity<Void>(headers, GET, uri), responseType);
+
+        return this.responseCache.update(uri, responseType, entry, response);
+    }
+
+    private <T> boolean retry(final ReactiveSession<T> session, final Function<ReactiveSession<T>, T> exchange, final RetryPolicy.Attempt attempt, final boolean streaming,
+                              final Runnable release, RuntimeException failure) {
+        long delay = attempt != null ? attempt.onFailure(failure) : -1;
+        if (delay < 0) {
+            return false;
+        }
+
+        this.logger.debug("Retrying in {} ms: {}", delay, failure.getMessage());
+        this.retryPolicy.scheduleBlocking(new Runnable() {
 
             @Override
-            public T apply(ReactiveSession<T> session) {
-                UriComponentsBuilder builder = UriComponentsBuilder.fromUri(AbstractSpringOperations.this.root);
-                builderCallback.accept(builder);
-                URI uri = builder.build().encode().toUri();
+            public void run() {
+                try {
+                    attempt(session, exchange, attempt, streaming, release);
+                } catch (RuntimeException e) {
+                    session.onError(e);
+                }
+            }
 
-                AbstractSpringOperations.this.logger.debug("PUT {}", uri);
-                return AbstractSpringOperations.this.restOperations.exchange(new RequestEntity<>(bodySupplier.get(), null, PUT, uri), responseType).getBody();
+        }, delay);
+
+        return true;
+    }
+
+    private <T> ListenableFuture<ResponseEntity<T>> startExchange(final URI uri, final HttpMethod method, final HttpEntity<Object> requestEntity, final Class<T> responseType) {
+        if (method != GET) {
+            return this.asyncRestOperations.exchange(uri, method, requestEntity, responseType);
+        }
+
+        final ResponseCache.Entry<T> entry = this.responseCache != null ? this.responseCache.get(uri, responseType) : null;
+        if (entry != null && entry.isFresh()) {
+            SettableListenableFuture<ResponseEntity<T>> response = new SettableListenableFuture<>();
+            response.set(new ResponseEntity<>(entry.getValue(), HttpStatus.OK));
+            return response;
+        }
+
+        if (this.requestCoalescer == null) {
+            return startGet(uri, requestEntity, responseType, entry);
+        }
+
+        return this.requestCoalescer.executeAsync(uri, responseType, new Supplier<ListenableFuture<ResponseEntity<T>>>() {
+
+            @Override
+            public ListenableFuture<ResponseEntity<T>> get() {
+                return startGet(uri, requestEntity, responseType, entry);
             }
 
-        })
-                .next();
+        });
+    }
+
+    private <T> ListenableFuture<ResponseEntity<T>> startGet(final URI uri, HttpEntity<Object> requestEntity, Class<T> responseType, ResponseCache.Entry<T> entry) {
+        final long start = System.nanoTime();
+        ListenableFuture<ResponseEntity<T>> response = this.responseCache == null ?
+                this.asyncRestOperations.exchange(uri, GET, requestEntity, responseType) : requestForEntity(uri, responseType, entry);
+
+        // Asynchronous requests bypass the interceptor, so their responses are measured here instead
+        if (this.pageSizeTuningInterceptor != null) {
+            response.addCallback(new ListenableFutureCallback<ResponseEntity<T>>() {
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                }
+
+                @Override
+                public void onSuccess(ResponseEntity<T> result) {
+                    AbstractSpringOperations.this.pageSizeTuningInterceptor.record(uri, System.nanoTime() - start, result.getHeaders().getContentLength());
+                }
+
+            });
+        }
+
+        return response;
+    }
+
+    private Supplier<URI> tune(final Supplier<URI> uriSupplier) {
+        if (this.pageSizeTuningInterceptor == null) {
+            return uriSupplier;
+        }
+
+        return new Supplier<URI>() {
+
+            @Override
+            public URI get() {
+                return AbstractSpringOperations.this.pageSizeTuningInterceptor.tune(uriSupplier.get());
+            }
+
+        };
     }
 
 }
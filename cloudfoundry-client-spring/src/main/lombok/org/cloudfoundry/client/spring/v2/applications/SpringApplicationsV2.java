@@ -18,12 +18,15 @@ package org.cloudfoundry.client.spring.v2.applications;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.v2.Pagination;
 import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentResponse;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesResponse;
+import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.ApplicationStatisticsRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationStatisticsResponse;
 import org.cloudfoundry.client.v2.applications.ApplicationsV2;
@@ -59,8 +62,8 @@ import org.reactivestreams.Publisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
 import reactor.fn.Consumer;
@@ -85,236 +88,132 @@ public final class SpringApplicationsV2 extends AbstractSpringOperations impleme
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<AssociateApplicationRouteResponse> associateRoute(final AssociateApplicationRouteRequest request) {
-        return put(request, AssociateApplicationRouteResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "routes", request.getRouteId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringApplicationsV2(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringApplicationsV2(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                                ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<CopyApplicationResponse> copy(final CopyApplicationRequest request) {
-        return post(request, CopyApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "copy_bits");
-            }
+    public Mono<AssociateApplicationRouteResponse> associateRoute(AssociateApplicationRouteRequest request) {
+        return put(request, AssociateApplicationRouteResponse.class);
+    }
 
-        });
+    @Override
+    public Mono<CopyApplicationResponse> copy(CopyApplicationRequest request) {
+        return post(request, CopyApplicationResponse.class);
     }
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps");
-            }
-
-        });
+        return post(request, CreateApplicationResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteApplicationRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId());
-            }
-
-        });
+    public Mono<Void> delete(DeleteApplicationRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Publisher<byte[]> download(final DownloadApplicationRequest request) {
-        return getStream(request,
-                new Consumer<UriComponentsBuilder>() {
-                    @Override
-                    public void accept(UriComponentsBuilder builder) {
-                        builder.pathSegment("v2", "apps", request.getId(), "download");
-                    }
-                });
+    public Publisher<byte[]> download(DownloadApplicationRequest request) {
+        return getStream(request);
     }
 
     @Override
-    public Publisher<byte[]> downloadDroplet(final DownloadDropletRequest request) {
-        return getStream(request,
-                new Consumer<UriComponentsBuilder>() {
-                    @Override
-                    public void accept(UriComponentsBuilder builder) {
-                        builder.pathSegment("v2", "apps", request.getId(), "droplet", "download");
-                    }
-                });
+    public Publisher<byte[]> downloadDroplet(DownloadDropletRequest request) {
+        return getStream(request);
     }
 
     @Override
-    public Mono<ApplicationEnvironmentResponse> environment(final ApplicationEnvironmentRequest request) {
-        return get(request, ApplicationEnvironmentResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "env");
-            }
-
-        });
+    public Mono<ApplicationEnvironmentResponse> environment(ApplicationEnvironmentRequest request) {
+        return get(request, ApplicationEnvironmentResponse.class);
     }
 
     @Override
-    public Mono<GetApplicationResponse> get(final GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId());
-            }
-
-        });
+    public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
+        return get(request, GetApplicationResponse.class);
     }
 
     @Override
-    public Mono<ApplicationInstancesResponse> instances(final ApplicationInstancesRequest request) {
-        return get(request, ApplicationInstancesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "instances");
-            }
-
-        });
+    public Mono<ApplicationInstancesResponse> instances(ApplicationInstancesRequest request) {
+        return get(request, ApplicationInstancesResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationsResponse> list(final ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
+        return get(request, ListApplicationsResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationRoutesResponse> listRoutes(final ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "routes");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Publisher<ApplicationResource> listResources(ListApplicationsRequest request, Consumer<Pagination> paginationCallback) {
+        return getResources(request, ApplicationResource.class, paginationCallback);
     }
 
     @Override
-    public Mono<ListApplicationServiceBindingsResponse> listServiceBindings(final ListApplicationServiceBindingsRequest request) {
-        return get(request, ListApplicationServiceBindingsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "service_bindings");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
+        return get(request, ListApplicationRoutesResponse.class);
     }
 
     @Override
-    public Mono<Void> removeRoute(final RemoveApplicationRouteRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "routes", request.getRouteId());
-            }
-
-        });
+    public Mono<ListApplicationServiceBindingsResponse> listServiceBindings(ListApplicationServiceBindingsRequest request) {
+        return get(request, ListApplicationServiceBindingsResponse.class);
     }
 
     @Override
-    public Mono<Void> removeServiceBinding(final RemoveApplicationServiceBindingRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "service_bindings", request.getServiceBindingId());
-            }
-
-        });
+    public Mono<Void> removeRoute(RemoveApplicationRouteRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<RestageApplicationResponse> restage(final RestageApplicationRequest request) {
-        return post(request, RestageApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "restage");
-            }
-
-        });
+    public Mono<Void> removeServiceBinding(RemoveApplicationServiceBindingRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<ApplicationStatisticsResponse> statistics(final ApplicationStatisticsRequest request) {
-        return get(request, ApplicationStatisticsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "stats");
-            }
-
-        });
+    public Mono<RestageApplicationResponse> restage(RestageApplicationRequest request) {
+        return post(request, RestageApplicationResponse.class);
     }
 
     @Override
-    public Mono<SummaryApplicationResponse> summary(final SummaryApplicationRequest request) {
-        return get(request, SummaryApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "summary");
-            }
-
-        });
+    public Mono<ApplicationStatisticsResponse> statistics(ApplicationStatisticsRequest request) {
+        return get(request, ApplicationStatisticsResponse.class);
     }
 
     @Override
-    public Mono<Void> terminateInstance(final TerminateApplicationInstanceRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId(), "instances", request.getIndex());
-            }
-
-        });
+    public Mono<SummaryApplicationResponse> summary(SummaryApplicationRequest request) {
+        return get(request, SummaryApplicationResponse.class);
     }
 
     @Override
-    public Mono<UpdateApplicationResponse> update(final UpdateApplicationRequest request) {
-        return put(request, UpdateApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "apps", request.getId());
-            }
+    public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
+        return delete(request);
+    }
 
-        });
+    @Override
+    public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
+        return put(request, UpdateApplicationResponse.class);
     }
 
     @Override
@@ -332,15 +231,7 @@ public final class SpringApplicationsV2 extends AbstractSpringOperations impleme
                         return body;
                     }
 
-                }, UploadApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-                    @Override
-                    public void accept(UriComponentsBuilder builder) {
-                        builder.pathSegment("v2", "apps", request.getId(), "bits");
-                    }
-
-                }
-        );
+                }, UploadApplicationResponse.class);
     }
 
 }
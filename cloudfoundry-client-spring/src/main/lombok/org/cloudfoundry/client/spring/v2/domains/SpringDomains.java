@@ -18,8 +18,9 @@ package org.cloudfoundry.client.spring.v2.domains;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v2.domains.CreateDomainRequest;
 import org.cloudfoundry.client.v2.domains.CreateDomainResponse;
 import org.cloudfoundry.client.v2.domains.DeleteDomainRequest;
@@ -30,11 +31,10 @@ import org.cloudfoundry.client.v2.domains.ListDomainSpacesRequest;
 import org.cloudfoundry.client.v2.domains.ListDomainSpacesResponse;
 import org.cloudfoundry.client.v2.domains.ListDomainsRequest;
 import org.cloudfoundry.client.v2.domains.ListDomainsResponse;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 
 import java.net.URI;
 
@@ -55,68 +55,57 @@ public final class SpringDomains extends AbstractSpringOperations implements Dom
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<CreateDomainResponse> create(final CreateDomainRequest request) {
-        return post(request, CreateDomainResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "domains");
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringDomains(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringDomains(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                         ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteDomainRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "domains", request.getId());
-            }
-
-        });
+    public Mono<CreateDomainResponse> create(CreateDomainRequest request) {
+        return post(request, CreateDomainResponse.class);
     }
 
     @Override
-    public Mono<GetDomainResponse> get(final GetDomainRequest request) {
-        return get(request, GetDomainResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder uriComponentsBuilder) {
-                uriComponentsBuilder.pathSegment("v2", "domains", request.getId());
-            }
-
-        });
+    public Mono<Void> delete(DeleteDomainRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Mono<ListDomainsResponse> list(final ListDomainsRequest request) {
-        return get(request, ListDomainsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "domains");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<GetDomainResponse> get(GetDomainRequest request) {
+        return get(request, GetDomainResponse.class);
     }
 
     @Override
-    public Mono<ListDomainSpacesResponse> listSpaces(final ListDomainSpacesRequest request) {
-        return get(request, ListDomainSpacesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "domains", request.getId(), "spaces");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
+    public Mono<ListDomainsResponse> list(ListDomainsRequest request) {
+        return get(request, ListDomainsResponse.class);
+    }
 
-        });
+    @Override
+    public Mono<ListDomainSpacesResponse> listSpaces(ListDomainSpacesRequest request) {
+        return get(request, ListDomainSpacesResponse.class);
     }
 
 }
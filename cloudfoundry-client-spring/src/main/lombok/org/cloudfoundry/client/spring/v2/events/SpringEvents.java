@@ -18,18 +18,18 @@ package org.cloudfoundry.client.spring.v2.events;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v2.events.Events;
 import org.cloudfoundry.client.v2.events.GetEventRequest;
 import org.cloudfoundry.client.v2.events.GetEventResponse;
 import org.cloudfoundry.client.v2.events.ListEventsRequest;
 import org.cloudfoundry.client.v2.events.ListEventsResponse;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 
 import java.net.URI;
 
@@ -50,30 +50,42 @@ public final class SpringEvents extends AbstractSpringOperations implements Even
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<GetEventResponse> get(final GetEventRequest request) {
-        return get(request, GetEventResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "events", request.getId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringEvents(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringEvents(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                        ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<ListEventsResponse> list(final ListEventsRequest request) {
-        return get(request, ListEventsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "events");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
+    public Mono<GetEventResponse> get(GetEventRequest request) {
+        return get(request, GetEventResponse.class);
+    }
 
-        });
+    @Override
+    public Mono<ListEventsResponse> list(ListEventsRequest request) {
+        return get(request, ListEventsResponse.class);
     }
 
 }
@@ -18,14 +18,16 @@ package org.cloudfoundry.client.spring.v2.jobs;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v2.job.GetJobRequest;
 import org.cloudfoundry.client.v2.job.GetJobResponse;
 import org.cloudfoundry.client.v2.job.Jobs;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 
 import java.net.URI;
 
@@ -46,16 +48,37 @@ public final class SpringJobs extends AbstractSpringOperations implements Jobs {
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<GetJobResponse> get(final GetJobRequest request) {
-        return get(request, GetJobResponse.class, new Consumer<UriComponentsBuilder>() {
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringJobs(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-            @Override
-            public void accept(UriComponentsBuilder uriComponentsBuilder) {
-                uriComponentsBuilder.pathSegment("v2", "jobs", request.getId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringJobs(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                      ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
+    }
 
-        });
+    @Override
+    public Mono<GetJobResponse> get(GetJobRequest request) {
+        return get(request, GetJobResponse.class);
     }
 
 }
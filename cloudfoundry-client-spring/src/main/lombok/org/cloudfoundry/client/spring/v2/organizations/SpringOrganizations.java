@@ -18,8 +18,10 @@ package org.cloudfoundry.client.spring.v2.organizations;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.v2.Pagination;
 import org.cloudfoundry.client.v2.organizations.AssociateOrganizationAuditorByUsernameRequest;
 import org.cloudfoundry.client.v2.organizations.AssociateOrganizationAuditorByUsernameResponse;
 import org.cloudfoundry.client.v2.organizations.AssociateOrganizationAuditorRequest;
@@ -67,6 +69,7 @@ import org.cloudfoundry.client.v2.organizations.ListOrganizationUsersRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationUsersResponse;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsResponse;
+import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 import org.cloudfoundry.client.v2.organizations.Organizations;
 import org.cloudfoundry.client.v2.organizations.RemoveOrganizationAuditorByUsernameRequest;
 import org.cloudfoundry.client.v2.organizations.RemoveOrganizationAuditorRequest;
@@ -81,8 +84,9 @@ import org.cloudfoundry.client.v2.organizations.SummaryOrganizationRequest;
 import org.cloudfoundry.client.v2.organizations.SummaryOrganizationResponse;
 import org.cloudfoundry.client.v2.organizations.UpdateOrganizationRequest;
 import org.cloudfoundry.client.v2.organizations.UpdateOrganizationResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
 import reactor.fn.Consumer;
@@ -106,447 +110,212 @@ public final class SpringOrganizations extends AbstractSpringOperations implemen
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<AssociateOrganizationAuditorResponse> associateAuditor(final AssociateOrganizationAuditorRequest request) {
-        return put(request, AssociateOrganizationAuditorResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors",
-                        request.getAuditorId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringOrganizations(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringOrganizations(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                               ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<AssociateOrganizationAuditorByUsernameResponse> associateAuditorByUsername(final AssociateOrganizationAuditorByUsernameRequest request) {
-        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "auditors");
-            }
-
-        });
+    public Mono<AssociateOrganizationAuditorResponse> associateAuditor(AssociateOrganizationAuditorRequest request) {
+        return put(request, AssociateOrganizationAuditorResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationBillingManagerResponse> associateBillingManager(final AssociateOrganizationBillingManagerRequest request) {
-        return put(request, AssociateOrganizationBillingManagerResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "billing_managers",
-                        request.getBillingManagerId());
-            }
-
-        });
+    public Mono<AssociateOrganizationAuditorByUsernameResponse> associateAuditorByUsername(AssociateOrganizationAuditorByUsernameRequest request) {
+        return put(request, AssociateOrganizationAuditorByUsernameResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationBillingManagerByUsernameResponse> associateBillingManagerByUsername(final AssociateOrganizationBillingManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "billing_managers");
-            }
-
-        });
+    public Mono<AssociateOrganizationBillingManagerResponse> associateBillingManager(AssociateOrganizationBillingManagerRequest request) {
+        return put(request, AssociateOrganizationBillingManagerResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationManagerResponse> associateManager(final AssociateOrganizationManagerRequest request) {
-        return put(request, AssociateOrganizationManagerResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "managers", request.getManagerId());
-            }
-
-        });
+    public Mono<AssociateOrganizationBillingManagerByUsernameResponse> associateBillingManagerByUsername(AssociateOrganizationBillingManagerByUsernameRequest request) {
+        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationManagerByUsernameResponse> associateManagerByUsername(final AssociateOrganizationManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationManagerByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "managers");
-            }
-
-        });
+    public Mono<AssociateOrganizationManagerResponse> associateManager(AssociateOrganizationManagerRequest request) {
+        return put(request, AssociateOrganizationManagerResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationPrivateDomainResponse> associatePrivateDomain(final AssociateOrganizationPrivateDomainRequest request) {
-        return put(request, AssociateOrganizationPrivateDomainResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "private_domains", request
-                        .getPrivateDomainId());
-            }
-
-        });
+    public Mono<AssociateOrganizationManagerByUsernameResponse> associateManagerByUsername(AssociateOrganizationManagerByUsernameRequest request) {
+        return put(request, AssociateOrganizationManagerByUsernameResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationUserResponse> associateUser(final AssociateOrganizationUserRequest request) {
-        return put(request, AssociateOrganizationUserResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "users", request.getUserId());
-            }
-
-        });
+    public Mono<AssociateOrganizationPrivateDomainResponse> associatePrivateDomain(AssociateOrganizationPrivateDomainRequest request) {
+        return put(request, AssociateOrganizationPrivateDomainResponse.class);
     }
 
     @Override
-    public Mono<AssociateOrganizationUserByUsernameResponse> associateUserByUsername(final AssociateOrganizationUserByUsernameRequest request) {
-        return put(request, AssociateOrganizationUserByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "users");
-            }
-
-        });
+    public Mono<AssociateOrganizationUserResponse> associateUser(AssociateOrganizationUserRequest request) {
+        return put(request, AssociateOrganizationUserResponse.class);
     }
 
     @Override
-    public Mono<CreateOrganizationResponse> create(final CreateOrganizationRequest request) {
-        return post(request, CreateOrganizationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations");
-            }
-
-        });
+    public Mono<AssociateOrganizationUserByUsernameResponse> associateUserByUsername(AssociateOrganizationUserByUsernameRequest request) {
+        return put(request, AssociateOrganizationUserByUsernameResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteOrganizationRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId());
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<CreateOrganizationResponse> create(CreateOrganizationRequest request) {
+        return post(request, CreateOrganizationResponse.class);
     }
 
     @Override
-    public Mono<GetOrganizationResponse> get(final GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId());
-            }
-
-        });
+    public Mono<Void> delete(DeleteOrganizationRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Mono<GetOrganizationInstanceUsageResponse> getInstanceUsage(final GetOrganizationInstanceUsageRequest request) {
-        return get(request, GetOrganizationInstanceUsageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "instance_usage");
-            }
-
-        });
+    public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
+        return get(request, GetOrganizationResponse.class);
     }
 
     @Override
-    public Mono<GetOrganizationMemoryUsageResponse> getMemoryUsage(final GetOrganizationMemoryUsageRequest request) {
-        return get(request, GetOrganizationMemoryUsageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "memory_usage");
-            }
-
-        });
+    public Mono<GetOrganizationInstanceUsageResponse> getInstanceUsage(GetOrganizationInstanceUsageRequest request) {
+        return get(request, GetOrganizationInstanceUsageResponse.class);
     }
 
     @Override
-    public Mono<GetOrganizationUserRolesResponse> getUserRoles(final GetOrganizationUserRolesRequest request) {
-        return get(request, GetOrganizationUserRolesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "user_roles");
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<GetOrganizationMemoryUsageResponse> getMemoryUsage(GetOrganizationMemoryUsageRequest request) {
+        return get(request, GetOrganizationMemoryUsageResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationsResponse> list(final ListOrganizationsRequest request) {
-        return get(request, ListOrganizationsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<GetOrganizationUserRolesResponse> getUserRoles(GetOrganizationUserRolesRequest request) {
+        return get(request, GetOrganizationUserRolesResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationAuditorsResponse> listAuditors(final ListOrganizationAuditorsRequest request) {
-        return get(request, ListOrganizationAuditorsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "auditors");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationsResponse> list(ListOrganizationsRequest request) {
+        return get(request, ListOrganizationsResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationBillingManagersResponse> listBillingManagers(final ListOrganizationBillingManagersRequest request) {
-        return get(request, ListOrganizationBillingManagersResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "billing_managers");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationAuditorsResponse> listAuditors(ListOrganizationAuditorsRequest request) {
+        return get(request, ListOrganizationAuditorsResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationManagersResponse> listManagers(final ListOrganizationManagersRequest request) {
-        return get(request, ListOrganizationManagersResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "managers");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationBillingManagersResponse> listBillingManagers(ListOrganizationBillingManagersRequest request) {
+        return get(request, ListOrganizationBillingManagersResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(final ListOrganizationPrivateDomainsRequest request) {
-        return get(request, ListOrganizationPrivateDomainsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "private_domains");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationManagersResponse> listManagers(ListOrganizationManagersRequest request) {
+        return get(request, ListOrganizationManagersResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationServicesResponse> listServices(final ListOrganizationServicesRequest request) {
-        return get(request, ListOrganizationServicesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "services");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(ListOrganizationPrivateDomainsRequest request) {
+        return get(request, ListOrganizationPrivateDomainsResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationSpaceQuotaDefinitionsResponse> listSpaceQuotaDefinitions(final ListOrganizationSpaceQuotaDefinitionsRequest request) {
-        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "space_quota_definitions");
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Publisher<OrganizationResource> listResources(ListOrganizationsRequest request, Consumer<Pagination> paginationCallback) {
+        return getResources(request, OrganizationResource.class, paginationCallback);
     }
 
     @Override
-    public Mono<ListOrganizationSpacesResponse> listSpaces(final ListOrganizationSpacesRequest request) {
-        return get(request, ListOrganizationSpacesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "spaces");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationServicesResponse> listServices(ListOrganizationServicesRequest request) {
+        return get(request, ListOrganizationServicesResponse.class);
     }
 
     @Override
-    public Mono<ListOrganizationUsersResponse> listUsers(final ListOrganizationUsersRequest request) {
-        return get(request, ListOrganizationUsersResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "users");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListOrganizationSpaceQuotaDefinitionsResponse> listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest request) {
+        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class);
     }
 
     @Override
-    public Mono<Void> removeAuditor(final RemoveOrganizationAuditorRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "auditors", request.getAuditorId());
-            }
-
-        });
+    public Mono<ListOrganizationSpacesResponse> listSpaces(ListOrganizationSpacesRequest request) {
+        return get(request, ListOrganizationSpacesResponse.class);
     }
 
     @Override
-    public Mono<Void> removeAuditorByUsername(final RemoveOrganizationAuditorByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "auditors");
-            }
-        });
+    public Mono<ListOrganizationUsersResponse> listUsers(ListOrganizationUsersRequest request) {
+        return get(request, ListOrganizationUsersResponse.class);
     }
 
     @Override
-    public Mono<Void> removeBillingManager(final RemoveOrganizationBillingManagerRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "billing_managers", request
-                        .getBillingManagerId());
-            }
-
-        });
+    public Mono<Void> removeAuditor(RemoveOrganizationAuditorRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeBillingManagerByUsername(final RemoveOrganizationBillingManagerByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "billing_managers");
-            }
-
-        });
+    public Mono<Void> removeAuditorByUsername(RemoveOrganizationAuditorByUsernameRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeManager(final RemoveOrganizationManagerRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "managers", request.getManagerId());
-            }
-
-        });
+    public Mono<Void> removeBillingManager(RemoveOrganizationBillingManagerRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeManagerByUsername(final RemoveOrganizationManagerByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "managers");
-            }
-
-        });
+    public Mono<Void> removeBillingManagerByUsername(RemoveOrganizationBillingManagerByUsernameRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removePrivateDomain(final RemoveOrganizationPrivateDomainRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "private_domains",
-                        request.getPrivateDomainId());
-            }
-
-        });
+    public Mono<Void> removeManager(RemoveOrganizationManagerRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeUser(final RemoveOrganizationUserRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "users", request.getUserId());
-            }
-
-        });
+    public Mono<Void> removeManagerByUsername(RemoveOrganizationManagerByUsernameRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeUserByUsername(final RemoveOrganizationUserByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "users");
-            }
-
-        });
+    public Mono<Void> removePrivateDomain(RemoveOrganizationPrivateDomainRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<SummaryOrganizationResponse> summary(final SummaryOrganizationRequest request) {
-        return get(request, SummaryOrganizationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId(), "summary");
-            }
-
-        });
+    public Mono<Void> removeUser(RemoveOrganizationUserRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<UpdateOrganizationResponse> update(final UpdateOrganizationRequest request) {
-        return put(request, UpdateOrganizationResponse.class, new Consumer<UriComponentsBuilder>() {
+    public Mono<Void> removeUserByUsername(RemoveOrganizationUserByUsernameRequest request) {
+        return delete(request);
+    }
 
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "organizations", request.getId());
-            }
+    @Override
+    public Mono<SummaryOrganizationResponse> summary(SummaryOrganizationRequest request) {
+        return get(request, SummaryOrganizationResponse.class);
+    }
 
-        });
+    @Override
+    public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
+        return put(request, UpdateOrganizationResponse.class);
     }
 
 }
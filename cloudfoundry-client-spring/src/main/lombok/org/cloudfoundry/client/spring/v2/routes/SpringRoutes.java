@@ -18,9 +18,11 @@ package org.cloudfoundry.client.spring.v2.routes;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v2.CloudFoundryException;
+import org.cloudfoundry.client.v2.Pagination;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationRequest;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationResponse;
 import org.cloudfoundry.client.v2.routes.CreateRouteRequest;
@@ -34,11 +36,13 @@ import org.cloudfoundry.client.v2.routes.ListRoutesRequest;
 import org.cloudfoundry.client.v2.routes.ListRoutesResponse;
 import org.cloudfoundry.client.v2.routes.RemoveRouteApplicationRequest;
 import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
+import org.cloudfoundry.client.v2.routes.RouteResource;
 import org.cloudfoundry.client.v2.routes.Routes;
 import org.cloudfoundry.client.v2.routes.UpdateRouteRequest;
 import org.cloudfoundry.client.v2.routes.UpdateRouteResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
 import reactor.fn.Consumer;
@@ -65,56 +69,52 @@ public final class SpringRoutes extends AbstractSpringOperations implements Rout
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<AssociateRouteApplicationResponse> associateApplication(final AssociateRouteApplicationRequest request) {
-        return put(request, AssociateRouteApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId(), "apps", request.getApplicationId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringRoutes(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringRoutes(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                        ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<CreateRouteResponse> create(final CreateRouteRequest request) {
-        return post(request, CreateRouteResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes");
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<AssociateRouteApplicationResponse> associateApplication(AssociateRouteApplicationRequest request) {
+        return put(request, AssociateRouteApplicationResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteRouteRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId());
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<CreateRouteResponse> create(CreateRouteRequest request) {
+        return post(request, CreateRouteResponse.class);
     }
 
     @Override
-    public Mono<Boolean> exists(final RouteExistsRequest request) {
-        return get(request, Boolean.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", "reserved", "domain", request.getDomainId(), "host", request.getHost());
-                QueryBuilder.augment(builder, request);
-            }
-
-        })
+    public Mono<Void> delete(DeleteRouteRequest request) {
+        return super.delete(request);
+    }
 
+    @Override
+    public Mono<Boolean> exists(RouteExistsRequest request) {
+        return get(request, Boolean.class)
                 .defaultIfEmpty(true)
                 .otherwise(new Function<Throwable, Mono<? extends Boolean>>() {
 
@@ -131,67 +131,33 @@ public final class SpringRoutes extends AbstractSpringOperations implements Rout
     }
 
     @Override
-    public Mono<GetRouteResponse> get(final GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId());
-            }
-
-        });
+    public Mono<GetRouteResponse> get(GetRouteRequest request) {
+        return get(request, GetRouteResponse.class);
     }
 
     @Override
-    public Mono<ListRoutesResponse> list(final ListRoutesRequest request) {
-        return get(request, ListRoutesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListRoutesResponse> list(ListRoutesRequest request) {
+        return get(request, ListRoutesResponse.class);
     }
 
     @Override
-    public Mono<ListRouteApplicationsResponse> listApplications(final ListRouteApplicationsRequest request) {
-        return get(request, ListRouteApplicationsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId(), "apps");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListRouteApplicationsResponse> listApplications(ListRouteApplicationsRequest request) {
+        return get(request, ListRouteApplicationsResponse.class);
     }
 
     @Override
-    public Mono<Void> removeApplication(final RemoveRouteApplicationRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId(), "apps", request.getApplicationId());
-            }
-
-        });
+    public Publisher<RouteResource> listResources(ListRoutesRequest request, Consumer<Pagination> paginationCallback) {
+        return getResources(request, RouteResource.class, paginationCallback);
     }
 
     @Override
-    public Mono<UpdateRouteResponse> update(final UpdateRouteRequest request) {
-        return put(request, UpdateRouteResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "routes", request.getId());
-            }
+    public Mono<Void> removeApplication(RemoveRouteApplicationRequest request) {
+        return delete(request);
+    }
 
-        });
+    @Override
+    public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
+        return put(request, UpdateRouteResponse.class);
     }
 
 }
@@ -18,8 +18,10 @@ package org.cloudfoundry.client.spring.v2.spaces;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.v2.Pagination;
 import org.cloudfoundry.client.v2.spaces.AssociateSpaceAuditorByUsernameRequest;
 import org.cloudfoundry.client.v2.spaces.AssociateSpaceAuditorByUsernameResponse;
 import org.cloudfoundry.client.v2.spaces.AssociateSpaceAuditorRequest;
@@ -72,11 +74,13 @@ import org.cloudfoundry.client.v2.spaces.RemoveSpaceDeveloperRequest;
 import org.cloudfoundry.client.v2.spaces.RemoveSpaceManagerByUsernameRequest;
 import org.cloudfoundry.client.v2.spaces.RemoveSpaceManagerRequest;
 import org.cloudfoundry.client.v2.spaces.RemoveSpaceSecurityGroupRequest;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.client.v2.spaces.Spaces;
 import org.cloudfoundry.client.v2.spaces.UpdateSpaceRequest;
 import org.cloudfoundry.client.v2.spaces.UpdateSpaceResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
 import reactor.fn.Consumer;
@@ -100,400 +104,192 @@ public final class SpringSpaces extends AbstractSpringOperations implements Spac
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<AssociateSpaceAuditorResponse> associateAuditor(final AssociateSpaceAuditorRequest request) {
-        return put(request, AssociateSpaceAuditorResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "auditors", request.getAuditorId());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringSpaces(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringSpaces(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                        ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<AssociateSpaceAuditorByUsernameResponse> associateAuditorByUsername(final AssociateSpaceAuditorByUsernameRequest request) {
-        return put(request, AssociateSpaceAuditorByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "auditors");
-            }
-
-        });
+    public Mono<AssociateSpaceAuditorResponse> associateAuditor(AssociateSpaceAuditorRequest request) {
+        return put(request, AssociateSpaceAuditorResponse.class);
     }
 
     @Override
-    public Mono<AssociateSpaceDeveloperResponse> associateDeveloper(final AssociateSpaceDeveloperRequest request) {
-        return put(request, AssociateSpaceDeveloperResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "developers", request.getDeveloperId());
-            }
-
-        });
+    public Mono<AssociateSpaceAuditorByUsernameResponse> associateAuditorByUsername(AssociateSpaceAuditorByUsernameRequest request) {
+        return put(request, AssociateSpaceAuditorByUsernameResponse.class);
     }
 
     @Override
-    public Mono<AssociateSpaceDeveloperByUsernameResponse> associateDeveloperByUsername(final AssociateSpaceDeveloperByUsernameRequest request) {
-        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "developers");
-            }
-
-        });
+    public Mono<AssociateSpaceDeveloperResponse> associateDeveloper(AssociateSpaceDeveloperRequest request) {
+        return put(request, AssociateSpaceDeveloperResponse.class);
     }
 
     @Override
-    public Mono<AssociateSpaceManagerResponse> associateManager(final AssociateSpaceManagerRequest request) {
-        return put(request, AssociateSpaceManagerResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "managers", request.getManagerId());
-            }
-
-        });
+    public Mono<AssociateSpaceDeveloperByUsernameResponse> associateDeveloperByUsername(AssociateSpaceDeveloperByUsernameRequest request) {
+        return put(request, AssociateSpaceDeveloperByUsernameResponse.class);
     }
 
     @Override
-    public Mono<AssociateSpaceManagerByUsernameResponse> associateManagerByUsername(final AssociateSpaceManagerByUsernameRequest request) {
-        return put(request, AssociateSpaceManagerByUsernameResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "managers");
-            }
-
-        });
+    public Mono<AssociateSpaceManagerResponse> associateManager(AssociateSpaceManagerRequest request) {
+        return put(request, AssociateSpaceManagerResponse.class);
     }
 
     @Override
-    public Mono<AssociateSpaceSecurityGroupResponse> associateSecurityGroup(final AssociateSpaceSecurityGroupRequest request) {
-        return put(request, AssociateSpaceSecurityGroupResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "security_groups", request.getSecurityGroupId());
-            }
-
-        });
+    public Mono<AssociateSpaceManagerByUsernameResponse> associateManagerByUsername(AssociateSpaceManagerByUsernameRequest request) {
+        return put(request, AssociateSpaceManagerByUsernameResponse.class);
     }
 
     @Override
-    public Mono<CreateSpaceResponse> create(final CreateSpaceRequest request) {
-        return post(request, CreateSpaceResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces");
-            }
-
-        });
+    public Mono<AssociateSpaceSecurityGroupResponse> associateSecurityGroup(AssociateSpaceSecurityGroupRequest request) {
+        return put(request, AssociateSpaceSecurityGroupResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteSpaceRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId());
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<CreateSpaceResponse> create(CreateSpaceRequest request) {
+        return post(request, CreateSpaceResponse.class);
     }
 
     @Override
-    public Mono<GetSpaceResponse> get(final GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId());
-            }
-
-        });
+    public Mono<Void> delete(DeleteSpaceRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Mono<GetSpaceSummaryResponse> getSummary(final GetSpaceSummaryRequest request) {
-        return get(request, GetSpaceSummaryResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "summary");
-            }
-
-        });
+    public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
+        return get(request, GetSpaceResponse.class);
     }
 
     @Override
-    public Mono<ListSpacesResponse> list(final ListSpacesRequest request) {
-        return get(request, ListSpacesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<GetSpaceSummaryResponse> getSummary(GetSpaceSummaryRequest request) {
+        return get(request, GetSpaceSummaryResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceApplicationsResponse> listApplications(final ListSpaceApplicationsRequest request) {
-        return get(request, ListSpaceApplicationsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "apps");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpacesResponse> list(ListSpacesRequest request) {
+        return get(request, ListSpacesResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceAuditorsResponse> listAuditors(final ListSpaceAuditorsRequest request) {
-        return get(request, ListSpaceAuditorsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "auditors");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceApplicationsResponse> listApplications(ListSpaceApplicationsRequest request) {
+        return get(request, ListSpaceApplicationsResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceDevelopersResponse> listDevelopers(final ListSpaceDevelopersRequest request) {
-        return get(request, ListSpaceDevelopersResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "developers");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceAuditorsResponse> listAuditors(ListSpaceAuditorsRequest request) {
+        return get(request, ListSpaceAuditorsResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceDomainsResponse> listDomains(final ListSpaceDomainsRequest request) {
-        return get(request, ListSpaceDomainsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "domains");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceDevelopersResponse> listDevelopers(ListSpaceDevelopersRequest request) {
+        return get(request, ListSpaceDevelopersResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceEventsResponse> listEvents(final ListSpaceEventsRequest request) {
-        return get(request, ListSpaceEventsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "events");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceDomainsResponse> listDomains(ListSpaceDomainsRequest request) {
+        return get(request, ListSpaceDomainsResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceManagersResponse> listManagers(final ListSpaceManagersRequest request) {
-        return get(request, ListSpaceManagersResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "managers");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceEventsResponse> listEvents(ListSpaceEventsRequest request) {
+        return get(request, ListSpaceEventsResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceRoutesResponse> listRoutes(final ListSpaceRoutesRequest request) {
-        return get(request, ListSpaceRoutesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "routes");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceManagersResponse> listManagers(ListSpaceManagersRequest request) {
+        return get(request, ListSpaceManagersResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceSecurityGroupsResponse> listSecurityGroups(final ListSpaceSecurityGroupsRequest request) {
-        return get(request, ListSpaceSecurityGroupsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "security_groups");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Publisher<SpaceResource> listResources(ListSpacesRequest request, Consumer<Pagination> paginationCallback) {
+        return getResources(request, SpaceResource.class, paginationCallback);
     }
 
     @Override
-    public Mono<ListSpaceServiceInstancesResponse> listServiceInstances(final ListSpaceServiceInstancesRequest request) {
-        return get(request, ListSpaceServiceInstancesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "service_instances");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceRoutesResponse> listRoutes(ListSpaceRoutesRequest request) {
+        return get(request, ListSpaceRoutesResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceServicesResponse> listServices(final ListSpaceServicesRequest request) {
-        return get(request, ListSpaceServicesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "services");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceSecurityGroupsResponse> listSecurityGroups(ListSpaceSecurityGroupsRequest request) {
+        return get(request, ListSpaceSecurityGroupsResponse.class);
     }
 
     @Override
-    public Mono<ListSpaceUserRolesResponse> listUserRoles(final ListSpaceUserRolesRequest request) {
-        return get(request, ListSpaceUserRolesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "user_roles");
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListSpaceServiceInstancesResponse> listServiceInstances(ListSpaceServiceInstancesRequest request) {
+        return get(request, ListSpaceServiceInstancesResponse.class);
     }
 
     @Override
-    public Mono<Void> removeAuditor(final RemoveSpaceAuditorRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "auditors", request.getAuditorId());
-            }
-
-        });
+    public Mono<ListSpaceServicesResponse> listServices(ListSpaceServicesRequest request) {
+        return get(request, ListSpaceServicesResponse.class);
     }
 
     @Override
-    public Mono<Void> removeAuditorByUsername(final RemoveSpaceAuditorByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "auditors");
-            }
-
-        });
+    public Mono<ListSpaceUserRolesResponse> listUserRoles(ListSpaceUserRolesRequest request) {
+        return get(request, ListSpaceUserRolesResponse.class);
     }
 
     @Override
-    public Mono<Void> removeDeveloper(final RemoveSpaceDeveloperRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "developers", request.getDeveloperId());
-            }
-
-        });
+    public Mono<Void> removeAuditor(RemoveSpaceAuditorRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeDeveloperByUsername(final RemoveSpaceDeveloperByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "developers");
-            }
-
-        });
+    public Mono<Void> removeAuditorByUsername(RemoveSpaceAuditorByUsernameRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeManager(final RemoveSpaceManagerRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "managers", request.getManagerId());
-            }
-
-        });
+    public Mono<Void> removeDeveloper(RemoveSpaceDeveloperRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeManagerByUsername(final RemoveSpaceManagerByUsernameRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "managers");
-            }
-
-        });
+    public Mono<Void> removeDeveloperByUsername(RemoveSpaceDeveloperByUsernameRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<Void> removeSecurityGroup(final RemoveSpaceSecurityGroupRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId(), "security_groups", request.getSecurityGroupId());
-            }
-
-        });
+    public Mono<Void> removeManager(RemoveSpaceManagerRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<UpdateSpaceResponse> update(final UpdateSpaceRequest request) {
-        return put(request, UpdateSpaceResponse.class, new Consumer<UriComponentsBuilder>() {
+    public Mono<Void> removeManagerByUsername(RemoveSpaceManagerByUsernameRequest request) {
+        return delete(request);
+    }
 
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v2", "spaces", request.getId());
-            }
+    @Override
+    public Mono<Void> removeSecurityGroup(RemoveSpaceSecurityGroupRequest request) {
+        return delete(request);
+    }
 
-        });
+    @Override
+    public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
+        return put(request, UpdateSpaceResponse.class);
     }
 
 }
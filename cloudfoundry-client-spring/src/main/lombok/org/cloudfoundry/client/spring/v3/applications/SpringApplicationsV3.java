@@ -18,8 +18,9 @@ package org.cloudfoundry.client.spring.v3.applications;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
-import org.cloudfoundry.client.spring.v3.FilterBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v3.applications.ApplicationsV3;
 import org.cloudfoundry.client.v3.applications.AssignApplicationDropletRequest;
 import org.cloudfoundry.client.v3.applications.AssignApplicationDropletResponse;
@@ -53,11 +54,10 @@ import org.cloudfoundry.client.v3.applications.StopApplicationResponse;
 import org.cloudfoundry.client.v3.applications.UnmapApplicationRouteRequest;
 import org.cloudfoundry.client.v3.applications.UpdateApplicationRequest;
 import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 
 import java.net.URI;
 
@@ -78,225 +78,122 @@ public final class SpringApplicationsV3 extends AbstractSpringOperations impleme
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<AssignApplicationDropletResponse> assignDroplet(final AssignApplicationDropletRequest request) {
-        return put(request, AssignApplicationDropletResponse.class, new Consumer<UriComponentsBuilder>() {
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringApplicationsV3(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "current_droplet");
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringApplicationsV3(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                                ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
+    }
 
-        });
+    @Override
+    public Mono<AssignApplicationDropletResponse> assignDroplet(AssignApplicationDropletRequest request) {
+        return put(request, AssignApplicationDropletResponse.class);
     }
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps");
-            }
-
-        });
+        return post(request, CreateApplicationResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeleteApplicationRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId());
-            }
-
-        });
+    public Mono<Void> delete(DeleteApplicationRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Mono<Void> deleteInstance(final DeleteApplicationInstanceRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "processes", request.getType(), "instances",
-                        request.getIndex());
-            }
-
-        });
+    public Mono<Void> deleteInstance(DeleteApplicationInstanceRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<GetApplicationResponse> get(final GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId());
-            }
-
-        });
+    public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
+        return get(request, GetApplicationResponse.class);
     }
 
     @Override
-    public Mono<GetApplicationEnvironmentResponse> getEnvironment(final GetApplicationEnvironmentRequest request) {
-        return get(request, GetApplicationEnvironmentResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "env");
-            }
-
-        });
+    public Mono<GetApplicationEnvironmentResponse> getEnvironment(GetApplicationEnvironmentRequest request) {
+        return get(request, GetApplicationEnvironmentResponse.class);
     }
 
     @Override
-    public Mono<GetApplicationProcessResponse> getProcess(final GetApplicationProcessRequest request) {
-        return get(request, GetApplicationProcessResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "processes", request.getType());
-            }
-
-        });
+    public Mono<GetApplicationProcessResponse> getProcess(GetApplicationProcessRequest request) {
+        return get(request, GetApplicationProcessResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationsResponse> list(final ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
+        return get(request, ListApplicationsResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationDropletsResponse> listDroplets(final ListApplicationDropletsRequest request) {
-        return get(request, ListApplicationDropletsResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "droplets");
-                FilterBuilder.augment(builder, request);
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<ListApplicationDropletsResponse> listDroplets(ListApplicationDropletsRequest request) {
+        return get(request, ListApplicationDropletsResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationPackagesResponse> listPackages(final ListApplicationPackagesRequest request) {
-        return get(request, ListApplicationPackagesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "packages");
-            }
-
-        });
+    public Mono<ListApplicationPackagesResponse> listPackages(ListApplicationPackagesRequest request) {
+        return get(request, ListApplicationPackagesResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationProcessesResponse> listProcesses(final ListApplicationProcessesRequest request) {
-        return get(request, ListApplicationProcessesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "processes");
-            }
-
-        });
+    public Mono<ListApplicationProcessesResponse> listProcesses(ListApplicationProcessesRequest request) {
+        return get(request, ListApplicationProcessesResponse.class);
     }
 
     @Override
-    public Mono<ListApplicationRoutesResponse> listRoutes(final ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "routes");
-            }
-
-        });
+    public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
+        return get(request, ListApplicationRoutesResponse.class);
     }
 
     @Override
-    public Mono<Void> mapRoute(final MapApplicationRouteRequest request) {
-        return put(request, Void.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "routes");
-            }
-
-        });
+    public Mono<Void> mapRoute(MapApplicationRouteRequest request) {
+        return put(request, Void.class);
     }
 
     @Override
-    public Mono<ScaleApplicationResponse> scale(final ScaleApplicationRequest request) {
-        return put(request, ScaleApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "processes", request.getType(), "scale");
-            }
-
-        });
+    public Mono<ScaleApplicationResponse> scale(ScaleApplicationRequest request) {
+        return put(request, ScaleApplicationResponse.class);
     }
 
     @Override
-    public Mono<StartApplicationResponse> start(final StartApplicationRequest request) {
-        return put(request, StartApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "start");
-            }
-
-        });
+    public Mono<StartApplicationResponse> start(StartApplicationRequest request) {
+        return put(request, StartApplicationResponse.class);
     }
 
     @Override
-    public Mono<StopApplicationResponse> stop(final StopApplicationRequest request) {
-        return put(request, StopApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "stop");
-            }
-
-        });
+    public Mono<StopApplicationResponse> stop(StopApplicationRequest request) {
+        return put(request, StopApplicationResponse.class);
     }
 
     @Override
-    public Mono<Void> unmapRoute(final UnmapApplicationRouteRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId(), "routes");
-            }
-
-        });
+    public Mono<Void> unmapRoute(UnmapApplicationRouteRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<UpdateApplicationResponse> update(final UpdateApplicationRequest request) {
-        return patch(request, UpdateApplicationResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getId());
-            }
-
-        });
+    public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
+        return patch(request, UpdateApplicationResponse.class);
     }
 
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.v3.links;
+
+import lombok.ToString;
+import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.v3.links.FollowLinkRequest;
+import org.cloudfoundry.client.v3.links.Links;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.ProcessorGroup;
+import reactor.fn.Consumer;
+
+import java.net.URI;
+
+/**
+ * The Spring-based implementation of {@link Links}
+ */
+@ToString(callSuper = true)
+public final class SpringLinks extends AbstractSpringOperations implements Links {
+
+    /**
+     * Creates an instance
+     *
+     * @param restOperations the {@link RestOperations} to use to communicate with the server
+     * @param root           the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup The group to use when making requests
+     */
+    public SpringLinks(RestOperations restOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, root, processorGroup);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringLinks(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                       ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
+    }
+
+    @Override
+    public <T> Mono<T> follow(final FollowLinkRequest request, Class<T> responseType) {
+        return get(request, responseType, new Consumer<UriComponentsBuilder>() {
+
+            @Override
+            public void accept(UriComponentsBuilder builder) {
+                URI link = SpringLinks.this.root.resolve(request.getLink().getHref());
+
+                // Links are only followed on the server they were returned by, so that credentials are never sent elsewhere
+                if (!SpringLinks.this.root.getAuthority().equals(link.getAuthority())) {
+                    throw new IllegalArgumentException(String.format("Link %s is not on %s", link, SpringLinks.this.root));
+                }
+
+                builder.replacePath(link.getPath()).replaceQuery(link.getQuery());
+            }
+
+        });
+    }
+
+}
@@ -19,7 +19,9 @@ package org.cloudfoundry.client.spring.v3.packages;
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
 import org.cloudfoundry.client.spring.util.CollectionUtils;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v3.packages.CopyPackageRequest;
 import org.cloudfoundry.client.v3.packages.CopyPackageResponse;
 import org.cloudfoundry.client.v3.packages.CreatePackageRequest;
@@ -38,11 +40,10 @@ import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 import reactor.fn.Supplier;
 
 import java.net.URI;
@@ -64,89 +65,67 @@ public final class SpringPackages extends AbstractSpringOperations implements Pa
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<CopyPackageResponse> copy(final CopyPackageRequest request) {
-        return post(request, CopyPackageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getApplicationId(), "packages");
-                QueryBuilder.augment(builder, request);
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringPackages(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringPackages(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                          ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<CreatePackageResponse> create(final CreatePackageRequest request) {
-        return post(request, CreatePackageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "apps", request.getApplicationId(), "packages");
-            }
-
-        });
+    public Mono<CopyPackageResponse> copy(CopyPackageRequest request) {
+        return post(request, CopyPackageResponse.class);
     }
 
     @Override
-    public Mono<Void> delete(final DeletePackageRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages", request.getId());
-            }
-
-        });
+    public Mono<CreatePackageResponse> create(CreatePackageRequest request) {
+        return post(request, CreatePackageResponse.class);
     }
 
     @Override
-    public Publisher<byte[]> download(final DownloadPackageRequest request) {
-        return getStream(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages", request.getId(), "download");
-            }
-
-        });
+    public Mono<Void> delete(DeletePackageRequest request) {
+        return super.delete(request);
     }
 
     @Override
-    public Mono<GetPackageResponse> get(final GetPackageRequest request) {
-        return get(request, GetPackageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages", request.getId());
-            }
-
-        });
+    public Publisher<byte[]> download(DownloadPackageRequest request) {
+        return getStream(request);
     }
 
     @Override
-    public Mono<ListPackagesResponse> list(final ListPackagesRequest request) {
-        return get(request, ListPackagesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages");
-            }
-
-        });
+    public Mono<GetPackageResponse> get(GetPackageRequest request) {
+        return get(request, GetPackageResponse.class);
     }
 
     @Override
-    public Mono<StagePackageResponse> stage(final StagePackageRequest request) {
-        return post(request, StagePackageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages", request.getId(), "droplets");
-            }
+    public Mono<ListPackagesResponse> list(ListPackagesRequest request) {
+        return get(request, ListPackagesResponse.class);
+    }
 
-        });
+    @Override
+    public Mono<StagePackageResponse> stage(StagePackageRequest request) {
+        return post(request, StagePackageResponse.class);
     }
 
     @Override
@@ -158,14 +137,7 @@ public final class SpringPackages extends AbstractSpringOperations implements Pa
                 return CollectionUtils.singletonMultiValueMap("bits", new FileSystemResource(request.getFile()));
             }
 
-        }, UploadPackageResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "packages", request.getId(), "upload");
-            }
-
-        });
+        }, UploadPackageResponse.class);
     }
 
 }
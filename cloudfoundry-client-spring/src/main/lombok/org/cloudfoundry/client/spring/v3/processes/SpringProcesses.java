@@ -18,7 +18,9 @@ package org.cloudfoundry.client.spring.v3.processes;
 
 import lombok.ToString;
 import org.cloudfoundry.client.spring.util.AbstractSpringOperations;
-import org.cloudfoundry.client.spring.util.QueryBuilder;
+import org.cloudfoundry.client.spring.util.RequestCoalescer;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v3.processes.DeleteProcessInstanceRequest;
 import org.cloudfoundry.client.v3.processes.GetProcessRequest;
 import org.cloudfoundry.client.v3.processes.GetProcessResponse;
@@ -29,11 +31,10 @@ import org.cloudfoundry.client.v3.processes.ScaleProcessRequest;
 import org.cloudfoundry.client.v3.processes.ScaleProcessResponse;
 import org.cloudfoundry.client.v3.processes.UpdateProcessRequest;
 import org.cloudfoundry.client.v3.processes.UpdateProcessResponse;
+import org.springframework.web.client.AsyncRestOperations;
 import org.springframework.web.client.RestOperations;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ProcessorGroup;
-import reactor.fn.Consumer;
 
 import java.net.URI;
 
@@ -54,64 +55,56 @@ public final class SpringProcesses extends AbstractSpringOperations implements P
         super(restOperations, root, processorGroup);
     }
 
-    @Override
-    public Mono<Void> deleteInstance(final DeleteProcessInstanceRequest request) {
-        return delete(request, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "processes", request.getId(), "instances", request.getIndex());
-            }
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     */
+    public SpringProcesses(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup) {
+        super(restOperations, asyncRestOperations, root, processorGroup);
+    }
 
-        });
+    /**
+     * Creates an instance
+     *
+     * @param restOperations      the {@link RestOperations} to use to communicate with the server
+     * @param asyncRestOperations the {@link AsyncRestOperations} to use to communicate with the server without blocking.  May be {@code null}.
+     * @param root                the root URI of the server.  Typically something like {@code https://api.run.pivotal.io}.
+     * @param processorGroup      The group to use when making requests
+     * @param requestCoalescer    the {@link RequestCoalescer} that identical in-flight {@code GET} requests are shared through.  May be {@code null}.
+     * @param responseCache       the {@link ResponseCache} that {@code GET} responses are revalidated against.  May be {@code null}.
+     * @param retryPolicy         the {@link RetryPolicy} that transiently failing requests are retried according to.  May be {@code null}.
+     */
+    public SpringProcesses(RestOperations restOperations, AsyncRestOperations asyncRestOperations, URI root, ProcessorGroup<?> processorGroup, RequestCoalescer requestCoalescer,
+                           ResponseCache responseCache, RetryPolicy retryPolicy) {
+        super(restOperations, asyncRestOperations, root, processorGroup, requestCoalescer, responseCache, retryPolicy);
     }
 
     @Override
-    public Mono<GetProcessResponse> get(final GetProcessRequest request) {
-        return get(request, GetProcessResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "processes", request.getId());
-            }
-
-        });
+    public Mono<Void> deleteInstance(DeleteProcessInstanceRequest request) {
+        return delete(request);
     }
 
     @Override
-    public Mono<ListProcessesResponse> list(final ListProcessesRequest request) {
-        return get(request, ListProcessesResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "processes");
-                QueryBuilder.augment(builder, request);
-            }
-
-        });
+    public Mono<GetProcessResponse> get(GetProcessRequest request) {
+        return get(request, GetProcessResponse.class);
     }
 
-    public Mono<ScaleProcessResponse> scale(final ScaleProcessRequest request) {
-        return put(request, ScaleProcessResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "processes", request.getId(), "scale");
-            }
+    @Override
+    public Mono<ListProcessesResponse> list(ListProcessesRequest request) {
+        return get(request, ListProcessesResponse.class);
+    }
 
-        });
+    public Mono<ScaleProcessResponse> scale(ScaleProcessRequest request) {
+        return put(request, ScaleProcessResponse.class);
     }
 
     @Override
-    public Mono<UpdateProcessResponse> update(final UpdateProcessRequest request) {
-        return patch(request, UpdateProcessResponse.class, new Consumer<UriComponentsBuilder>() {
-
-            @Override
-            public void accept(UriComponentsBuilder builder) {
-                builder.pathSegment("v3", "processes", request.getId());
-            }
-
-        });
+    public Mono<UpdateProcessResponse> update(UpdateProcessRequest request) {
+        return patch(request, UpdateProcessResponse.class);
     }
 
 }
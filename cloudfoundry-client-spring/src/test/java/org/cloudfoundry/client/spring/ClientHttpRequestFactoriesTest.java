@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.ssl.SSLContexts;
+import org.junit.Test;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsAsyncClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.OkHttpClientHttpRequestFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import static org.junit.Assert.assertTrue;
+
+public final class ClientHttpRequestFactoriesTest {
+
+    private final HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+
+    private final SSLContext sslContext = SSLContexts.createDefault();
+
+    @Test
+    public void http2() {
+        OkHttpClientHttpRequestFactory requestFactory = ClientHttpRequestFactories.http2(ConnectionPoolConfiguration.DEFAULT, this.sslContext.getSocketFactory(), this.hostnameVerifier);
+
+        assertTrue(requestFactory instanceof ClientHttpRequestFactory);
+        assertTrue(requestFactory instanceof AsyncClientHttpRequestFactory);
+    }
+
+    @Test
+    public void pooled() {
+        ClientHttpRequestFactory requestFactory = ClientHttpRequestFactories.pooled(ConnectionPoolConfiguration.DEFAULT, this.sslContext.getSocketFactory(), this.hostnameVerifier);
+
+        assertTrue(requestFactory instanceof HttpComponentsClientHttpRequestFactory);
+    }
+
+    @Test
+    public void pooledAsync() {
+        AsyncClientHttpRequestFactory requestFactory = ClientHttpRequestFactories.pooledAsync(ConnectionPoolConfiguration.DEFAULT, this.sslContext, this.hostnameVerifier);
+
+        assertTrue(requestFactory instanceof HttpComponentsAsyncClientHttpRequestFactory);
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class ConnectionPoolConfigurationTest {
+
+    @Test
+    public void defaults() {
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder()
+                .build();
+
+        assertEquals(Integer.valueOf(10_000), configuration.getConnectTimeout());
+        assertEquals(Integer.valueOf(30_000), configuration.getIdleTimeout());
+        assertEquals(Integer.valueOf(200), configuration.getMaxConnections());
+        assertEquals(Integer.valueOf(50), configuration.getMaxConnectionsPerRoute());
+        assertEquals(Integer.valueOf(60_000), configuration.getReadTimeout());
+    }
+
+    @Test
+    public void explicit() {
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder()
+                .connectTimeout(1)
+                .idleTimeout(2)
+                .maxConnections(3)
+                .maxConnectionsPerRoute(4)
+                .readTimeout(5)
+                .build();
+
+        assertEquals(Integer.valueOf(1), configuration.getConnectTimeout());
+        assertEquals(Integer.valueOf(2), configuration.getIdleTimeout());
+        assertEquals(Integer.valueOf(3), configuration.getMaxConnections());
+        assertEquals(Integer.valueOf(4), configuration.getMaxConnectionsPerRoute());
+        assertEquals(Integer.valueOf(5), configuration.getReadTimeout());
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the pooled HTTP/1.1 transport against the multiplexed HTTP/2 transport.  Run against a local TLS HTTP/2 server (e.g. {@code nghttpd} or {@code h2o}) serving a representative
+ * {@code /v2} payload:
+ *
+ * <pre>
+ * java -cp ... -Dbenchmark.uri=https://localhost:8443/v2/apps -Dbenchmark.requests=10000 -Dbenchmark.concurrency=64 org.cloudfoundry.client.spring.Http2TransportBenchmark
+ * </pre>
+ *
+ * The server's certificate must be trusted by the JVM, and ALPN must be available to the JVM for the HTTP/2 transport to negotiate {@code h2}.  This class is not run as part of the test suite.
+ */
+public final class Http2TransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(System.getProperty("benchmark.uri", "https://localhost:8443/v2/apps"));
+        int concurrency = Integer.getInteger("benchmark.concurrency", 64);
+        int requests = Integer.getInteger("benchmark.requests", 10_000);
+
+        ConnectionPoolConfiguration connectionPool = ConnectionPoolConfiguration.builder()
+                .maxConnections(concurrency)
+                .maxConnectionsPerRoute(concurrency)
+                .build();
+
+        CountingSslSocketFactory http11SocketFactory = new CountingSslSocketFactory(SSLContext.getDefault().getSocketFactory());
+        run("HTTP/1.1", ClientHttpRequestFactories.pooled(connectionPool, http11SocketFactory, SSLConnectionSocketFactory.getDefaultHostnameVerifier()), http11SocketFactory, uri,
+                concurrency, requests);
+
+        CountingSslSocketFactory http2SocketFactory = new CountingSslSocketFactory(SSLContext.getDefault().getSocketFactory());
+        run("HTTP/2", ClientHttpRequestFactories.http2(connectionPool, http2SocketFactory, SSLConnectionSocketFactory.getDefaultHostnameVerifier()), http2SocketFactory, uri,
+                concurrency, requests);
+    }
+
+    private static long percentile(long[] latencies, double percentile) {
+        int index = (int) Math.ceil(percentile * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+    }
+
+    private static void run(String name, ClientHttpRequestFactory requestFactory, CountingSslSocketFactory socketFactory, final URI uri, int concurrency, int requests) throws Exception {
+        final RestTemplate restTemplate = new RestTemplate(requestFactory);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>(requests);
+            long start = System.nanoTime();
+
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(new Callable<Long>() {
+
+                    @Override
+                    public Long call() throws Exception {
+                        long requestStart = System.nanoTime();
+                        restTemplate.getForObject(uri, byte[].class);
+                        return System.nanoTime() - requestStart;
+                    }
+
+                }));
+            }
+
+            long[] latencies = new long[requests];
+            for (int i = 0; i < requests; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+
+            long elapsed = System.nanoTime() - start;
+            Arrays.sort(latencies);
+
+            System.out.printf("%-8s requests=%d concurrency=%d connections=%d throughput=%.0f/s p50=%.2fms p99=%.2fms p999=%.2fms%n", name, requests, concurrency,
+                    socketFactory.getConnections(), requests / (elapsed / 1e9), percentile(latencies, 0.5) / 1e6, percentile(latencies, 0.99) / 1e6, percentile(latencies, 0.999) / 1e6);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class CountingSslSocketFactory extends SSLSocketFactory {
+
+        private final AtomicInteger connections = new AtomicInteger();
+
+        private final SSLSocketFactory delegate;
+
+        private CountingSslSocketFactory(SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket();
+        }
+
+        @Override
+        public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket(s, host, port, autoClose);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket(host, port, localHost, localPort);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            this.connections.incrementAndGet();
+            return this.delegate.createSocket(address, port, localAddress, localPort);
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return this.delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return this.delegate.getSupportedCipherSuites();
+        }
+
+        private int getConnections() {
+            return this.connections.get();
+        }
+
+    }
+
+}
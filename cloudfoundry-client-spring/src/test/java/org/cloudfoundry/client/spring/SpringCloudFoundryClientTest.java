@@ -17,21 +17,39 @@
 package org.cloudfoundry.client.spring;
 
 import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import org.apache.http.ssl.SSLContexts;
+import org.cloudfoundry.client.spring.util.AdaptiveConcurrencyLimiter;
+import org.cloudfoundry.client.spring.util.LazyClientHttpRequestFactory;
+import org.cloudfoundry.client.spring.util.PageSizeTuningInterceptor;
+import org.cloudfoundry.client.spring.util.ResponseCache;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
+import org.cloudfoundry.client.spring.util.SessionCache;
 import org.cloudfoundry.client.spring.util.SslCertificateTruster;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.OkHttpClientHttpRequestFactory;
 import org.springframework.security.oauth2.client.OAuth2RestOperations;
+import org.springframework.security.oauth2.client.OAuth2RestTemplate;
 import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
 
+import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -60,12 +78,18 @@ public final class SpringCloudFoundryClientTest extends AbstractRestTest {
                 .status(OK)
                 .responsePayload("info_GET_response.json"));
 
-        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", this.restTemplate,
-                this.sslCertificateTruster, this.deserializationProblemHandlers);
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
 
         OAuth2RestOperations restOperations = client.getRestOperations();
         OAuth2ProtectedResourceDetails details = restOperations.getResource();
 
+        assertNull(client.getAsyncRestOperations());
+        assertNull(client.getConcurrencyLimiter());
+        assertNull(client.getRequestCoalescer());
+        assertTrue(client.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        assertNull(client.getRetryPolicy());
+        assertTrue(((OAuth2RestTemplate) restOperations).getInterceptors().get(0) instanceof PageSizeTuningInterceptor);
         assertEquals("test-client-id", details.getClientId());
         assertEquals("test-client-secret", details.getClientSecret());
         assertEquals("https://uaa.run.pivotal.io/oauth/token", details.getAccessTokenUri());
@@ -74,6 +98,97 @@ public final class SpringCloudFoundryClientTest extends AbstractRestTest {
         verify();
     }
 
+    @Test
+    public void builderCoalesceRequests() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, true, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        assertNotNull(client.getRequestCoalescer());
+        verify();
+    }
+
+    @Test
+    public void builderConcurrencyLimiter() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter();
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", true, null, null, null,
+                null, null, null, concurrencyLimiter, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        List<ClientHttpRequestInterceptor> interceptors = ((OAuth2RestTemplate) client.getRestOperations()).getInterceptors();
+
+        assertSame(concurrencyLimiter, client.getConcurrencyLimiter());
+        assertSame(concurrencyLimiter, interceptors.get(0));
+        assertTrue(interceptors.get(1) instanceof PageSizeTuningInterceptor);
+        assertNotNull(client.getAsyncRestOperations());
+        verify();
+    }
+
+    @Test
+    public void builderHttp2() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", true, true, null, null, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        assertTrue(client.getRequestFactory() instanceof OkHttpClientHttpRequestFactory);
+        assertNotNull(client.getAsyncRestOperations());
+        verify();
+    }
+
+    @Test
+    public void builderLazyBootstrap() throws Exception {
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", true, "test-client-id", "test-client-secret", "test-username", "test-password", true, null, null, null, null,
+                true, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        assertTrue(client.getRequestFactory() instanceof LazyClientHttpRequestFactory);
+        assertNotNull(client.getAsyncRestOperations());
+        verifyZeroInteractions(this.sslCertificateTruster);
+
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        OAuth2ProtectedResourceDetails details = client.getRestOperations().getResource();
+
+        assertEquals("https://uaa.run.pivotal.io/oauth/token", details.getAccessTokenUri());
+        assertEquals("https://uaa.run.pivotal.io/oauth/token", details.getAccessTokenUri());
+        verifyZeroInteractions(this.sslCertificateTruster);
+
+        when(this.sslCertificateTruster.trust("api.run.pivotal.io", 443, 5, SECONDS)).thenReturn(SSLContexts.createDefault());
+        client.getRequestFactory().createRequest(URI.create("https://api.run.pivotal.io/v2/info"), GET);
+
+        Mockito.verify(this.sslCertificateTruster).trust("api.run.pivotal.io", 443, 5, SECONDS);
+        verify();
+    }
+
+    @Test
+    public void builderNonBlocking() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", true, null, null, null, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        assertNotNull(client.getAsyncRestOperations());
+        verify();
+    }
+
     @Test
     public void builderNullSkipSslVerification() throws Exception {
         mockRequest(new RequestContext()
@@ -81,22 +196,96 @@ public final class SpringCloudFoundryClientTest extends AbstractRestTest {
                 .status(OK)
                 .responsePayload("info_GET_response.json"));
 
-        new SpringCloudFoundryClient("api.run.pivotal.io", null, "test-client-id", "test-client-secret", "test-username", "test-password", this.restTemplate, this.sslCertificateTruster,
-                this.deserializationProblemHandlers);
+        new SpringCloudFoundryClient("api.run.pivotal.io", null, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
 
         verifyZeroInteractions(this.sslCertificateTruster);
         verify();
     }
 
+    @Test
+    public void builderResponseCache() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        ResponseCache responseCache = new ResponseCache(10);
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null,
+                responseCache, null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        assertSame(responseCache, client.getResponseCache());
+        verify();
+    }
+
+    @Test
+    public void builderRetryPolicy() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter();
+        RetryPolicy retryPolicy = new RetryPolicy();
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", true, null, null, null,
+                null, null, null, concurrencyLimiter, retryPolicy, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        List<ClientHttpRequestInterceptor> interceptors = ((OAuth2RestTemplate) client.getRestOperations()).getInterceptors();
+
+        assertSame(retryPolicy, client.getRetryPolicy());
+        assertSame(concurrencyLimiter, interceptors.get(0));
+        assertEquals(2, interceptors.size());
+        assertNotNull(client.getAsyncRestOperations());
+        verify();
+    }
+
+    @Test
+    public void builderSessionCache() throws Exception {
+        SessionCache sessionCache = mock(SessionCache.class, RETURNS_SMART_NULLS);
+        when(sessionCache.getAccessToken("api.run.pivotal.io", "test-username")).thenReturn(null);
+        when(sessionCache.getTokenEndpoint("api.run.pivotal.io", "test-username")).thenReturn("https://uaa.run.pivotal.io");
+
+        SpringCloudFoundryClient client = new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null,
+                null, null, sessionCache, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        OAuth2ProtectedResourceDetails details = client.getRestOperations().getResource();
+
+        assertEquals("https://uaa.run.pivotal.io/oauth/token", details.getAccessTokenUri());
+        assertSame(sessionCache, client.getSessionCache());
+        Mockito.verify(sessionCache, never()).putTokenEndpoint(anyString(), anyString(), anyString());
+        verify();
+    }
+
+    @Test
+    public void builderSessionCacheMiss() throws Exception {
+        mockRequest(new RequestContext()
+                .method(GET).path("/info")
+                .status(OK)
+                .responsePayload("info_GET_response.json"));
+
+        SessionCache sessionCache = mock(SessionCache.class, RETURNS_SMART_NULLS);
+        when(sessionCache.getAccessToken("api.run.pivotal.io", "test-username")).thenReturn(null);
+        when(sessionCache.getTokenEndpoint("api.run.pivotal.io", "test-username")).thenReturn(null);
+
+        new SpringCloudFoundryClient("api.run.pivotal.io", false, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null, null, null,
+                sessionCache, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
+
+        Mockito.verify(sessionCache).putTokenEndpoint("api.run.pivotal.io", "test-username", "https://uaa.run.pivotal.io");
+        verify();
+    }
+
     @Test
     public void builderSkipSslVerification() throws Exception {
+        when(this.sslCertificateTruster.trust("api.run.pivotal.io", 443, 5, SECONDS)).thenReturn(SSLContexts.createDefault());
+
         mockRequest(new RequestContext()
                 .method(GET).path("/info")
                 .status(OK)
                 .responsePayload("info_GET_response.json"));
 
-        new SpringCloudFoundryClient("api.run.pivotal.io", true, "test-client-id", "test-client-secret", "test-username", "test-password", this.restTemplate, this.sslCertificateTruster,
-                this.deserializationProblemHandlers);
+        new SpringCloudFoundryClient("api.run.pivotal.io", true, "test-client-id", "test-client-secret", "test-username", "test-password", null, null, null, null, null,
+                null, null, null, null, this.restTemplate, this.sslCertificateTruster, this.deserializationProblemHandlers);
 
         Mockito.verify(this.sslCertificateTruster).trust("api.run.pivotal.io", 443, 5, SECONDS);
         verify();
@@ -127,6 +316,11 @@ public final class SpringCloudFoundryClientTest extends AbstractRestTest {
         assertNotNull(this.client.jobs());
     }
 
+    @Test
+    public void links() {
+        assertNotNull(this.client.links());
+    }
+
     @Test
     public void organizations() {
         assertNotNull(this.client.organizations());
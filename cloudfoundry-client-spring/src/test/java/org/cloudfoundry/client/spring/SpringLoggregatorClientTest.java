@@ -19,12 +19,17 @@ package org.cloudfoundry.client.spring;
 import org.cloudfoundry.client.loggregator.LoggregatorMessage;
 import org.cloudfoundry.client.loggregator.RecentLogsRequest;
 import org.cloudfoundry.utils.test.TestSubscriber;
+import org.junit.Test;
 import org.reactivestreams.Publisher;
 import org.springframework.http.MediaType;
 
+import javax.net.ssl.SSLContext;
 import javax.websocket.ClientEndpointConfig;
 import javax.websocket.WebSocketContainer;
+import java.security.NoSuchAlgorithmException;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpMethod.GET;
@@ -32,6 +37,30 @@ import static org.springframework.http.HttpStatus.OK;
 
 public final class SpringLoggregatorClientTest {
 
+    public static final class GetClientEndpointConfig {
+
+        private final ClientEndpointConfig.Configurator configurator = new ClientEndpointConfig.Configurator();
+
+        @Test
+        public void defaultSslContext() {
+            ClientEndpointConfig clientEndpointConfig = SpringLoggregatorClient.getClientEndpointConfig(this.configurator, null);
+
+            assertSame(this.configurator, clientEndpointConfig.getConfigurator());
+            assertFalse(clientEndpointConfig.getUserProperties().containsKey("org.apache.tomcat.websocket.SSL_CONTEXT"));
+        }
+
+        @Test
+        public void sslContext() throws NoSuchAlgorithmException {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+
+            ClientEndpointConfig clientEndpointConfig = SpringLoggregatorClient.getClientEndpointConfig(this.configurator, sslContext);
+
+            assertSame(this.configurator, clientEndpointConfig.getConfigurator());
+            assertSame(sslContext, clientEndpointConfig.getUserProperties().get("org.apache.tomcat.websocket.SSL_CONTEXT"));
+        }
+
+    }
+
     public static final class Recent extends AbstractApiTest<RecentLogsRequest, LoggregatorMessage> {
 
         private static final MediaType MEDIA_TYPE = MediaType.parseMediaType("multipart/x-protobuf; boundary=90ad9060c87222ee30ddcffe751393a7c5734c48e070a623121abf82eb3c");
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+public final class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ENDPOINT = "GET /v2/apps";
+
+    @Test
+    public void cancelledWaiter() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+
+        limiter.acquireAsync();
+        ListenableFuture<Void> cancelled = limiter.acquireAsync();
+        ListenableFuture<Void> waiting = limiter.acquireAsync();
+
+        cancelled.cancel(false);
+        limiter.release(null, 0, null);
+
+        assertTrue(waiting.isDone());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void decreaseOnceForInFlight() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        long start = System.nanoTime();
+        limiter.record(ENDPOINT, start, 0, SERVICE_UNAVAILABLE.value());
+        limiter.record(ENDPOINT, start, 0, SERVICE_UNAVAILABLE.value());
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void decreaseOnLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        limiter.record(ENDPOINT, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10), OK.value());
+        limiter.record(ENDPOINT, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(100), OK.value());
+
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    public void decreaseOnServiceUnavailable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        limiter.record(ENDPOINT, System.nanoTime(), 0, SERVICE_UNAVAILABLE.value());
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void decreaseOnTooManyRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        limiter.record(ENDPOINT, System.nanoTime(), 0, TOO_MANY_REQUESTS.value());
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void increase() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 2);
+        limiter.acquireAsync();
+        limiter.acquireAsync();
+
+        for (int i = 0; i < 3; i++) {
+            limiter.record(ENDPOINT, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10), OK.value());
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    public void interceptNotQueued() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        limiter.acquireAsync();
+
+        limiter.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.run.pivotal.io/v2/apps")), new byte[0], new StubExecution(OK));
+
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void interceptOverloaded() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        limiter.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.run.pivotal.io/v2/apps")), new byte[0], new StubExecution(SERVICE_UNAVAILABLE));
+
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void interceptReleasesOnFailure() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        try {
+            limiter.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.run.pivotal.io/v2/apps")), new byte[0], new StubExecution(null));
+        } catch (IOException e) {
+            assertEquals(0, limiter.getInFlight());
+            assertEquals(20, limiter.getLimit());
+            return;
+        }
+
+        throw new AssertionError("Expected IOException");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBounds() {
+        new AdaptiveConcurrencyLimiter(1, 10, 20);
+    }
+
+    @Test
+    public void notIncreasedWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+
+        limiter.record(ENDPOINT, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10), OK.value());
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    public void queued() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 2);
+
+        assertTrue(limiter.acquireAsync().isDone());
+        assertTrue(limiter.acquireAsync().isDone());
+
+        ListenableFuture<Void> waiting = limiter.acquireAsync();
+
+        assertFalse(waiting.isDone());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getQueueDepth());
+
+        limiter.release(null, 0, null);
+
+        assertTrue(waiting.isDone());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void queuedRelease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 1);
+
+        limiter.acquireAsync();
+        ListenableFuture<Void> waiting = limiter.acquireAsync();
+
+        limiter.release();
+
+        assertTrue(waiting.isDone());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void queuedReleasedWhenOverloaded() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 2);
+        HttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.run.pivotal.io/v2/apps"));
+
+        long start = System.nanoTime();
+        limiter.acquireAsync();
+        limiter.acquireAsync();
+
+        ListenableFuture<Void> first = limiter.acquireAsync();
+        ListenableFuture<Void> second = limiter.acquireAsync();
+
+        limiter.release(request, start, new MockClientHttpResponse(new byte[0], TOO_MANY_REQUESTS));
+        limiter.release(request, start, new MockClientHttpResponse(new byte[0], TOO_MANY_REQUESTS));
+
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(1, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1, limiter.getQueueDepth());
+    }
+
+    private static final class StubExecution implements ClientHttpRequestExecution {
+
+        private final HttpStatus status;
+
+        private StubExecution(HttpStatus status) {
+            this.status = status;
+        }
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+            if (this.status == null) {
+                throw new IOException("test-exception");
+            }
+
+            return new MockClientHttpResponse(new byte[0], this.status);
+        }
+
+    }
+
+}
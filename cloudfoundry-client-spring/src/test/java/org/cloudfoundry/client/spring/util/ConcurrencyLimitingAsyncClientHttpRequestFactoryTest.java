@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpStatus.OK;
+
+public final class ConcurrencyLimitingAsyncClientHttpRequestFactoryTest {
+
+    private static final URI TEST_URI = URI.create("https://api.run.pivotal.io/v2/apps");
+
+    private final AsyncClientHttpRequestFactory delegate = mock(AsyncClientHttpRequestFactory.class, RETURNS_SMART_NULLS);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+
+    private final AsyncClientHttpRequest request = mock(AsyncClientHttpRequest.class, RETURNS_SMART_NULLS);
+
+    private final ConcurrencyLimitingAsyncClientHttpRequestFactory requestFactory = new ConcurrencyLimitingAsyncClientHttpRequestFactory(this.delegate, this.limiter);
+
+    private final SettableListenableFuture<ClientHttpResponse> response = new SettableListenableFuture<>();
+
+    @Test
+    public void executeAsync() throws Exception {
+        stubRequest();
+
+        ClientHttpResponse response = new MockClientHttpResponse(new byte[0], OK);
+        ListenableFuture<ClientHttpResponse> result = this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync();
+
+        verify(this.request).executeAsync();
+        assertEquals(1, this.limiter.getInFlight());
+
+        this.response.set(response);
+
+        assertSame(response, result.get());
+        assertEquals(0, this.limiter.getInFlight());
+    }
+
+    @Test
+    public void executeAsyncFailure() throws Exception {
+        stubRequest();
+
+        ListenableFuture<ClientHttpResponse> result = this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync();
+        this.response.setException(new IOException("test-exception"));
+
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertEquals(0, this.limiter.getInFlight());
+            return;
+        }
+
+        throw new AssertionError("Expected ExecutionException");
+    }
+
+    @Test
+    public void executeAsyncQueued() throws Exception {
+        stubRequest();
+        this.limiter.acquireAsync();
+
+        ListenableFuture<ClientHttpResponse> result = this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync();
+
+        verify(this.request, never()).executeAsync();
+        assertEquals(1, this.limiter.getQueueDepth());
+
+        this.limiter.release(null, 0, null);
+
+        verify(this.request).executeAsync();
+        assertEquals(0, this.limiter.getQueueDepth());
+        assertFalse(result.isDone());
+    }
+
+    private void stubRequest() throws IOException {
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.request);
+        when(this.request.executeAsync()).thenReturn(this.response);
+        when(this.request.getMethod()).thenReturn(GET);
+        when(this.request.getURI()).thenReturn(TEST_URI);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+public final class EncryptedFileSessionCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void accessToken() throws Exception {
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken("test-access-token");
+        accessToken.setExpiration(expiration);
+        accessToken.setRefreshToken(new DefaultOAuth2RefreshToken("test-refresh-token"));
+        accessToken.setScope(Collections.singleton("test-scope"));
+        accessToken.setTokenType("bearer");
+
+        cache("test-password").putAccessToken("test-host", "test-username", accessToken);
+        OAuth2AccessToken cached = cache("test-password").getAccessToken("test-host", "test-username");
+
+        assertEquals("test-access-token", cached.getValue());
+        assertEquals(expiration, cached.getExpiration());
+        assertEquals("test-refresh-token", cached.getRefreshToken().getValue());
+        assertEquals(Collections.singleton("test-scope"), cached.getScope());
+        assertEquals("bearer", cached.getTokenType());
+    }
+
+    @Test
+    public void encrypted() throws Exception {
+        cache("test-password").putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        for (File file : this.folder.getRoot().listFiles()) {
+            assertFalse(new String(Files.readAllBytes(file.toPath()), Charset.forName("UTF-8")).contains("test-token-endpoint"));
+        }
+    }
+
+    @Test
+    public void endpoints() {
+        EncryptedFileSessionCache cache = cache("test-password");
+        cache.putLoggingEndpoint("test-host", "test-username", "wss://test-logging-endpoint");
+        cache.putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        assertEquals("wss://test-logging-endpoint", cache("test-password").getLoggingEndpoint("test-host", "test-username"));
+        assertEquals("https://test-token-endpoint", cache("test-password").getTokenEndpoint("test-host", "test-username"));
+    }
+
+    @Test
+    public void missing() {
+        EncryptedFileSessionCache cache = cache("test-password");
+
+        assertNull(cache.getAccessToken("test-host", "test-username"));
+        assertNull(cache.getLoggingEndpoint("test-host", "test-username"));
+        assertNull(cache.getTokenEndpoint("test-host", "test-username"));
+    }
+
+    @Test
+    public void otherUser() {
+        cache("test-password").putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        assertNull(cache("test-password").getTokenEndpoint("test-host", "test-other-username"));
+        assertNull(cache("test-password").getTokenEndpoint("test-other-host", "test-username"));
+    }
+
+    @Test
+    public void ownerOnly() throws Exception {
+        assumeTrue(Files.getFileAttributeView(this.folder.getRoot().toPath(), PosixFileAttributeView.class) != null);
+
+        cache("test-password").putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        File[] files = this.folder.getRoot().listFiles();
+        assertEquals(2, files.length);
+        for (File file : files) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file.toPath()));
+        }
+    }
+
+    @Test
+    public void tampered() throws Exception {
+        cache("test-password").putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        for (File file : this.folder.getRoot().listFiles()) {
+            if (file.getName().endsWith(".session")) {
+                byte[] contents = Files.readAllBytes(file.toPath());
+                contents[contents.length / 2] ^= 1;
+                Files.write(file.toPath(), contents);
+            }
+        }
+
+        assertNull(cache("test-password").getTokenEndpoint("test-host", "test-username"));
+    }
+
+    @Test
+    public void wrongPassword() {
+        cache("test-password").putTokenEndpoint("test-host", "test-username", "https://test-token-endpoint");
+
+        assertNull(cache("test-other-password").getTokenEndpoint("test-host", "test-username"));
+    }
+
+    private EncryptedFileSessionCache cache(String password) {
+        return new EncryptedFileSessionCache(this.folder.getRoot(), password.toCharArray());
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+
+import java.net.URI;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.http.HttpMethod.GET;
+
+public final class EndpointsTest {
+
+    @Test
+    public void getEndpoint() {
+        assertEquals("GET /v2/apps/{id}/routes", Endpoints.getEndpoint(GET, URI.create("https://api.run.pivotal.io/v2/apps/3b3b1b1e-8e2a-4a1b-9a4f-0c2d6e5f7a8b/routes?page=2")));
+    }
+
+    @Test
+    public void getPath() {
+        assertEquals("/v2/apps", Endpoints.getPath(URI.create("https://api.run.pivotal.io/v2/apps")));
+    }
+
+    @Test
+    public void getPathNoPath() {
+        assertEquals("", Endpoints.getPath(URI.create("mailto:test@example.com")));
+    }
+
+}
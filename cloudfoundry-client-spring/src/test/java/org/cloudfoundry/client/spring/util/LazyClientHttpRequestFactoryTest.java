@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import reactor.fn.Supplier;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.GET;
+
+public final class LazyClientHttpRequestFactoryTest {
+
+    private final ClientHttpRequestFactory delegate = mock(ClientHttpRequestFactory.class, RETURNS_SMART_NULLS);
+
+    private final AtomicInteger delegateCount = new AtomicInteger();
+
+    private final LazyClientHttpRequestFactory requestFactory = new LazyClientHttpRequestFactory(new Supplier<ClientHttpRequestFactory>() {
+
+        @Override
+        public ClientHttpRequestFactory get() {
+            LazyClientHttpRequestFactoryTest.this.delegateCount.incrementAndGet();
+            return LazyClientHttpRequestFactoryTest.this.delegate;
+        }
+
+    });
+
+    private final URI uri = URI.create("https://api.run.pivotal.io/v2/info");
+
+    @Test
+    public void createRequest() throws Exception {
+        ClientHttpRequest request = mock(ClientHttpRequest.class, RETURNS_SMART_NULLS);
+        when(this.delegate.createRequest(this.uri, GET)).thenReturn(request);
+
+        assertEquals(0, this.delegateCount.get());
+        assertSame(request, this.requestFactory.createRequest(this.uri, GET));
+        assertSame(request, this.requestFactory.createRequest(this.uri, GET));
+        assertEquals(1, this.delegateCount.get());
+    }
+
+}
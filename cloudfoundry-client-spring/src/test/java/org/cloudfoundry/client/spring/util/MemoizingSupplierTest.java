@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import reactor.fn.Supplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoizingSupplierTest {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Test
+    public void failure() {
+        MemoizingSupplier<String> supplier = new MemoizingSupplier<>(new Supplier<String>() {
+
+            @Override
+            public String get() {
+                if (MemoizingSupplierTest.this.count.incrementAndGet() == 1) {
+                    throw new IllegalStateException();
+                }
+
+                return "test-value";
+            }
+
+        });
+
+        try {
+            supplier.get();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        assertFalse(supplier.isResolved());
+        assertEquals("test-value", supplier.get());
+        assertEquals(2, this.count.get());
+    }
+
+    @Test
+    public void get() {
+        MemoizingSupplier<String> supplier = new MemoizingSupplier<>(new Supplier<String>() {
+
+            @Override
+            public String get() {
+                return String.format("test-value-%d", MemoizingSupplierTest.this.count.incrementAndGet());
+            }
+
+        });
+
+        assertFalse(supplier.isResolved());
+        assertEquals("test-value-1", supplier.get());
+        assertEquals("test-value-1", supplier.get());
+        assertTrue(supplier.isResolved());
+        assertEquals(1, this.count.get());
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.security.oauth2.client.OAuth2ClientContext;
+import org.springframework.security.oauth2.client.OAuth2RestOperations;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpMethod.GET;
+
+public final class OAuth2AsyncClientHttpRequestFactoryTest {
+
+    private static final URI TEST_URI = URI.create("https://api.run.pivotal.io/v2/info");
+
+    private final OAuth2ClientContext context = mock(OAuth2ClientContext.class, RETURNS_SMART_NULLS);
+
+    private final AsyncClientHttpRequestFactory delegate = mock(AsyncClientHttpRequestFactory.class, RETURNS_SMART_NULLS);
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    private final AsyncClientHttpRequest request = mock(AsyncClientHttpRequest.class, RETURNS_SMART_NULLS);
+
+    private final ClientHttpResponse response = mock(ClientHttpResponse.class, RETURNS_SMART_NULLS);
+
+    private final OAuth2RestOperations restOperations = mock(OAuth2RestOperations.class, RETURNS_SMART_NULLS);
+
+    private final OAuth2AsyncClientHttpRequestFactory requestFactory = new OAuth2AsyncClientHttpRequestFactory(this.delegate, this.restOperations);
+
+    @Test
+    public void executeExpiredToken() throws Exception {
+        DefaultOAuth2AccessToken expired = new DefaultOAuth2AccessToken("test-expired-access-token");
+        expired.setExpiration(new Date(System.currentTimeMillis() - 60000));
+
+        when(this.context.getAccessToken()).thenReturn(expired);
+        when(this.restOperations.getAccessToken()).thenReturn(new DefaultOAuth2AccessToken("test-access-token"));
+
+        assertSame(this.response, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS));
+        assertEquals("Bearer test-access-token", this.headers.getFirst(AUTHORIZATION));
+    }
+
+    @Test
+    public void executeNoToken() throws Exception {
+        when(this.context.getAccessToken()).thenReturn(null);
+        when(this.restOperations.getAccessToken()).thenReturn(new DefaultOAuth2AccessToken("test-access-token"));
+
+        assertSame(this.response, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS));
+        assertEquals("Bearer test-access-token", this.headers.getFirst(AUTHORIZATION));
+    }
+
+    @Test
+    public void executeSharesAccessTokenRequest() throws Exception {
+        final CountDownLatch requested = new CountDownLatch(2);
+
+        when(this.context.getAccessToken()).thenReturn(null);
+        when(this.restOperations.getAccessToken()).thenAnswer(new Answer<OAuth2AccessToken>() {
+
+            @Override
+            public OAuth2AccessToken answer(InvocationOnMock invocation) throws Throwable {
+                requested.await(5, TimeUnit.SECONDS);
+                return new DefaultOAuth2AccessToken("test-access-token");
+            }
+
+        });
+
+        ListenableFuture<ClientHttpResponse> first = this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync();
+        requested.countDown();
+        ListenableFuture<ClientHttpResponse> second = this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync();
+        requested.countDown();
+
+        assertSame(this.response, first.get(5, TimeUnit.SECONDS));
+        assertSame(this.response, second.get(5, TimeUnit.SECONDS));
+        verify(this.restOperations, times(1)).getAccessToken();
+    }
+
+    @Test
+    public void executeUnauthorized() throws Exception {
+        ClientHttpResponse unauthorized = mock(ClientHttpResponse.class, RETURNS_SMART_NULLS);
+        when(unauthorized.getRawStatusCode()).thenReturn(401);
+
+        SettableListenableFuture<ClientHttpResponse> unauthorizedResponse = new SettableListenableFuture<>();
+        unauthorizedResponse.set(unauthorized);
+
+        SettableListenableFuture<ClientHttpResponse> response = new SettableListenableFuture<>();
+        response.set(this.response);
+
+        DefaultOAuth2AccessToken revoked = new DefaultOAuth2AccessToken("test-revoked-access-token");
+
+        when(this.context.getAccessToken()).thenReturn(revoked, revoked, null);
+        when(this.restOperations.getAccessToken()).thenReturn(new DefaultOAuth2AccessToken("test-access-token"));
+        when(this.request.executeAsync()).thenReturn(unauthorizedResponse, response);
+
+        assertSame(this.response, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS));
+        assertEquals("Bearer test-access-token", this.headers.getFirst(AUTHORIZATION));
+        verify(unauthorized).close();
+        verify(this.context).setAccessToken(null);
+    }
+
+    @Test
+    public void executeValidToken() throws Exception {
+        when(this.context.getAccessToken()).thenReturn(new DefaultOAuth2AccessToken("test-access-token"));
+
+        assertSame(this.response, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS));
+        assertEquals("Bearer test-access-token", this.headers.getFirst(AUTHORIZATION));
+        verify(this.restOperations, never()).getAccessToken();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        SettableListenableFuture<ClientHttpResponse> response = new SettableListenableFuture<>();
+        response.set(this.response);
+
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.request);
+        when(this.request.getHeaders()).thenReturn(this.headers);
+        when(this.request.executeAsync()).thenReturn(response);
+        when(this.restOperations.getOAuth2ClientContext()).thenReturn(this.context);
+    }
+
+}
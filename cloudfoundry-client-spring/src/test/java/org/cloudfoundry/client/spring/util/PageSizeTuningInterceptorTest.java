@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.http.HttpStatus.OK;
+
+public final class PageSizeTuningInterceptorTest {
+
+    private final PageSizeTuningInterceptor interceptor = new PageSizeTuningInterceptor();
+
+    private final RecordingExecution execution = new RecordingExecution();
+
+    @Test
+    public void explicitResultsPerPage() throws IOException {
+        assertEquals("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=10", intercept("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=10"));
+    }
+
+    @Test
+    public void firstPage() throws IOException {
+        assertEquals("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?page=1"));
+    }
+
+    @Test
+    public void grow() {
+        this.interceptor.record("/v2/apps", 25, 0, 0);
+
+        assertEquals(50, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBounds() {
+        new PageSizeTuningInterceptor(10, 5, 2, TimeUnit.SECONDS, 1024);
+    }
+
+    @Test
+    public void notPaginated() throws IOException {
+        assertEquals("https://api.run.pivotal.io/v2/apps/test-id", intercept("https://api.run.pivotal.io/v2/apps/test-id"));
+    }
+
+    @Test
+    public void notV2() throws IOException {
+        assertEquals("https://api.run.pivotal.io/v3/apps?page=1", intercept("https://api.run.pivotal.io/v3/apps?page=1"));
+    }
+
+    @Test
+    public void recordTuned() {
+        URI tuned = this.interceptor.tune(URI.create("https://api.run.pivotal.io/v2/apps?page=1"));
+        this.interceptor.record(tuned, TimeUnit.SECONDS.toNanos(3), -1);
+
+        assertEquals(50, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    @Test
+    public void recordUntuned() {
+        this.interceptor.record(URI.create("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=10"), TimeUnit.SECONDS.toNanos(3), -1);
+
+        assertEquals(100, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    @Test
+    public void shrinkOnBytes() {
+        this.interceptor.record("/v2/apps", 100, 0, 2 * 1024 * 1024);
+
+        assertEquals(50, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    @Test
+    public void shrinkOnLatency() {
+        this.interceptor.record("/v2/apps", 100, TimeUnit.SECONDS.toNanos(3), 0);
+
+        assertEquals(50, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    @Test
+    public void stableWithinListing() throws IOException {
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1"));
+
+        this.interceptor.record("/v2/apps", 100, TimeUnit.SECONDS.toNanos(3), 0);
+
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20other&page=1&results-per-page=50", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20other&page=1"));
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2"));
+    }
+
+    @Test
+    public void stableWhenRestarted() throws IOException {
+        intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1");
+
+        this.interceptor.record("/v2/apps", 100, TimeUnit.SECONDS.toNanos(3), 0);
+
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1"));
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2"));
+    }
+
+    @Test
+    public void stableWithManyListings() throws IOException {
+        intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=1");
+
+        for (int i = 0; i < 1000; i++) {
+            intercept(String.format("https://api.run.pivotal.io/v2/apps?q=name%%20IN%%20other-%d&page=1", i));
+        }
+
+        this.interceptor.record("/v2/apps", 100, TimeUnit.SECONDS.toNanos(3), 0);
+
+        assertEquals("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2&results-per-page=100", intercept("https://api.run.pivotal.io/v2/apps?q=name%20IN%20test&page=2"));
+    }
+
+    @Test
+    public void tune() {
+        assertEquals(URI.create("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=100"), this.interceptor.tune(URI.create("https://api.run.pivotal.io/v2/apps?page=1")));
+    }
+
+    @Test
+    public void tuneExplicitResultsPerPage() {
+        assertEquals(URI.create("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=10"),
+                this.interceptor.tune(URI.create("https://api.run.pivotal.io/v2/apps?page=1&results-per-page=10")));
+    }
+
+    @Test
+    public void tuneNotPaginated() {
+        assertEquals(URI.create("https://api.run.pivotal.io/v2/apps/test-id"), this.interceptor.tune(URI.create("https://api.run.pivotal.io/v2/apps/test-id")));
+    }
+
+    @Test
+    public void tunedMeasured() throws IOException {
+        URI tuned = this.interceptor.tune(URI.create("https://api.run.pivotal.io/v2/apps?page=1"));
+        this.interceptor.record("/v2/apps", 25, 0, 0);
+
+        assertEquals(tuned.toString(), intercept(tuned.toString()));
+        assertEquals(100, this.interceptor.getResultsPerPage("/v2/apps"));
+    }
+
+    private String intercept(String uri) throws IOException {
+        this.interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create(uri)), new byte[0], this.execution);
+        return this.execution.uri.toString();
+    }
+
+    private static final class RecordingExecution implements ClientHttpRequestExecution {
+
+        private URI uri;
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) {
+            this.uri = request.getURI();
+            return new MockClientHttpResponse(new byte[0], OK);
+        }
+
+    }
+
+}
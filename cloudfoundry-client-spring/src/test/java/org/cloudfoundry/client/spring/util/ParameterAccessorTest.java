@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class ParameterAccessorTest {
+
+    @Test
+    public void getName() throws NoSuchMethodException {
+        ParameterAccessor accessor = new ParameterAccessor(Stub.class.getDeclaredMethod("getValue"), "test-name");
+
+        assertEquals("test-name", accessor.getName());
+    }
+
+    @Test
+    public void getSortedMethods() {
+        List<String> names = new ArrayList<>();
+        for (Method method : ParameterAccessor.getSortedMethods(Stub.class)) {
+            names.add(method.getName());
+        }
+
+        int failure = names.indexOf("getFailure");
+        int value = names.indexOf("getValue");
+
+        assertTrue(failure != -1 && value != -1);
+        assertTrue(failure < value);
+    }
+
+    @Test
+    public void getValue() throws NoSuchMethodException {
+        ParameterAccessor accessor = new ParameterAccessor(Stub.class.getDeclaredMethod("getValue"), "test-name");
+
+        assertEquals(Arrays.asList("test-value-1", "test-value-2"), accessor.getValue(new Stub()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getValueFailure() throws NoSuchMethodException {
+        ParameterAccessor accessor = new ParameterAccessor(Stub.class.getDeclaredMethod("getFailure"), "test-name");
+
+        accessor.getValue(new Stub());
+    }
+
+    private static final class Stub {
+
+        String getFailure() {
+            throw new IllegalStateException();
+        }
+
+        List<String> getValue() {
+            return Arrays.asList("test-value-1", "test-value-2");
+        }
+
+    }
+
+}
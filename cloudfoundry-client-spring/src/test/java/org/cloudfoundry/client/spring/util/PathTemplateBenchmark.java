@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request time and allocation of expanding a {@link PathTemplate} against building the same {@link URI} with a {@link UriComponentsBuilder}:
+ *
+ * <pre>
+ * mvn -P benchmark test -Dbenchmark="PathTemplateBenchmark -prof gc"
+ * </pre>
+ *
+ * This class is not run as part of the test suite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class PathTemplateBenchmark {
+
+    private static final AssociateApplicationRouteRequest ASSOCIATE_REQUEST = AssociateApplicationRouteRequest.builder()
+            .id("test-id")
+            .routeId("test-route-id")
+            .build();
+
+    private static final ListApplicationsRequest LIST_REQUEST = ListApplicationsRequest.builder()
+            .name("test-name")
+            .page(1)
+            .spaceId("test-space-id-1")
+            .spaceId("test-space-id-2")
+            .build();
+
+    private static final URI ROOT = URI.create("https://api.run.pivotal.io");
+
+    @Benchmark
+    public URI builderAssociate() {
+        return UriComponentsBuilder.fromUri(ROOT).pathSegment("v2", "apps", ASSOCIATE_REQUEST.getId(), "routes", ASSOCIATE_REQUEST.getRouteId()).build().encode().toUri();
+    }
+
+    @Benchmark
+    public URI builderList() {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(ROOT).pathSegment("v2", "apps");
+        FilterBuilder.augment(builder, LIST_REQUEST);
+        QueryBuilder.augment(builder, LIST_REQUEST);
+        return builder.build().encode().toUri();
+    }
+
+    @Benchmark
+    public URI templateAssociate() {
+        return PathTemplate.of(AssociateApplicationRouteRequest.class).expand(ROOT, ASSOCIATE_REQUEST);
+    }
+
+    @Benchmark
+    public URI templateList() {
+        return PathTemplate.of(ListApplicationsRequest.class).expand(ROOT, LIST_REQUEST);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.v2.PaginatedRequest;
+import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
+import org.cloudfoundry.client.v2.applications.GetApplicationRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.junit.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+import static org.junit.Assert.assertEquals;
+
+public final class PathTemplateTest {
+
+    private static final URI ROOT = URI.create("https://api.run.pivotal.io");
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileMixedSegment() {
+        PathTemplate.compile("/v2/apps/id-{id}");
+    }
+
+    @Test
+    public void expand() {
+        AssociateApplicationRouteRequest request = AssociateApplicationRouteRequest.builder()
+                .id("test-id")
+                .routeId("test-route-id")
+                .build();
+
+        URI uri = PathTemplate.of(AssociateApplicationRouteRequest.class).expand(ROOT, request);
+
+        assertEquals(URI.create("https://api.run.pivotal.io/v2/apps/test-id/routes/test-route-id"), uri);
+    }
+
+    @Test
+    public void expandEncoded() {
+        String id = "test id/\u00fc?&=+:@";
+        GetApplicationRequest request = GetApplicationRequest.builder()
+                .id(id)
+                .build();
+
+        URI uri = PathTemplate.of(GetApplicationRequest.class).expand(ROOT, request);
+
+        assertEquals(UriComponentsBuilder.fromUri(ROOT).pathSegment("v2", "apps", id).build().encode().toUri(), uri);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void expandNoWriter() {
+        PathTemplate.compile("/v2/apps").expand(ROOT, new Object());
+    }
+
+    @Test
+    public void expandQueries() {
+        ListApplicationsRequest request = ListApplicationsRequest.builder()
+                .name("test name \u00fc")
+                .name("test&name=2")
+                .orderDirection(PaginatedRequest.OrderDirection.DESC)
+                .page(2)
+                .build();
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(ROOT).pathSegment("v2", "apps");
+        FilterBuilder.augment(builder, request);
+        QueryBuilder.augment(builder, request);
+
+        assertEquals(builder.build().encode().toUri(), PathTemplate.of(ListApplicationsRequest.class).expand(ROOT, request));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void expandTooFewVariables() {
+        GetApplicationRequest request = GetApplicationRequest.builder()
+                .id("test-id")
+                .build();
+
+        PathTemplate.compile("/v2/apps/{id}/routes/{routeId}").expand(ROOT, request);
+    }
+
+    @Test
+    public void expandTrailingSlash() {
+        URI uri = PathTemplate.of(ListApplicationsRequest.class).expand(URI.create("https://api.run.pivotal.io/"), ListApplicationsRequest.builder().build());
+
+        assertEquals(URI.create("https://api.run.pivotal.io/v2/apps"), uri);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofNoWriter() {
+        PathTemplate.of(Object.class);
+    }
+
+}
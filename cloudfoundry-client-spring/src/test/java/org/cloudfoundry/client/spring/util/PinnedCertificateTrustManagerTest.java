@@ -0,0 +1,136 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public final class PinnedCertificateTrustManagerTest {
+
+    private final X509Certificate[] chain1 = new X509Certificate[]{certificate("certificates/test-1.pem")};
+
+    private final X509Certificate[] chain2 = new X509Certificate[]{certificate("certificates/test-2.pem")};
+
+    private final X509TrustManager delegate = mock(X509TrustManager.class, Mockito.RETURNS_SMART_NULLS);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final AtomicInteger probeCount = new AtomicInteger();
+
+    @Test
+    public void checkServerTrustedDelegate() throws CertificateException {
+        trustManager(null).checkServerTrusted(this.chain1, "RSA");
+
+        assertEquals(0, this.probeCount.get());
+    }
+
+    @Test
+    public void checkServerTrustedPinned() throws CertificateException {
+        doThrow(new CertificateException()).when(this.delegate).checkServerTrusted(this.chain1, "RSA");
+
+        PinnedCertificateTrustManager trustManager = trustManager(null);
+        assertTrue(trustManager.pin(this.chain1));
+        assertFalse(trustManager.pin(this.chain1));
+
+        trustManager.checkServerTrusted(this.chain1, "RSA");
+
+        assertEquals(0, this.probeCount.get());
+    }
+
+    @Test
+    public void checkServerTrustedProbed() throws CertificateException {
+        doThrow(new CertificateException()).when(this.delegate).checkServerTrusted(this.chain1, "RSA");
+
+        PinnedCertificateTrustManager trustManager = trustManager(this.chain1);
+        trustManager.checkServerTrusted(this.chain1, "RSA");
+        trustManager.checkServerTrusted(this.chain1, "RSA");
+
+        assertEquals(1, this.probeCount.get());
+    }
+
+    @Test(expected = CertificateException.class)
+    public void checkServerTrustedUntrusted() throws CertificateException {
+        doThrow(new CertificateException()).when(this.delegate).checkServerTrusted(this.chain2, "RSA");
+
+        trustManager(this.chain1).checkServerTrusted(this.chain2, "RSA");
+    }
+
+    @Test
+    public void fingerprint() throws CertificateException {
+        String fingerprint = PinnedCertificateTrustManager.fingerprint(this.chain1[0]);
+
+        assertEquals(64, fingerprint.length());
+        assertFalse(fingerprint.equals(PinnedCertificateTrustManager.fingerprint(this.chain2[0])));
+    }
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void startProbe() throws Exception {
+        PinnedCertificateTrustManager trustManager = trustManager(this.chain1);
+
+        trustManager.startProbe().get();
+        trustManager.startProbe().get();
+
+        assertEquals(1, this.probeCount.get());
+        assertFalse(trustManager.pin(this.chain1));
+    }
+
+    private static X509Certificate certificate(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+        } catch (CertificateException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PinnedCertificateTrustManager trustManager(final X509Certificate[] probed) {
+        return new PinnedCertificateTrustManager(this.delegate, new Callable<X509Certificate[]>() {
+
+            @Override
+            public X509Certificate[] call() {
+                PinnedCertificateTrustManagerTest.this.probeCount.incrementAndGet();
+                return probed;
+            }
+
+        }, this.executor, 5, SECONDS);
+    }
+
+}
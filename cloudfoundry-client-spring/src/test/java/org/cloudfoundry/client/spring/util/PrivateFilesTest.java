@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+public final class PrivateFilesTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAtomically() throws IOException {
+        File file = new File(this.folder.getRoot(), "test-directory/test-file");
+
+        PrivateFiles.writeAtomically(file, new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(file.toPath()));
+        assertEquals(1, file.getParentFile().listFiles().length);
+    }
+
+    @Test
+    public void writeAtomicallyOwnerOnly() throws IOException {
+        assumeTrue(Files.getFileAttributeView(this.folder.getRoot().toPath(), PosixFileAttributeView.class) != null);
+        File file = new File(this.folder.getRoot(), "test-file");
+
+        PrivateFiles.writeAtomically(file, new byte[]{1, 2, 3});
+
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file.toPath()));
+    }
+
+    @Test
+    public void writeAtomicallyReplaces() throws IOException {
+        File file = new File(this.folder.getRoot(), "test-file");
+
+        PrivateFiles.writeAtomically(file, new byte[]{1, 2, 3});
+        PrivateFiles.writeAtomically(file, new byte[]{4, 5});
+
+        assertArrayEquals(new byte[]{4, 5}, Files.readAllBytes(file.toPath()));
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.spring.v2.FilterBuilder;
+import org.cloudfoundry.client.v2.FilterParameter;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request time and allocation of the cached {@link QueryBuilder} and {@link FilterBuilder} against the reflective implementation they replaced:
+ *
+ * <pre>
+ * mvn -P benchmark test -Dbenchmark="QueryBuilderBenchmark -prof gc"
+ * </pre>
+ *
+ * This class is not run as part of the test suite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class QueryBuilderBenchmark {
+
+    private static final ListApplicationsRequest REQUEST = ListApplicationsRequest.builder()
+            .name("test-name")
+            .page(1)
+            .spaceId("test-space-id-1")
+            .spaceId("test-space-id-2")
+            .build();
+
+    @Benchmark
+    public UriComponentsBuilder cached() {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        FilterBuilder.augment(builder, REQUEST);
+        QueryBuilder.augment(builder, REQUEST);
+        return builder;
+    }
+
+    @Benchmark
+    public UriComponentsBuilder reflective() {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        reflectiveFilters(builder, REQUEST);
+        reflectiveQueries(builder, REQUEST);
+        return builder;
+    }
+
+    private static void reflectiveFilters(UriComponentsBuilder builder, Object instance) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+
+        for (Method method : methods) {
+            for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
+                if (AnnotationUtils.isAnnotationMetaPresent(annotation.getClass(), FilterParameter.class)) {
+                    ReflectionUtils.makeAccessible(method);
+                    Object value = ReflectionUtils.invokeMethod(method, instance);
+
+                    if (value instanceof Collection) {
+                        value = ((Collection<?>) value).isEmpty() ? null : StringUtils.collectionToCommaDelimitedString((Collection<?>) value);
+                    }
+
+                    if (value != null) {
+                        FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
+                        builder.queryParam("q", String.format("%s%s%s", AnnotationUtils.getValue(annotation), filterParameter.operator(), value));
+                    }
+
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void reflectiveQueries(UriComponentsBuilder builder, Object instance) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+
+        for (Method method : methods) {
+            QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
+            if (queryParameter == null) {
+                continue;
+            }
+
+            ReflectionUtils.makeAccessible(method);
+            Object value = ReflectionUtils.invokeMethod(method, instance);
+
+            if (value != null) {
+                builder.queryParam(queryParameter.value(), value);
+            }
+        }
+    }
+
+}
@@ -16,17 +16,51 @@
 
 package org.cloudfoundry.client.spring.util;
 
+import org.cloudfoundry.client.GeneratedQueryWriters;
 import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.v2.PaginatedRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 public final class QueryBuilderTest {
 
+    @After
+    public void disableReflection() {
+        System.clearProperty(ParameterAccessor.REFLECTION_PROPERTY);
+    }
+
+    @Test
+    public void generated() {
+        ListApplicationsRequest request = ListApplicationsRequest.builder()
+                .name("test-name")
+                .orderDirection(PaginatedRequest.OrderDirection.DESC)
+                .page(2)
+                .build();
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+
+        QueryBuilder.augment(builder, request);
+
+        assertNotNull(GeneratedQueryWriters.get(ListApplicationsRequest.class));
+        MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
+        assertEquals(2, queryParams.size());
+        assertEquals("desc", queryParams.getFirst("order-direction"));
+        assertEquals("2", queryParams.getFirst("page"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void reflectionDisabled() {
+        QueryBuilder.augment(UriComponentsBuilder.newInstance(), new StubQueryParamsSubClass());
+    }
+
     @Test
     public void test() {
+        System.setProperty(ParameterAccessor.REFLECTION_PROPERTY, "true");
         UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
 
         QueryBuilder.augment(builder, new StubQueryParamsSubClass());
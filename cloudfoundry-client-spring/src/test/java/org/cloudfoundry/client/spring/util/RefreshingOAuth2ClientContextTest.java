@@ -0,0 +1,202 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.AccessTokenRequest;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import reactor.fn.Consumer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class RefreshingOAuth2ClientContextTest {
+
+    private final AccessTokenProvider accessTokenProvider = mock(AccessTokenProvider.class, RETURNS_SMART_NULLS);
+
+    private final OAuth2ProtectedResourceDetails resource = mock(OAuth2ProtectedResourceDetails.class, RETURNS_SMART_NULLS);
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class, RETURNS_SMART_NULLS);
+
+    private final RefreshingOAuth2ClientContext context = new RefreshingOAuth2ClientContext(this.resource, this.accessTokenProvider, this.scheduler);
+
+    @Test
+    public void backgroundRefresh() {
+        OAuth2AccessToken accessToken1 = accessToken("test-access-token-1", MINUTES.toMillis(10));
+        OAuth2AccessToken accessToken2 = accessToken("test-access-token-2", MINUTES.toMillis(10));
+
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken1);
+        when(this.accessTokenProvider.supportsRefresh(this.resource)).thenReturn(true);
+        when(this.accessTokenProvider.refreshAccessToken(eq(this.resource), eq(accessToken1.getRefreshToken()), any(AccessTokenRequest.class))).thenReturn(accessToken2);
+
+        assertSame(accessToken1, this.context.getAccessToken());
+        captureScheduled().run();
+
+        assertSame(accessToken2, this.context.getAccessToken());
+        assertEquals(2, this.context.getRefreshCount());
+    }
+
+    @Test
+    public void backgroundRefreshUnused() {
+        OAuth2AccessToken accessToken = accessToken("test-access-token", MINUTES.toMillis(10));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken);
+
+        this.context.getAccessToken();
+        captureScheduled().run();
+        captureScheduled().run();
+
+        assertEquals(2, this.context.getRefreshCount());
+    }
+
+    @Test
+    public void getAccessToken() {
+        OAuth2AccessToken accessToken = accessToken("test-access-token", MINUTES.toMillis(10));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken);
+
+        assertSame(accessToken, this.context.getAccessToken());
+        assertSame(accessToken, this.context.getAccessToken());
+
+        assertEquals(1, this.context.getRefreshCount());
+        verify(this.accessTokenProvider, times(1)).obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class));
+        assertDelay(MINUTES.toMillis(9));
+    }
+
+    @Test
+    public void getAccessTokenExpired() {
+        OAuth2AccessToken accessToken1 = accessToken("test-access-token-1", -SECONDS.toMillis(1));
+        OAuth2AccessToken accessToken2 = accessToken("test-access-token-2", MINUTES.toMillis(10));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken2);
+
+        this.context.setAccessToken(accessToken1);
+
+        assertSame(accessToken2, this.context.getAccessToken());
+    }
+
+    @Test
+    public void getAccessTokenShortLifetime() {
+        OAuth2AccessToken accessToken = accessToken("test-access-token", SECONDS.toMillis(60));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken);
+
+        this.context.getAccessToken();
+
+        assertDelay(SECONDS.toMillis(30));
+    }
+
+    @Test
+    public void listener() {
+        final List<OAuth2AccessToken> accessTokens = new ArrayList<>();
+        OAuth2AccessToken accessToken = accessToken("test-access-token", MINUTES.toMillis(10));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken);
+
+        new RefreshingOAuth2ClientContext(this.resource, this.accessTokenProvider, this.scheduler, new Consumer<OAuth2AccessToken>() {
+
+            @Override
+            public void accept(OAuth2AccessToken accessToken) {
+                accessTokens.add(accessToken);
+            }
+
+        }).getAccessToken();
+
+        assertEquals(Collections.singletonList(accessToken), accessTokens);
+    }
+
+    @Test
+    public void rejected() throws InterruptedException {
+        OAuth2AccessToken accessToken1 = accessToken("test-access-token-1", MINUTES.toMillis(10));
+        OAuth2AccessToken accessToken2 = accessToken("test-access-token-2", MINUTES.toMillis(10));
+        when(this.accessTokenProvider.obtainAccessToken(eq(this.resource), any(AccessTokenRequest.class))).thenReturn(accessToken1, accessToken2);
+
+        assertSame(accessToken1, this.context.getAccessToken());
+
+        Thread other = new Thread() {
+
+            @Override
+            public void run() {
+                RefreshingOAuth2ClientContextTest.this.context.getAccessToken();
+                RefreshingOAuth2ClientContextTest.this.context.setAccessToken(null);
+            }
+
+        };
+        other.start();
+        other.join();
+
+        this.context.setAccessToken(null);
+
+        assertSame(accessToken2, this.context.getAccessToken());
+        assertEquals(2, this.context.getRefreshCount());
+        verify(this.accessTokenProvider, never()).refreshAccessToken(any(OAuth2ProtectedResourceDetails.class), any(OAuth2RefreshToken.class), any(AccessTokenRequest.class));
+    }
+
+    @Test
+    public void setAccessToken() {
+        OAuth2AccessToken accessToken = accessToken("test-access-token", MINUTES.toMillis(10));
+
+        this.context.setAccessToken(accessToken);
+
+        assertSame(accessToken, this.context.getAccessToken());
+        assertEquals(0, this.context.getRefreshCount());
+        assertDelay(MINUTES.toMillis(9));
+    }
+
+    private static OAuth2AccessToken accessToken(String value, long expiresIn) {
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(value);
+        accessToken.setExpiration(new Date(System.currentTimeMillis() + expiresIn));
+        accessToken.setRefreshToken(new DefaultOAuth2RefreshToken(value + "-refresh"));
+        return accessToken;
+    }
+
+    private void assertDelay(long expected) {
+        ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(this.scheduler).schedule(any(Runnable.class), delay.capture(), eq(MILLISECONDS));
+
+        assertTrue(delay.getValue() <= expected);
+        assertTrue(delay.getValue() >= expected - SECONDS.toMillis(1));
+    }
+
+    private Runnable captureScheduled() {
+        ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler, atLeastOnce()).schedule(runnable.capture(), anyLong(), eq(MILLISECONDS));
+        return runnable.getValue();
+    }
+
+}
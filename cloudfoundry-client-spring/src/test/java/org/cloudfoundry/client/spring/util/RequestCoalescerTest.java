@@ -0,0 +1,154 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import reactor.fn.Supplier;
+
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class RequestCoalescerTest {
+
+    private static final URI URI_1 = URI.create("https://api.run.pivotal.io/v2/stacks/test-id-1");
+
+    private static final URI URI_2 = URI.create("https://api.run.pivotal.io/v2/stacks/test-id-2");
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    @Test
+    public void distinctUris() throws Exception {
+        assertEquals("test-value", this.coalescer.execute(URI_1, String.class, value("test-value")).get(5, TimeUnit.SECONDS));
+        assertEquals("test-value", this.coalescer.execute(URI_2, String.class, value("test-value")).get(5, TimeUnit.SECONDS));
+
+        assertEquals(2, this.exchanges.get());
+        assertEquals(2, this.coalescer.getRequests());
+        assertEquals(0, this.coalescer.getCoalesced());
+    }
+
+    @Test
+    public void execute() throws Exception {
+        SettableListenableFuture<String> response = new SettableListenableFuture<>();
+
+        ListenableFuture<String> first = this.coalescer.execute(URI_1, String.class, exchange(response));
+        ListenableFuture<String> second = this.coalescer.execute(URI_1, String.class, value("test-other-value"));
+
+        assertFalse(second.isDone());
+
+        response.set("test-value");
+
+        assertEquals("test-value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("test-value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, this.exchanges.get());
+        assertEquals(0.5, this.coalescer.getHitRate(), 0);
+    }
+
+    @Test
+    public void executeAsync() throws Exception {
+        SettableListenableFuture<String> response = new SettableListenableFuture<>();
+
+        ListenableFuture<String> first = this.coalescer.executeAsync(URI_1, String.class, exchange(response));
+        ListenableFuture<String> second = this.coalescer.executeAsync(URI_1, String.class, exchange(response));
+        response.set("test-value");
+
+        assertEquals("test-value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("test-value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, this.exchanges.get());
+        assertEquals(1, this.coalescer.getCoalesced());
+    }
+
+    @Test
+    public void executeError() throws Exception {
+        SettableListenableFuture<String> response = new SettableListenableFuture<>();
+        IllegalStateException exception = new IllegalStateException("test-message");
+
+        ListenableFuture<String> first = this.coalescer.execute(URI_1, String.class, exchange(response));
+        ListenableFuture<String> second = this.coalescer.execute(URI_1, String.class, value("test-value"));
+        response.setException(exception);
+
+        assertSame(exception, getCause(first));
+        assertSame(exception, getCause(second));
+        assertEquals(1, this.exchanges.get());
+    }
+
+    @Test
+    public void executeThrows() throws Exception {
+        final IllegalStateException exception = new IllegalStateException("test-message");
+
+        ListenableFuture<String> result = this.coalescer.execute(URI_1, String.class, new Supplier<ListenableFuture<String>>() {
+
+            @Override
+            public ListenableFuture<String> get() {
+                throw exception;
+            }
+
+        });
+
+        assertSame(exception, getCause(result));
+        assertEquals("test-value", this.coalescer.execute(URI_1, String.class, value("test-value")).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void notRetained() throws Exception {
+        assertEquals("test-value-1", this.coalescer.execute(URI_1, String.class, value("test-value-1")).get(5, TimeUnit.SECONDS));
+        assertEquals("test-value-2", this.coalescer.execute(URI_1, String.class, value("test-value-2")).get(5, TimeUnit.SECONDS));
+
+        assertEquals(2, this.exchanges.get());
+        assertEquals(0, this.coalescer.getCoalesced());
+    }
+
+    private static Throwable getCause(ListenableFuture<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected an exception");
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private Supplier<ListenableFuture<String>> exchange(final ListenableFuture<String> response) {
+        return new Supplier<ListenableFuture<String>>() {
+
+            @Override
+            public ListenableFuture<String> get() {
+                RequestCoalescerTest.this.exchanges.incrementAndGet();
+                return response;
+            }
+
+        };
+    }
+
+    private Supplier<ListenableFuture<String>> value(String value) {
+        SettableListenableFuture<String> response = new SettableListenableFuture<>();
+        response.set(value);
+
+        return exchange(response);
+    }
+
+}
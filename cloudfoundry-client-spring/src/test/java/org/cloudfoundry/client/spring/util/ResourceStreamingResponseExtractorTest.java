@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.client.v2.Pagination;
+import org.cloudfoundry.client.v2.applications.ApplicationResource;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import reactor.fn.Consumer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.springframework.http.HttpStatus.OK;
+
+public final class ResourceStreamingResponseExtractorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final AtomicReference<Pagination> pagination = new AtomicReference<>();
+
+    private final ResourceStreamingResponseExtractor<ApplicationResource> responseExtractor = new ResourceStreamingResponseExtractor<>(this.objectMapper, ApplicationResource.class,
+            new Consumer<Pagination>() {
+
+                @Override
+                public void accept(Pagination pagination) {
+                    ResourceStreamingResponseExtractorTest.this.pagination.set(pagination);
+                }
+
+            });
+
+    @Test
+    public void extractData() throws Exception {
+        List<ApplicationResource> resources = this.responseExtractor.extractData(response("v2/apps/GET_apps_response.json"));
+
+        assertEquals(3, resources.size());
+        assertEquals(Pagination.builder()
+                .totalPages(1)
+                .totalResults(3)
+                .build(), this.pagination.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void extractDataNotObject() throws Exception {
+        this.responseExtractor.extractData(response("v2/apps/GET_{id}_download_response.bin"));
+    }
+
+    private static MockClientHttpResponse response(String payload) throws IOException {
+        return new MockClientHttpResponse(new ClassPathResource(payload).getInputStream(), OK);
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class ResponseCacheTest {
+
+    private static final URI URI_1 = URI.create("https://api.run.pivotal.io/v2/apps/test-id-1/summary");
+
+    private static final URI URI_2 = URI.create("https://api.run.pivotal.io/v2/apps/test-id-2/summary");
+
+    private final ResponseCache cache = new ResponseCache(1);
+
+    @Test
+    public void eTag() {
+        assertEquals("test-value", this.cache.update(URI_1, String.class, null, response("test-value", eTag("\"test-etag\""), HttpStatus.OK)));
+
+        ResponseCache.Entry<String> entry = this.cache.get(URI_1, String.class);
+        assertNotNull(entry);
+        assertFalse(entry.isFresh());
+        assertEquals("\"test-etag\"", entry.getConditionalHeaders().getFirst("If-None-Match"));
+    }
+
+    @Test
+    public void eviction() {
+        this.cache.update(URI_1, String.class, null, response("test-value-1", eTag("\"test-etag-1\""), HttpStatus.OK));
+        this.cache.update(URI_2, String.class, null, response("test-value-2", eTag("\"test-etag-2\""), HttpStatus.OK));
+
+        assertEquals(1, this.cache.size());
+        assertNull(this.cache.get(URI_1, String.class));
+        assertNotNull(this.cache.get(URI_2, String.class));
+    }
+
+    @Test
+    public void lastModified() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLastModified(1_000_000L);
+
+        this.cache.update(URI_1, String.class, null, response("test-value", headers, HttpStatus.OK));
+
+        assertNotNull(this.cache.get(URI_1, String.class).getConditionalHeaders().getFirst("If-Modified-Since"));
+    }
+
+    @Test
+    public void notModified() {
+        this.cache.update(URI_1, String.class, null, response("test-value", eTag("\"test-etag\""), HttpStatus.OK));
+        ResponseCache.Entry<String> entry = this.cache.get(URI_1, String.class);
+
+        assertEquals("test-value", this.cache.update(URI_1, String.class, entry, response(null, new HttpHeaders(), HttpStatus.NOT_MODIFIED)));
+        assertEquals("\"test-etag\"", this.cache.get(URI_1, String.class).getConditionalHeaders().getFirst("If-None-Match"));
+    }
+
+    @Test
+    public void noValidators() {
+        assertEquals("test-value", this.cache.update(URI_1, String.class, null, response("test-value", new HttpHeaders(), HttpStatus.OK)));
+
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    public void responseTypes() {
+        this.cache.update(URI_1, String.class, null, response("test-value", eTag("\"test-etag\""), HttpStatus.OK));
+
+        assertNull(this.cache.get(URI_1, Object.class));
+    }
+
+    @Test
+    public void timeToLive() {
+        this.cache.timeToLive("/v2/apps/{id}/summary", 1, TimeUnit.HOURS);
+
+        this.cache.update(URI_1, String.class, null, response("test-value", new HttpHeaders(), HttpStatus.OK));
+
+        assertTrue(this.cache.get(URI_1, String.class).isFresh());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSize() {
+        new ResponseCache(0);
+    }
+
+    private static HttpHeaders eTag(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        return headers;
+    }
+
+    private static ResponseEntity<String> response(String body, HttpHeaders headers, HttpStatus status) {
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+}
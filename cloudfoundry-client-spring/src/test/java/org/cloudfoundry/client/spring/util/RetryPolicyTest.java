@@ -0,0 +1,200 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+public final class RetryPolicyTest {
+
+    private static final URI APPS = URI.create("https://api.run.pivotal.io/v2/apps");
+
+    private static final URI RESTAGE = URI.create("https://api.run.pivotal.io/v2/apps/3b3b1b1e-8e2a-4a1b-9a4f-0c2d6e5f7a8b/restage");
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(3, 1, 10, TimeUnit.MILLISECONDS, 0.2);
+
+    @Test
+    public void budgetExhausted() {
+        RetryPolicy retryPolicy = new RetryPolicy(3, 1, 10, TimeUnit.MILLISECONDS, 0);
+
+        for (int i = 0; i < 4; i++) {
+            RetryPolicy.Attempt attempt = retryPolicy.start(GET, APPS);
+            while (attempt.onResponse(503, new HttpHeaders()) >= 0) {
+                // Fails until retries or the budget run out
+            }
+        }
+
+        assertEquals(10, retryPolicy.getRetries());
+        assertEquals(1, retryPolicy.getBudgetExhausted());
+    }
+
+    @Test
+    public void getRetryAfterAbsent() {
+        assertEquals(-1, RetryPolicy.getRetryAfter(new HttpHeaders()));
+    }
+
+    @Test
+    public void getRetryAfterDate() {
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", format.format(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1))));
+
+        long retryAfter = RetryPolicy.getRetryAfter(headers);
+        assertTrue(retryAfter > TimeUnit.SECONDS.toMillis(55) && retryAfter <= TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Test
+    public void getRetryAfterInvalid() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", "test-value");
+
+        assertEquals(-1, RetryPolicy.getRetryAfter(headers));
+    }
+
+    @Test
+    public void getRetryAfterSeconds() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", "2");
+
+        assertEquals(2000, RetryPolicy.getRetryAfter(headers));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBounds() {
+        new RetryPolicy(3, 10, 1, TimeUnit.MILLISECONDS, 0.2);
+    }
+
+    @Test
+    public void maximumRetries() {
+        RetryPolicy.Attempt attempt = this.retryPolicy.start(GET, APPS);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(attempt.onResponse(502, new HttpHeaders()) >= 0);
+        }
+
+        assertEquals(-1, attempt.onResponse(502, new HttpHeaders()));
+        assertEquals(3, this.retryPolicy.getRetries());
+    }
+
+    @Test
+    public void notRetryableFailure() {
+        assertEquals(-1, this.retryPolicy.start(GET, APPS).onFailure(new IllegalStateException("test-exception")));
+    }
+
+    @Test
+    public void notRetryableStatus() {
+        assertEquals(-1, this.retryPolicy.start(GET, APPS).onResponse(500, new HttpHeaders()));
+    }
+
+    @Test
+    public void post() {
+        assertEquals(-1, this.retryPolicy.start(POST, RESTAGE).onResponse(503, new HttpHeaders()));
+    }
+
+    @Test
+    public void postMarkedSafe() {
+        this.retryPolicy.retryPost("/v2/apps/{id}/restage");
+
+        assertTrue(this.retryPolicy.start(POST, RESTAGE).onResponse(503, new HttpHeaders()) >= 0);
+    }
+
+    @Test
+    public void retry() {
+        long delay = this.retryPolicy.start(GET, APPS).onResponse(503, new HttpHeaders());
+
+        assertTrue(delay >= 1 && delay <= 10);
+        assertEquals(1, this.retryPolicy.getRetries());
+    }
+
+    @Test
+    public void retryAfter() {
+        RetryPolicy retryPolicy = new RetryPolicy(3, 1, 5, TimeUnit.SECONDS, 0.2);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", "2");
+
+        assertTrue(retryPolicy.start(GET, APPS).onResponse(503, headers) >= 2000);
+    }
+
+    @Test
+    public void retryAfterTooLong() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", "60");
+
+        assertEquals(-1, this.retryPolicy.start(GET, APPS).onResponse(503, headers));
+    }
+
+    @Test
+    public void retryFailure() {
+        RetryPolicy.Attempt attempt = this.retryPolicy.start(GET, APPS);
+
+        assertTrue(attempt.onFailure(new IOException("test-exception")) >= 0);
+        assertTrue(attempt.onFailure(new ResourceAccessException("test-exception")) >= 0);
+        assertTrue(attempt.onFailure(new HttpServerErrorException(SERVICE_UNAVAILABLE)) >= 0);
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        this.retryPolicy.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+
+        }, 1);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void scheduleBlocking() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        this.retryPolicy.scheduleBlocking(new Runnable() {
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+
+        }, 1);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+}
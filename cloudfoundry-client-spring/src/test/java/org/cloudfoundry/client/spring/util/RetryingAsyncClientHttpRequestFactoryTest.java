@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cloudfoundry.client.spring.util;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+public final class RetryingAsyncClientHttpRequestFactoryTest {
+
+    private static final URI TEST_URI = URI.create("https://api.run.pivotal.io/v2/apps");
+
+    private final AsyncClientHttpRequestFactory delegate = mock(AsyncClientHttpRequestFactory.class, RETURNS_SMART_NULLS);
+
+    private final Attempt first = new Attempt();
+
+    private final RetryingAsyncClientHttpRequestFactory requestFactory = new RetryingAsyncClientHttpRequestFactory(this.delegate, new RetryPolicy(3, 1, 10, TimeUnit.MILLISECONDS, 0.2));
+
+    private final Attempt second = new Attempt();
+
+    @Test
+    public void executeAsync() throws Exception {
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.first.request);
+        this.first.response.set(new MockClientHttpResponse(new byte[0], OK));
+
+        assertEquals(OK, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    @Test
+    public void executeAsyncLimitedPerAttempt() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 100, 20);
+        RetryingAsyncClientHttpRequestFactory requestFactory = new RetryingAsyncClientHttpRequestFactory(new ConcurrencyLimitingAsyncClientHttpRequestFactory(this.delegate, limiter),
+                new RetryPolicy(3, 1, 10, TimeUnit.MILLISECONDS, 0.2));
+
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.first.request, this.second.request);
+        this.first.response.set(new MockClientHttpResponse(new byte[0], SERVICE_UNAVAILABLE));
+        this.second.response.set(new MockClientHttpResponse(new byte[0], OK));
+
+        assertEquals(OK, requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void executeAsyncPost() throws Exception {
+        when(this.delegate.createAsyncRequest(TEST_URI, POST)).thenReturn(this.first.request, this.second.request);
+        this.first.response.set(new MockClientHttpResponse(new byte[0], SERVICE_UNAVAILABLE));
+
+        assertEquals(SERVICE_UNAVAILABLE, this.requestFactory.createAsyncRequest(TEST_URI, POST).executeAsync().get(5, TimeUnit.SECONDS).getStatusCode());
+        verify(this.second.request, never()).executeAsync();
+    }
+
+    @Test
+    public void executeAsyncRetryFailure() throws Exception {
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.first.request, this.second.request);
+        this.first.response.setException(new IOException("test-exception"));
+        this.second.response.set(new MockClientHttpResponse(new byte[0], OK));
+
+        assertEquals(OK, this.requestFactory.createAsyncRequest(TEST_URI, GET).executeAsync().get(5, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    @Test
+    public void executeAsyncRetryStatus() throws Exception {
+        when(this.delegate.createAsyncRequest(TEST_URI, GET)).thenReturn(this.first.request, this.second.request);
+        this.first.response.set(new MockClientHttpResponse(new byte[0], SERVICE_UNAVAILABLE));
+        this.second.response.set(new MockClientHttpResponse(new byte[0], OK));
+
+        AsyncClientHttpRequest request = this.requestFactory.createAsyncRequest(TEST_URI, GET);
+        request.getHeaders().set("test-header", "test-value");
+        request.getBody().write("test-body".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(OK, request.executeAsync().get(5, TimeUnit.SECONDS).getStatusCode());
+        assertEquals("test-value", this.second.headers.getFirst("test-header"));
+        assertEquals("test-body", new String(this.second.body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static final class Attempt {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final AsyncClientHttpRequest request = mock(AsyncClientHttpRequest.class, RETURNS_SMART_NULLS);
+
+        private final SettableListenableFuture<ClientHttpResponse> response = new SettableListenableFuture<>();
+
+        private Attempt() {
+            try {
+                when(this.request.executeAsync()).thenReturn(this.response);
+                when(this.request.getBody()).thenReturn(this.body);
+                when(this.request.getHeaders()).thenReturn(this.headers);
+                when(this.request.getMethod()).thenReturn(GET);
+                when(this.request.getURI()).thenReturn(TEST_URI);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -16,12 +16,16 @@
 
 package org.cloudfoundry.client.spring.v2;
 
+import org.cloudfoundry.client.GeneratedQueryWriters;
+import org.cloudfoundry.client.spring.util.ParameterAccessor;
 import org.cloudfoundry.client.v2.GreaterThanFilterParameter;
 import org.cloudfoundry.client.v2.GreaterThanOrEqualToFilterParameter;
 import org.cloudfoundry.client.v2.InFilterParameter;
 import org.cloudfoundry.client.v2.IsFilterParameter;
 import org.cloudfoundry.client.v2.LessThanFilterParameter;
 import org.cloudfoundry.client.v2.LessThanOrEqualToFilterParameter;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -31,12 +35,41 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public final class FilterBuilderTest {
 
+    @After
+    public void disableReflection() {
+        System.clearProperty(ParameterAccessor.REFLECTION_PROPERTY);
+    }
+
+    @Test
+    public void generated() {
+        ListApplicationsRequest request = ListApplicationsRequest.builder()
+                .name("test-name-1")
+                .name("test-name-2")
+                .page(1)
+                .build();
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+
+        FilterBuilder.augment(builder, request);
+
+        assertNotNull(GeneratedQueryWriters.get(ListApplicationsRequest.class));
+        MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
+        assertEquals(1, queryParams.size());
+        assertEquals(Collections.singletonList("name IN test-name-1,test-name-2"), queryParams.get("q"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void reflectionDisabled() {
+        FilterBuilder.augment(UriComponentsBuilder.newInstance(), new StubFilterParamsSubClass());
+    }
+
     @Test
     public void test() {
+        System.setProperty(ParameterAccessor.REFLECTION_PROPERTY, "true");
         UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
 
         FilterBuilder.augment(builder, new StubFilterParamsSubClass());
@@ -66,6 +66,7 @@ import org.cloudfoundry.client.v2.servicebindings.ServiceBindingEntity;
 import org.cloudfoundry.client.v2.servicebindings.ServiceBindingResource;
 import org.cloudfoundry.client.v2.serviceinstances.ServiceInstance;
 import org.cloudfoundry.utils.test.TestSubscriber;
+import org.reactivestreams.Publisher;
 import org.springframework.core.io.ClassPathResource;
 import reactor.core.publisher.Mono;
 
@@ -824,6 +825,49 @@ public final class SpringApplicationsV2Test {
 
     }
 
+    public static final class ListResources extends AbstractApiTest<ListApplicationsRequest, ApplicationResource> {
+
+        private final SpringApplicationsV2 applications = new SpringApplicationsV2(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected void assertions(TestSubscriber<ApplicationResource> testSubscriber, ApplicationResource expected) {
+            testSubscriber
+                    .assertCount(3);
+        }
+
+        @Override
+        protected ListApplicationsRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("/v2/apps?q=name%20IN%20test-name&page=-1")
+                    .status(OK)
+                    .responsePayload("v2/apps/GET_apps_response.json");
+        }
+
+        @Override
+        protected ApplicationResource getResponse() {
+            return null;
+        }
+
+        @Override
+        protected ListApplicationsRequest getValidRequest() throws Exception {
+            return ListApplicationsRequest.builder()
+                    .name("test-name")
+                    .page(-1)
+                    .build();
+        }
+
+        @Override
+        protected Publisher<ApplicationResource> invoke(ListApplicationsRequest request) {
+            return this.applications.listResources(request, null);
+        }
+
+    }
+
     public static final class RemoveRoute extends AbstractApiTest<RemoveApplicationRouteRequest, Void> {
 
         private final SpringApplicationsV2 applications = new SpringApplicationsV2(this.restTemplate, this.root, PROCESSOR_GROUP);
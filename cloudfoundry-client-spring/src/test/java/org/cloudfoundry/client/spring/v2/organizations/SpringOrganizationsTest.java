@@ -92,6 +92,8 @@ import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.client.v2.users.UserEntity;
 import org.cloudfoundry.client.v2.users.UserResource;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import static org.cloudfoundry.client.v2.Resource.Metadata;
@@ -1271,6 +1273,49 @@ public final class SpringOrganizationsTest {
 
     }
 
+    public static final class ListResources extends AbstractApiTest<ListOrganizationsRequest, OrganizationResource> {
+
+        private final SpringOrganizations organizations = new SpringOrganizations(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected void assertions(TestSubscriber<OrganizationResource> testSubscriber, OrganizationResource expected) {
+            testSubscriber
+                    .assertCount(1);
+        }
+
+        @Override
+        protected ListOrganizationsRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("/v2/organizations?q=name%20IN%20test-name&page=-1")
+                    .status(OK)
+                    .responsePayload("v2/organizations/GET_response.json");
+        }
+
+        @Override
+        protected OrganizationResource getResponse() {
+            return null;
+        }
+
+        @Override
+        protected ListOrganizationsRequest getValidRequest() throws Exception {
+            return ListOrganizationsRequest.builder()
+                    .name("test-name")
+                    .page(-1)
+                    .build();
+        }
+
+        @Override
+        protected Publisher<OrganizationResource> invoke(ListOrganizationsRequest request) {
+            return this.organizations.listResources(request, null);
+        }
+
+    }
+
     public static final class ListServices extends AbstractApiTest<ListOrganizationServicesRequest, ListOrganizationServicesResponse> {
 
         private final SpringOrganizations organizations = new SpringOrganizations(this.restTemplate, this.root, PROCESSOR_GROUP);
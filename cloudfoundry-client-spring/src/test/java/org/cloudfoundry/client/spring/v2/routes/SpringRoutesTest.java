@@ -20,6 +20,8 @@ import org.cloudfoundry.client.spring.AbstractApiTest;
 import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationEntity;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
+import org.cloudfoundry.client.v2.domains.DomainEntity;
+import org.cloudfoundry.client.v2.domains.DomainResource;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationRequest;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationResponse;
 import org.cloudfoundry.client.v2.routes.CreateRouteRequest;
@@ -37,8 +39,14 @@ import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
 import org.cloudfoundry.client.v2.routes.RouteResource;
 import org.cloudfoundry.client.v2.routes.UpdateRouteRequest;
 import org.cloudfoundry.client.v2.routes.UpdateRouteResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+
 import static org.springframework.http.HttpMethod.DELETE;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.POST;
@@ -287,6 +295,93 @@ public final class SpringRoutesTest {
 
     }
 
+    public static final class GetInlineRelations extends AbstractApiTest<GetRouteRequest, GetRouteResponse> {
+
+        private final SpringRoutes routes = new SpringRoutes(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected GetRouteRequest getInvalidRequest() {
+            return GetRouteRequest.builder()
+                    .build();
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("v2/routes/test-id?inline-relations-depth=1")
+                    .status(OK)
+                    .responsePayload("v2/routes/GET_{id}_inline-relations-depth_response.json");
+        }
+
+        @Override
+        protected GetRouteResponse getResponse() {
+            return GetRouteResponse.builder()
+                    .metadata(Resource.Metadata.builder()
+                            .id("75c16cfe-9b8a-4faf-bb65-02c713c7956f")
+                            .url("/v2/routes/75c16cfe-9b8a-4faf-bb65-02c713c7956f")
+                            .createdAt("2015-11-30T23:38:56Z")
+                            .build())
+                    .entity(RouteEntity.builder()
+                            .host("host-18")
+                            .path("")
+                            .port(0)
+                            .domainId("a284da28-3a0b-4e46-8c2f-a4b28f76a09b")
+                            .spaceId("b3f94ab9-1520-478b-a6d6-eb467c179ada")
+                            .domainUrl("/v2/domains/a284da28-3a0b-4e46-8c2f-a4b28f76a09b")
+                            .domain(DomainResource.builder()
+                                    .metadata(Resource.Metadata.builder()
+                                            .id("a284da28-3a0b-4e46-8c2f-a4b28f76a09b")
+                                            .url("/v2/domains/a284da28-3a0b-4e46-8c2f-a4b28f76a09b")
+                                            .createdAt("2015-11-30T23:38:56Z")
+                                            .build())
+                                    .entity(DomainEntity.builder()
+                                            .name("domain-45.example.com")
+                                            .build())
+                                    .build())
+                            .spaceUrl("/v2/spaces/b3f94ab9-1520-478b-a6d6-eb467c179ada")
+                            .space(SpaceResource.builder()
+                                    .metadata(Resource.Metadata.builder()
+                                            .id("b3f94ab9-1520-478b-a6d6-eb467c179ada")
+                                            .url("/v2/spaces/b3f94ab9-1520-478b-a6d6-eb467c179ada")
+                                            .createdAt("2015-11-30T23:38:56Z")
+                                            .build())
+                                    .entity(SpaceEntity.builder()
+                                            .name("name-2035")
+                                            .organizationId("d7ad3d89-8b1f-4e3f-9b2a-ef1e34a1ba5f")
+                                            .organizationUrl("/v2/organizations/d7ad3d89-8b1f-4e3f-9b2a-ef1e34a1ba5f")
+                                            .build())
+                                    .build())
+                            .applicationsUrl("/v2/routes/75c16cfe-9b8a-4faf-bb65-02c713c7956f/apps")
+                            .applications(Collections.singletonList(ApplicationResource.builder()
+                                    .metadata(Resource.Metadata.builder()
+                                            .id("0e5c5ac4-ba28-4d6e-9ad6-e4ea18d35ab9")
+                                            .url("/v2/apps/0e5c5ac4-ba28-4d6e-9ad6-e4ea18d35ab9")
+                                            .createdAt("2015-11-30T23:38:56Z")
+                                            .build())
+                                    .entity(ApplicationEntity.builder()
+                                            .name("name-2036")
+                                            .spaceId("b3f94ab9-1520-478b-a6d6-eb467c179ada")
+                                            .build())
+                                    .build()))
+                            .build())
+                    .build();
+        }
+
+        @Override
+        protected GetRouteRequest getValidRequest() throws Exception {
+            return GetRouteRequest.builder()
+                    .id("test-id")
+                    .inlineRelationsDepth(1)
+                    .build();
+        }
+
+        @Override
+        protected Mono<GetRouteResponse> invoke(GetRouteRequest request) {
+            return this.routes.get(request);
+        }
+
+    }
+
     public static final class List extends AbstractApiTest<ListRoutesRequest, ListRoutesResponse> {
 
         private final SpringRoutes routes = new SpringRoutes(this.restTemplate, this.root, PROCESSOR_GROUP);
@@ -415,6 +510,48 @@ public final class SpringRoutesTest {
 
     }
 
+    public static final class ListResources extends AbstractApiTest<ListRoutesRequest, RouteResource> {
+
+        private final SpringRoutes routes = new SpringRoutes(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected void assertions(TestSubscriber<RouteResource> testSubscriber, RouteResource expected) {
+            testSubscriber
+                    .assertCount(1);
+        }
+
+        @Override
+        protected ListRoutesRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("v2/routes?page=-1")
+                    .status(OK)
+                    .responsePayload("v2/routes/GET_response.json");
+        }
+
+        @Override
+        protected RouteResource getResponse() {
+            return null;
+        }
+
+        @Override
+        protected ListRoutesRequest getValidRequest() {
+            return ListRoutesRequest.builder()
+                    .page(-1)
+                    .build();
+        }
+
+        @Override
+        protected Publisher<RouteResource> invoke(ListRoutesRequest request) {
+            return this.routes.listResources(request, null);
+        }
+
+    }
+
     public static final class RemoveApplication extends AbstractApiTest<RemoveRouteApplicationRequest, Void> {
 
         private final SpringRoutes routes = new SpringRoutes(this.restTemplate, this.root, PROCESSOR_GROUP);
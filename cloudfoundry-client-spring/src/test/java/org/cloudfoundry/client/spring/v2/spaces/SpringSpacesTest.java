@@ -96,6 +96,8 @@ import org.cloudfoundry.client.v2.spaces.UserSpaceRoleEntity;
 import org.cloudfoundry.client.v2.spaces.UserSpaceRoleResource;
 import org.cloudfoundry.client.v2.users.UserEntity;
 import org.cloudfoundry.client.v2.users.UserResource;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import static org.cloudfoundry.client.v2.Resource.Metadata;
@@ -1219,6 +1221,49 @@ public final class SpringSpacesTest {
 
     }
 
+    public static final class ListResources extends AbstractApiTest<ListSpacesRequest, SpaceResource> {
+
+        private final SpringSpaces spaces = new SpringSpaces(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected void assertions(TestSubscriber<SpaceResource> testSubscriber, SpaceResource expected) {
+            testSubscriber
+                    .assertCount(1);
+        }
+
+        @Override
+        protected ListSpacesRequest getInvalidRequest() {
+            return null;
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("/v2/spaces?q=name%20IN%20test-name&page=-1")
+                    .status(OK)
+                    .responsePayload("v2/spaces/GET_response.json");
+        }
+
+        @Override
+        protected SpaceResource getResponse() {
+            return null;
+        }
+
+        @Override
+        protected ListSpacesRequest getValidRequest() throws Exception {
+            return ListSpacesRequest.builder()
+                    .name("test-name")
+                    .page(-1)
+                    .build();
+        }
+
+        @Override
+        protected Publisher<SpaceResource> invoke(ListSpacesRequest request) {
+            return this.spaces.listResources(request, null);
+        }
+
+    }
+
     public static final class ListRoutes extends AbstractApiTest<ListSpaceRoutesRequest, ListSpaceRoutesResponse> {
 
         private final SpringSpaces spaces = new SpringSpaces(this.restTemplate, this.root, PROCESSOR_GROUP);
@@ -17,6 +17,8 @@
 package org.cloudfoundry.client.spring.v2.stacks;
 
 import org.cloudfoundry.client.spring.AbstractApiTest;
+import org.cloudfoundry.client.spring.AbstractRestTest;
+import org.cloudfoundry.client.spring.util.RetryPolicy;
 import org.cloudfoundry.client.v2.Resource.Metadata;
 import org.cloudfoundry.client.v2.stacks.GetStackRequest;
 import org.cloudfoundry.client.v2.stacks.GetStackResponse;
@@ -24,11 +26,17 @@ import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
 import org.cloudfoundry.client.v2.stacks.StackEntity;
 import org.cloudfoundry.client.v2.stacks.StackResource;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.junit.Test;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 public final class SpringStacksTest {
 
@@ -79,6 +87,37 @@ public final class SpringStacksTest {
 
     }
 
+    public static final class GetRetried extends AbstractRestTest {
+
+        private final RetryPolicy retryPolicy = new RetryPolicy(3, 1, 10, MILLISECONDS, 0.2);
+
+        private final SpringStacks stacks = new SpringStacks(this.restTemplate, null, this.root, PROCESSOR_GROUP, null, null, this.retryPolicy);
+
+        private final TestSubscriber<GetStackResponse> testSubscriber = new TestSubscriber<>();
+
+        @Test
+        public void retried() throws InterruptedException {
+            mockRequest(new RequestContext()
+                    .method(GET).path("/v2/stacks/test-id")
+                    .status(SERVICE_UNAVAILABLE));
+            mockRequest(new RequestContext()
+                    .method(GET).path("/v2/stacks/test-id")
+                    .status(OK)
+                    .responsePayload("v2/stacks/GET_{id}_response.json"));
+
+            this.testSubscriber.assertCount(1);
+            this.stacks.get(GetStackRequest.builder()
+                    .id("test-id")
+                    .build())
+                    .subscribe(this.testSubscriber);
+
+            this.testSubscriber.verify(5, SECONDS);
+            verify();
+            assertEquals(1, this.retryPolicy.getRetries());
+        }
+
+    }
+
     public static final class List extends AbstractApiTest<ListStacksRequest, ListStacksResponse> {
 
         private final SpringStacks stacks = new SpringStacks(this.restTemplate, this.root, PROCESSOR_GROUP);
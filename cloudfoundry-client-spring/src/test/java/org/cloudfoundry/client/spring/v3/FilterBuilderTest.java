@@ -16,7 +16,9 @@
 
 package org.cloudfoundry.client.spring.v3;
 
+import org.cloudfoundry.client.spring.util.ParameterAccessor;
 import org.cloudfoundry.client.v3.FilterParameter;
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -29,8 +31,19 @@ import static org.junit.Assert.assertEquals;
 
 public final class FilterBuilderTest {
 
+    @After
+    public void disableReflection() {
+        System.clearProperty(ParameterAccessor.REFLECTION_PROPERTY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void reflectionDisabled() {
+        FilterBuilder.augment(UriComponentsBuilder.newInstance(), new StubFilterParamsSubClass());
+    }
+
     @Test
     public void test() {
+        System.setProperty(ParameterAccessor.REFLECTION_PROPERTY, "true");
         UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
 
         FilterBuilder.augment(builder, new StubFilterParamsSubClass());
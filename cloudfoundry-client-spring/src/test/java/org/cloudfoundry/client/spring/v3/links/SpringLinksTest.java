@@ -0,0 +1,154 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.spring.v3.links;
+
+import org.cloudfoundry.client.spring.AbstractApiTest;
+import org.cloudfoundry.client.spring.AbstractRestTest;
+import org.cloudfoundry.client.v3.Hash;
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse.Pagination;
+import org.cloudfoundry.client.v3.links.FollowLinkRequest;
+import org.cloudfoundry.client.v3.packages.ListPackagesResponse;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.cloudfoundry.client.v3.packages.ListPackagesResponse.Resource;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpStatus.OK;
+
+public final class SpringLinksTest {
+
+    public static final class Follow extends AbstractApiTest<FollowLinkRequest, ListPackagesResponse> {
+
+        private final SpringLinks links = new SpringLinks(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Override
+        protected FollowLinkRequest getInvalidRequest() {
+            return FollowLinkRequest.builder()
+                    .build();
+        }
+
+        @Override
+        protected RequestContext getRequestContext() {
+            return new RequestContext()
+                    .method(GET).path("/v3/packages?page=2&per_page=2")
+                    .status(OK)
+                    .responsePayload("v3/packages/GET_response.json");
+        }
+
+        @Override
+        protected ListPackagesResponse getResponse() {
+            return ListPackagesResponse.builder()
+                    .pagination(Pagination.builder()
+                            .totalResults(3)
+                            .first(Link.builder()
+                                    .href("/v3/packages?page=1&per_page=2")
+                                    .build())
+                            .last(Link.builder()
+                                    .href("/v3/packages?page=2&per_page=2")
+                                    .build())
+                            .next(Link.builder()
+                                    .href("/v3/packages?page=2&per_page=2")
+                                    .build())
+                            .build())
+                    .resource(Resource.builder()
+                            .id("guid-84ffc554-5d3a-4ea3-bfeb-d796fa82bf7a")
+                            .type("bits")
+                            .hash(Hash.builder()
+                                    .type("sha1")
+                                    .build())
+                            .state("AWAITING_UPLOAD")
+                            .createdAt("2015-07-27T22:43:15Z")
+                            .link("self", Link.builder()
+                                    .href("/v3/packages/guid-84ffc554-5d3a-4ea3-bfeb-d796fa82bf7a")
+                                    .build())
+                            .link("upload", Link.builder()
+                                    .href("/v3/packages/guid-84ffc554-5d3a-4ea3-bfeb-d796fa82bf7a/upload")
+                                    .method("POST")
+                                    .build())
+                            .link("download", Link.builder()
+                                    .href("/v3/packages/guid-84ffc554-5d3a-4ea3-bfeb-d796fa82bf7a/download")
+                                    .method("GET")
+                                    .build())
+                            .link("stage", Link.builder()
+                                    .href("/v3/packages/guid-84ffc554-5d3a-4ea3-bfeb-d796fa82bf7a/droplets")
+                                    .method("POST")
+                                    .build())
+                            .link("app", Link.builder()
+                                    .href("/v3/apps/guid-ec3d91b9-a9c7-4fec-a0d1-d2dfe1c7bac4")
+                                    .build())
+                            .build())
+                    .resource(Resource.builder()
+                            .id("guid-caa0f920-0f24-4a80-b7e4-3119758901c3")
+                            .type("docker")
+                            .hash(Hash.builder()
+                                    .type("sha1")
+                                    .build())
+                            .url("http://docker-repo/my-image")
+                            .state("READY")
+                            .createdAt("2015-07-27T22:43:15Z")
+                            .link("self", Link.builder()
+                                    .href("/v3/packages/guid-caa0f920-0f24-4a80-b7e4-3119758901c3")
+                                    .build())
+                            .link("app", Link.builder()
+                                    .href("/v3/apps/guid-ec3d91b9-a9c7-4fec-a0d1-d2dfe1c7bac4")
+                                    .build())
+                            .build())
+                    .build();
+        }
+
+        @Override
+        protected FollowLinkRequest getValidRequest() {
+            return FollowLinkRequest.builder()
+                    .link(Link.builder()
+                            .href("/v3/packages?page=2&per_page=2")
+                            .build())
+                    .build();
+        }
+
+        @Override
+        protected Mono<ListPackagesResponse> invoke(FollowLinkRequest request) {
+            return this.links.follow(request, ListPackagesResponse.class);
+        }
+
+    }
+
+    public static final class FollowOtherServer extends AbstractRestTest {
+
+        private final SpringLinks links = new SpringLinks(this.restTemplate, this.root, PROCESSOR_GROUP);
+
+        @Test
+        public void follow() throws InterruptedException {
+            FollowLinkRequest request = FollowLinkRequest.builder()
+                    .link(Link.builder()
+                            .href("https://example.com/v3/packages?page=2&per_page=2")
+                            .build())
+                    .build();
+
+            TestSubscriber<ListPackagesResponse> testSubscriber = new TestSubscriber<ListPackagesResponse>()
+                    .assertError(IllegalArgumentException.class);
+
+            this.links.follow(request, ListPackagesResponse.class).subscribe(testSubscriber);
+
+            testSubscriber.verify(5, SECONDS);
+        }
+
+    }
+
+}
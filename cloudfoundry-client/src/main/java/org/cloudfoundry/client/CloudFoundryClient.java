@@ -33,6 +33,7 @@ import org.cloudfoundry.client.v2.stacks.Stacks;
 import org.cloudfoundry.client.v2.users.Users;
 import org.cloudfoundry.client.v3.applications.ApplicationsV3;
 import org.cloudfoundry.client.v3.droplets.Droplets;
+import org.cloudfoundry.client.v3.links.Links;
 import org.cloudfoundry.client.v3.packages.Packages;
 
 /**
@@ -94,6 +95,13 @@ public interface CloudFoundryClient {
      */
     Jobs jobs();
 
+    /**
+     * Main entry point to the Cloud Foundry Links Client API
+     *
+     * @return the Cloud Foundry Links Client API
+     */
+    Links links();
+
     /**
      * Main entry point to the Cloud Foundry Organizations Client API
      *
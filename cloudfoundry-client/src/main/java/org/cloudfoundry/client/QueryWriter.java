@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Base class for the query writers generated at compile time for each request type.  A writer renders the path variables, filter and query parameters of a request without runtime reflection.
+ */
+public abstract class QueryWriter {
+
+    /**
+     * The path variables of a request whose path has none
+     */
+    protected static final Object[] NO_VARIABLES = new Object[0];
+
+    /**
+     * Returns the path declared by the {@link RequestPath} annotation of the request type
+     *
+     * @return the path template, or {@code null} if the request type does not declare one
+     */
+    public abstract String getPath();
+
+    /**
+     * Returns the values of the variables of the path of a request
+     *
+     * @param request the request to read
+     * @return the values of the variables, in the order they appear in the path
+     */
+    public abstract Object[] getPathVariables(Object request);
+
+    /**
+     * Writes the filter parameters of a request
+     *
+     * @param request the request to write
+     * @param sink    the sink to write parameters to
+     */
+    public abstract void writeFilters(Object request, Sink sink);
+
+    /**
+     * Writes the query parameters of a request
+     *
+     * @param request the request to write
+     * @param sink    the sink to write parameters to
+     */
+    public abstract void writeQueries(Object request, Sink sink);
+
+    /**
+     * Writes a query parameter if its value is not {@code null}
+     *
+     * @param sink  the sink to write to
+     * @param name  the name of the parameter
+     * @param value the value of the parameter
+     */
+    protected static void addQuery(Sink sink, String name, Object value) {
+        if (value != null) {
+            sink.add(name, value);
+        }
+    }
+
+    /**
+     * Writes a Cloud Foundry V2 filter if its value is not {@code null} or empty.  Collections are rendered as a comma delimited list.
+     *
+     * @param sink   the sink to write to
+     * @param prefix the rendered name and operator of the filter
+     * @param value  the value of the filter
+     */
+    protected static void addV2Filter(Sink sink, String prefix, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (!(value instanceof Collection)) {
+            sink.add("q", prefix + value);
+            return;
+        }
+
+        Collection<?> collection = (Collection<?>) value;
+        if (collection.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder(prefix);
+        for (Iterator<?> i = collection.iterator(); i.hasNext(); ) {
+            sb.append(i.next());
+            if (i.hasNext()) {
+                sb.append(',');
+            }
+        }
+
+        sink.add("q", sb.toString());
+    }
+
+    /**
+     * Writes a Cloud Foundry V3 filter if its value is not {@code null}.  Each item of a collection is written as a separate {@code name[]} parameter.
+     *
+     * @param sink  the sink to write to
+     * @param name  the name of the filter
+     * @param value the value of the filter
+     */
+    protected static void addV3Filter(Sink sink, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (!(value instanceof Collection)) {
+            sink.add(name, value);
+            return;
+        }
+
+        String collectionName = name + "[]";
+        for (Object item : (Collection<?>) value) {
+            sink.add(collectionName, item);
+        }
+    }
+
+    /**
+     * A destination for rendered parameters
+     */
+    public interface Sink {
+
+        /**
+         * Adds a parameter
+         *
+         * @param name  the name of the parameter
+         * @param value the value of the parameter
+         */
+        void add(String name, Object value);
+
+    }
+
+}
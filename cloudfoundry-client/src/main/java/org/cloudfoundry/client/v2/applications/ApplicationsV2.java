@@ -16,8 +16,10 @@
 
 package org.cloudfoundry.client.v2.applications;
 
+import org.cloudfoundry.client.v2.Pagination;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.fn.Consumer;
 
 /**
  * Main entry point to the Cloud Foundry Applications V2 Client API
@@ -106,6 +108,16 @@ public interface ApplicationsV2 {
      */
     Mono<ListApplicationsResponse> list(ListApplicationsRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/214/apps/list_all_apps.html">List all Apps</a> request, reading each resource from
+     * the response as it is parsed rather than deserializing the entire page into a response first
+     *
+     * @param request            the List Applications request
+     * @param paginationCallback a callback that receives the pagination metadata of the response before any resource is emitted.  May be {@code null}.
+     * @return the resources from the List Applications request
+     */
+    Publisher<ApplicationResource> listResources(ListApplicationsRequest request, Consumer<Pagination> paginationCallback);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/214/apps/list_all_routes_for_the_app.html">List all Routes for the Application</a> request
      *
@@ -16,7 +16,10 @@
 
 package org.cloudfoundry.client.v2.organizations;
 
+import org.cloudfoundry.client.v2.Pagination;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.fn.Consumer;
 
 /**
  * Main entry point to the Cloud Foundry Organizations Client API
@@ -185,6 +188,16 @@ public interface Organizations {
      */
     Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(ListOrganizationPrivateDomainsRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/214/organizations/list_all_organizations.html">List Organizations</a> request, reading each resource from
+     * the response as it is parsed rather than deserializing the entire page into a response first
+     *
+     * @param request            the List Organizations request
+     * @param paginationCallback a callback that receives the pagination metadata of the response before any resource is emitted.  May be {@code null}.
+     * @return the resources from the List Organizations request
+     */
+    Publisher<OrganizationResource> listResources(ListOrganizationsRequest request, Consumer<Pagination> paginationCallback);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/214/organizations/list_all_services_for_the_organization.html">List all Services for the Organization</a> request
      *
@@ -16,7 +16,10 @@
 
 package org.cloudfoundry.client.v2.routes;
 
+import org.cloudfoundry.client.v2.Pagination;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.fn.Consumer;
 
 /**
  * Main entry point to the Cloud Foundry Routes V2 Client API
@@ -79,6 +82,16 @@ public interface Routes {
      */
     Mono<ListRouteApplicationsResponse> listApplications(ListRouteApplicationsRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/214/routes/list_all_routes.html">List all Routes</a> request, reading each resource from
+     * the response as it is parsed rather than deserializing the entire page into a response first
+     *
+     * @param request            the List Routes request
+     * @param paginationCallback a callback that receives the pagination metadata of the response before any resource is emitted.  May be {@code null}.
+     * @return the resources from the List Routes request
+     */
+    Publisher<RouteResource> listResources(ListRoutesRequest request, Consumer<Pagination> paginationCallback);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/226/routes/remove_app_from_the_route.html">Remove Application from the Route</a> request
      *
@@ -16,7 +16,10 @@
 
 package org.cloudfoundry.client.v2.spaces;
 
+import org.cloudfoundry.client.v2.Pagination;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.fn.Consumer;
 
 /**
  * Main entry point to the Cloud Foundry Spaces Client API
@@ -167,6 +170,16 @@ public interface Spaces {
      */
     Mono<ListSpaceManagersResponse> listManagers(ListSpaceManagersRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/214/spaces/list_all_spaces.html">List Spaces</a> request, reading each resource from
+     * the response as it is parsed rather than deserializing the entire page into a response first
+     *
+     * @param request            the List Spaces request
+     * @param paginationCallback a callback that receives the pagination metadata of the response before any resource is emitted.  May be {@code null}.
+     * @return the resources from the List Spaces request
+     */
+    Publisher<SpaceResource> listResources(ListSpacesRequest request, Consumer<Pagination> paginationCallback);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/214/spaces/list_all_routes_for_the_space.html">List all Routes for the Space</a> request
      *
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.links;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Main entry point to the Cloud Foundry Links Client API
+ */
+public interface Links {
+
+    /**
+     * Follows a {@link org.cloudfoundry.client.v3.Link} returned in a previous response, such as the {@code next} link of a paginated response
+     *
+     * @param request      the Follow Link request
+     * @param responseType the type of the response that the link identifies
+     * @param <T>          the type of the response
+     * @return the response from the Follow Link request
+     */
+    <T> Mono<T> follow(FollowLinkRequest request, Class<T> responseType);
+
+}
@@ -27,6 +27,15 @@ import org.cloudfoundry.client.QueryParameter;
 @Data
 public abstract class PaginatedRequest {
 
+    /**
+     * The depth to which related resources are inlined in each resource
+     *
+     * @param inlineRelationsDepth the depth to which related resources are inlined
+     * @return the depth to which related resources are inlined
+     */
+    @Getter(onMethod = @__(@QueryParameter("inline-relations-depth")))
+    private final Integer inlineRelationsDepth;
+
     /**
      * The order direction
      *
@@ -55,6 +64,11 @@ public abstract class PaginatedRequest {
     private final Integer resultsPerPage;
 
     protected PaginatedRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
+        this(null, orderDirection, page, resultsPerPage);
+    }
+
+    protected PaginatedRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
+        this.inlineRelationsDepth = inlineRelationsDepth;
         this.orderDirection = orderDirection;
         this.page = page;
         this.resultsPerPage = resultsPerPage;
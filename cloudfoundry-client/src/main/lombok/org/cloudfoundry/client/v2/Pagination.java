@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v2;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The pagination metadata of a paginated response whose resources are read incrementally rather than deserialized into a response
+ */
+@Data
+public final class Pagination {
+
+    /**
+     * The next url
+     *
+     * @param nextUrl the next url
+     * @return the next url
+     */
+    private final String nextUrl;
+
+    /**
+     * The previous url
+     *
+     * @param previousUrl the previous url
+     * @return the previous url
+     */
+    private final String previousUrl;
+
+    /**
+     * The total pages
+     *
+     * @param totalPages the total pages
+     * @return the total pages
+     */
+    private final Integer totalPages;
+
+    /**
+     * The total results
+     *
+     * @param totalResults the total results
+     * @return the total results
+     */
+    private final Integer totalResults;
+
+    @Builder
+    Pagination(String nextUrl,
+               String previousUrl,
+               Integer totalPages,
+               Integer totalResults) {
+        this.nextUrl = nextUrl;
+        this.previousUrl = previousUrl;
+        this.totalPages = totalPages;
+        this.totalResults = totalResults;
+    }
+
+}
@@ -21,6 +21,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -28,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Associate Route with the Application operation
  */
 @Data
+@RequestPath("/v2/apps/{id}/routes/{routeId}")
 @ToString(callSuper = true)
 public final class AssociateApplicationRouteRequest implements Validatable {
 
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -28,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Copy the Application operation
  */
 @Data
+@RequestPath("/v2/apps/{id}/copy_bits")
 public final class CopyApplicationRequest implements Validatable {
 
     /**
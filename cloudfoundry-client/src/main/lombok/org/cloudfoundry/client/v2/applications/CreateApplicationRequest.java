@@ -22,6 +22,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Singular;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -33,6 +34,7 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
  * The request payload for the v2 Create Application request
  */
 @Data
+@RequestPath("/v2/apps")
 public final class CreateApplicationRequest implements Validatable {
 
     /**
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/apps/{id}/routes")
 @ToString(callSuper = true)
 public final class ListApplicationRoutesRequest extends PaginatedRequest implements Validatable {
 
@@ -93,14 +95,14 @@ public final class ListApplicationRoutesRequest extends PaginatedRequest impleme
     private final List<String> ports;
 
     @Builder
-    ListApplicationRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationRoutesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                  @Singular List<String> domainIds,
                                  String id,
                                  @Singular List<String> hosts,
                                  @Singular List<String> organizationIds,
                                  @Singular List<String> paths,
                                  @Singular List<String> ports) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.domainIds = domainIds;
         this.id = id;
         this.hosts = hosts;
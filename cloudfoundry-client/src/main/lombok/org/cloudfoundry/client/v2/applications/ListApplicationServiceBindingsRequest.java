@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/apps/{id}/service_bindings")
 @ToString(callSuper = true)
 public final class ListApplicationServiceBindingsRequest extends PaginatedRequest implements Validatable {
 
@@ -57,10 +59,10 @@ public final class ListApplicationServiceBindingsRequest extends PaginatedReques
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListApplicationServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationServiceBindingsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                           @Singular List<String> serviceInstanceIds,
                                           String id) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.serviceInstanceIds = serviceInstanceIds;
         this.id = id;
     }
@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/apps")
 @ToString(callSuper = true)
 public final class ListApplicationsRequest extends PaginatedRequest implements Validatable {
 
@@ -84,13 +86,13 @@ public final class ListApplicationsRequest extends PaginatedRequest implements V
     private final List<String> stackIds;
 
     @Builder
-    ListApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListApplicationsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                             Boolean diego,
                             @Singular List<String> names,
                             @Singular List<String> organizationIds,
                             @Singular List<String> spaceIds,
                             @Singular List<String> stackIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.diego = diego;
         this.names = names;
@@ -22,6 +22,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Singular;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -32,6 +33,7 @@ import java.util.List;
  * Request payload for the Upload Application request.
  */
 @Data
+@RequestPath("/v2/apps/{id}/bits")
 public final class UploadApplicationRequest implements Validatable {
 
     /**
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/domains/{id}/spaces")
 @ToString(callSuper = true)
 public final class ListDomainSpacesRequest extends PaginatedRequest implements Validatable {
 
@@ -84,13 +86,13 @@ public final class ListDomainSpacesRequest extends PaginatedRequest implements V
     private final List<String> organizationIds;
 
     @Builder
-    ListDomainSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListDomainSpacesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                             @Singular List<String> applicationIds,
                             @Singular List<String> developerIds,
                             String id,
                             @Singular List<String> names,
                             @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.applicationIds = applicationIds;
         this.developerIds = developerIds;
         this.id = id;
@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/domains")
 @ToString(callSuper = true)
 public final class ListDomainsRequest extends PaginatedRequest implements Validatable {
 
@@ -56,10 +58,10 @@ public final class ListDomainsRequest extends PaginatedRequest implements Valida
     private final List<String> owningOrganizationIds;
 
     @Builder
-    ListDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListDomainsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                        @Singular List<String> names,
                        @Singular List<String> owningOrganizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.names = names;
         this.owningOrganizationIds = owningOrganizationIds;
     }
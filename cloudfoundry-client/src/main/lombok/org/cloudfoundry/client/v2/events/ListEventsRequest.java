@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.GreaterThanOrEqualToFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/events")
 @ToString(callSuper = true)
 public final class ListEventsRequest extends PaginatedRequest implements Validatable {
 
@@ -66,11 +68,11 @@ public final class ListEventsRequest extends PaginatedRequest implements Validat
     private final List<String> types;
 
     @Builder
-    ListEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListEventsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                       @Singular List<String> actees,
                       @Singular List<String> timestamps,
                       @Singular List<String> types) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.actees = actees;
         this.timestamps = timestamps;
         this.types = types;
@@ -18,6 +18,7 @@ package org.cloudfoundry.client.v2.info;
 
 import lombok.Builder;
 import lombok.Data;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -25,6 +26,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Get Info operation
  */
 @Data
+@RequestPath("/v2/info")
 public final class GetInfoRequest implements Validatable {
 
     @Builder
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -28,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Associate Auditor with the Organization by Username operation
  */
 @Data
+@RequestPath("/v2/organizations/{id}/auditors")
 public final class AssociateOrganizationAuditorByUsernameRequest implements Validatable {
 
     /**
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -27,6 +28,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Retrieving an organizations instance usage operation
  */
 @Data
+@RequestPath("/v2/organizations/{id}/instance_usage")
 public final class GetOrganizationInstanceUsageRequest implements Validatable {
 
     /**
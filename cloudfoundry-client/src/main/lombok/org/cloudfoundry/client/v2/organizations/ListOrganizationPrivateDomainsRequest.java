@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/organizations/{id}/private_domains")
 @ToString(callSuper = true)
 public final class ListOrganizationPrivateDomainsRequest extends PaginatedRequest implements Validatable {
 
@@ -57,10 +59,10 @@ public final class ListOrganizationPrivateDomainsRequest extends PaginatedReques
     private final List<String> names;
 
     @Builder
-    ListOrganizationPrivateDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationPrivateDomainsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                           String id,
                                           @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.id = id;
         this.names = names;
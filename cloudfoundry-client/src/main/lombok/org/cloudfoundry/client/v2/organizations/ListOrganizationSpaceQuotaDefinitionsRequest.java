@@ -22,6 +22,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
@@ -31,6 +32,7 @@ import org.cloudfoundry.client.v2.PaginatedRequest;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/organizations/{id}/space_quota_definitions")
 @ToString(callSuper = true)
 public final class ListOrganizationSpaceQuotaDefinitionsRequest extends PaginatedRequest implements Validatable {
 
@@ -44,9 +46,9 @@ public final class ListOrganizationSpaceQuotaDefinitionsRequest extends Paginate
     private final String id;
 
     @Builder
-    ListOrganizationSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationSpaceQuotaDefinitionsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                                  String id) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.id = id;
     }
 
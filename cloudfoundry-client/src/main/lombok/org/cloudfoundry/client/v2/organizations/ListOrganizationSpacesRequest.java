@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/organizations/{id}/spaces")
 @ToString(callSuper = true)
 public final class ListOrganizationSpacesRequest extends PaginatedRequest implements Validatable {
 
@@ -84,13 +86,13 @@ public final class ListOrganizationSpacesRequest extends PaginatedRequest implem
     private final List<String> organizationIds;
 
     @Builder
-    ListOrganizationSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationSpacesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                   @Singular List<String> appIds,
                                   @Singular List<String> developerIds,
                                   String id,
                                   @Singular List<String> names,
                                   @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.appIds = appIds;
         this.developerIds = developerIds;
@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/organizations")
 @ToString(callSuper = true)
 public final class ListOrganizationsRequest extends PaginatedRequest implements Validatable {
 
@@ -101,7 +103,7 @@ public final class ListOrganizationsRequest extends PaginatedRequest implements
     private final List<String> userIds;
 
     @Builder
-    ListOrganizationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListOrganizationsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                              @Singular List<String> auditorIds,
                              @Singular List<String> billingManagerIds,
                              @Singular List<String> managerIds,
@@ -109,7 +111,7 @@ public final class ListOrganizationsRequest extends PaginatedRequest implements
                              @Singular List<String> spaceIds,
                              @Singular List<String> statuses,
                              @Singular List<String> userIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.auditorIds = auditorIds;
         this.billingManagerIds = billingManagerIds;
         this.managerIds = managerIds;
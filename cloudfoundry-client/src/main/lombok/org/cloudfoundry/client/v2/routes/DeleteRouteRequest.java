@@ -21,6 +21,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -28,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Delete a Particular Route operation
  */
 @Data
+@RequestPath("/v2/routes/{id}")
 public final class DeleteRouteRequest implements Validatable {
 
     /**
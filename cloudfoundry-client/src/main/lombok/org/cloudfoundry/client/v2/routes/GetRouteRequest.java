@@ -20,6 +20,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -27,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Retrieve a Particular Route operation
  */
 @Data
+@RequestPath("/v2/routes/{id}")
 public final class GetRouteRequest implements Validatable {
 
     /**
@@ -38,9 +41,19 @@ public final class GetRouteRequest implements Validatable {
     @Getter(onMethod = @__(@JsonIgnore))
     private final String id;
 
+    /**
+     * The depth to which related resources are inlined
+     *
+     * @param inlineRelationsDepth the depth to which related resources are inlined
+     * @return the depth to which related resources are inlined
+     */
+    @Getter(onMethod = @__(@QueryParameter("inline-relations-depth")))
+    private final Integer inlineRelationsDepth;
+
     @Builder
-    GetRouteRequest(String id) {
+    GetRouteRequest(String id, Integer inlineRelationsDepth) {
         this.id = id;
+        this.inlineRelationsDepth = inlineRelationsDepth;
     }
 
     @Override
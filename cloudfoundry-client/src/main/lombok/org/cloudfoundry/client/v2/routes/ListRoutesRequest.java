@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/routes")
 @ToString(callSuper = true)
 public final class ListRoutesRequest extends PaginatedRequest implements Validatable {
 
@@ -75,12 +77,12 @@ public final class ListRoutesRequest extends PaginatedRequest implements Validat
     private final List<String> paths;
 
     @Builder
-    ListRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListRoutesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                       @Singular List<String> domainIds,
                       @Singular List<String> hosts,
                       String organizationId,
                       @Singular List<String> paths) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.domainIds = domainIds;
         this.hosts = hosts;
@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/service_bindings")
 @ToString(callSuper = true)
 public final class ListServiceBindingsRequest extends PaginatedRequest implements Validatable {
 
@@ -56,10 +58,10 @@ public final class ListServiceBindingsRequest extends PaginatedRequest implement
     private final List<String> serviceInstanceIds;
 
     @Builder
-    ListServiceBindingsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceBindingsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                @Singular List<String> applicationIds,
                                @Singular List<String> serviceInstanceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.applicationIds = applicationIds;
         this.serviceInstanceIds = serviceInstanceIds;
     }
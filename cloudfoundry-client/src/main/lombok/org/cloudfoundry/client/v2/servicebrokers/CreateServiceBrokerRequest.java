@@ -19,12 +19,14 @@ package org.cloudfoundry.client.v2.servicebrokers;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
 /**
  * The request payload for the Create Service Broker
  */
+@RequestPath("/v2/service_brokers")
 public final class CreateServiceBrokerRequest implements Validatable {
 
     /**
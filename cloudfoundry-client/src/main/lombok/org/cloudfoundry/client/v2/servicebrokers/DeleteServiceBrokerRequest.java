@@ -20,9 +20,11 @@ package org.cloudfoundry.client.v2.servicebrokers;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
+@RequestPath("/v2/service_brokers/{id}")
 public final class DeleteServiceBrokerRequest implements Validatable {
 
     /**
@@ -23,6 +23,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
 import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -34,6 +35,7 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
 /**
  * The request payload for the Create Service Instance
  */
+@RequestPath("/v2/service_instances")
 public final class CreateServiceInstanceRequest implements Validatable {
 
     /**
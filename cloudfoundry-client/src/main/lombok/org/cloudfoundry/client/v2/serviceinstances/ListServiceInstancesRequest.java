@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/service_instances")
 @ToString(callSuper = true)
 public final class ListServiceInstancesRequest extends PaginatedRequest implements Validatable {
 
@@ -101,7 +103,7 @@ public final class ListServiceInstancesRequest extends PaginatedRequest implemen
     private final List<String> spaceIds;
 
     @Builder
-    ListServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListServiceInstancesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                 @Singular List<String> gatewayNames,
                                 @Singular List<String> names,
                                 @Singular List<String> organizationIds,
@@ -109,7 +111,7 @@ public final class ListServiceInstancesRequest extends PaginatedRequest implemen
                                 @Singular List<String> serviceKeyIds,
                                 @Singular List<String> servicePlanIds,
                                 @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.gatewayNames = gatewayNames;
         this.names = names;
         this.organizationIds = organizationIds;
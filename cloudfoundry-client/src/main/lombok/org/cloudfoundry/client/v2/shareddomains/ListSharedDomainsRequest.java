@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/shared_domains")
 @ToString(callSuper = true)
 public final class ListSharedDomainsRequest extends PaginatedRequest implements Validatable {
 
@@ -47,9 +49,9 @@ public final class ListSharedDomainsRequest extends PaginatedRequest implements
     private final List<String> names;
 
     @Builder
-    ListSharedDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSharedDomainsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                              @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.names = names;
     }
@@ -20,6 +20,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
@@ -29,12 +30,13 @@ import org.cloudfoundry.client.v2.PaginatedRequest;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/space_quota_definitions")
 @ToString(callSuper = true)
 public final class ListSpaceQuotaDefinitionsRequest extends PaginatedRequest implements Validatable {
 
     @Builder
-    ListSpaceQuotaDefinitionsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
-        super(orderDirection, page, resultsPerPage);
+    ListSpaceQuotaDefinitionsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage) {
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
     }
 
     @Override
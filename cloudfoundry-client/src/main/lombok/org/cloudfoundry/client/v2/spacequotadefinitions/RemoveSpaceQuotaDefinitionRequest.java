@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -27,6 +28,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Remove Space from the Space Quota Definition operation
  */
 @Data
+@RequestPath("/v2/space_quota_definitions/{id}/spaces/{spaceId}")
 public class RemoveSpaceQuotaDefinitionRequest implements Validatable {
 
     /**
@@ -22,6 +22,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Singular;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -33,6 +34,7 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
  * The request payload for the Creating a Space operation
  */
 @Data
+@RequestPath("/v2/spaces")
 public final class CreateSpaceRequest implements Validatable {
 
     /**
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.QueryParameter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -27,6 +29,7 @@ import org.cloudfoundry.client.ValidationResult;
  * The request payload for the Get Space operation
  */
 @Data
+@RequestPath("/v2/spaces/{id}")
 public final class GetSpaceRequest implements Validatable {
 
     /**
@@ -38,9 +41,19 @@ public final class GetSpaceRequest implements Validatable {
     @Getter(onMethod = @__(@JsonIgnore))
     private final String id;
 
+    /**
+     * The depth to which related resources are inlined
+     *
+     * @param inlineRelationsDepth the depth to which related resources are inlined
+     * @return the depth to which related resources are inlined
+     */
+    @Getter(onMethod = @__(@QueryParameter("inline-relations-depth")))
+    private final Integer inlineRelationsDepth;
+
     @Builder
-    GetSpaceRequest(String id) {
+    GetSpaceRequest(String id, Integer inlineRelationsDepth) {
         this.id = id;
+        this.inlineRelationsDepth = inlineRelationsDepth;
     }
 
     @Override
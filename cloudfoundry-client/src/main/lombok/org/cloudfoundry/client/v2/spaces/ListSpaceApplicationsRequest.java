@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -36,6 +37,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/apps")
 @ToString(callSuper = true)
 public final class ListSpaceApplicationsRequest extends PaginatedRequest implements Validatable {
 
@@ -94,14 +96,14 @@ public final class ListSpaceApplicationsRequest extends PaginatedRequest impleme
     private final List<String> stackIds;
 
     @Builder
-    ListSpaceApplicationsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceApplicationsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                  Boolean diego,
                                  String id,
                                  @Singular List<String> names,
                                  @Singular List<String> organizationIds,
                                  @Singular List<String> spaceIds,
                                  @Singular List<String> stackIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.diego = diego;
         this.id = id;
         this.names = names;
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/developers")
 @ToString(callSuper = true)
 public final class ListSpaceDevelopersRequest extends PaginatedRequest implements Validatable {
 
@@ -111,7 +113,7 @@ public final class ListSpaceDevelopersRequest extends PaginatedRequest implement
     private final List<String> spaceIds;
 
     @Builder
-    ListSpaceDevelopersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceDevelopersRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                @Singular List<String> auditedOrganizationIds,
                                @Singular List<String> auditedSpaceIds,
                                @Singular List<String> billingManagedOrganizationIds,
@@ -121,7 +123,7 @@ public final class ListSpaceDevelopersRequest extends PaginatedRequest implement
                                @Singular List<String> organizationIds,
                                @Singular List<String> spaceIds) {
 
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
         this.billingManagedOrganizationIds = billingManagedOrganizationIds;
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/domains")
 @ToString(callSuper = true)
 public final class ListSpaceDomainsRequest extends PaginatedRequest implements Validatable {
 
@@ -75,12 +77,12 @@ public final class ListSpaceDomainsRequest extends PaginatedRequest implements V
     private final List<String> spaceIds;
 
     @Builder
-    ListSpaceDomainsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceDomainsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                             String id,
                             @Singular List<String> names,
                             @Singular List<String> owningOrganizationIds,
                             @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.id = id;
         this.names = names;
         this.owningOrganizationIds = owningOrganizationIds;
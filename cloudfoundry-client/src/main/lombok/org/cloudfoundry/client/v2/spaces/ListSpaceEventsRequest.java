@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/events")
 @ToString(callSuper = true)
 public final class ListSpaceEventsRequest extends PaginatedRequest implements Validatable {
 
@@ -75,12 +77,12 @@ public final class ListSpaceEventsRequest extends PaginatedRequest implements Va
     private final List<String> types;
 
     @Builder
-    ListSpaceEventsRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceEventsRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                            @Singular List<String> actees,
                            String id,
                            @Singular List<String> timestamps,
                            @Singular List<String> types) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.actees = actees;
         this.id = id;
         this.timestamps = timestamps;
@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/managers")
 @ToString(callSuper = true)
 public final class ListSpaceManagersRequest extends PaginatedRequest implements Validatable {
 
@@ -102,7 +104,7 @@ public final class ListSpaceManagersRequest extends PaginatedRequest implements
     private final List<String> organizationIds;
 
     @Builder
-    ListSpaceManagersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceManagersRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                              @Singular List<String> auditedOrganizationIds,
                              @Singular List<String> auditedSpaceIds,
                              @Singular List<String> billingManagedOrganizationIds,
@@ -110,7 +112,7 @@ public final class ListSpaceManagersRequest extends PaginatedRequest implements
                              @Singular List<String> managedOrganizationIds,
                              @Singular List<String> managedSpaceIds,
                              @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
         this.billingManagedOrganizationIds = billingManagedOrganizationIds;
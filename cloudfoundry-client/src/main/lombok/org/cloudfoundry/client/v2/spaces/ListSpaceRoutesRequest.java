@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/routes")
 @ToString(callSuper = true)
 public final class ListSpaceRoutesRequest extends PaginatedRequest implements Validatable {
 
@@ -84,13 +86,13 @@ public final class ListSpaceRoutesRequest extends PaginatedRequest implements Va
     private final List<String> paths;
 
     @Builder
-    ListSpaceRoutesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceRoutesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                            @Singular List<String> domainIds,
                            String id,
                            @Singular List<String> hosts,
                            @Singular List<String> organizationIds,
                            @Singular List<String> paths) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.domainIds = domainIds;
         this.id = id;
         this.hosts = hosts;
@@ -24,6 +24,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -36,6 +37,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/service_instances")
 @ToString(callSuper = true)
 public final class ListSpaceServiceInstancesRequest extends PaginatedRequest implements Validatable {
 
@@ -113,7 +115,7 @@ public final class ListSpaceServiceInstancesRequest extends PaginatedRequest imp
 
 
     @Builder
-    ListSpaceServiceInstancesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceServiceInstancesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                                      @Singular List<String> gatewayNames,
                                      String id,
                                      @Singular List<String> names,
@@ -122,7 +124,7 @@ public final class ListSpaceServiceInstancesRequest extends PaginatedRequest imp
                                      @Singular List<String> serviceBindingIds,
                                      @Singular List<String> serviceKeyIds,
                                      @Singular List<String> servicePlanIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.gatewayNames = gatewayNames;
         this.id = id;
         this.names = names;
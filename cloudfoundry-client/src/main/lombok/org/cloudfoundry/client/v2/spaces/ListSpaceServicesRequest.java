@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -35,6 +36,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/services")
 @ToString(callSuper = true)
 public final class ListSpaceServicesRequest extends PaginatedRequest implements Validatable {
 
@@ -84,13 +86,13 @@ public final class ListSpaceServicesRequest extends PaginatedRequest implements
     private final List<String> serviceBrokerIds;
 
     @Builder
-    ListSpaceServicesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpaceServicesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                              @Singular List<String> actives,
                              String id,
                              @Singular List<String> labels,
                              @Singular List<String> providers,
                              @Singular List<String> serviceBrokerIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.actives = actives;
         this.id = id;
         this.labels = labels;
@@ -22,6 +22,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.PaginatedRequest;
@@ -31,6 +32,7 @@ import org.cloudfoundry.client.v2.PaginatedRequest;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces/{id}/user_roles")
 @ToString(callSuper = true)
 public final class ListSpaceUserRolesRequest extends PaginatedRequest implements Validatable {
 
@@ -44,8 +46,8 @@ public final class ListSpaceUserRolesRequest extends PaginatedRequest implements
     private final String id;
 
     @Builder
-    ListSpaceUserRolesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage, String id) {
-        super(orderDirection, page, resultsPerPage);
+    ListSpaceUserRolesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage, String id) {
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.id = id;
     }
 
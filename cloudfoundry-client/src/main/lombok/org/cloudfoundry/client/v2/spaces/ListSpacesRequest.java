@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/spaces")
 @ToString(callSuper = true)
 public final class ListSpacesRequest extends PaginatedRequest implements Validatable {
 
@@ -74,12 +76,12 @@ public final class ListSpacesRequest extends PaginatedRequest implements Validat
     private final List<String> organizationIds;
 
     @Builder
-    ListSpacesRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListSpacesRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                       @Singular List<String> applicationIds,
                       @Singular List<String> developerIds,
                       @Singular List<String> names,
                       @Singular List<String> organizationIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.applicationIds = applicationIds;
         this.developerIds = developerIds;
         this.names = names;
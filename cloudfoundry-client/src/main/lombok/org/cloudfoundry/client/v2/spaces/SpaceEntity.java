@@ -19,6 +19,7 @@ package org.cloudfoundry.client.v2.spaces;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
+import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 
 /**
  * The entity response payload for the Space resource
@@ -98,6 +99,14 @@ public final class SpaceEntity {
      */
     private final String name;
 
+    /**
+     * The organization, present only when requested with an {@code inline-relations-depth} of at least {@code 1}
+     *
+     * @param organization the organization
+     * @return the organization
+     */
+    private final OrganizationResource organization;
+
     /**
      * The organization id
      *
@@ -156,6 +165,7 @@ public final class SpaceEntity {
                 @JsonProperty("events_url") String eventsUrl,
                 @JsonProperty("managers_url") String managersUrl,
                 @JsonProperty("name") String name,
+                @JsonProperty("organization") OrganizationResource organization,
                 @JsonProperty("organization_guid") String organizationId,
                 @JsonProperty("organization_url") String organizationUrl,
                 @JsonProperty("routes_url") String routesUrl,
@@ -171,6 +181,7 @@ public final class SpaceEntity {
         this.eventsUrl = eventsUrl;
         this.managersUrl = managersUrl;
         this.name = name;
+        this.organization = organization;
         this.organizationId = organizationId;
         this.organizationUrl = organizationUrl;
         this.routesUrl = routesUrl;
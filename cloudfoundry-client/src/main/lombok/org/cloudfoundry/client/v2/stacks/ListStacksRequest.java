@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/stacks")
 @ToString(callSuper = true)
 public final class ListStacksRequest extends PaginatedRequest implements Validatable {
 
@@ -47,9 +49,9 @@ public final class ListStacksRequest extends PaginatedRequest implements Validat
     private final List<String> names;
 
     @Builder
-    ListStacksRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListStacksRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                       @Singular List<String> names) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
         this.names = names;
     }
 
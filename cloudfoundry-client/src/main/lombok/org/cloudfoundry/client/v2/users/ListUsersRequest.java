@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v2.InFilterParameter;
@@ -34,6 +35,7 @@ import java.util.List;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v2/users")
 @ToString(callSuper = true)
 public final class ListUsersRequest extends PaginatedRequest implements Validatable {
 
@@ -101,7 +103,7 @@ public final class ListUsersRequest extends PaginatedRequest implements Validata
     private final List<String> spaceIds;
 
     @Builder
-    ListUsersRequest(OrderDirection orderDirection, Integer page, Integer resultsPerPage,
+    ListUsersRequest(Integer inlineRelationsDepth, OrderDirection orderDirection, Integer page, Integer resultsPerPage,
                      @Singular List<String> auditedOrganizationIds,
                      @Singular List<String> auditedSpaceIds,
                      @Singular List<String> billingManagedOrganizationIds,
@@ -109,7 +111,7 @@ public final class ListUsersRequest extends PaginatedRequest implements Validata
                      @Singular List<String> managedSpaceIds,
                      @Singular List<String> organizationIds,
                      @Singular List<String> spaceIds) {
-        super(orderDirection, page, resultsPerPage);
+        super(inlineRelationsDepth, orderDirection, page, resultsPerPage);
 
         this.auditedOrganizationIds = auditedOrganizationIds;
         this.auditedSpaceIds = auditedSpaceIds;
@@ -22,6 +22,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v3.PaginatedRequest;
@@ -31,6 +32,7 @@ import org.cloudfoundry.client.v3.PaginatedRequest;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v3/apps/{id}/packages")
 @ToString(callSuper = true)
 public final class ListApplicationPackagesRequest extends PaginatedRequest implements Validatable {
 
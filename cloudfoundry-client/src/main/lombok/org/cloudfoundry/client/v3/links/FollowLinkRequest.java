@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.links;
+
+import lombok.Builder;
+import lombok.Data;
+import org.cloudfoundry.client.Validatable;
+import org.cloudfoundry.client.ValidationResult;
+import org.cloudfoundry.client.v3.Link;
+
+/**
+ * The request payload for the Follow Link operation
+ */
+@Data
+public final class FollowLinkRequest implements Validatable {
+
+    /**
+     * The link
+     *
+     * @param link the link
+     * @return the link
+     */
+    private final Link link;
+
+    @Builder
+    FollowLinkRequest(Link link) {
+        this.link = link;
+    }
+
+    @Override
+    public ValidationResult isValid() {
+        ValidationResult.ValidationResultBuilder builder = ValidationResult.builder();
+
+        if (this.link == null || this.link.getHref() == null) {
+            builder.message("link href must be specified");
+        }
+
+        return builder.build();
+    }
+
+}
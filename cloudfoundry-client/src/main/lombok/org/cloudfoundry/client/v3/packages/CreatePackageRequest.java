@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -31,6 +32,7 @@ import java.util.Map;
  * The request payload for the Create Package operation
  */
 @Data
+@RequestPath("/v3/apps/{applicationId}/packages")
 public final class CreatePackageRequest implements Validatable {
 
     /**
@@ -22,6 +22,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Singular;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -31,6 +32,7 @@ import java.util.Map;
  * The request payload for the Stage Package operation
  */
 @Data
+@RequestPath("/v3/packages/{id}/droplets")
 public final class StagePackageRequest implements Validatable {
 
     /**
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 
@@ -29,6 +30,7 @@ import java.io.File;
  * The request payload for the Upload Package operation
  */
 @Data
+@RequestPath("/v3/packages/{id}/upload")
 public final class UploadPackageRequest implements Validatable {
 
     /**
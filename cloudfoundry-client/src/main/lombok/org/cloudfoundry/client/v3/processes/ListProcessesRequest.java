@@ -20,6 +20,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.cloudfoundry.client.RequestPath;
 import org.cloudfoundry.client.Validatable;
 import org.cloudfoundry.client.ValidationResult;
 import org.cloudfoundry.client.v3.PaginatedRequest;
@@ -29,6 +30,7 @@ import org.cloudfoundry.client.v3.PaginatedRequest;
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
+@RequestPath("/v3/processes")
 @ToString(callSuper = true)
 public final class ListProcessesRequest extends PaginatedRequest implements Validatable {
 
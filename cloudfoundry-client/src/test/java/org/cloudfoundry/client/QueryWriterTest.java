@@ -0,0 +1,123 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client;
+
+import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class QueryWriterTest {
+
+    private final RecordingSink sink = new RecordingSink();
+
+    @Test
+    public void addQuery() {
+        QueryWriter.addQuery(this.sink, "test-name", "test-value");
+
+        assertEquals(Collections.singletonList("test-name=test-value"), this.sink.parameters);
+    }
+
+    @Test
+    public void addQueryNull() {
+        QueryWriter.addQuery(this.sink, "test-name", null);
+
+        assertEquals(Collections.emptyList(), this.sink.parameters);
+    }
+
+    @Test
+    public void addV2Filter() {
+        QueryWriter.addV2Filter(this.sink, "test-name:", "test-value");
+
+        assertEquals(Collections.singletonList("q=test-name:test-value"), this.sink.parameters);
+    }
+
+    @Test
+    public void addV2FilterCollection() {
+        QueryWriter.addV2Filter(this.sink, "test-name IN ", Arrays.asList("test-value-1", "test-value-2"));
+
+        assertEquals(Collections.singletonList("q=test-name IN test-value-1,test-value-2"), this.sink.parameters);
+    }
+
+    @Test
+    public void addV2FilterEmpty() {
+        QueryWriter.addV2Filter(this.sink, "test-name IN ", Collections.emptyList());
+
+        assertEquals(Collections.emptyList(), this.sink.parameters);
+    }
+
+    @Test
+    public void addV3Filter() {
+        QueryWriter.addV3Filter(this.sink, "test-name", "test-value");
+
+        assertEquals(Collections.singletonList("test-name=test-value"), this.sink.parameters);
+    }
+
+    @Test
+    public void addV3FilterCollection() {
+        QueryWriter.addV3Filter(this.sink, "test-name", Arrays.asList("test-value-1", "test-value-2"));
+
+        assertEquals(Arrays.asList("test-name[]=test-value-1", "test-name[]=test-value-2"), this.sink.parameters);
+    }
+
+    @Test
+    public void generatedPath() {
+        AssociateApplicationRouteRequest request = AssociateApplicationRouteRequest.builder()
+                .id("test-id")
+                .routeId("test-route-id")
+                .build();
+        QueryWriter writer = GeneratedQueryWriters.get(AssociateApplicationRouteRequest.class);
+
+        assertEquals("/v2/apps/{id}/routes/{routeId}", writer.getPath());
+        assertArrayEquals(new Object[]{"test-id", "test-route-id"}, writer.getPathVariables(request));
+    }
+
+    @Test
+    public void generatedQuery() {
+        ListApplicationsRequest request = ListApplicationsRequest.builder()
+                .name("test-name")
+                .page(2)
+                .build();
+        QueryWriter writer = GeneratedQueryWriters.get(ListApplicationsRequest.class);
+
+        writer.writeFilters(request, this.sink);
+        writer.writeQueries(request, this.sink);
+
+        assertEquals("/v2/apps", writer.getPath());
+        assertArrayEquals(new Object[0], writer.getPathVariables(request));
+        assertEquals(Arrays.asList("q=name IN test-name", "page=2"), this.sink.parameters);
+    }
+
+    private static final class RecordingSink implements QueryWriter.Sink {
+
+        private final List<String> parameters = new ArrayList<>();
+
+        @Override
+        public void add(String name, Object value) {
+            this.parameters.add(String.format("%s=%s", name, value));
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.links;
+
+import org.cloudfoundry.client.ValidationResult;
+import org.cloudfoundry.client.v3.Link;
+import org.junit.Test;
+
+import static org.cloudfoundry.client.ValidationResult.Status.INVALID;
+import static org.cloudfoundry.client.ValidationResult.Status.VALID;
+import static org.junit.Assert.assertEquals;
+
+public final class FollowLinkRequestTest {
+
+    @Test
+    public void isValid() {
+        ValidationResult result = FollowLinkRequest.builder()
+                .link(Link.builder()
+                        .href("/v3/packages?page=2&per_page=2")
+                        .build())
+                .build()
+                .isValid();
+
+        assertEquals(VALID, result.getStatus());
+    }
+
+    @Test
+    public void isValidNoHref() {
+        ValidationResult result = FollowLinkRequest.builder()
+                .link(Link.builder()
+                        .build())
+                .build()
+                .isValid();
+
+        assertEquals(INVALID, result.getStatus());
+        assertEquals("link href must be specified", result.getMessages().get(0));
+    }
+
+    @Test
+    public void isValidNoLink() {
+        ValidationResult result = FollowLinkRequest.builder()
+                .build()
+                .isValid();
+
+        assertEquals(INVALID, result.getStatus());
+        assertEquals("link href must be specified", result.getMessages().get(0));
+    }
+
+}
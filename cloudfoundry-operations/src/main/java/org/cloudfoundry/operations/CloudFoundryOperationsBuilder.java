@@ -21,41 +21,75 @@ import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsResponse;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
-import org.cloudfoundry.client.v2.spaces.SpaceResource;
-import org.cloudfoundry.operations.util.Exceptions;
+import org.cloudfoundry.operations.util.ConcurrencyLimiter;
+import org.cloudfoundry.operations.util.DefaultResolutionCache;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.Monos;
+import org.cloudfoundry.operations.util.NoopMetadataCache;
+import org.cloudfoundry.operations.util.NoopResolutionCache;
+import org.cloudfoundry.operations.util.ResolutionCache;
 import org.cloudfoundry.operations.util.v2.Paginated;
 import org.cloudfoundry.operations.util.v2.Resources;
 import reactor.core.publisher.Mono;
 import reactor.fn.Function;
-import reactor.rx.Promise;
-import reactor.rx.Stream;
+import reactor.fn.Supplier;
+
+import java.util.Objects;
 
 /**
  * A builder API for creating the default implementation of the {@link CloudFoundryOperations}
  */
 public final class CloudFoundryOperationsBuilder {
 
+    private static final int MULTI_TARGET_RESOLUTION_CAPACITY = 1024;
+
     private CloudFoundryClient cloudFoundryClient;
 
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    private MetadataCache metadataCache = new NoopMetadataCache();
+
     private String organization;
 
+    private Mono<String> organizationId;
+
+    private ResolutionCache resolutionCache;
+
     private String space;
 
     /**
-     * Builds a new instance of the default implementation of the {@link CloudFoundryOperations} using the information provided.
+     * Builds a new instance of the default implementation of the {@link CloudFoundryOperations} using the information provided.  The targeted organization and space are not resolved until an
+     * operation first needs them, so this method does not block; an organization or space that does not exist is signalled as an error by the operations that need it.  Instances built after
+     * re-targeting only the space reuse the organization already resolved by this builder.
      *
      * @return a new instance of the default implementation of the {@link CloudFoundryOperations}
      * @throws IllegalArgumentException if {@code cloudFoundryClient} has not been set
      */
     public CloudFoundryOperations build() {
-        if (this.cloudFoundryClient == null) {
-            throw new IllegalArgumentException("CloudFoundryClient must be set");
+        CloudFoundryClient cloudFoundryClient = getCloudFoundryClient();
+        ResolutionCache resolutionCache = this.resolutionCache != null ? this.resolutionCache : new NoopResolutionCache();
+
+        if (this.organizationId == null) {
+            this.organizationId = getOrganizationId(cloudFoundryClient, resolutionCache, this.organization);
         }
 
-        Mono<String> organizationId = getOrganizationId(this.cloudFoundryClient, this.organization);
-        Mono<String> spaceId = getSpaceId(this.cloudFoundryClient, organizationId, this.space);
+        Mono<String> organizationId = this.organizationId;
+        Mono<String> spaceId = getSpaceId(cloudFoundryClient, resolutionCache, organizationId, this.space);
 
-        return new DefaultCloudFoundryOperations(this.cloudFoundryClient, organizationId, spaceId);
+        return new DefaultCloudFoundryOperations(cloudFoundryClient, organizationId, spaceId, this.metadataCache, resolutionCache);
+    }
+
+    /**
+     * Builds a new {@link MultiTargetCloudFoundryOperations} using the information provided.  Any target configured on this builder is ignored; targets are instead chosen with {@link
+     * MultiTargetCloudFoundryOperations#forTarget(String, String)}.  If no {@link ResolutionCache} has been configured, the targets share a {@link DefaultResolutionCache} so that each
+     * target's organization and space are listed once rather than by every operation.
+     *
+     * @return a new {@link MultiTargetCloudFoundryOperations}
+     * @throws IllegalArgumentException if {@code cloudFoundryClient} has not been set
+     */
+    public MultiTargetCloudFoundryOperations buildMultiTarget() {
+        ResolutionCache resolutionCache = this.resolutionCache != null ? this.resolutionCache : new DefaultResolutionCache(MULTI_TARGET_RESOLUTION_CAPACITY);
+        return new MultiTargetCloudFoundryOperations(getCloudFoundryClient(), this.metadataCache, resolutionCache);
     }
 
     /**
@@ -66,6 +100,44 @@ public final class CloudFoundryOperationsBuilder {
      */
     public CloudFoundryOperationsBuilder cloudFoundryClient(CloudFoundryClient cloudFoundryClient) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.organizationId = null;
+        return this;
+    }
+
+    /**
+     * Configure the {@link ConcurrencyLimiter} that every request made by the built operations is limited by.  Sharing a {@link ConcurrencyLimiter} between builders caps the number of requests
+     * in flight across all of the operations they build.
+     *
+     * @param concurrencyLimiter the {@link ConcurrencyLimiter} to use
+     * @return {@code this}
+     */
+    public CloudFoundryOperationsBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.organizationId = null;
+        return this;
+    }
+
+    /**
+     * Configure the {@link MetadataCache} that slowly-changing entities such as stacks and domains are looked up in.  Defaults to a {@link NoopMetadataCache}.
+     *
+     * @param metadataCache the {@link MetadataCache} to use
+     * @return {@code this}
+     */
+    public CloudFoundryOperationsBuilder metadataCache(MetadataCache metadataCache) {
+        this.metadataCache = metadataCache;
+        return this;
+    }
+
+    /**
+     * Configure the {@link ResolutionCache} that the ids of named entities such as the targeted organization and space are looked up in.  Defaults to a {@link NoopResolutionCache}, or to a
+     * {@link DefaultResolutionCache} for {@link #buildMultiTarget()}.
+     *
+     * @param resolutionCache the {@link ResolutionCache} to use
+     * @return {@code this}
+     */
+    public CloudFoundryOperationsBuilder resolutionCache(ResolutionCache resolutionCache) {
+        this.resolutionCache = resolutionCache;
+        this.organizationId = null;
         return this;
     }
 
@@ -77,7 +149,7 @@ public final class CloudFoundryOperationsBuilder {
      * @return {@code this}
      */
     public CloudFoundryOperationsBuilder target(String organization, String space) {
-        this.organization = organization;
+        target(organization);
         this.space = space;
         return this;
     }
@@ -89,41 +161,62 @@ public final class CloudFoundryOperationsBuilder {
      * @return {@code this}
      */
     public CloudFoundryOperationsBuilder target(String organization) {
-        this.organization = organization;
+        if (!Objects.equals(this.organization, organization)) {
+            this.organization = organization;
+            this.organizationId = null;
+        }
+
         return this;
     }
 
-    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, String organization) {
+    static Mono<String> getOrganizationId(final CloudFoundryClient cloudFoundryClient, final ResolutionCache resolutionCache, final String organization) {
+        return Monos.memoize(new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return requestOrganizationId(cloudFoundryClient, resolutionCache, organization);
+            }
+
+        });
+    }
+
+    static Mono<String> getSpaceId(final CloudFoundryClient cloudFoundryClient, final ResolutionCache resolutionCache, final Mono<String> organizationId, final String space) {
+        return Monos.memoize(new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return requestSpaceId(cloudFoundryClient, resolutionCache, organizationId, space);
+            }
+
+        });
+    }
+
+    static Mono<String> requestOrganizationId(final CloudFoundryClient cloudFoundryClient, final ResolutionCache resolutionCache, String organization) {
         if (organization == null) {
             return Mono.error(new IllegalStateException("No organization targeted"));
         }
 
-        Mono<String> organizationId = Promise
-                .from(Paginated
-                        .requestResources(requestOrganizationPage(cloudFoundryClient, organization))
-                        .single()
-                        .map(Resources.extractId())
-                        .otherwise(Exceptions.<String>convert(String.format("Organization %s does not exist", organization))));
+        return Mono.just(organization)
+                .then(new Function<String, Mono<String>>() {
+
+                    @Override
+                    public Mono<String> apply(String organization) {
+                        return resolutionCache
+                                .resolve(ResolutionCache.Type.ORGANIZATION, null, organization, resolveOrganizationId(cloudFoundryClient, organization))
+                                .otherwiseIfEmpty(Mono.<String>error(new IllegalArgumentException(String.format("Organization %s does not exist", organization))));
+                    }
 
-        organizationId.get();
-        return organizationId;
+                });
     }
 
-    private static Mono<String> getSpaceId(final CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, String space) {
+    static Mono<String> requestSpaceId(CloudFoundryClient cloudFoundryClient, ResolutionCache resolutionCache, Mono<String> organizationId, String space) {
         if (space == null) {
             return Mono.error(new IllegalStateException("No space targeted"));
         }
 
-        Mono<String> spaceId = Promise
-                .from(Stream
-                        .from(organizationId
-                                .flatMap(requestResources(cloudFoundryClient, space)))
-                        .single()                                                            // TODO: Flux.single() Flux.singleOrEmpty()
-                        .map(Resources.extractId())
-                        .otherwise(Exceptions.<String>convert(String.format("Space %s does not exist", space))));
-
-        spaceId.get();
-        return spaceId;
+        return organizationId
+                .then(resolveSpaceId(cloudFoundryClient, resolutionCache, space))
+                .otherwiseIfEmpty(Mono.<String>error(new IllegalArgumentException(String.format("Space %s does not exist", space))));
     }
 
     private static Function<Integer, Mono<ListOrganizationsResponse>> requestOrganizationPage(final CloudFoundryClient cloudFoundryClient, final String organization) {
@@ -141,17 +234,6 @@ public final class CloudFoundryOperationsBuilder {
         };
     }
 
-    private static Function<String, Stream<SpaceResource>> requestResources(final CloudFoundryClient cloudFoundryClient, final String space) {
-        return new Function<String, Stream<SpaceResource>>() {
-
-            @Override
-            public Stream<SpaceResource> apply(String organizationId) {
-                return Paginated.requestResources(requestSpacePage(cloudFoundryClient, organizationId, space));
-            }
-
-        };
-    }
-
     private static Function<Integer, Mono<ListSpacesResponse>> requestSpacePage(final CloudFoundryClient cloudFoundryClient, final String organizationId, final String space) {
         return new Function<Integer, Mono<ListSpacesResponse>>() {
 
@@ -169,4 +251,47 @@ public final class CloudFoundryOperationsBuilder {
         };
     }
 
+    private static Supplier<Mono<String>> resolveOrganizationId(final CloudFoundryClient cloudFoundryClient, final String organization) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return Paginated
+                        .requestResourcesOnDemand(requestOrganizationPage(cloudFoundryClient, organization))
+                        .singleOrEmpty()
+                        .map(Resources.extractId());
+            }
+
+        };
+    }
+
+    private static Function<String, Mono<String>> resolveSpaceId(final CloudFoundryClient cloudFoundryClient, final ResolutionCache resolutionCache, final String space) {
+        return new Function<String, Mono<String>>() {
+
+            @Override
+            public Mono<String> apply(final String organizationId) {
+                return resolutionCache.resolve(ResolutionCache.Type.SPACE, organizationId, space, new Supplier<Mono<String>>() {
+
+                    @Override
+                    public Mono<String> get() {
+                        return Paginated
+                                .requestResourcesOnDemand(requestSpacePage(cloudFoundryClient, organizationId, space))
+                                .singleOrEmpty()
+                                .map(Resources.extractId());
+                    }
+
+                });
+            }
+
+        };
+    }
+
+    private CloudFoundryClient getCloudFoundryClient() {
+        if (this.cloudFoundryClient == null) {
+            throw new IllegalArgumentException("CloudFoundryClient must be set");
+        }
+
+        return this.concurrencyLimiter != null ? this.concurrencyLimiter.limit(this.cloudFoundryClient) : this.cloudFoundryClient;
+    }
+
 }
@@ -27,6 +27,8 @@ import org.cloudfoundry.operations.spacequotas.DefaultSpaceQuotas;
 import org.cloudfoundry.operations.spacequotas.SpaceQuotas;
 import org.cloudfoundry.operations.spaces.DefaultSpaces;
 import org.cloudfoundry.operations.spaces.Spaces;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.ResolutionCache;
 import reactor.core.publisher.Mono;
 
 final class DefaultCloudFoundryOperations implements CloudFoundryOperations {
@@ -41,12 +43,12 @@ final class DefaultCloudFoundryOperations implements CloudFoundryOperations {
 
     private final Spaces spaces;
 
-    DefaultCloudFoundryOperations(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
-        this.applications = new DefaultApplications(cloudFoundryClient, spaceId);
+    DefaultCloudFoundryOperations(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId, MetadataCache metadataCache, ResolutionCache resolutionCache) {
+        this.applications = new DefaultApplications(cloudFoundryClient, spaceId, metadataCache);
         this.organizations = new DefaultOrganizations(cloudFoundryClient);
-        this.routes = new DefaultRoutes(cloudFoundryClient, organizationId, spaceId);
+        this.routes = new DefaultRoutes(cloudFoundryClient, organizationId, spaceId, metadataCache, resolutionCache);
         this.spaceQuotas = new DefaultSpaceQuotas(cloudFoundryClient, organizationId);
-        this.spaces = new DefaultSpaces(cloudFoundryClient, organizationId);
+        this.spaces = new DefaultSpaces(cloudFoundryClient, organizationId, metadataCache);
     }
 
     @Override
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.ResolutionCache;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates {@link CloudFoundryOperations} for any number of organization and space targets.  All targets share a single {@link CloudFoundryClient}, {@link MetadataCache}, and {@link
+ * ResolutionCache}.  The ids of a target's organization and space are resolved through the {@link ResolutionCache} by every operation that needs them, so they are reused, expire and are
+ * invalidated exactly as the cache dictates, and a space's organization id is shared with every other target in that organization.  The {@link CloudFoundryOperations} of the most recently
+ * used targets are kept for reuse.
+ */
+public final class MultiTargetCloudFoundryOperations {
+
+    private static final int TARGETS_CAPACITY = 256;
+
+    private final CloudFoundryClient cloudFoundryClient;
+
+    private final MetadataCache metadataCache;
+
+    private final ResolutionCache resolutionCache;
+
+    private final Map<List<String>, CloudFoundryOperations> targets = new LinkedHashMap<List<String>, CloudFoundryOperations>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<String>, CloudFoundryOperations> eldest) {
+            return size() > TARGETS_CAPACITY;
+        }
+
+    };
+
+    MultiTargetCloudFoundryOperations(CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, ResolutionCache resolutionCache) {
+        this.cloudFoundryClient = cloudFoundryClient;
+        this.metadataCache = metadataCache;
+        this.resolutionCache = resolutionCache;
+    }
+
+    /**
+     * Returns the {@link CloudFoundryOperations} for an organization and space
+     *
+     * @param organization the organization to target
+     * @param space        the space to target
+     * @return the {@link CloudFoundryOperations} for the target
+     */
+    public CloudFoundryOperations forTarget(String organization, String space) {
+        List<String> target = Arrays.asList(organization, space);
+
+        synchronized (this.targets) {
+            CloudFoundryOperations operations = this.targets.get(target);
+
+            if (operations == null) {
+                Mono<String> organizationId = CloudFoundryOperationsBuilder.requestOrganizationId(this.cloudFoundryClient, this.resolutionCache, organization);
+                Mono<String> spaceId = CloudFoundryOperationsBuilder.requestSpaceId(this.cloudFoundryClient, this.resolutionCache, organizationId, space);
+
+                operations = new DefaultCloudFoundryOperations(this.cloudFoundryClient, organizationId, spaceId, this.metadataCache, this.resolutionCache);
+                this.targets.put(target, operations);
+            }
+
+            return operations;
+        }
+    }
+
+    /**
+     * Returns the {@link CloudFoundryOperations} for an organization
+     *
+     * @param organization the organization to target
+     * @return the {@link CloudFoundryOperations} for the target
+     */
+    public CloudFoundryOperations forTarget(String organization) {
+        return forTarget(organization, null);
+    }
+
+}
@@ -34,6 +34,8 @@ import org.cloudfoundry.client.v2.spaces.SpaceApplicationSummary;
 import org.cloudfoundry.client.v2.stacks.GetStackRequest;
 import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.operations.util.Dates;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.NoopMetadataCache;
 import org.cloudfoundry.operations.util.Optional;
 import org.cloudfoundry.operations.util.Validators;
 import org.cloudfoundry.operations.util.v2.Paginated;
@@ -41,6 +43,7 @@ import org.cloudfoundry.operations.util.v2.Resources;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.fn.Function;
+import reactor.fn.Supplier;
 import reactor.fn.tuple.Tuple2;
 import reactor.fn.tuple.Tuple4;
 import reactor.rx.Stream;
@@ -56,10 +59,17 @@ public final class DefaultApplications implements Applications {
 
     private final CloudFoundryClient cloudFoundryClient;
 
+    private final MetadataCache metadataCache;
+
     private final Mono<String> spaceId;
 
     public DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<String> spaceId) {
+        this(cloudFoundryClient, spaceId, new NoopMetadataCache());
+    }
+
+    public DefaultApplications(CloudFoundryClient cloudFoundryClient, Mono<String> spaceId, MetadataCache metadataCache) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.metadataCache = metadataCache;
         this.spaceId = spaceId;
     }
 
@@ -69,7 +79,7 @@ public final class DefaultApplications implements Applications {
                 .validate(request)
                 .and(this.spaceId)
                 .then(requestApplicationResource(this.cloudFoundryClient))
-                .then(gatherApplicationInfo(this.cloudFoundryClient))
+                .then(gatherApplicationInfo(this.cloudFoundryClient, this.metadataCache))
                 .map(toApplicationDetail());
     }
 
@@ -97,7 +107,7 @@ public final class DefaultApplications implements Applications {
     }
 
     private static Function<ApplicationResource, Mono<Tuple4<ApplicationStatisticsResponse, SummaryApplicationResponse, GetStackResponse, ApplicationInstancesResponse>>>
-    gatherApplicationInfo(final CloudFoundryClient cloudFoundryClient) {
+    gatherApplicationInfo(final CloudFoundryClient cloudFoundryClient, final MetadataCache metadataCache) {
         return new Function<ApplicationResource, Mono<Tuple4<ApplicationStatisticsResponse, SummaryApplicationResponse, GetStackResponse, ApplicationInstancesResponse>>>() {
 
             @Override
@@ -105,7 +115,7 @@ public final class DefaultApplications implements Applications {
                 String applicationId = Resources.getId(applicationResource);
                 String stackId = Resources.getEntity(applicationResource).getStackId();
 
-                return Mono.when(requestApplicationStats(cloudFoundryClient, applicationId), requestApplicationSummary(cloudFoundryClient, applicationId), requestStack(cloudFoundryClient, stackId),
+                return Mono.when(requestApplicationStats(cloudFoundryClient, applicationId), requestApplicationSummary(cloudFoundryClient, applicationId), requestStack(cloudFoundryClient, metadataCache, stackId),
                         requestApplicationInstances(cloudFoundryClient, applicationId));
             }
 
@@ -132,7 +142,7 @@ public final class DefaultApplications implements Applications {
             @Override
             public Mono<ApplicationResource> apply(Tuple2<GetApplicationRequest, String> tuple) {
                 return Paginated
-                        .requestResources(requestListApplicationsPage(cloudFoundryClient, tuple))
+                        .requestResourcesOnDemand(requestListApplicationsPage(cloudFoundryClient, tuple))
                         .single();
             }
 
@@ -190,12 +200,19 @@ public final class DefaultApplications implements Applications {
         };
     }
 
-    private static Mono<GetStackResponse> requestStack(CloudFoundryClient cloudFoundryClient, String stackId) {
-        GetStackRequest request = GetStackRequest.builder()
-                .id(stackId)
-                .build();
+    private static Mono<GetStackResponse> requestStack(final CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, final String stackId) {
+        return metadataCache.get(MetadataCache.Type.STACK, stackId, new Supplier<Mono<GetStackResponse>>() {
+
+            @Override
+            public Mono<GetStackResponse> get() {
+                GetStackRequest request = GetStackRequest.builder()
+                        .id(stackId)
+                        .build();
+
+                return cloudFoundryClient.stacks().get(request);
+            }
 
-        return cloudFoundryClient.stacks().get(request);
+        });
     }
 
     private static Function<SpaceApplicationSummary, ApplicationSummary> toApplication() {
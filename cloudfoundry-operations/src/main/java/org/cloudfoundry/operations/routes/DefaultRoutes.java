@@ -41,7 +41,11 @@ import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsResponse;
 import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesResponse;
 import org.cloudfoundry.operations.routes.ListRoutesRequest.Level;
-import org.cloudfoundry.operations.util.Exceptions;
+import org.cloudfoundry.operations.util.MemoizingLoader;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.NoopMetadataCache;
+import org.cloudfoundry.operations.util.NoopResolutionCache;
+import org.cloudfoundry.operations.util.ResolutionCache;
 import org.cloudfoundry.operations.util.Validators;
 import org.cloudfoundry.operations.util.v2.Paginated;
 import org.cloudfoundry.operations.util.v2.Resources;
@@ -60,13 +64,23 @@ public final class DefaultRoutes implements Routes {
 
     private final CloudFoundryClient cloudFoundryClient;
 
+    private final MetadataCache metadataCache;
+
     private final Mono<String> organizationId;
 
+    private final ResolutionCache resolutionCache;
+
     private final Mono<String> spaceId;
 
     public DefaultRoutes(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, organizationId, spaceId, new NoopMetadataCache(), new NoopResolutionCache());
+    }
+
+    public DefaultRoutes(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId, MetadataCache metadataCache, ResolutionCache resolutionCache) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.metadataCache = metadataCache;
         this.organizationId = organizationId;
+        this.resolutionCache = resolutionCache;
         this.spaceId = spaceId;
     }
 
@@ -75,7 +89,7 @@ public final class DefaultRoutes implements Routes {
         return Validators
                 .validate(request)
                 .and(this.organizationId)
-                .then(requestDomainIdCheckRoute(this.cloudFoundryClient))
+                .then(requestDomainIdCheckRoute(this.cloudFoundryClient, this.metadataCache, this.resolutionCache))
                 .then(requestCheckRoute(this.cloudFoundryClient))
                 .defaultIfEmpty(false);
     }
@@ -84,17 +98,20 @@ public final class DefaultRoutes implements Routes {
         return Validators
                 .validate(request)
                 .and(this.organizationId)
-                .then(requestOrganizationSpaceId(this.cloudFoundryClient))
-                .then(requestDomainIdCreateRoute(this.cloudFoundryClient))
+                .then(requestOrganizationSpaceId(this.cloudFoundryClient, this.resolutionCache))
+                .then(requestDomainIdCreateRoute(this.cloudFoundryClient, this.metadataCache, this.resolutionCache))
                 .then(requestCreateRoute(this.cloudFoundryClient));
     }
 
     @Override
     public Publisher<Route> list(ListRoutesRequest request) {
+        MemoizingLoader<String, String> domainNames = new MemoizingLoader<>(requestDomainName(this.cloudFoundryClient));
+        MemoizingLoader<String, String> spaceNames = new MemoizingLoader<>(requestSpaceName(this.cloudFoundryClient, this.metadataCache));
+
         return Validators
                 .validate(request)
                 .flatMap(requestRouteResources(this.cloudFoundryClient, this.organizationId, this.spaceId))
-                .flatMap(requestAuxiliaryContent(this.cloudFoundryClient));
+                .flatMap(requestAuxiliaryContent(this.cloudFoundryClient, domainNames, spaceNames));
     }
 
     @Override
@@ -109,8 +126,8 @@ public final class DefaultRoutes implements Routes {
                     }
 
                 })
-                .then(requestApplicationId(this.cloudFoundryClient, request.getApplicationName()))
-                .and(requestDomainId(this.cloudFoundryClient, this.organizationId, request.getDomain()))
+                .then(requestApplicationId(this.cloudFoundryClient, this.resolutionCache, request.getApplicationName()))
+                .and(requestDomainId(this.cloudFoundryClient, this.metadataCache, this.resolutionCache, this.organizationId, request.getDomain()))
                 .then(requestCreateRoute(this.cloudFoundryClient, request.getHost(), request.getPath()))
                 .then(requestAssociateRouteWithApplication(this.cloudFoundryClient));
     }
@@ -148,37 +165,42 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    private static Mono<String> getDomainName(CloudFoundryClient cloudFoundryClient, RouteResource resource) {
-        GetDomainRequest request = GetDomainRequest.builder()
-                .id(Resources.getEntity(resource).getDomainId())
-                .build();
+    private static Mono<String> getDomainName(MemoizingLoader<String, String> domainNames, RouteEntity routeEntity) {
+        if (routeEntity.getDomain() != null) {
+            return Mono.just(Resources.getEntity(routeEntity.getDomain()).getName());
+        }
 
-        return cloudFoundryClient.domains().get(request)
-                .map(extractDomainName());
+        return domainNames.load(routeEntity.getDomainId());
     }
 
-    private static Mono<String> getSpaceName(CloudFoundryClient cloudFoundryClient, RouteResource resource) {
-        GetSpaceRequest request = GetSpaceRequest.builder()
-                .id(Resources.getEntity(resource).getSpaceId())
-                .build();
+    private static Mono<String> getSpaceName(MemoizingLoader<String, String> spaceNames, RouteEntity routeEntity) {
+        if (routeEntity.getSpace() != null) {
+            return Mono.just(Resources.getEntity(routeEntity.getSpace()).getName());
+        }
 
-        return cloudFoundryClient.spaces().get(request)
-                .map(extractSpaceName());
+        return spaceNames.load(routeEntity.getSpaceId());
     }
 
-    private static Function<String, Mono<String>> requestApplicationId(final CloudFoundryClient cloudFoundryClient, final String applicationName) {
+    private static Function<String, Mono<String>> requestApplicationId(final CloudFoundryClient cloudFoundryClient, final ResolutionCache resolutionCache, final String applicationName) {
         return new Function<String, Mono<String>>() {
             @Override
             public Mono<String> apply(String spaceId) {
-                return Paginated
-                        .requestResources(requestSpaceApplicationsPage(cloudFoundryClient, spaceId, applicationName))
-                        .single()
-                        .map(Resources.extractId());
+                return resolutionCache
+                        .resolve(ResolutionCache.Type.APPLICATION, spaceId, applicationName, resolveApplicationId(cloudFoundryClient, spaceId, applicationName))
+                        .otherwiseIfEmpty(Mono.<String>error(new IllegalArgumentException(String.format("Application %s does not exist", applicationName))));
             }
         };
     }
 
     private static Mono<List<String>> requestApplicationNames(CloudFoundryClient cloudFoundryClient, RouteResource routeResource) {
+        List<ApplicationResource> applications = Resources.getEntity(routeResource).getApplications();
+        if (applications != null) {
+            return Stream
+                    .fromIterable(applications)
+                    .map(extractApplicationName())
+                    .toList();
+        }
+
         return Paginated
                 .requestResources(requestApplicationPage(cloudFoundryClient, routeResource))
                 .map(extractApplicationName())
@@ -216,13 +238,16 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    private static Function<RouteResource, Mono<Route>> requestAuxiliaryContent(final CloudFoundryClient cloudFoundryClient) {
+    private static Function<RouteResource, Mono<Route>> requestAuxiliaryContent(final CloudFoundryClient cloudFoundryClient, final MemoizingLoader<String, String> domainNames,
+                                                                                final MemoizingLoader<String, String> spaceNames) {
         return new Function<RouteResource, Mono<Route>>() {
 
             @Override
             public Mono<Route> apply(RouteResource routeResource) {
+                RouteEntity routeEntity = Resources.getEntity(routeResource);
+
                 return Mono
-                        .when(requestApplicationNames(cloudFoundryClient, routeResource), getDomainName(cloudFoundryClient, routeResource), getSpaceName(cloudFoundryClient, routeResource))
+                        .when(requestApplicationNames(cloudFoundryClient, routeResource), getDomainName(domainNames, routeEntity), getSpaceName(spaceNames, routeEntity))
                         .map(toRoute(routeResource));
             }
 
@@ -291,21 +316,21 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    private static Mono<String> requestDomainId(final CloudFoundryClient cloudFoundryClient, final Mono<String> organizationId, final String domain) {
+    private static Mono<String> requestDomainId(final CloudFoundryClient cloudFoundryClient, final MetadataCache metadataCache, final ResolutionCache resolutionCache,
+                                                final Mono<String> organizationId, final String domain) {
         return organizationId.then(new Function<String, Mono<String>>() {
 
             @Override
             public Mono<String> apply(String orgId) {
-                return requestPrivateDomain(cloudFoundryClient, domain, orgId)
-                        .otherwiseIfEmpty(requestSharedDomain(cloudFoundryClient, domain))
-                        .map(Resources.extractId());
+                return resolveDomainId(cloudFoundryClient, metadataCache, resolutionCache, orgId, domain);
             }
 
         });
 
     }
 
-    private static Function<Tuple2<CheckRouteRequest, String>, Mono<Tuple2<String, CheckRouteRequest>>> requestDomainIdCheckRoute(final CloudFoundryClient cloudFoundryClient) {
+    private static Function<Tuple2<CheckRouteRequest, String>, Mono<Tuple2<String, CheckRouteRequest>>> requestDomainIdCheckRoute(final CloudFoundryClient cloudFoundryClient,
+                                                                                                                                  final MetadataCache metadataCache, final ResolutionCache resolutionCache) {
         return new Function<Tuple2<CheckRouteRequest, String>, Mono<Tuple2<String, CheckRouteRequest>>>() {
 
             @Override
@@ -313,16 +338,16 @@ public final class DefaultRoutes implements Routes {
                 CheckRouteRequest request = tuple.t1;
                 String organizationId = tuple.t2;
 
-                return requestPrivateDomain(cloudFoundryClient, request.getDomain(), organizationId)
-                        .otherwiseIfEmpty(requestSharedDomain(cloudFoundryClient, request.getDomain()))
-                        .map(Resources.extractId())
+                return resolveDomainId(cloudFoundryClient, metadataCache, resolutionCache, organizationId, request.getDomain())
                         .and(Mono.just(request));
             }
 
         };
     }
 
-    private static Function<Tuple3<String, String, CreateRouteRequest>, Mono<Tuple3<String, String, CreateRouteRequest>>> requestDomainIdCreateRoute(final CloudFoundryClient cloudFoundryClient) {
+    private static Function<Tuple3<String, String, CreateRouteRequest>, Mono<Tuple3<String, String, CreateRouteRequest>>> requestDomainIdCreateRoute(final CloudFoundryClient cloudFoundryClient,
+                                                                                                                                                     final MetadataCache metadataCache,
+                                                                                                                                                     final ResolutionCache resolutionCache) {
         return new Function<Tuple3<String, String, CreateRouteRequest>, Mono<Tuple3<String, String, CreateRouteRequest>>>() {
 
             @Override
@@ -331,9 +356,7 @@ public final class DefaultRoutes implements Routes {
                 String organizationId = tuple.t2;
                 CreateRouteRequest request = tuple.t3;
 
-                Mono<String> domainId = requestPrivateDomain(cloudFoundryClient, request.getDomain(), organizationId)
-                        .otherwiseIfEmpty(requestSharedDomain(cloudFoundryClient, request.getDomain()))
-                        .map(Resources.extractId())
+                Mono<String> domainId = resolveDomainId(cloudFoundryClient, metadataCache, resolutionCache, organizationId, request.getDomain())
                         .otherwiseIfEmpty(Mono.<String>error(new IllegalArgumentException(String.format("Domain %s does not exist", request.getDomain()))));
 
                 return Mono.when(domainId, Mono.just(spaceId), Mono.just(request));
@@ -342,12 +365,29 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
+    private static Function<String, Mono<String>> requestDomainName(final CloudFoundryClient cloudFoundryClient) {
+        return new Function<String, Mono<String>>() {
+
+            @Override
+            public Mono<String> apply(String domainId) {
+                GetDomainRequest request = GetDomainRequest.builder()
+                        .id(domainId)
+                        .build();
+
+                return cloudFoundryClient.domains().get(request)
+                        .map(extractDomainName());
+            }
+
+        };
+    }
+
     private static Function<Integer, Mono<ListRoutesResponse>> requestOrganizationRoutePage(final CloudFoundryClient cloudFoundryClient, final String organizationId) {
         return new Function<Integer, Mono<ListRoutesResponse>>() {
 
             @Override
             public Mono<ListRoutesResponse> apply(Integer page) {
                 org.cloudfoundry.client.v2.routes.ListRoutesRequest request = org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
+                        .inlineRelationsDepth(1)
                         .organizationId(organizationId)
                         .page(page)
                         .build();
@@ -369,7 +409,8 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    private static Function<Tuple2<CreateRouteRequest, String>, Mono<Tuple3<String, String, CreateRouteRequest>>> requestOrganizationSpaceId(final CloudFoundryClient cloudFoundryClient) {
+    private static Function<Tuple2<CreateRouteRequest, String>, Mono<Tuple3<String, String, CreateRouteRequest>>> requestOrganizationSpaceId(final CloudFoundryClient cloudFoundryClient,
+                                                                                                                                             final ResolutionCache resolutionCache) {
         return new Function<Tuple2<CreateRouteRequest, String>, Mono<Tuple3<String, String, CreateRouteRequest>>>() {
 
             @Override
@@ -377,11 +418,9 @@ public final class DefaultRoutes implements Routes {
                 CreateRouteRequest request = tuple.t1;
                 String organizationId = tuple.t2;
 
-                Mono<String> spaceId = Paginated
-                        .requestResources(requestOrganizationSpaceIdPage(cloudFoundryClient, organizationId, request.getSpace()))
-                        .map(Resources.extractId())
-                        .single()
-                        .otherwise(Exceptions.<String>convert(String.format("Space %s does not exist", request.getSpace())));
+                Mono<String> spaceId = resolutionCache
+                        .resolve(ResolutionCache.Type.SPACE, organizationId, request.getSpace(), resolveSpaceId(cloudFoundryClient, organizationId, request.getSpace()))
+                        .otherwiseIfEmpty(Mono.<String>error(new IllegalArgumentException(String.format("Space %s does not exist", request.getSpace()))));
 
                 return Mono.when(spaceId, Mono.just(organizationId), Mono.just(request));
             }
@@ -407,10 +446,18 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T extends Resource<?>> Mono<T> requestPrivateDomain(final CloudFoundryClient cloudFoundryClient, String domain, String organizationId) {
-        return (Mono<T>) Paginated.requestResources(requestPrivateDomainsPage(cloudFoundryClient, organizationId, domain))
-                .singleOrEmpty();
+    private static <T extends Resource<?>> Mono<T> requestPrivateDomain(final CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, final String domain,
+                                                                        final String organizationId) {
+        return metadataCache.get(MetadataCache.Type.DOMAIN, organizationId + ' ' + domain, new Supplier<Mono<T>>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Mono<T> get() {
+                return (Mono<T>) Paginated.requestResourcesOnDemand(requestPrivateDomainsPage(cloudFoundryClient, organizationId, domain))
+                        .singleOrEmpty();
+            }
+
+        });
     }
 
     private static Function<Integer, Mono<ListOrganizationPrivateDomainsResponse>> requestPrivateDomainsPage(final CloudFoundryClient cloudFoundryClient, final String organizationId, final
@@ -448,10 +495,17 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T extends Resource<?>> Mono<T> requestSharedDomain(CloudFoundryClient cloudFoundryClient, String domain) {
-        return (Mono<T>) Paginated.requestResources(requestSharedDomainsPage(cloudFoundryClient, domain))
-                .singleOrEmpty();
+    private static <T extends Resource<?>> Mono<T> requestSharedDomain(final CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, final String domain) {
+        return metadataCache.get(MetadataCache.Type.SHARED_DOMAIN, domain, new Supplier<Mono<T>>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Mono<T> get() {
+                return (Mono<T>) Paginated.requestResourcesOnDemand(requestSharedDomainsPage(cloudFoundryClient, domain))
+                        .singleOrEmpty();
+            }
+
+        });
     }
 
     private static Function<Integer, Mono<ListSharedDomainsResponse>> requestSharedDomainsPage(final CloudFoundryClient cloudFoundryClient, final String domain) {
@@ -470,6 +524,21 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
+    private static Supplier<Mono<GetSpaceResponse>> requestSpace(final CloudFoundryClient cloudFoundryClient, final String spaceId) {
+        return new Supplier<Mono<GetSpaceResponse>>() {
+
+            @Override
+            public Mono<GetSpaceResponse> get() {
+                GetSpaceRequest request = GetSpaceRequest.builder()
+                        .id(spaceId)
+                        .build();
+
+                return cloudFoundryClient.spaces().get(request);
+            }
+
+        };
+    }
+
     private static Function<Integer, Mono<ListSpaceApplicationsResponse>> requestSpaceApplicationsPage(final CloudFoundryClient cloudFoundryClient, final String spaceId,
                                                                                                        final String applicationName) {
         return new Function<Integer, Mono<ListSpaceApplicationsResponse>>() {
@@ -488,6 +557,18 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
+    private static Function<String, Mono<String>> requestSpaceName(final CloudFoundryClient cloudFoundryClient, final MetadataCache metadataCache) {
+        return new Function<String, Mono<String>>() {
+
+            @Override
+            public Mono<String> apply(String spaceId) {
+                return metadataCache.get(MetadataCache.Type.SPACE, spaceId, requestSpace(cloudFoundryClient, spaceId))
+                        .map(extractSpaceName());
+            }
+
+        };
+    }
+
     private static Function<Integer, Mono<ListSpaceRoutesResponse>> requestSpaceRoutePage(final CloudFoundryClient cloudFoundryClient, final String spaceId) {
         return new Function<Integer, Mono<ListSpaceRoutesResponse>>() {
 
@@ -495,6 +576,7 @@ public final class DefaultRoutes implements Routes {
             public Mono<ListSpaceRoutesResponse> apply(Integer page) {
                 ListSpaceRoutesRequest request = ListSpaceRoutesRequest.builder()
                         .id(spaceId)
+                        .inlineRelationsDepth(1)
                         .page(page)
                         .build();
 
@@ -515,6 +597,48 @@ public final class DefaultRoutes implements Routes {
         };
     }
 
+    private static Supplier<Mono<String>> resolveApplicationId(final CloudFoundryClient cloudFoundryClient, final String spaceId, final String applicationName) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return Paginated
+                        .requestResourcesOnDemand(requestSpaceApplicationsPage(cloudFoundryClient, spaceId, applicationName))
+                        .singleOrEmpty()
+                        .map(Resources.extractId());
+            }
+
+        };
+    }
+
+    private static Mono<String> resolveDomainId(final CloudFoundryClient cloudFoundryClient, final MetadataCache metadataCache, ResolutionCache resolutionCache, final String organizationId,
+                                                final String domain) {
+        return resolutionCache.resolve(ResolutionCache.Type.DOMAIN, organizationId, domain, new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return requestPrivateDomain(cloudFoundryClient, metadataCache, domain, organizationId)
+                        .otherwiseIfEmpty(requestSharedDomain(cloudFoundryClient, metadataCache, domain))
+                        .map(Resources.extractId());
+            }
+
+        });
+    }
+
+    private static Supplier<Mono<String>> resolveSpaceId(final CloudFoundryClient cloudFoundryClient, final String organizationId, final String space) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                return Paginated
+                        .requestResourcesOnDemand(requestOrganizationSpaceIdPage(cloudFoundryClient, organizationId, space))
+                        .singleOrEmpty()
+                        .map(Resources.extractId());
+            }
+
+        };
+    }
+
     private static Function<Tuple3<List<String>, String, String>, Route> toRoute(final RouteResource resource) {
         return new Function<Tuple3<List<String>, String, String>, Route>() {
 
@@ -40,6 +40,8 @@ import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.operations.spacequotas.SpaceQuota;
+import org.cloudfoundry.operations.util.MetadataCache;
+import org.cloudfoundry.operations.util.NoopMetadataCache;
 import org.cloudfoundry.operations.util.Optional;
 import org.cloudfoundry.operations.util.Optionals;
 import org.cloudfoundry.operations.util.Validators;
@@ -48,6 +50,7 @@ import org.cloudfoundry.operations.util.v2.Resources;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.fn.Function;
+import reactor.fn.Supplier;
 import reactor.fn.tuple.Tuple2;
 import reactor.fn.tuple.Tuple6;
 import reactor.rx.Stream;
@@ -58,10 +61,17 @@ public final class DefaultSpaces implements Spaces {
 
     private final CloudFoundryClient cloudFoundryClient;
 
+    private final MetadataCache metadataCache;
+
     private final Mono<String> organizationId;
 
     public DefaultSpaces(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId) {
+        this(cloudFoundryClient, organizationId, new NoopMetadataCache());
+    }
+
+    public DefaultSpaces(CloudFoundryClient cloudFoundryClient, Mono<String> organizationId, MetadataCache metadataCache) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.metadataCache = metadataCache;
         this.organizationId = organizationId;
     }
 
@@ -71,7 +81,7 @@ public final class DefaultSpaces implements Spaces {
                 .validate(request)
                 .and(this.organizationId)
                 .then(requestSpaceResourceWithContext(this.cloudFoundryClient))
-                .then(getAuxiliaryContent(this.cloudFoundryClient));
+                .then(getAuxiliaryContent(this.cloudFoundryClient, this.metadataCache));
     }
 
     @Override
@@ -136,7 +146,7 @@ public final class DefaultSpaces implements Spaces {
         };
     }
 
-    private static Function<Tuple2<SpaceResource, GetSpaceRequest>, Mono<SpaceDetail>> getAuxiliaryContent(final CloudFoundryClient cloudFoundryClient) {
+    private static Function<Tuple2<SpaceResource, GetSpaceRequest>, Mono<SpaceDetail>> getAuxiliaryContent(final CloudFoundryClient cloudFoundryClient, final MetadataCache metadataCache) {
         return new Function<Tuple2<SpaceResource, GetSpaceRequest>, Mono<SpaceDetail>>() {
 
             @Override
@@ -146,8 +156,8 @@ public final class DefaultSpaces implements Spaces {
 
                 return Mono
                         .when(requestApplicationNames(cloudFoundryClient, spaceResource), requestDomainNames(cloudFoundryClient, spaceResource),
-                                requestOrganizationName(cloudFoundryClient, spaceResource), requestSecurityGroups(cloudFoundryClient, spaceResource),
-                                requestServiceNames(cloudFoundryClient, spaceResource), requestSpaceQuotaDefinition(cloudFoundryClient, request, spaceResource))
+                                requestOrganizationName(cloudFoundryClient, metadataCache, spaceResource), requestSecurityGroups(cloudFoundryClient, spaceResource),
+                                requestServiceNames(cloudFoundryClient, spaceResource), requestSpaceQuotaDefinition(cloudFoundryClient, metadataCache, request, spaceResource))
                         .map(toSpaceDetail(spaceResource));
             }
 
@@ -168,12 +178,25 @@ public final class DefaultSpaces implements Spaces {
                 .toList();
     }
 
-    private static Mono<String> requestOrganizationName(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
-        GetOrganizationRequest request = GetOrganizationRequest.builder()
-                .id(Resources.getEntity(spaceResource).getOrganizationId())
-                .build();
+    private static Supplier<Mono<GetOrganizationResponse>> requestOrganization(final CloudFoundryClient cloudFoundryClient, final String organizationId) {
+        return new Supplier<Mono<GetOrganizationResponse>>() {
+
+            @Override
+            public Mono<GetOrganizationResponse> get() {
+                GetOrganizationRequest request = GetOrganizationRequest.builder()
+                        .id(organizationId)
+                        .build();
+
+                return cloudFoundryClient.organizations().get(request);
+            }
+
+        };
+    }
 
-        return cloudFoundryClient.organizations().get(request)
+    private static Mono<String> requestOrganizationName(CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, SpaceResource spaceResource) {
+        String organizationId = Resources.getEntity(spaceResource).getOrganizationId();
+
+        return metadataCache.get(MetadataCache.Type.ORGANIZATION, organizationId, requestOrganization(cloudFoundryClient, organizationId))
                 .map(extractOrganizationName());
     }
 
@@ -257,20 +280,34 @@ public final class DefaultSpaces implements Spaces {
         };
     }
 
-    private static Mono<Optional<SpaceQuota>> requestSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, GetSpaceRequest getSpaceRequest, SpaceResource spaceResource) {
+    private static Mono<Optional<SpaceQuota>> requestSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, MetadataCache metadataCache, GetSpaceRequest getSpaceRequest,
+                                                                          SpaceResource spaceResource) {
         if (!getSpaceRequest.getSecurityGroupRules()) {
             return Mono.just(Optional.<SpaceQuota>empty());
         }
 
-        GetSpaceQuotaDefinitionRequest request = GetSpaceQuotaDefinitionRequest.builder()
-                .id(Resources.getEntity(spaceResource).getSpaceQuotaDefinitionId())
-                .build();
+        String spaceQuotaDefinitionId = Resources.getEntity(spaceResource).getSpaceQuotaDefinitionId();
 
-        return cloudFoundryClient.spaceQuotaDefinitions().get(request)
+        return metadataCache.get(MetadataCache.Type.SPACE_QUOTA_DEFINITION, spaceQuotaDefinitionId, requestSpaceQuotaDefinitionResponse(cloudFoundryClient, spaceQuotaDefinitionId))
                 .map(toSpaceQuotaDefinition())
                 .map(Optionals.<SpaceQuota>toOptional());
     }
 
+    private static Supplier<Mono<GetSpaceQuotaDefinitionResponse>> requestSpaceQuotaDefinitionResponse(final CloudFoundryClient cloudFoundryClient, final String spaceQuotaDefinitionId) {
+        return new Supplier<Mono<GetSpaceQuotaDefinitionResponse>>() {
+
+            @Override
+            public Mono<GetSpaceQuotaDefinitionResponse> get() {
+                GetSpaceQuotaDefinitionRequest request = GetSpaceQuotaDefinitionRequest.builder()
+                        .id(spaceQuotaDefinitionId)
+                        .build();
+
+                return cloudFoundryClient.spaceQuotaDefinitions().get(request);
+            }
+
+        };
+    }
+
     private static Function<Tuple2<GetSpaceRequest, String>, Mono<Tuple2<SpaceResource, GetSpaceRequest>>> requestSpaceResourceWithContext(final CloudFoundryClient cloudFoundryClient) {
         return new Function<Tuple2<GetSpaceRequest, String>, Mono<Tuple2<SpaceResource, GetSpaceRequest>>>() {
 
@@ -280,7 +317,7 @@ public final class DefaultSpaces implements Spaces {
                 String organizationId = tuple.t2;
 
                 return Paginated
-                        .requestResources(requestOrganizationSpacePage(cloudFoundryClient, organizationId, request))
+                        .requestResourcesOnDemand(requestOrganizationSpacePage(cloudFoundryClient, organizationId, request))
                         .single()
                         .and(Mono.just(request));
             }
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.rx.Stream;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of requests that are in flight at the same time.  A request holds a permit from the time it is subscribed to until it completes, fails, or is cancelled; requests subscribed
+ * to while no permit is available wait, in order, for one to be released.  A waiting request is handed its {@link Subscription} straight away, and cancelling it leaves the queue without ever
+ * taking a permit.  A released permit is handed to the next waiting request on the releasing thread, one request at a time, so that requests which complete synchronously do not nest.  A single
+ * instance can be shared by the clients of many targets to cap the load placed on a Cloud Controller.
+ * <p>
+ * Requests are limited here before they reach the {@link CloudFoundryClient}, and so are counted from subscription to completion, including any retries, and independently of the HTTP requests
+ * they make.  The {@code AdaptiveConcurrencyLimiter} of a Spring client applies beneath this one: this instance caps the work a group of clients may start, while the adaptive limiter backs
+ * off each client's HTTP requests when a Cloud Controller is overloaded.  The effective concurrency is the smaller of the two, so this limit is best set to what the Cloud Controllers can sustain,
+ * leaving the adaptive limiter to back off beneath it.
+ */
+public final class ConcurrencyLimiter {
+
+    private static final ThreadLocal<Queue<Runnable>> HAND_OFFS = new ThreadLocal<>();
+
+    private final int maximumConcurrency;
+
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+
+    private int active;
+
+    /**
+     * Creates a new instance
+     *
+     * @param maximumConcurrency the maximum number of requests in flight at the same time
+     * @throws IllegalArgumentException if {@code maximumConcurrency} is less than {@code 1}
+     */
+    public ConcurrencyLimiter(int maximumConcurrency) {
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be at least 1");
+        }
+
+        this.maximumConcurrency = maximumConcurrency;
+    }
+
+    /**
+     * Returns the number of requests currently in flight
+     *
+     * @return the number of requests in flight
+     */
+    public synchronized int getActive() {
+        return this.active;
+    }
+
+    /**
+     * Returns the number of requests currently waiting for a permit
+     *
+     * @return the number of requests waiting for a permit
+     */
+    public synchronized int getWaiting() {
+        return this.waiting.size();
+    }
+
+    /**
+     * Wraps a {@link CloudFoundryClient} so that every request made through it is limited by this instance
+     *
+     * @param cloudFoundryClient the {@link CloudFoundryClient} to wrap
+     * @return a {@link CloudFoundryClient} whose requests are limited by this instance
+     */
+    public CloudFoundryClient limit(CloudFoundryClient cloudFoundryClient) {
+        return proxy(CloudFoundryClient.class, cloudFoundryClient);
+    }
+
+    /**
+     * Wraps a {@link Publisher} so that it is not subscribed to until a permit is available
+     *
+     * @param source the {@link Publisher} to wrap
+     * @param <T>    the type of the elements
+     * @return a {@link Publisher} that is limited by this instance
+     */
+    public <T> Publisher<T> limit(final Publisher<T> source) {
+        return new Publisher<T>() {
+
+            @Override
+            public void subscribe(Subscriber<? super T> subscriber) {
+                LimitedSubscription<T> subscription = new LimitedSubscription<>(source, subscriber);
+
+                subscriber.onSubscribe(subscription);
+                acquire(subscription);
+            }
+
+        };
+    }
+
+    private static Object invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void handOff(Runnable task) {
+        Queue<Runnable> handOffs = HAND_OFFS.get();
+        if (handOffs != null) {
+            handOffs.add(task);
+            return;
+        }
+
+        handOffs = new ArrayDeque<>();
+        HAND_OFFS.set(handOffs);
+
+        try {
+            for (Runnable next = task; next != null; next = handOffs.poll()) {
+                next.run();
+            }
+        } finally {
+            HAND_OFFS.remove();
+        }
+    }
+
+    private void acquire(Runnable task) {
+        synchronized (this) {
+            if (this.active >= this.maximumConcurrency) {
+                this.waiting.add(task);
+                return;
+            }
+
+            this.active++;
+        }
+
+        task.run();
+    }
+
+    private <T> T proxy(Class<T> type, final Object target) {
+        final ConcurrentMap<Method, Object> apis = new ConcurrentHashMap<>();
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new InvocationHandler() {
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+                Class<?> returnType = method.getReturnType();
+
+                if (Mono.class.isAssignableFrom(returnType)) {
+                    return Stream.from(limit((Publisher<?>) ConcurrencyLimiter.invoke(method, target, arguments))).singleOrEmpty();
+                } else if (Publisher.class.isAssignableFrom(returnType)) {
+                    return limit((Publisher<?>) ConcurrencyLimiter.invoke(method, target, arguments));
+                } else if (returnType.isInterface() && method.getParameterTypes().length == 0 && returnType.getPackage().getName().startsWith("org.cloudfoundry.client")) {
+                    Object api = apis.get(method);
+                    if (api == null) {
+                        api = proxy(returnType, ConcurrencyLimiter.invoke(method, target, arguments));
+                        apis.putIfAbsent(method, api);
+                    }
+
+                    return api;
+                } else {
+                    return ConcurrencyLimiter.invoke(method, target, arguments);
+                }
+            }
+
+        }));
+    }
+
+    private void release() {
+        Runnable next;
+
+        synchronized (this) {
+            next = this.waiting.poll();
+            if (next == null) {
+                this.active--;
+                return;
+            }
+        }
+
+        handOff(next);
+    }
+
+    private synchronized boolean withdraw(Runnable task) {
+        return this.waiting.remove(task);
+    }
+
+    private final class LimitedSubscription<T> implements Runnable, Subscriber<T>, Subscription {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private final Subscriber<? super T> delegate;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private final Publisher<T> source;
+
+        private long requested;
+
+        private Subscription subscription;
+
+        private LimitedSubscription(Publisher<T> source, Subscriber<? super T> delegate) {
+            this.delegate = delegate;
+            this.source = source;
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.cancelled.compareAndSet(false, true) || withdraw(this)) {
+                return;
+            }
+
+            Subscription subscription;
+            synchronized (this) {
+                subscription = this.subscription;
+            }
+
+            release();
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            release();
+            this.delegate.onComplete();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            release();
+            this.delegate.onError(t);
+        }
+
+        @Override
+        public void onNext(T t) {
+            this.delegate.onNext(t);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            long requested;
+            synchronized (this) {
+                this.subscription = subscription;
+                requested = this.requested;
+            }
+
+            if (this.cancelled.get()) {
+                subscription.cancel();
+            } else if (requested > 0) {
+                subscription.request(requested);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            Subscription subscription;
+            synchronized (this) {
+                subscription = this.subscription;
+                if (subscription == null) {
+                    this.requested = this.requested + n < 0 ? Long.MAX_VALUE : this.requested + n;
+                    return;
+                }
+            }
+
+            subscription.request(n);
+        }
+
+        @Override
+        public void run() {
+            if (this.cancelled.get()) {
+                release();
+                return;
+            }
+
+            try {
+                this.source.subscribe(this);
+            } catch (RuntimeException e) {
+                release();
+                this.delegate.onError(e);
+            }
+        }
+
+        private void release() {
+            if (this.released.compareAndSet(false, true)) {
+                ConcurrencyLimiter.this.release();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.fn.Supplier;
+import reactor.rx.Promise;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default implementation of {@link MetadataCache}.  Holds at most a fixed number of values, evicting the least recently used when full, and expires values after a time-to-live that can be
+ * configured for each {@link Type}.  Empty and failed requests are not cached.
+ */
+public final class DefaultMetadataCache implements MetadataCache {
+
+    private static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<Type, Long> timesToLive = new EnumMap<>(Type.class);
+
+    /**
+     * Creates a new instance
+     *
+     * @param maximumSize the maximum number of values to retain
+     * @throws IllegalArgumentException if {@code maximumSize} is less than {@code 1}
+     */
+    public DefaultMetadataCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Mono<V> get(Type type, String key, Supplier<Mono<V>> loader) {
+        String cacheKey = getCacheKey(type, key);
+
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(cacheKey);
+            if (entry != null && entry.isFresh()) {
+                this.hits.incrementAndGet();
+                return (Mono<V>) entry.value;
+            }
+        }
+
+        this.misses.incrementAndGet();
+
+        Entry candidate = new Entry(type, System.nanoTime() + getTimeToLive(type));
+        candidate.value = Promise.from(loader.get()
+                .otherwiseIfEmpty(Mono.<V>error(new AbsentException()))
+                .otherwise(this.<V>discard(cacheKey, candidate)));
+
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(cacheKey);
+            if (entry != null && entry.isFresh()) {
+                return (Mono<V>) entry.value;
+            }
+
+            this.entries.put(cacheKey, candidate);
+            return (Mono<V>) candidate.value;
+        }
+    }
+
+    /**
+     * Returns the number of requests that were answered from the cache
+     *
+     * @return the number of requests answered from the cache
+     */
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the proportion of requests that were answered from the cache
+     *
+     * @return the proportion of requests answered from the cache, or {@code 0} if there have been no requests
+     */
+    public double getHitRate() {
+        long hits = this.hits.get();
+        long requests = hits + this.misses.get();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the number of requests that were passed to the Cloud Controller
+     *
+     * @return the number of requests passed to the Cloud Controller
+     */
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    @Override
+    public void invalidate(Type type, String key) {
+        synchronized (this.entries) {
+            this.entries.remove(getCacheKey(type, key));
+        }
+    }
+
+    @Override
+    public void invalidateAll(Type type) {
+        synchronized (this.entries) {
+            Iterator<Entry> iterator = this.entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (type == iterator.next().type) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values currently cached
+     *
+     * @return the number of values currently cached
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Configures how long values of a type are cached for.  Values of types that are not configured are cached for five minutes.
+     *
+     * @param type     the type of entity
+     * @param duration the duration values are cached for
+     * @param unit     the unit of {@code duration}
+     * @return {@code this}
+     */
+    public DefaultMetadataCache timeToLive(Type type, long duration, TimeUnit unit) {
+        synchronized (this.timesToLive) {
+            this.timesToLive.put(type, unit.toNanos(duration));
+        }
+
+        return this;
+    }
+
+    private static String getCacheKey(Type type, String key) {
+        return type.name() + ' ' + key;
+    }
+
+    private <V> Function<Throwable, Mono<V>> discard(final String cacheKey, final Entry entry) {
+        return new Function<Throwable, Mono<V>>() {
+
+            @Override
+            public Mono<V> apply(Throwable throwable) {
+                synchronized (DefaultMetadataCache.this.entries) {
+                    if (DefaultMetadataCache.this.entries.get(cacheKey) == entry) {
+                        DefaultMetadataCache.this.entries.remove(cacheKey);
+                    }
+                }
+
+                return throwable instanceof AbsentException ? Mono.<V>empty() : Mono.<V>error(throwable);
+            }
+
+        };
+    }
+
+    private long getTimeToLive(Type type) {
+        synchronized (this.timesToLive) {
+            Long timeToLive = this.timesToLive.get(type);
+            return timeToLive != null ? timeToLive : DEFAULT_TIME_TO_LIVE;
+        }
+    }
+
+    private static final class AbsentException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private AbsentException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final long expiration;
+
+        private final Type type;
+
+        private volatile Mono<?> value;
+
+        private Entry(Type type, long expiration) {
+            this.expiration = expiration;
+            this.type = type;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - this.expiration < 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.fn.Supplier;
+import reactor.rx.Promise;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default implementation of {@link ResolutionCache}.  Holds at most a fixed number of resolutions, evicting the least recently used when full.  Names that resolve to an id are cached for five
+ * minutes and names that do not exist for thirty seconds unless configured otherwise.  Failed resolutions are not cached.
+ */
+public final class DefaultResolutionCache implements ResolutionCache {
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile long negativeTimeToLive = TimeUnit.SECONDS.toNanos(30);
+
+    private volatile long timeToLive = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Creates a new instance
+     *
+     * @param maximumSize the maximum number of resolutions to retain
+     * @throws IllegalArgumentException if {@code maximumSize} is less than {@code 1}
+     */
+    public DefaultResolutionCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+
+        };
+    }
+
+    /**
+     * Returns the number of resolutions that were answered from the cache
+     *
+     * @return the number of resolutions answered from the cache
+     */
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the proportion of resolutions that were answered from the cache
+     *
+     * @return the proportion of resolutions answered from the cache, or {@code 0} if there have been no resolutions
+     */
+    public double getHitRate() {
+        long hits = this.hits.get();
+        long requests = hits + this.misses.get();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the number of resolutions that were passed to the Cloud Controller
+     *
+     * @return the number of resolutions passed to the Cloud Controller
+     */
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    @Override
+    public void invalidate(Type type, String parentId, String name) {
+        synchronized (this.entries) {
+            this.entries.remove(getCacheKey(type, parentId, name));
+        }
+    }
+
+    @Override
+    public void invalidateId(String id) {
+        synchronized (this.entries) {
+            Iterator<Entry> iterator = this.entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (id.equals(iterator.next().id)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Configures how long names that do not exist are cached for
+     *
+     * @param duration the duration names that do not exist are cached for
+     * @param unit     the unit of {@code duration}
+     * @return {@code this}
+     */
+    public DefaultResolutionCache negativeTimeToLive(long duration, TimeUnit unit) {
+        this.negativeTimeToLive = unit.toNanos(duration);
+        return this;
+    }
+
+    @Override
+    public Mono<String> resolve(Type type, String parentId, String name, Supplier<Mono<String>> resolver) {
+        String cacheKey = getCacheKey(type, parentId, name);
+
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(cacheKey);
+            if (entry != null && entry.isFresh()) {
+                this.hits.incrementAndGet();
+                return entry.value;
+            }
+        }
+
+        this.misses.incrementAndGet();
+
+        Entry candidate = new Entry(System.nanoTime() + this.timeToLive);
+        candidate.value = Promise.from(resolver.get()
+                .map(record(candidate))
+                .otherwiseIfEmpty(Mono.<String>error(new AbsentException()))
+                .otherwise(absentOrDiscard(cacheKey, candidate)));
+
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(cacheKey);
+            if (entry != null && entry.isFresh()) {
+                return entry.value;
+            }
+
+            this.entries.put(cacheKey, candidate);
+            return candidate.value;
+        }
+    }
+
+    /**
+     * Returns the number of resolutions currently cached
+     *
+     * @return the number of resolutions currently cached
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Configures how long names that resolve to an id are cached for
+     *
+     * @param duration the duration names that resolve to an id are cached for
+     * @param unit     the unit of {@code duration}
+     * @return {@code this}
+     */
+    public DefaultResolutionCache timeToLive(long duration, TimeUnit unit) {
+        this.timeToLive = unit.toNanos(duration);
+        return this;
+    }
+
+    private static String getCacheKey(Type type, String parentId, String name) {
+        return String.format("%s %s %s", type, parentId != null ? parentId : "", name);
+    }
+
+    private static Function<String, String> record(final Entry entry) {
+        return new Function<String, String>() {
+
+            @Override
+            public String apply(String id) {
+                entry.id = id;
+                return id;
+            }
+
+        };
+    }
+
+    private Function<Throwable, Mono<String>> absentOrDiscard(final String cacheKey, final Entry entry) {
+        return new Function<Throwable, Mono<String>>() {
+
+            @Override
+            public Mono<String> apply(Throwable throwable) {
+                if (throwable instanceof AbsentException) {
+                    entry.expiration = System.nanoTime() + DefaultResolutionCache.this.negativeTimeToLive;
+                    return Mono.empty();
+                }
+
+                synchronized (DefaultResolutionCache.this.entries) {
+                    if (DefaultResolutionCache.this.entries.get(cacheKey) == entry) {
+                        DefaultResolutionCache.this.entries.remove(cacheKey);
+                    }
+                }
+
+                return Mono.error(throwable);
+            }
+
+        };
+    }
+
+    private static final class AbsentException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private AbsentException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private volatile long expiration;
+
+        private volatile String id;
+
+        private volatile Mono<String> value;
+
+        private Entry(long expiration) {
+            this.expiration = expiration;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - this.expiration < 0;
+        }
+
+    }
+
+}
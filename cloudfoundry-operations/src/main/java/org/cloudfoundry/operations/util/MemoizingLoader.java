@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.rx.Promise;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A loader that coalesces lookups of the same key into a single request.  Instances are intended to be scoped to a single operation so that an operation touching many resources that share
+ * related entities (e.g. many routes in the same space) only requests each related entity once.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public final class MemoizingLoader<K, V> {
+
+    private final Function<K, Mono<V>> loader;
+
+    private final ConcurrentMap<K, Mono<V>> values = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance
+     *
+     * @param loader the function used to load a value for a key that has not yet been requested
+     */
+    public MemoizingLoader(Function<K, Mono<V>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the value for a key, requesting it only if it has not already been requested by this loader
+     *
+     * @param key the key to load
+     * @return a {@link Mono} containing the value for the key
+     */
+    public Mono<V> load(K key) {
+        Mono<V> value = this.values.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        Mono<V> candidate = Promise.from(this.loader.apply(key));
+        value = this.values.putIfAbsent(key, candidate);
+        return value != null ? value : candidate;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+/**
+ * A cache of slowly-changing Cloud Foundry entities (stacks, domains, organizations, spaces, and quota definitions) that operations consult before requesting those entities from the Cloud
+ * Controller.  Unlike {@link MemoizingLoader}, instances are intended to be shared across operations.
+ */
+public interface MetadataCache {
+
+    /**
+     * Returns the value for a key, requesting it with {@code loader} if there is no fresh cached value
+     *
+     * @param type   the type of entity being requested
+     * @param key    the key identifying the entity within its type
+     * @param loader supplies a {@link Mono} that requests the entity from the Cloud Controller
+     * @param <V>    the type of the value
+     * @return a {@link Mono} containing the value for the key
+     */
+    <V> Mono<V> get(Type type, String key, Supplier<Mono<V>> loader);
+
+    /**
+     * Discards the cached value for a key, if any
+     *
+     * @param type the type of entity
+     * @param key  the key identifying the entity within its type
+     */
+    void invalidate(Type type, String key);
+
+    /**
+     * Discards all cached values of a type
+     *
+     * @param type the type of entity
+     */
+    void invalidateAll(Type type);
+
+    /**
+     * The types of entity that can be cached
+     */
+    enum Type {
+
+        /**
+         * A private domain, keyed by organization id and domain name
+         */
+        DOMAIN,
+
+        /**
+         * An organization, keyed by id
+         */
+        ORGANIZATION,
+
+        /**
+         * A shared domain, keyed by domain name
+         */
+        SHARED_DOMAIN,
+
+        /**
+         * A space, keyed by id
+         */
+        SPACE,
+
+        /**
+         * A space quota definition, keyed by id
+         */
+        SPACE_QUOTA_DEFINITION,
+
+        /**
+         * A stack, keyed by id
+         */
+        STACK
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.fn.Supplier;
+import reactor.rx.Promise;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Utilities for dealing with {@link Mono}s
+ */
+public final class Monos {
+
+    private Monos() {
+    }
+
+    /**
+     * Creates a {@link Mono} that requests its value from {@code supplier} when it is first subscribed to and replays that value to all later subscribers.  If the request fails, the failure is
+     * signalled to the subscribers waiting on it and the next subscriber requests the value again.
+     *
+     * @param supplier supplies the {@link Mono} that requests the value
+     * @param <T>      the type of the value
+     * @return a {@link Mono} that requests its value once, on first subscription
+     */
+    public static <T> Mono<T> memoize(Supplier<Mono<T>> supplier) {
+        return Mono.just(supplier)
+                .then(memoizing(supplier, new AtomicReference<Mono<T>>()));
+    }
+
+    private static <T> Function<Throwable, Mono<T>> forget(final AtomicReference<Mono<T>> memoized, final AtomicReference<Mono<T>> candidate) {
+        return new Function<Throwable, Mono<T>>() {
+
+            @Override
+            public Mono<T> apply(Throwable throwable) {
+                memoized.compareAndSet(candidate.get(), null);
+                return Mono.error(throwable);
+            }
+
+        };
+    }
+
+    private static <T> Function<Object, Mono<T>> memoizing(final Supplier<Mono<T>> supplier, final AtomicReference<Mono<T>> memoized) {
+        return new Function<Object, Mono<T>>() {
+
+            @Override
+            public Mono<T> apply(Object ignored) {
+                Mono<T> value = memoized.get();
+                if (value != null) {
+                    return value;
+                }
+
+                AtomicReference<Mono<T>> candidate = new AtomicReference<>();
+                candidate.set(Promise.from(supplier.get().otherwise(forget(memoized, candidate))));
+
+                if (memoized.compareAndSet(null, candidate.get())) {
+                    return candidate.get();
+                }
+
+                Mono<T> winner = memoized.get();
+                return winner != null ? winner : candidate.get();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+/**
+ * A {@link MetadataCache} that caches nothing, requesting every value from the Cloud Controller
+ */
+public final class NoopMetadataCache implements MetadataCache {
+
+    @Override
+    public <V> Mono<V> get(Type type, String key, Supplier<Mono<V>> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public void invalidate(Type type, String key) {
+    }
+
+    @Override
+    public void invalidateAll(Type type) {
+    }
+
+}
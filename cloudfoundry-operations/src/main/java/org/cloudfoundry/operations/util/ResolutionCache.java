@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+/**
+ * A cache of the ids that names resolve to.  Nearly every operation begins by resolving the names of organizations, spaces, applications, or domains to their ids and each resolution is a
+ * paginated list request; sharing a {@link ResolutionCache} across operations allows repeated operations against the same targets to skip those requests.
+ */
+public interface ResolutionCache {
+
+    /**
+     * Discards the cached id for a name, if any
+     *
+     * @param type     the type of entity
+     * @param parentId the id of the entity the name is scoped to, or {@code null} if the name is global
+     * @param name     the name of the entity
+     */
+    void invalidate(Type type, String parentId, String name);
+
+    /**
+     * Discards any cached resolution to an id, typically because the entity with that id has been renamed or deleted
+     *
+     * @param id the id of the entity
+     */
+    void invalidateId(String id);
+
+    /**
+     * Returns the id that a name resolves to, requesting it with {@code resolver} if there is no fresh cached resolution
+     *
+     * @param type     the type of entity
+     * @param parentId the id of the entity the name is scoped to, or {@code null} if the name is global
+     * @param name     the name of the entity
+     * @param resolver supplies a {@link Mono} that requests the id from the Cloud Controller, completing empty if the name does not exist
+     * @return a {@link Mono} containing the id, or empty if the name does not exist
+     */
+    Mono<String> resolve(Type type, String parentId, String name, Supplier<Mono<String>> resolver);
+
+    /**
+     * The types of entity whose names can be resolved
+     */
+    enum Type {
+
+        /**
+         * An application, scoped to a space
+         */
+        APPLICATION,
+
+        /**
+         * A private or shared domain, scoped to an organization
+         */
+        DOMAIN,
+
+        /**
+         * An organization, not scoped
+         */
+        ORGANIZATION,
+
+        /**
+         * A space, scoped to an organization
+         */
+        SPACE
+
+    }
+
+}
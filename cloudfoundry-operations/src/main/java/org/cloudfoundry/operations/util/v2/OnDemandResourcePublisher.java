@@ -0,0 +1,232 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v2;
+
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Publisher} of the resources of a paginated listing that only requests the next page once downstream demand exceeds the resources already buffered.  Short-circuiting consumers
+ * therefore only pay for the pages that they actually read.
+ *
+ * @param <R> the type of resource
+ * @param <U> the type of {@link PaginatedResponse}
+ */
+final class OnDemandResourcePublisher<R extends Resource<?>, U extends PaginatedResponse<R>> implements Publisher<R> {
+
+    private final Function<Integer, Mono<U>> pageSupplier;
+
+    OnDemandResourcePublisher(Function<Integer, Mono<U>> pageSupplier) {
+        this.pageSupplier = pageSupplier;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> subscriber) {
+        subscriber.onSubscribe(new OnDemandSubscription<>(this.pageSupplier, subscriber));
+    }
+
+    private static final class OnDemandSubscription<R extends Resource<?>, U extends PaginatedResponse<R>> implements Subscription {
+
+        private final Queue<R> buffer = new ConcurrentLinkedQueue<>();
+
+        private final AtomicReference<Subscription> pageSubscription = new AtomicReference<>();
+
+        private final Function<Integer, Mono<U>> pageSupplier;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final Subscriber<? super R> subscriber;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        private volatile boolean lastPageReceived;
+
+        private int nextPage = 1;
+
+        private volatile boolean pageInFlight;
+
+        private OnDemandSubscription(Function<Integer, Mono<U>> pageSupplier, Subscriber<? super R> subscriber) {
+            this.pageSupplier = pageSupplier;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            cancelPage();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error = new IllegalArgumentException(String.format("Request must be positive (was %d)", n));
+            } else {
+                addRequested(n);
+            }
+
+            drain();
+        }
+
+        private void addRequested(long n) {
+            for (; ; ) {
+                long current = this.requested.get();
+                long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+
+                if (this.requested.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void cancelPage() {
+            Subscription pageSubscription = this.pageSubscription.getAndSet(null);
+            if (pageSubscription != null) {
+                pageSubscription.cancel();
+            }
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (; ; ) {
+                long requested = this.requested.get();
+                long emitted = 0;
+
+                while (emitted != requested && !this.cancelled) {
+                    R resource = this.buffer.poll();
+                    if (resource == null) {
+                        break;
+                    }
+
+                    this.subscriber.onNext(resource);
+                    emitted++;
+                }
+
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    this.requested.addAndGet(-emitted);
+                }
+
+                if (this.cancelled) {
+                    this.buffer.clear();
+                    return;
+                }
+
+                if (this.buffer.isEmpty() && !this.pageInFlight) {
+                    if (this.error != null) {
+                        this.cancelled = true;
+                        this.subscriber.onError(this.error);
+                        return;
+                    }
+
+                    if (this.lastPageReceived) {
+                        this.cancelled = true;
+                        this.subscriber.onComplete();
+                        return;
+                    }
+
+                    if (this.requested.get() > 0) {
+                        this.pageInFlight = true;
+                        requestPage(this.nextPage++);
+                    }
+                }
+
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void requestPage(final int page) {
+            this.pageSupplier.apply(page).subscribe(new Subscriber<U>() {
+
+                private boolean received;
+
+                private Subscription subscription;
+
+                @Override
+                public void onComplete() {
+                    if (!this.received) {
+                        OnDemandSubscription.this.lastPageReceived = true;
+                    }
+
+                    completed();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    OnDemandSubscription.this.error = throwable;
+                    completed();
+                }
+
+                @Override
+                public void onNext(U response) {
+                    this.received = true;
+
+                    Integer totalPages = response.getTotalPages();
+                    if (totalPages == null) {
+                        OnDemandSubscription.this.error = new IllegalStateException(String.format("Page response (class %s) has no total pages set",
+                                response.getClass().getCanonicalName()));
+                        return;
+                    }
+
+                    OnDemandSubscription.this.buffer.addAll(response.getResources());
+                    OnDemandSubscription.this.lastPageReceived = page >= totalPages;
+                }
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    OnDemandSubscription.this.pageSubscription.set(subscription);
+
+                    if (OnDemandSubscription.this.cancelled) {
+                        cancelPage();
+                    } else {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+                }
+
+                private void completed() {
+                    OnDemandSubscription.this.pageSubscription.compareAndSet(this.subscription, null);
+                    OnDemandSubscription.this.pageInFlight = false;
+                    drain();
+                }
+
+            });
+        }
+
+    }
+
+}
@@ -27,36 +27,103 @@ import reactor.rx.Stream;
  */
 public final class Paginated {
 
+    /**
+     * The default maximum number of pages that are requested concurrently
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /**
+     * The default maximum number of pages that are requested ahead of the next page to be emitted
+     */
+    public static final int DEFAULT_PREFETCH = 8;
+
     private Paginated() {
     }
 
+    /**
+     * Generate the stream of responses starting from page 1 of an initial paginated response.  Additional pages are requested with the default concurrency and prefetch, and are emitted in the order
+     * that they are received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends PaginatedResponse<?>> Stream<U> requestPages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestPages(pageSupplier, DEFAULT_CONCURRENCY, DEFAULT_PREFETCH, false);
+    }
+
     /**
      * Generate the stream of responses starting from page 1 of an initial paginated response.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param prefetch     the maximum number of pages to request ahead of the next page to be emitted, counting both the pages being received and those received but not yet emitted
+     * @param ordered      whether to emit pages in page order rather than in the order that they are received.  In ordered mode, pages that are received ahead of the next page in order are held
+     *                     until it is received, and no more pages are requested while {@code prefetch} pages are outstanding.
      * @param <U>          the type of {@link PaginatedResponse}.
      * @return a stream of <code>U</code> objects.
+     * @throws IllegalArgumentException if {@code concurrency} or {@code prefetch} is less than {@code 1}
      */
-    public static <U extends PaginatedResponse<?>> Stream<U> requestPages(final Function<Integer, Mono<U>> pageSupplier) {
+    public static <U extends PaginatedResponse<?>> Stream<U> requestPages(Function<Integer, Mono<U>> pageSupplier, int concurrency, int prefetch, boolean ordered) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be greater than zero");
+        }
+
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be greater than zero");
+        }
+
         return Stream
                 .from(pageSupplier.apply(1))
-                .flatMap(requestAdditionalPages(pageSupplier));
+                .flatMap(requestAdditionalPages(pageSupplier, concurrency, prefetch, ordered));
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.  Additional pages are requested with the default concurrency and prefetch, and
+     * their resources are emitted in the order that the pages are received.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Stream<R> requestResources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestResources(pageSupplier, DEFAULT_CONCURRENCY, DEFAULT_PREFETCH, false);
     }
 
     /**
      * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param prefetch     the maximum number of pages to request ahead of the page whose resources are to be emitted next
+     * @param ordered      whether to emit resources in page order rather than in the order that pages are received
      * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
      * @param <U>          the type of {@link PaginatedResponse}.
      * @return a stream of <code>R</code> objects.
+     * @throws IllegalArgumentException if {@code concurrency} or {@code prefetch} is less than {@code 1}
      */
-    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Stream<R> requestResources(final Function<Integer, Mono<U>> pageSupplier) {
-        return requestPages(pageSupplier)
+    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Stream<R> requestResources(Function<Integer, Mono<U>> pageSupplier, int concurrency, int prefetch,
+                                                                                                 boolean ordered) {
+        return requestPages(pageSupplier, concurrency, prefetch, ordered)
                 .flatMap(Resources.<R, U>extractResources());
     }
 
-    private static <U extends PaginatedResponse<?>> Function<U, Stream<U>> requestAdditionalPages(final Function<Integer, Mono<U>> pageSupplier) {
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier, requesting each page only once downstream demand exceeds the resources already
+     * received.  Short-circuiting operators such as {@code next()} or {@code single()} therefore stop requesting pages as soon as they have the resources that they need.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Stream<R> requestResourcesOnDemand(Function<Integer, Mono<U>> pageSupplier) {
+        return Stream.from(new OnDemandResourcePublisher<>(pageSupplier));
+    }
+
+    private static <U extends PaginatedResponse<?>> Function<U, Stream<U>> requestAdditionalPages(final Function<Integer, Mono<U>> pageSupplier, final int concurrency,
+                                                                                                 final int prefetch, final boolean ordered) {
         return new Function<U, Stream<U>>() {
 
             @Override
@@ -67,23 +134,11 @@ public final class Paginated {
                 }
 
                 return Stream
-                        .range(2, totalPages - 1)
-                        .flatMap(requestPage(pageSupplier))
+                        .from(new PrefetchingPagePublisher<>(pageSupplier, 2, totalPages, concurrency, prefetch, ordered))
                         .startWith(response);
             }
 
         };
     }
 
-    private static <U extends PaginatedResponse<?>> Function<Integer, Mono<U>> requestPage(final Function<Integer, Mono<U>> pageSupplier) {
-        return new Function<Integer, Mono<U>>() {
-
-            @Override
-            public Mono<U> apply(Integer page) {
-                return pageSupplier.apply(page);
-            }
-
-        };
-    }
-
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v2;
+
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Publisher} of a range of pages of a paginated listing that requests up to a fixed number of pages concurrently and no more than a fixed window of pages ahead of the next page to be
+ * emitted.  Pages are emitted either in the order that they are received or in page order.  In page order, pages received ahead of an outstanding page are held until it is received, and the
+ * window stops any more pages being requested while too many are held.  A page that completes without a response is skipped.
+ *
+ * @param <U> the type of {@link PaginatedResponse}
+ */
+final class PrefetchingPagePublisher<U extends PaginatedResponse<?>> implements Publisher<U> {
+
+    private final int concurrency;
+
+    private final int firstPage;
+
+    private final int lastPage;
+
+    private final boolean ordered;
+
+    private final Function<Integer, Mono<U>> pageSupplier;
+
+    private final int prefetch;
+
+    PrefetchingPagePublisher(Function<Integer, Mono<U>> pageSupplier, int firstPage, int lastPage, int concurrency, int prefetch, boolean ordered) {
+        this.concurrency = concurrency;
+        this.firstPage = firstPage;
+        this.lastPage = lastPage;
+        this.ordered = ordered;
+        this.pageSupplier = pageSupplier;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super U> subscriber) {
+        subscriber.onSubscribe(new PrefetchingSubscription(subscriber));
+    }
+
+    private final class PrefetchingSubscription implements Subscription {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final Set<Subscription> pageSubscriptions = Collections.newSetFromMap(new ConcurrentHashMap<Subscription, Boolean>());
+
+        private final ConcurrentSkipListMap<Integer, List<U>> received = new ConcurrentSkipListMap<>();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final Subscriber<? super U> subscriber;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        private int nextEmitted = PrefetchingPagePublisher.this.firstPage;
+
+        private int nextRequested = PrefetchingPagePublisher.this.firstPage;
+
+        private int outstanding;
+
+        private PrefetchingSubscription(Subscriber<? super U> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error = new IllegalArgumentException(String.format("Request must be positive (was %d)", n));
+            } else {
+                addRequested(n);
+            }
+
+            drain();
+        }
+
+        private void addRequested(long n) {
+            for (; ; ) {
+                long current = this.requested.get();
+                long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+
+                if (this.requested.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void cancelPages() {
+            for (Subscription pageSubscription : this.pageSubscriptions) {
+                pageSubscription.cancel();
+            }
+
+            this.pageSubscriptions.clear();
+            this.received.clear();
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (; ; ) {
+                long requested = this.requested.get();
+                long emitted = 0;
+
+                while (!this.cancelled) {
+                    Map.Entry<Integer, List<U>> page = nextPage();
+                    if (page == null || (emitted == requested && !page.getValue().isEmpty())) {
+                        break;
+                    }
+
+                    this.received.remove(page.getKey());
+                    this.nextEmitted = page.getKey() + 1;
+                    this.outstanding--;
+
+                    for (U response : page.getValue()) {
+                        this.subscriber.onNext(response);
+                        emitted++;
+                    }
+                }
+
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    this.requested.addAndGet(-emitted);
+                }
+
+                if (this.cancelled) {
+                    cancelPages();
+                    return;
+                }
+
+                if (this.error != null) {
+                    this.cancelled = true;
+                    cancelPages();
+                    this.subscriber.onError(this.error);
+                    return;
+                }
+
+                if (this.nextRequested > PrefetchingPagePublisher.this.lastPage && this.outstanding == 0) {
+                    this.cancelled = true;
+                    this.subscriber.onComplete();
+                    return;
+                }
+
+                while (this.nextRequested <= PrefetchingPagePublisher.this.lastPage && this.outstanding < PrefetchingPagePublisher.this.prefetch
+                        && this.inFlight.get() < PrefetchingPagePublisher.this.concurrency) {
+                    this.outstanding++;
+                    this.inFlight.incrementAndGet();
+                    requestPage(this.nextRequested++);
+                }
+
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private Map.Entry<Integer, List<U>> nextPage() {
+            Map.Entry<Integer, List<U>> page = this.received.firstEntry();
+            if (page == null || (PrefetchingPagePublisher.this.ordered && page.getKey() != this.nextEmitted)) {
+                return null;
+            }
+
+            return page;
+        }
+
+        private void requestPage(final int page) {
+            PrefetchingPagePublisher.this.pageSupplier.apply(page).subscribe(new Subscriber<U>() {
+
+                private U response;
+
+                private Subscription subscription;
+
+                @Override
+                public void onComplete() {
+                    PrefetchingSubscription.this.received.put(page, this.response != null ? Collections.singletonList(this.response) : Collections.<U>emptyList());
+                    completed();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    PrefetchingSubscription.this.error = throwable;
+                    completed();
+                }
+
+                @Override
+                public void onNext(U response) {
+                    this.response = response;
+                }
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    PrefetchingSubscription.this.pageSubscriptions.add(subscription);
+
+                    if (PrefetchingSubscription.this.cancelled) {
+                        PrefetchingSubscription.this.pageSubscriptions.remove(subscription);
+                        subscription.cancel();
+                    } else {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+                }
+
+                private void completed() {
+                    PrefetchingSubscription.this.pageSubscriptions.remove(this.subscription);
+                    PrefetchingSubscription.this.inFlight.decrementAndGet();
+                    drain();
+                }
+
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v3;
+
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Publisher} of the pages of a paginated listing, starting from a page that has already been received and following the {@code next} link of each page in turn.  Pages are requested
+ * one at a time from a single drain loop rather than by nesting a stream per page, and the next page is only requested once the previous one has been emitted.
+ *
+ * @param <U> the type of {@link PaginatedResponse}
+ */
+final class LinkFollowingPublisher<U extends PaginatedResponse<?>> implements Publisher<U> {
+
+    private final U firstPage;
+
+    private final Function<Link, Mono<U>> linkSupplier;
+
+    LinkFollowingPublisher(U firstPage, Function<Link, Mono<U>> linkSupplier) {
+        this.firstPage = firstPage;
+        this.linkSupplier = linkSupplier;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super U> subscriber) {
+        subscriber.onSubscribe(new LinkFollowingSubscription<>(this.firstPage, this.linkSupplier, subscriber));
+    }
+
+    private static Link getNext(PaginatedResponse<?> response) {
+        PaginatedResponse.Pagination pagination = response.getPagination();
+        return pagination != null ? pagination.getNext() : null;
+    }
+
+    private static final class LinkFollowingSubscription<U extends PaginatedResponse<?>> implements Subscription {
+
+        private final Function<Link, Mono<U>> linkSupplier;
+
+        private final AtomicReference<Subscription> pageSubscription = new AtomicReference<>();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final Subscriber<? super U> subscriber;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        private volatile boolean lastPageReceived;
+
+        private volatile U page;
+
+        private volatile boolean pageInFlight;
+
+        private LinkFollowingSubscription(U firstPage, Function<Link, Mono<U>> linkSupplier, Subscriber<? super U> subscriber) {
+            this.linkSupplier = linkSupplier;
+            this.page = firstPage;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            cancelPage();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error = new IllegalArgumentException(String.format("Request must be positive (was %d)", n));
+            } else {
+                addRequested(n);
+            }
+
+            drain();
+        }
+
+        private void addRequested(long n) {
+            for (; ; ) {
+                long current = this.requested.get();
+                long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+
+                if (this.requested.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void cancelPage() {
+            Subscription pageSubscription = this.pageSubscription.getAndSet(null);
+            if (pageSubscription != null) {
+                pageSubscription.cancel();
+            }
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (; ; ) {
+                if (this.cancelled) {
+                    this.page = null;
+                    return;
+                }
+
+                U page = this.page;
+                if (page != null && this.requested.get() != 0) {
+                    this.page = null;
+                    if (this.requested.get() != Long.MAX_VALUE) {
+                        this.requested.decrementAndGet();
+                    }
+
+                    this.subscriber.onNext(page);
+
+                    Link next = getNext(page);
+                    if (next == null) {
+                        this.lastPageReceived = true;
+                    } else if (!this.cancelled) {
+                        this.pageInFlight = true;
+                        requestPage(next);
+                    }
+                }
+
+                if (this.page == null && !this.pageInFlight) {
+                    if (this.error != null) {
+                        this.cancelled = true;
+                        this.subscriber.onError(this.error);
+                        return;
+                    }
+
+                    if (this.lastPageReceived) {
+                        this.cancelled = true;
+                        this.subscriber.onComplete();
+                        return;
+                    }
+                }
+
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void requestPage(Link link) {
+            this.linkSupplier.apply(link).subscribe(new Subscriber<U>() {
+
+                private boolean received;
+
+                private Subscription subscription;
+
+                @Override
+                public void onComplete() {
+                    if (!this.received) {
+                        LinkFollowingSubscription.this.lastPageReceived = true;
+                    }
+
+                    completed();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    LinkFollowingSubscription.this.error = throwable;
+                    completed();
+                }
+
+                @Override
+                public void onNext(U response) {
+                    this.received = true;
+                    LinkFollowingSubscription.this.page = response;
+                }
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    LinkFollowingSubscription.this.pageSubscription.set(subscription);
+
+                    if (LinkFollowingSubscription.this.cancelled) {
+                        cancelPage();
+                    } else {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+                }
+
+                private void completed() {
+                    LinkFollowingSubscription.this.pageSubscription.compareAndSet(this.subscription, null);
+                    LinkFollowingSubscription.this.pageInFlight = false;
+                    drain();
+                }
+
+            });
+        }
+
+    }
+
+}
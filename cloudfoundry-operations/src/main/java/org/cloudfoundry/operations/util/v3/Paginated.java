@@ -0,0 +1,190 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v3;
+
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.rx.Stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A utility class to provide functions for handling v3 {@link PaginatedResponse}s.  Pages are located by following the links of each response rather than by page number.  When the {@code last}
+ * link of the first response identifies the final page, the links to the remaining pages are derived from it up front and requested ahead in parallel, with bounded concurrency.  Otherwise the
+ * {@code next} link of each response is followed in turn.
+ */
+public final class Paginated {
+
+    /**
+     * The default maximum number of pages that are requested concurrently
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private static final String PAGE_PARAMETER = "page=";
+
+    private Paginated() {
+    }
+
+    /**
+     * Generate the stream of responses starting from the first page, using the default concurrency
+     *
+     * @param firstPage    the first page of the listing
+     * @param linkSupplier a function from the {@link Link}s of a response to {@link Mono}s of the {@link PaginatedResponse}s that they identify
+     * @param <U>          the type of {@link PaginatedResponse}
+     * @return a stream of <code>U</code> objects
+     */
+    public static <U extends PaginatedResponse<?>> Stream<U> requestPages(Mono<U> firstPage, Function<Link, Mono<U>> linkSupplier) {
+        return requestPages(firstPage, linkSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of responses starting from the first page
+     *
+     * @param firstPage    the first page of the listing
+     * @param linkSupplier a function from the {@link Link}s of a response to {@link Mono}s of the {@link PaginatedResponse}s that they identify
+     * @param concurrency  the maximum number of pages to request concurrently when the last page is known
+     * @param <U>          the type of {@link PaginatedResponse}
+     * @return a stream of <code>U</code> objects
+     * @throws IllegalArgumentException if {@code concurrency} is less than {@code 1}
+     */
+    public static <U extends PaginatedResponse<?>> Stream<U> requestPages(Mono<U> firstPage, Function<Link, Mono<U>> linkSupplier, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be greater than zero");
+        }
+
+        return Stream
+                .from(firstPage)
+                .flatMap(requestAdditionalPages(linkSupplier, concurrency));
+    }
+
+    /**
+     * Generate the stream of resources accumulated from the responses of a listing, using the default concurrency
+     *
+     * @param firstPage    the first page of the listing
+     * @param linkSupplier a function from the {@link Link}s of a response to {@link Mono}s of the {@link PaginatedResponse}s that they identify
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}
+     * @param <U>          the type of {@link PaginatedResponse}
+     * @return a stream of <code>R</code> objects
+     */
+    public static <R, U extends PaginatedResponse<R>> Stream<R> requestResources(Mono<U> firstPage, Function<Link, Mono<U>> linkSupplier) {
+        return requestResources(firstPage, linkSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from the responses of a listing
+     *
+     * @param firstPage    the first page of the listing
+     * @param linkSupplier a function from the {@link Link}s of a response to {@link Mono}s of the {@link PaginatedResponse}s that they identify
+     * @param concurrency  the maximum number of pages to request concurrently when the last page is known
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}
+     * @param <U>          the type of {@link PaginatedResponse}
+     * @return a stream of <code>R</code> objects
+     * @throws IllegalArgumentException if {@code concurrency} is less than {@code 1}
+     */
+    public static <R, U extends PaginatedResponse<R>> Stream<R> requestResources(Mono<U> firstPage, Function<Link, Mono<U>> linkSupplier, int concurrency) {
+        return requestPages(firstPage, linkSupplier, concurrency)
+                .flatMap(Paginated.<R, U>extractResources());
+    }
+
+    static List<Link> getRemainingPages(Link last) {
+        if (last == null || last.getHref() == null) {
+            return null;
+        }
+
+        String href = last.getHref();
+        int queryStart = href.indexOf('?');
+        if (queryStart == -1) {
+            return null;
+        }
+
+        String[] parameters = href.substring(queryStart + 1).split("&");
+        int pageParameter = -1;
+        int lastPage = 0;
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].startsWith(PAGE_PARAMETER)) {
+                try {
+                    lastPage = Integer.parseInt(parameters[i].substring(PAGE_PARAMETER.length()));
+                    pageParameter = i;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+
+        if (pageParameter == -1) {
+            return null;
+        }
+
+        List<Link> links = new ArrayList<>();
+        for (int page = 2; page <= lastPage; page++) {
+            parameters[pageParameter] = PAGE_PARAMETER + page;
+
+            StringBuilder builder = new StringBuilder(href.substring(0, queryStart + 1));
+            for (int i = 0; i < parameters.length; i++) {
+                builder.append(i == 0 ? "" : "&").append(parameters[i]);
+            }
+
+            links.add(Link.builder()
+                    .href(builder.toString())
+                    .method(last.getMethod())
+                    .build());
+        }
+
+        return links;
+    }
+
+    private static <R, U extends PaginatedResponse<R>> Function<U, Stream<R>> extractResources() {
+        return new Function<U, Stream<R>>() {
+
+            @Override
+            public Stream<R> apply(U response) {
+                return Stream.fromIterable(response.getResources());
+            }
+
+        };
+    }
+
+    private static <U extends PaginatedResponse<?>> Function<U, Stream<U>> requestAdditionalPages(final Function<Link, Mono<U>> linkSupplier, final int concurrency) {
+        return new Function<U, Stream<U>>() {
+
+            @Override
+            public Stream<U> apply(U response) {
+                PaginatedResponse.Pagination pagination = response.getPagination();
+                List<Link> remainingPages = pagination != null ? getRemainingPages(pagination.getLast()) : null;
+
+                if (remainingPages == null) {
+                    return Stream.from(new LinkFollowingPublisher<>(response, linkSupplier));
+                }
+
+                if (remainingPages.isEmpty()) {
+                    return Stream.from(Mono.just(response));
+                }
+
+                return Stream
+                        .fromIterable(remainingPages)
+                        .flatMap(linkSupplier, concurrency, concurrency)
+                        .startWith(response);
+            }
+
+        };
+    }
+
+}
@@ -21,24 +21,81 @@ import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsResponse;
 import org.cloudfoundry.client.v2.organizations.OrganizationEntity;
 import org.cloudfoundry.client.v2.organizations.OrganizationResource;
+import org.cloudfoundry.client.v2.spaces.GetSpaceSummaryRequest;
+import org.cloudfoundry.client.v2.spaces.GetSpaceSummaryResponse;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.operations.applications.ApplicationDetail;
+import org.cloudfoundry.operations.applications.ApplicationSummary;
+import org.cloudfoundry.operations.applications.GetApplicationRequest;
+import org.cloudfoundry.operations.spaces.GetSpaceRequest;
+import org.cloudfoundry.operations.spaces.SpaceDetail;
+import org.cloudfoundry.operations.spaces.SpaceSummary;
+import org.cloudfoundry.operations.util.DefaultResolutionCache;
+import org.cloudfoundry.utils.test.TestSubscriber;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public final class CloudFoundryOperationsBuilderTest extends AbstractOperationsTest {
 
     private final CloudFoundryOperationsBuilder builder = new CloudFoundryOperationsBuilder();
 
+    @Test
+    public void buildDoesNotResolve() {
+        this.builder
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .target("test-organization", "test-space")
+                .build();
+
+        verifyZeroInteractions(this.organizations, this.spaces);
+    }
+
+    @Test
+    public void buildMultiTargetResolvesOnce() throws Exception {
+        ListOrganizationsRequest request = mockOrganization();
+        mockOrganizationSpaces();
+
+        MultiTargetCloudFoundryOperations operations = this.builder
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .buildMultiTarget();
+
+        listSpaces(operations.forTarget("test-organization"));
+        listSpaces(operations.forTarget("test-organization"));
+        listSpaces(operations.forTarget("test-organization"));
+
+        verify(this.organizations, times(1)).list(request);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void buildNoClient() {
         this.builder.build();
     }
 
+    @Test
+    public void buildRetargetedSpace() throws Exception {
+        ListOrganizationsRequest request = mockOrganization();
+        mockOrganizationSpaces();
+
+        this.builder
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .target("test-organization", "test-space-1");
+        listSpaces(this.builder.build());
+
+        this.builder
+                .target("test-organization", "test-space-2");
+        listSpaces(this.builder.build());
+
+        verify(this.organizations, times(1)).list(request);
+    }
+
     @Test
     public void buildWithClient() {
         this.builder
@@ -46,8 +103,8 @@ public final class CloudFoundryOperationsBuilderTest extends AbstractOperationsT
                 .build();
     }
 
-    @Test(expected = IllegalArgumentException.class)
-    public void buildWithInvalidOrganization() {
+    @Test
+    public void buildWithInvalidOrganization() throws Exception {
         ListOrganizationsRequest request = ListOrganizationsRequest.builder()
                 .name("test-organization")
                 .page(1)
@@ -59,32 +116,25 @@ public final class CloudFoundryOperationsBuilderTest extends AbstractOperationsT
 
         when(this.cloudFoundryClient.organizations().list(request)).thenReturn(Mono.just(response));
 
-        this.builder
+        CloudFoundryOperations operations = this.builder
                 .cloudFoundryClient(this.cloudFoundryClient)
                 .target("test-organization")
                 .build();
-    }
 
-    @Test(expected = IllegalArgumentException.class)
-    public void buildWithInvalidSpace() {
-        ListOrganizationsRequest orgRequest = ListOrganizationsRequest.builder()
-                .name("test-organization")
-                .page(1)
-                .build();
+        TestSubscriber<SpaceDetail> testSubscriber = new TestSubscriber<>();
+        testSubscriber.assertError(IllegalArgumentException.class);
 
-        ListOrganizationsResponse orgResponse = ListOrganizationsResponse.builder()
-                .resource(OrganizationResource.builder()
-                        .metadata(Metadata.builder()
-                                .id("test-organization-id")
-                                .build())
-                        .entity(OrganizationEntity.builder()
-                                .name("test-name")
-                                .build())
+        operations.spaces()
+                .get(GetSpaceRequest.builder()
+                        .name("test-space")
                         .build())
-                .totalPages(1)
-                .build();
+                .subscribe(testSubscriber);
+        testSubscriber.verify(5, SECONDS);
+    }
 
-        when(this.cloudFoundryClient.organizations().list(orgRequest)).thenReturn(Mono.just(orgResponse));
+    @Test
+    public void buildWithInvalidSpace() throws Exception {
+        mockOrganization();
 
         ListSpacesRequest spaceRequest = ListSpacesRequest.builder()
                 .organizationId("test-organization-id")
@@ -98,47 +148,118 @@ public final class CloudFoundryOperationsBuilderTest extends AbstractOperationsT
 
         when(this.cloudFoundryClient.spaces().list(spaceRequest)).thenReturn(Mono.just(spaceResponse));
 
-        this.builder
+        CloudFoundryOperations operations = this.builder
                 .cloudFoundryClient(this.cloudFoundryClient)
                 .target("test-organization", "test-space")
                 .build();
+
+        TestSubscriber<ApplicationDetail> testSubscriber = new TestSubscriber<>();
+        testSubscriber.assertError(IllegalArgumentException.class);
+
+        operations.applications()
+                .get(GetApplicationRequest.builder()
+                        .name("test-application")
+                        .build())
+                .subscribe(testSubscriber);
+        testSubscriber.verify(5, SECONDS);
     }
 
     @Test
-    public void buildWithOrganization() {
-        ListOrganizationsRequest request = ListOrganizationsRequest.builder()
-                .name("test-organization")
+    public void buildWithOrganization() throws Exception {
+        mockOrganization();
+        ListSpacesRequest request = mockOrganizationSpaces();
+
+        listSpaces(this.builder
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .target("test-organization")
+                .build());
+
+        verify(this.spaces).list(request);
+    }
+
+    @Test
+    public void buildWithResolutionCache() throws Exception {
+        ListOrganizationsRequest request = mockOrganization();
+        mockOrganizationSpaces();
+
+        DefaultResolutionCache resolutionCache = new DefaultResolutionCache(10);
+
+        listSpaces(new CloudFoundryOperationsBuilder()
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .resolutionCache(resolutionCache)
+                .target("test-organization")
+                .build());
+
+        listSpaces(new CloudFoundryOperationsBuilder()
+                .cloudFoundryClient(this.cloudFoundryClient)
+                .resolutionCache(resolutionCache)
+                .target("test-organization")
+                .build());
+
+        verify(this.organizations, times(1)).list(request);
+    }
+
+    @Test
+    public void buildWithSpace() throws Exception {
+        mockOrganization();
+
+        ListSpacesRequest spaceRequest = ListSpacesRequest.builder()
+                .organizationId("test-organization-id")
+                .name("test-space")
                 .page(1)
                 .build();
 
-        ListOrganizationsResponse response = ListOrganizationsResponse.builder()
-                .resource(OrganizationResource.builder()
+        ListSpacesResponse spaceResponse = ListSpacesResponse.builder()
+                .resource(SpaceResource.builder()
                         .metadata(Metadata.builder()
-                                .id("test-organization-id")
+                                .id("test-space-id")
                                 .build())
-                        .entity(OrganizationEntity.builder()
+                        .entity(SpaceEntity.builder()
                                 .name("test-name")
                                 .build())
                         .build())
                 .totalPages(1)
                 .build();
 
-        when(this.cloudFoundryClient.organizations().list(request)).thenReturn(Mono.just(response));
+        when(this.cloudFoundryClient.spaces().list(spaceRequest)).thenReturn(Mono.just(spaceResponse));
 
-        this.builder
+        GetSpaceSummaryRequest summaryRequest = GetSpaceSummaryRequest.builder()
+                .id("test-space-id")
+                .build();
+
+        GetSpaceSummaryResponse summaryResponse = GetSpaceSummaryResponse.builder()
+                .id("test-space-id")
+                .build();
+
+        when(this.cloudFoundryClient.spaces().getSummary(summaryRequest)).thenReturn(Mono.just(summaryResponse));
+
+        CloudFoundryOperations operations = this.builder
                 .cloudFoundryClient(this.cloudFoundryClient)
-                .target("test-organization")
+                .target("test-organization", "test-space")
                 .build();
+
+        TestSubscriber<ApplicationSummary> testSubscriber = new TestSubscriber<>();
+
+        operations.applications().list().subscribe(testSubscriber);
+        testSubscriber.verify(5, SECONDS);
+
+        verify(this.spaces).getSummary(summaryRequest);
     }
 
-    @Test
-    public void buildWithSpace() {
-        ListOrganizationsRequest orgRequest = ListOrganizationsRequest.builder()
+    private static void listSpaces(CloudFoundryOperations operations) throws Exception {
+        TestSubscriber<SpaceSummary> testSubscriber = new TestSubscriber<>();
+
+        operations.spaces().list().subscribe(testSubscriber);
+        testSubscriber.verify(5, SECONDS);
+    }
+
+    private ListOrganizationsRequest mockOrganization() {
+        ListOrganizationsRequest request = ListOrganizationsRequest.builder()
                 .name("test-organization")
                 .page(1)
                 .build();
 
-        ListOrganizationsResponse orgResponse = ListOrganizationsResponse.builder()
+        ListOrganizationsResponse response = ListOrganizationsResponse.builder()
                 .resource(OrganizationResource.builder()
                         .metadata(Metadata.builder()
                                 .id("test-organization-id")
@@ -150,32 +271,24 @@ public final class CloudFoundryOperationsBuilderTest extends AbstractOperationsT
                 .totalPages(1)
                 .build();
 
-        when(this.cloudFoundryClient.organizations().list(orgRequest)).thenReturn(Mono.just(orgResponse));
+        when(this.cloudFoundryClient.organizations().list(request)).thenReturn(Mono.just(response));
 
-        ListSpacesRequest spaceRequest = ListSpacesRequest.builder()
+        return request;
+    }
+
+    private ListSpacesRequest mockOrganizationSpaces() {
+        ListSpacesRequest request = ListSpacesRequest.builder()
                 .organizationId("test-organization-id")
-                .name("test-space")
                 .page(1)
                 .build();
 
-        ListSpacesResponse spaceResponse = ListSpacesResponse.builder()
-                .resource(SpaceResource.builder()
-                        .metadata(Metadata.builder()
-                                .id("test-space-id")
-                                .build())
-                        .entity(SpaceEntity.builder()
-                                .name("test-name")
-                                .build())
-                        .build())
+        ListSpacesResponse response = ListSpacesResponse.builder()
                 .totalPages(1)
                 .build();
 
-        when(this.cloudFoundryClient.spaces().list(spaceRequest)).thenReturn(Mono.just(spaceResponse));
+        when(this.cloudFoundryClient.spaces().list(request)).thenReturn(Mono.just(response));
 
-        this.builder
-                .cloudFoundryClient(this.cloudFoundryClient)
-                .target("test-organization", "test-space")
-                .build();
+        return request;
     }
 
 }
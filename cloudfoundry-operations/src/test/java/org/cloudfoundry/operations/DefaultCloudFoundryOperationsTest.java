@@ -16,13 +16,15 @@
 
 package org.cloudfoundry.operations;
 
+import org.cloudfoundry.operations.util.NoopMetadataCache;
+import org.cloudfoundry.operations.util.NoopResolutionCache;
 import org.junit.Test;
 
 import static org.junit.Assert.assertNotNull;
 
 public final class DefaultCloudFoundryOperationsTest extends AbstractOperationsTest {
 
-    private final DefaultCloudFoundryOperations operations = new DefaultCloudFoundryOperations(this.cloudFoundryClient, MISSING_ID, MISSING_ID);
+    private final DefaultCloudFoundryOperations operations = new DefaultCloudFoundryOperations(this.cloudFoundryClient, MISSING_ID, MISSING_ID, new NoopMetadataCache(), new NoopResolutionCache());
 
     @Test
     public void applications() {
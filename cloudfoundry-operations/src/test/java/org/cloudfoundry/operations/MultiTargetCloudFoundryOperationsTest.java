@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations;
+
+import org.cloudfoundry.client.v2.Resource.Metadata;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationsResponse;
+import org.cloudfoundry.client.v2.organizations.OrganizationEntity;
+import org.cloudfoundry.client.v2.organizations.OrganizationResource;
+import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.operations.spaces.SpaceSummary;
+import org.cloudfoundry.operations.util.DefaultResolutionCache;
+import org.cloudfoundry.operations.util.NoopMetadataCache;
+import org.cloudfoundry.utils.test.TestSubscriber;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public final class MultiTargetCloudFoundryOperationsTest extends AbstractOperationsTest {
+
+    private final DefaultResolutionCache resolutionCache = new DefaultResolutionCache(100);
+
+    private final MultiTargetCloudFoundryOperations operations = new MultiTargetCloudFoundryOperations(this.cloudFoundryClient, new NoopMetadataCache(), this.resolutionCache);
+
+    private final ListOrganizationsRequest request = ListOrganizationsRequest.builder()
+            .name("test-organization")
+            .page(1)
+            .build();
+
+    @Test
+    public void forTarget() {
+        assertNotNull(this.operations.forTarget("test-organization", "test-space"));
+
+        verifyZeroInteractions(this.organizations, this.spaces);
+    }
+
+    @Test
+    public void forTargetInvalidated() throws Exception {
+        CloudFoundryOperations operations = this.operations.forTarget("test-organization", "test-space");
+
+        listSpaces(operations);
+        this.resolutionCache.invalidateId("test-organization-id");
+        listSpaces(operations);
+
+        verify(this.organizations, times(2)).list(this.request);
+    }
+
+    @Test
+    public void forTargetReused() {
+        assertSame(this.operations.forTarget("test-organization", "test-space"), this.operations.forTarget("test-organization", "test-space"));
+        assertNotSame(this.operations.forTarget("test-organization", "test-space"), this.operations.forTarget("test-organization", "other-space"));
+    }
+
+    @Test
+    public void forTargetSharesOrganization() throws Exception {
+        listSpaces(this.operations.forTarget("test-organization", "test-space-1"));
+        listSpaces(this.operations.forTarget("test-organization", "test-space-2"));
+        listSpaces(this.operations.forTarget("test-organization"));
+
+        verify(this.organizations, times(1)).list(this.request);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        ListOrganizationsResponse organizationsResponse = ListOrganizationsResponse.builder()
+                .resource(OrganizationResource.builder()
+                        .metadata(Metadata.builder()
+                                .id("test-organization-id")
+                                .build())
+                        .entity(OrganizationEntity.builder()
+                                .name("test-organization")
+                                .build())
+                        .build())
+                .totalPages(1)
+                .build();
+
+        when(this.cloudFoundryClient.organizations().list(this.request)).thenReturn(Mono.just(organizationsResponse));
+
+        ListSpacesRequest spacesRequest = ListSpacesRequest.builder()
+                .organizationId("test-organization-id")
+                .page(1)
+                .build();
+
+        ListSpacesResponse spacesResponse = ListSpacesResponse.builder()
+                .totalPages(1)
+                .build();
+
+        when(this.cloudFoundryClient.spaces().list(spacesRequest)).thenReturn(Mono.just(spacesResponse));
+    }
+
+    private static void listSpaces(CloudFoundryOperations operations) throws Exception {
+        TestSubscriber<SpaceSummary> testSubscriber = new TestSubscriber<>();
+
+        operations.spaces().list().subscribe(testSubscriber);
+        testSubscriber.verify(5, SECONDS);
+    }
+
+}
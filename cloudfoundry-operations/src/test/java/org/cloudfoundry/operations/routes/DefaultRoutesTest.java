@@ -20,6 +20,7 @@ import org.cloudfoundry.client.v2.CloudFoundryException;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteResponse;
+import org.cloudfoundry.client.v2.domains.DomainResource;
 import org.cloudfoundry.client.v2.domains.GetDomainRequest;
 import org.cloudfoundry.client.v2.domains.GetDomainResponse;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRequest;
@@ -52,6 +53,8 @@ import org.junit.Before;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+
 import static org.cloudfoundry.operations.util.v2.TestObjects.fill;
 import static org.cloudfoundry.operations.util.v2.TestObjects.fillPage;
 import static org.mockito.Mockito.when;
@@ -530,6 +533,7 @@ public final class DefaultRoutesTest {
         @Before
         public void setUp() throws Exception {
             org.cloudfoundry.client.v2.routes.ListRoutesRequest request1 = org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
+                    .inlineRelationsDepth(1)
                     .organizationId(TEST_ORGANIZATION_ID)
                     .page(1)
                     .build();
@@ -587,6 +591,52 @@ public final class DefaultRoutesTest {
         }
     }
 
+    public static final class ListCurrentOrganizationInlineRelations extends AbstractOperationsApiTest<Route> {
+
+        private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, Mono.just(TEST_ORGANIZATION_ID), MISSING_ID);
+
+        @Before
+        public void setUp() throws Exception {
+            org.cloudfoundry.client.v2.routes.ListRoutesRequest request1 = org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
+                    .inlineRelationsDepth(1)
+                    .organizationId(TEST_ORGANIZATION_ID)
+                    .page(1)
+                    .build();
+            ListRoutesResponse response1 = fillPage(ListRoutesResponse.builder())
+                    .resource(fill(RouteResource.builder(), "route-")
+                            .entity(fill(RouteEntity.builder(), "routeEntity-")
+                                    .applications(Collections.singletonList(fill(ApplicationResource.builder(), "application-").build()))
+                                    .domain(fill(DomainResource.builder(), "domain-").build())
+                                    .space(fill(SpaceResource.builder(), "space-").build())
+                                    .build())
+                            .build())
+                    .build();
+            when(this.cloudFoundryClient.routes().list(request1)).thenReturn(Mono.just(response1));
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<Route> testSubscriber) throws Exception {
+            testSubscriber
+                    .assertEquals(Route.builder()
+                            .application("test-application-name")
+                            .domain("test-domain-name")
+                            .host("test-routeEntity-host")
+                            .path("test-routeEntity-path")
+                            .routeId("test-route-id")
+                            .space("test-space-name")
+                            .build());
+        }
+
+        @Override
+        protected Publisher<Route> invoke() {
+            ListRoutesRequest request = ListRoutesRequest.builder()
+                    .level(ListRoutesRequest.Level.ORGANIZATION)
+                    .build();
+
+            return this.routes.list(request);
+        }
+    }
+
     public static final class ListCurrentOrganizationNoOrganization extends AbstractOperationsApiTest<Route> {
 
         private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, MISSING_ID, MISSING_ID);
@@ -607,6 +657,76 @@ public final class DefaultRoutesTest {
         }
     }
 
+    public static final class ListCurrentOrganizationSharedRelations extends AbstractOperationsApiTest<Route> {
+
+        private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, Mono.just(TEST_ORGANIZATION_ID), MISSING_ID);
+
+        @Before
+        public void setUp() throws Exception {
+            org.cloudfoundry.client.v2.routes.ListRoutesRequest request1 = org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
+                    .inlineRelationsDepth(1)
+                    .organizationId(TEST_ORGANIZATION_ID)
+                    .page(1)
+                    .build();
+            ListRoutesResponse response1 = fillPage(ListRoutesResponse.builder())
+                    .resource(fill(RouteResource.builder(), "route-")
+                            .entity(fill(RouteEntity.builder(), "routeEntity-").build())
+                            .build())
+                    .resource(fill(RouteResource.builder(), "route-")
+                            .entity(fill(RouteEntity.builder(), "routeEntity-").build())
+                            .build())
+                    .build();
+            when(this.cloudFoundryClient.routes().list(request1)).thenReturn(Mono.just(response1));
+
+            GetDomainRequest request2 = GetDomainRequest.builder()
+                    .id("test-routeEntity-domainId")
+                    .build();
+            GetDomainResponse response2 = fill(GetDomainResponse.builder(), "domain-").build();
+            when(this.cloudFoundryClient.domains().get(request2)).thenReturn(Mono.just(response2), Mono.<GetDomainResponse>error(new IllegalStateException("Domain requested more than once")));
+
+            GetSpaceRequest request3 = GetSpaceRequest.builder()
+                    .id("test-routeEntity-spaceId")
+                    .build();
+            GetSpaceResponse response3 = GetSpaceResponse.builder()
+                    .entity(fill(SpaceEntity.builder(), "space-response-").build())
+                    .build();
+            when(this.cloudFoundryClient.spaces().get(request3)).thenReturn(Mono.just(response3), Mono.<GetSpaceResponse>error(new IllegalStateException("Space requested more than once")));
+
+            ListRouteApplicationsRequest request4 = fillPage(ListRouteApplicationsRequest.builder(), "route-")
+                    .diego(null)
+                    .build();
+            ListRouteApplicationsResponse response4 = fillPage(ListRouteApplicationsResponse.builder())
+                    .resource(fill(ApplicationResource.builder(), "application-").build())
+                    .build();
+            when(this.cloudFoundryClient.routes().listApplications(request4)).thenReturn(Mono.just(response4));
+        }
+
+        @Override
+        protected void assertions(TestSubscriber<Route> testSubscriber) throws Exception {
+            Route route = Route.builder()
+                    .application("test-application-name")
+                    .domain("test-domain-name")
+                    .host("test-routeEntity-host")
+                    .path("test-routeEntity-path")
+                    .routeId("test-route-id")
+                    .space("test-space-response-name")
+                    .build();
+
+            testSubscriber
+                    .assertEquals(route)
+                    .assertEquals(route);
+        }
+
+        @Override
+        protected Publisher<Route> invoke() {
+            ListRoutesRequest request = ListRoutesRequest.builder()
+                    .level(ListRoutesRequest.Level.ORGANIZATION)
+                    .build();
+
+            return this.routes.list(request);
+        }
+    }
+
     public static final class ListCurrentSpace extends AbstractOperationsApiTest<Route> {
 
         private final DefaultRoutes routes = new DefaultRoutes(this.cloudFoundryClient, Mono.just(TEST_ORGANIZATION_ID), Mono.just(TEST_SPACE_ID));
@@ -615,6 +735,7 @@ public final class DefaultRoutesTest {
         public void setUp() throws Exception {
             ListSpaceRoutesRequest request1 = fillPage(ListSpaceRoutesRequest.builder(), "space-")
                     .id(TEST_SPACE_ID)
+                    .inlineRelationsDepth(1)
                     .build();
             ListSpaceRoutesResponse response1 = fillPage(ListSpaceRoutesResponse.builder(), "spaceRoute-")
                     .resource(fill(RouteResource.builder(), "route-").build())
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.stacks.GetStackRequest;
+import org.cloudfoundry.client.v2.stacks.GetStackResponse;
+import org.cloudfoundry.client.v2.stacks.Stacks;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ConcurrencyLimiterTest {
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+
+    @Test
+    public void cancel() {
+        TestPublisher publisher = new TestPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+
+        this.limiter.limit(publisher).subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertEquals(0, this.limiter.getActive());
+        assertEquals(1, publisher.cancelled);
+    }
+
+    @Test
+    public void cancelWaiting() {
+        TestPublisher publisher1 = new TestPublisher();
+        TestPublisher publisher2 = new TestPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+
+        this.limiter.limit(publisher1).subscribe(new TestSubscriber());
+        this.limiter.limit(publisher2).subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertEquals(0, this.limiter.getWaiting());
+
+        publisher1.subscribers.get(0).onComplete();
+
+        assertEquals(0, publisher2.subscribers.size());
+        assertEquals(0, this.limiter.getActive());
+    }
+
+    @Test
+    public void handOffSynchronous() {
+        TestPublisher publisher = new TestPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+        Publisher<String> completing = new Publisher<String>() {
+
+            @Override
+            public void subscribe(Subscriber<? super String> s) {
+                s.onSubscribe(new Subscription() {
+
+                    @Override
+                    public void cancel() {
+                    }
+
+                    @Override
+                    public void request(long n) {
+                    }
+
+                });
+                s.onComplete();
+            }
+
+        };
+
+        this.limiter.limit(publisher).subscribe(new TestSubscriber());
+        for (int i = 0; i < 10000; i++) {
+            this.limiter.limit(completing).subscribe(subscriber);
+        }
+
+        publisher.subscribers.get(0).onComplete();
+
+        assertEquals(10000, subscriber.completed);
+        assertEquals(0, this.limiter.getActive());
+        assertEquals(0, this.limiter.getWaiting());
+    }
+
+    @Test
+    public void limit() {
+        TestPublisher publisher1 = new TestPublisher();
+        TestPublisher publisher2 = new TestPublisher();
+
+        this.limiter.limit(publisher1).subscribe(new TestSubscriber());
+        this.limiter.limit(publisher2).subscribe(new TestSubscriber());
+
+        assertEquals(1, publisher1.subscribers.size());
+        assertEquals(0, publisher2.subscribers.size());
+        assertEquals(1, this.limiter.getActive());
+        assertEquals(1, this.limiter.getWaiting());
+
+        publisher1.subscribers.get(0).onComplete();
+
+        assertEquals(1, publisher2.subscribers.size());
+        assertEquals(1, this.limiter.getActive());
+        assertEquals(0, this.limiter.getWaiting());
+
+        publisher2.subscribers.get(0).onError(new IllegalStateException());
+
+        assertEquals(0, this.limiter.getActive());
+    }
+
+    @Test
+    public void limitClient() {
+        CloudFoundryClient cloudFoundryClient = mock(CloudFoundryClient.class, RETURNS_SMART_NULLS);
+        Stacks stacks = mock(Stacks.class, RETURNS_SMART_NULLS);
+        when(cloudFoundryClient.stacks()).thenReturn(stacks);
+
+        GetStackRequest request = GetStackRequest.builder()
+                .id("test-id")
+                .build();
+        GetStackResponse response = GetStackResponse.builder()
+                .build();
+        when(stacks.get(request)).thenReturn(Mono.just(response));
+
+        CloudFoundryClient limited = this.limiter.limit(cloudFoundryClient);
+
+        assertSame(limited.stacks(), limited.stacks());
+        assertEquals(response, limited.stacks().get(request).get());
+        assertEquals(0, this.limiter.getActive());
+    }
+
+    @Test
+    public void limitRequestedWhileWaiting() {
+        TestPublisher publisher1 = new TestPublisher();
+        TestPublisher publisher2 = new TestPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+
+        this.limiter.limit(publisher1).subscribe(new TestSubscriber());
+        this.limiter.limit(publisher2).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(2);
+        publisher1.subscribers.get(0).onComplete();
+
+        assertEquals(3, publisher2.requested);
+    }
+
+    @Test
+    public void subscribeFails() {
+        TestSubscriber subscriber = new TestSubscriber();
+
+        this.limiter.limit(new Publisher<String>() {
+
+            @Override
+            public void subscribe(Subscriber<? super String> s) {
+                throw new IllegalStateException();
+            }
+
+        }).subscribe(subscriber);
+
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertEquals(0, this.limiter.getActive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroConcurrency() {
+        new ConcurrencyLimiter(0);
+    }
+
+    private static final class TestPublisher implements Publisher<String> {
+
+        private final List<Subscriber<? super String>> subscribers = new ArrayList<>();
+
+        private int cancelled;
+
+        private long requested;
+
+        @Override
+        public void subscribe(Subscriber<? super String> subscriber) {
+            this.subscribers.add(subscriber);
+            subscriber.onSubscribe(new Subscription() {
+
+                @Override
+                public void cancel() {
+                    TestPublisher.this.cancelled++;
+                }
+
+                @Override
+                public void request(long n) {
+                    TestPublisher.this.requested += n;
+                }
+
+            });
+        }
+
+    }
+
+    private static final class TestSubscriber implements Subscriber<String> {
+
+        private int completed;
+
+        private Throwable error;
+
+        private Subscription subscription;
+
+        @Override
+        public void onComplete() {
+            this.completed++;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onNext(String s) {
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.cloudfoundry.operations.util.MetadataCache.Type.SHARED_DOMAIN;
+import static org.cloudfoundry.operations.util.MetadataCache.Type.STACK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class DefaultMetadataCacheTest {
+
+    private final DefaultMetadataCache cache = new DefaultMetadataCache(2);
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void distinctTypes() {
+        assertEquals("test-value-alpha", this.cache.get(STACK, "alpha", loader("alpha")).get());
+        assertEquals("test-value-alpha", this.cache.get(SHARED_DOMAIN, "alpha", loader("alpha")).get());
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void empty() {
+        assertNull(this.cache.get(STACK, "alpha", new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                DefaultMetadataCacheTest.this.requests.incrementAndGet();
+                return Mono.empty();
+            }
+
+        }).get());
+
+        assertEquals(0, this.cache.size());
+        assertEquals(1, this.requests.get());
+    }
+
+    @Test
+    public void eviction() {
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+        this.cache.get(STACK, "bravo", loader("bravo")).get();
+        this.cache.get(STACK, "charlie", loader("charlie")).get();
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+
+        assertEquals(2, this.cache.size());
+        assertEquals(4, this.requests.get());
+    }
+
+    @Test
+    public void expiry() {
+        this.cache.timeToLive(STACK, 0, TimeUnit.SECONDS);
+
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void hit() {
+        assertEquals("test-value-alpha", this.cache.get(STACK, "alpha", loader("alpha")).get());
+        assertEquals("test-value-alpha", this.cache.get(STACK, "alpha", loader("alpha")).get());
+
+        assertEquals(1, this.requests.get());
+        assertEquals(1, this.cache.getHitCount());
+        assertEquals(1, this.cache.getMissCount());
+        assertEquals(0.5, this.cache.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void invalidate() {
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+        this.cache.invalidate(STACK, "alpha");
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void invalidateAll() {
+        this.cache.get(STACK, "alpha", loader("alpha")).get();
+        this.cache.get(SHARED_DOMAIN, "alpha", loader("alpha")).get();
+        this.cache.invalidateAll(STACK);
+
+        assertEquals(1, this.cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSize() {
+        new DefaultMetadataCache(0);
+    }
+
+    private Supplier<Mono<String>> loader(final String key) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                DefaultMetadataCacheTest.this.requests.incrementAndGet();
+                return Mono.just(String.format("test-value-%s", key));
+            }
+
+        };
+    }
+
+}
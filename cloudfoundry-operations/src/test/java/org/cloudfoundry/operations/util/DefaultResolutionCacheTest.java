@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.cloudfoundry.operations.util.ResolutionCache.Type.ORGANIZATION;
+import static org.cloudfoundry.operations.util.ResolutionCache.Type.SPACE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class DefaultResolutionCacheTest {
+
+    private final DefaultResolutionCache cache = new DefaultResolutionCache(10);
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void absent() {
+        assertNull(this.cache.resolve(ORGANIZATION, null, "alpha", resolver(null)).get());
+        assertNull(this.cache.resolve(ORGANIZATION, null, "alpha", resolver(null)).get());
+
+        assertEquals(1, this.requests.get());
+    }
+
+    @Test
+    public void absentExpiry() {
+        this.cache.negativeTimeToLive(0, TimeUnit.SECONDS);
+
+        this.cache.resolve(ORGANIZATION, null, "alpha", resolver(null)).get();
+        this.cache.resolve(ORGANIZATION, null, "alpha", resolver(null)).get();
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void distinctParents() {
+        assertEquals("test-id-1", this.cache.resolve(SPACE, "test-organization-id-1", "alpha", resolver("test-id-1")).get());
+        assertEquals("test-id-2", this.cache.resolve(SPACE, "test-organization-id-2", "alpha", resolver("test-id-2")).get());
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void hit() {
+        assertEquals("test-id", this.cache.resolve(SPACE, "test-organization-id", "alpha", resolver("test-id")).get());
+        assertEquals("test-id", this.cache.resolve(SPACE, "test-organization-id", "alpha", resolver("test-id")).get());
+
+        assertEquals(1, this.requests.get());
+        assertEquals(1, this.cache.getHitCount());
+        assertEquals(1, this.cache.getMissCount());
+    }
+
+    @Test
+    public void invalidate() {
+        this.cache.resolve(SPACE, "test-organization-id", "alpha", resolver("test-id")).get();
+        this.cache.invalidate(SPACE, "test-organization-id", "alpha");
+        this.cache.resolve(SPACE, "test-organization-id", "alpha", resolver("test-id")).get();
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void invalidateId() {
+        this.cache.resolve(SPACE, "test-organization-id", "alpha", resolver("test-id-1")).get();
+        this.cache.resolve(SPACE, "test-organization-id", "bravo", resolver("test-id-2")).get();
+        this.cache.invalidateId("test-id-1");
+
+        assertEquals(1, this.cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSize() {
+        new DefaultResolutionCache(0);
+    }
+
+    private Supplier<Mono<String>> resolver(final String id) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                DefaultResolutionCacheTest.this.requests.incrementAndGet();
+                return id != null ? Mono.just(id) : Mono.<String>empty();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public final class MemoizingLoaderTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final MemoizingLoader<String, String> loader = new MemoizingLoader<>(new Function<String, Mono<String>>() {
+
+        @Override
+        public Mono<String> apply(String key) {
+            MemoizingLoaderTest.this.requests.incrementAndGet();
+            return Mono.just(String.format("test-value-%s", key));
+        }
+
+    });
+
+    @Test
+    public void distinctKeys() {
+        assertEquals("test-value-alpha", this.loader.load("alpha").get());
+        assertEquals("test-value-bravo", this.loader.load("bravo").get());
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void sameKey() {
+        assertEquals("test-value-alpha", this.loader.load("alpha").get());
+        assertEquals("test-value-alpha", this.loader.load("alpha").get());
+        assertEquals(1, this.requests.get());
+    }
+
+}
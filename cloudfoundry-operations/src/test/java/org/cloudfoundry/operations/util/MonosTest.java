@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Supplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public final class MonosTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void memoize() {
+        Mono<String> value = Monos.memoize(supplier(Mono.just("test-value")));
+
+        assertEquals("test-value", value.get());
+        assertEquals("test-value", value.get());
+        assertEquals(1, this.requests.get());
+    }
+
+    @Test
+    public void memoizeError() {
+        Mono<String> value = Monos.memoize(supplier(Mono.<String>error(new IllegalStateException())));
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                value.get();
+            } catch (RuntimeException e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, this.requests.get());
+    }
+
+    @Test
+    public void memoizeLazily() {
+        Monos.memoize(supplier(Mono.just("test-value")));
+
+        assertEquals(0, this.requests.get());
+    }
+
+    private Supplier<Mono<String>> supplier(final Mono<String> value) {
+        return new Supplier<Mono<String>>() {
+
+            @Override
+            public Mono<String> get() {
+                MonosTest.this.requests.incrementAndGet();
+                return value;
+            }
+
+        };
+    }
+
+}
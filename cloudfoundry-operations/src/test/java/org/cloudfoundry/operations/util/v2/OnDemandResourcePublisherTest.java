@@ -0,0 +1,178 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v2;
+
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.rx.Stream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class OnDemandResourcePublisherTest {
+
+    private final AtomicInteger pagesRequested = new AtomicInteger();
+
+    @Test
+    public void all() {
+        List<SpaceResource> expected = Arrays.asList(testSpaceResource(1), testSpaceResource(2), testSpaceResource(3));
+
+        List<SpaceResource> actual = Stream
+                .from(new OnDemandResourcePublisher<>(pageSupplier(3)))
+                .toList().get();
+
+        assertEquals(expected, actual);
+        assertEquals(3, this.pagesRequested.get());
+    }
+
+    @Test
+    public void cancel() {
+        final AtomicBoolean pageCancelled = new AtomicBoolean();
+
+        new OnDemandResourcePublisher<>(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+            @Override
+            public Mono<ListSpacesResponse> apply(Integer page) {
+                return new Mono<ListSpacesResponse>() {
+
+                    @Override
+                    public void subscribe(Subscriber<? super ListSpacesResponse> subscriber) {
+                        subscriber.onSubscribe(new Subscription() {
+
+                            @Override
+                            public void cancel() {
+                                pageCancelled.set(true);
+                            }
+
+                            @Override
+                            public void request(long n) {
+                            }
+
+                        });
+                    }
+
+                };
+            }
+
+        }).subscribe(new Subscriber<SpaceResource>() {
+
+            @Override
+            public void onComplete() {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onNext(SpaceResource resource) {
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+                subscription.cancel();
+            }
+
+        });
+
+        assertTrue(pageCancelled.get());
+    }
+
+    @Test
+    public void empty() {
+        List<SpaceResource> actual = Stream
+                .from(new OnDemandResourcePublisher<>(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer page) {
+                        return Mono.just(ListSpacesResponse.builder()
+                                .totalPages(0)
+                                .build());
+                    }
+
+                }))
+                .toList().get();
+
+        assertEquals(0, actual.size());
+    }
+
+    @Test
+    public void next() {
+        SpaceResource actual = Stream
+                .from(new OnDemandResourcePublisher<>(pageSupplier(3)))
+                .next().get();
+
+        assertEquals(testSpaceResource(1), actual);
+        assertEquals(1, this.pagesRequested.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noTotalPages() {
+        Stream
+                .from(new OnDemandResourcePublisher<>(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer page) {
+                        return Mono.just(ListSpacesResponse.builder()
+                                .resource(testSpaceResource(page))
+                                .build());
+                    }
+
+                }))
+                .toList().get();
+    }
+
+    private static SpaceResource testSpaceResource(int i) {
+        return SpaceResource.builder()
+                .metadata(SpaceResource.Metadata.builder()
+                        .id("test-id-" + i)
+                        .build())
+                .entity(SpaceEntity.builder()
+                        .name("name-" + i)
+                        .build())
+                .build();
+    }
+
+    private Function<Integer, Mono<ListSpacesResponse>> pageSupplier(final int totalPages) {
+        return new Function<Integer, Mono<ListSpacesResponse>>() {
+
+            @Override
+            public Mono<ListSpacesResponse> apply(Integer page) {
+                OnDemandResourcePublisherTest.this.pagesRequested.incrementAndGet();
+
+                return Mono.just(ListSpacesResponse.builder()
+                        .totalPages(totalPages)
+                        .resource(testSpaceResource(page))
+                        .build());
+            }
+
+        };
+    }
+
+}
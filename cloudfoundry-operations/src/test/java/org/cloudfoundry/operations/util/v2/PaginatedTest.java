@@ -26,7 +26,10 @@ import reactor.rx.Stream;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 
 public final class PaginatedTest {
@@ -57,6 +60,32 @@ public final class PaginatedTest {
         assertEquals(expected, actual);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void pageStreamInvalidConcurrency() {
+        Paginated
+                .requestPages(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer i) {
+                        return testPaginatedResponsePublisher(i, 3);
+                    }
+
+                }, 0, 1, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageStreamInvalidPrefetch() {
+        Paginated
+                .requestPages(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer i) {
+                        return testPaginatedResponsePublisher(i, 3);
+                    }
+
+                }, 1, 0, false);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void pageStreamNoTotalPages() {
         Paginated
@@ -74,6 +103,81 @@ public final class PaginatedTest {
                 }).toList().get();
     }
 
+    @Test
+    public void pageStreamOrdered() {
+        List<SpaceResource> expected = Arrays.asList(testSpaceResource(1), testSpaceResource(2), testSpaceResource(3), testSpaceResource(4), testSpaceResource(5));
+
+        List<SpaceResource> actual = Paginated
+                .requestPages(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(final Integer i) {
+                        if (i != 2) {
+                            return testPaginatedResponsePublisher(i, 5);
+                        }
+
+                        return Mono.delay(100, MILLISECONDS)
+                                .then(new Function<Long, Mono<ListSpacesResponse>>() {
+
+                                    @Override
+                                    public Mono<ListSpacesResponse> apply(Long delay) {
+                                        return testPaginatedResponsePublisher(i, 5);
+                                    }
+
+                                });
+                    }
+
+                }, 3, 3, true)
+                .flatMap(new Function<ListSpacesResponse, Stream<? extends SpaceResource>>() {
+
+                    @Override
+                    public Stream<SpaceResource> apply(ListSpacesResponse response) {
+                        return Stream.fromIterable(response.getResources());
+                    }
+
+                })
+                .toList().get();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void pageStreamOrderedPrefetch() {
+        final AtomicBoolean secondPageReceived = new AtomicBoolean();
+        final AtomicInteger lastPageRequested = new AtomicInteger();
+
+        List<ListSpacesResponse> actual = Paginated
+                .requestPages(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(final Integer i) {
+                        if (!secondPageReceived.get()) {
+                            lastPageRequested.set(Math.max(lastPageRequested.get(), i));
+                        }
+
+                        if (i != 2) {
+                            return testPaginatedResponsePublisher(i, 10);
+                        }
+
+                        return Mono.delay(100, MILLISECONDS)
+                                .then(new Function<Long, Mono<ListSpacesResponse>>() {
+
+                                    @Override
+                                    public Mono<ListSpacesResponse> apply(Long delay) {
+                                        secondPageReceived.set(true);
+                                        return testPaginatedResponsePublisher(i, 10);
+                                    }
+
+                                });
+                    }
+
+                }, 4, 3, true)
+                .toList().get();
+
+        assertEquals(10, actual.size());
+        assertEquals(4, lastPageRequested.get());
+    }
+
     @Test
     public void resourceStream() {
         List<SpaceResource> expected = Arrays.asList(testSpaceResource(0), testSpaceResource(1), testSpaceResource(2));
@@ -91,6 +195,23 @@ public final class PaginatedTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void resourceStreamOrdered() {
+        List<SpaceResource> expected = Arrays.asList(testSpaceResource(0), testSpaceResource(1), testSpaceResource(2), testSpaceResource(3));
+
+        List<SpaceResource> actual = Paginated
+                .requestResources(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer i) {
+                        return testPaginatedResponsePublisher(i - 1, 4);
+                    }
+
+                }, 1, 1, true).toList().get();
+
+        assertEquals(expected, actual);
+    }
+
     private static Mono<ListSpacesResponse> testPaginatedResponsePublisher(int i, int totalNumber) {
         ListSpacesResponse response = ListSpacesResponse.builder()
                 .totalPages(totalNumber)
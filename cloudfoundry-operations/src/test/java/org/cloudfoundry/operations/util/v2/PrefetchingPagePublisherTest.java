@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v2;
+
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.rx.Stream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+
+public final class PrefetchingPagePublisherTest {
+
+    private final AtomicInteger pagesRequested = new AtomicInteger();
+
+    @Test
+    public void emptyPage() {
+        List<ListSpacesResponse> actual = Stream
+                .from(new PrefetchingPagePublisher<>(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(Integer page) {
+                        return page == 3 ? Mono.<ListSpacesResponse>empty() : testPage(page);
+                    }
+
+                }, 2, 4, 2, 2, true))
+                .toList().get();
+
+        assertEquals(Arrays.asList(testPage(2).get(), testPage(4).get()), actual);
+    }
+
+    @Test
+    public void next() {
+        ListSpacesResponse actual = Stream
+                .from(new PrefetchingPagePublisher<>(pageSupplier(), 2, 10, 1, 1, true))
+                .next().get();
+
+        assertEquals(testPage(2).get(), actual);
+        assertEquals(1, this.pagesRequested.get());
+    }
+
+    @Test
+    public void ordered() {
+        List<ListSpacesResponse> actual = Stream
+                .from(new PrefetchingPagePublisher<>(new Function<Integer, Mono<ListSpacesResponse>>() {
+
+                    @Override
+                    public Mono<ListSpacesResponse> apply(final Integer page) {
+                        if (page != 2) {
+                            return testPage(page);
+                        }
+
+                        return Mono.delay(100, MILLISECONDS)
+                                .then(new Function<Long, Mono<ListSpacesResponse>>() {
+
+                                    @Override
+                                    public Mono<ListSpacesResponse> apply(Long delay) {
+                                        return testPage(page);
+                                    }
+
+                                });
+                    }
+
+                }, 2, 5, 4, 4, true))
+                .toList().get();
+
+        assertEquals(Arrays.asList(testPage(2).get(), testPage(3).get(), testPage(4).get(), testPage(5).get()), actual);
+    }
+
+    @Test
+    public void unordered() {
+        List<ListSpacesResponse> actual = Stream
+                .from(new PrefetchingPagePublisher<>(pageSupplier(), 2, 5, 2, 3, false))
+                .toList().get();
+
+        assertEquals(4, actual.size());
+        assertEquals(4, this.pagesRequested.get());
+    }
+
+    private static Mono<ListSpacesResponse> testPage(int page) {
+        return Mono.just(ListSpacesResponse.builder()
+                .totalPages(5)
+                .resource(SpaceResource.builder()
+                        .metadata(SpaceResource.Metadata.builder()
+                                .id("test-id-" + page)
+                                .build())
+                        .entity(SpaceEntity.builder()
+                                .name("name-" + page)
+                                .build())
+                        .build())
+                .build());
+    }
+
+    private Function<Integer, Mono<ListSpacesResponse>> pageSupplier() {
+        return new Function<Integer, Mono<ListSpacesResponse>>() {
+
+            @Override
+            public Mono<ListSpacesResponse> apply(Integer page) {
+                PrefetchingPagePublisherTest.this.pagesRequested.incrementAndGet();
+                return testPage(page);
+            }
+
+        };
+    }
+
+}
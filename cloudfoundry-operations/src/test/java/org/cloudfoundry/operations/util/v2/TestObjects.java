@@ -18,9 +18,12 @@ package org.cloudfoundry.operations.util.v2;
 
 import org.cloudfoundry.client.v2.PaginatedRequest;
 import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -50,13 +53,15 @@ import static org.junit.Assert.fail;
  *
  * <li>Types with names ending in {@code Entity} or {@code Metadata}<sup>1</sup> are recursively filled, using {@link #fill fill(builder-of-type, modifier)}, if their builder types can be found.</li>
  *
+ * <li>Lists of {@link Resource}s<sup>1</sup>, which are only present when inlined, are <i>not set</i>.</li>
+ *
  * </ul>
  *
  * <h1>Paginated Types</h1>
  *
  * <p>Paginated builder objects<sup>1</sup> (built type subclassing {@link PaginatedRequest} or {@link PaginatedResponse}) can only be filled with {@link #fillPage} (which will call {@link
  * org.junit.Assert#fail Assert.fail()} if the builder does <i>not</i> build a paginated type). The setters are treated specially, to set page request fields consistently with the operations
- * implementations. In particular the setters {@code resultsPerPage} and {@code orderDirection} are <i>not set</i>.</p>
+ * implementations. In particular the setters {@code inlineRelationsDepth}, {@code resultsPerPage} and {@code orderDirection} are <i>not set</i>.</p>
  *
  * <p>{@link #fill} will call {@link org.junit.Assert#fail Assert.fail()} if the builder object builds an object of paginated type.</p>
  *
@@ -152,6 +157,7 @@ public abstract class TestObjects {
         if (clazz.getSimpleName().endsWith("Metadata")) return buildFilled(clazz, modifier);
 
         if (isPaginated) {
+            if (m.getName().equals("inlineRelationsDepth")) return null;
             if (m.getName().equals("resultsPerPage")) return null;
             if (m.getName().equals("orderDirection")) return null;
         }
@@ -165,7 +171,7 @@ public abstract class TestObjects {
         if (clazz == Double.class) return (O) Double.valueOf(1.0d);
         if (clazz == String.class) return (O) String.valueOf("test-" + modifier + m.getName());
         if (clazz == Map.class) return (O) Collections.emptyMap();
-        if (clazz == List.class) return (O) Collections.emptyList();
+        if (clazz == List.class) return isResourceList(m) ? null : (O) Collections.emptyList();
         if (clazz == Collection.class) {
             return null;
         }
@@ -236,4 +242,14 @@ public abstract class TestObjects {
                 PaginatedResponse.class.isAssignableFrom(builtType);
     }
 
+    private static boolean isResourceList(Method m) {
+        Type type = m.getGenericParameterTypes()[0];
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+
+        Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        return elementType instanceof Class && Resource.class.isAssignableFrom((Class<?>) elementType);
+    }
+
 }
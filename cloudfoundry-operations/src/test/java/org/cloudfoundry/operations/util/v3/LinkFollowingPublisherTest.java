@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v3;
+
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.packages.ListPackagesResponse;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+import reactor.rx.Stream;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class LinkFollowingPublisherTest {
+
+    private final AtomicInteger pagesRequested = new AtomicInteger();
+
+    @Test
+    public void all() {
+        List<ListPackagesResponse> actual = Stream
+                .from(new LinkFollowingPublisher<>(page(1, 3), linkSupplier(3)))
+                .toList().get();
+
+        assertEquals(Arrays.asList(page(1, 3), page(2, 3), page(3, 3)), actual);
+        assertEquals(2, this.pagesRequested.get());
+    }
+
+    @Test
+    public void cancel() {
+        final AtomicBoolean pageCancelled = new AtomicBoolean();
+
+        new LinkFollowingPublisher<>(page(1, 2), new Function<Link, Mono<ListPackagesResponse>>() {
+
+            @Override
+            public Mono<ListPackagesResponse> apply(Link link) {
+                return new Mono<ListPackagesResponse>() {
+
+                    @Override
+                    public void subscribe(Subscriber<? super ListPackagesResponse> subscriber) {
+                        subscriber.onSubscribe(new Subscription() {
+
+                            @Override
+                            public void cancel() {
+                                pageCancelled.set(true);
+                            }
+
+                            @Override
+                            public void request(long n) {
+                            }
+
+                        });
+                    }
+
+                };
+            }
+
+        }).subscribe(new Subscriber<ListPackagesResponse>() {
+
+            @Override
+            public void onComplete() {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onNext(ListPackagesResponse response) {
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+                subscription.cancel();
+            }
+
+        });
+
+        assertTrue(pageCancelled.get());
+    }
+
+    @Test
+    public void emptyPage() {
+        List<ListPackagesResponse> actual = Stream
+                .from(new LinkFollowingPublisher<>(page(1, 3), new Function<Link, Mono<ListPackagesResponse>>() {
+
+                    @Override
+                    public Mono<ListPackagesResponse> apply(Link link) {
+                        return Mono.empty();
+                    }
+
+                }))
+                .toList().get();
+
+        assertEquals(Collections.singletonList(page(1, 3)), actual);
+    }
+
+    private static Link link(int page) {
+        return Link.builder()
+                .href(String.format("https://api.run.pivotal.io/v3/packages?per_page=1&page=%d", page))
+                .build();
+    }
+
+    private static ListPackagesResponse page(int page, int totalPages) {
+        PaginatedResponse.Pagination.PaginationBuilder pagination = PaginatedResponse.Pagination.builder()
+                .first(link(1))
+                .totalResults(totalPages);
+
+        if (page < totalPages) {
+            pagination.next(link(page + 1));
+        }
+
+        return ListPackagesResponse.builder()
+                .pagination(pagination.build())
+                .resource(ListPackagesResponse.Resource.builder()
+                        .id("test-id-" + page)
+                        .build())
+                .build();
+    }
+
+    private Function<Link, Mono<ListPackagesResponse>> linkSupplier(final int totalPages) {
+        return new Function<Link, Mono<ListPackagesResponse>>() {
+
+            @Override
+            public Mono<ListPackagesResponse> apply(Link link) {
+                LinkFollowingPublisherTest.this.pagesRequested.incrementAndGet();
+
+                String href = link.getHref();
+                return Mono.just(page(Integer.parseInt(href.substring(href.lastIndexOf("page=") + "page=".length())), totalPages));
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util.v3;
+
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.packages.ListPackagesResponse;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.fn.Function;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class PaginatedTest {
+
+    @Test
+    public void getRemainingPages() {
+        assertEquals(Arrays.asList(link("https://api.run.pivotal.io/v3/packages?page=2&per_page=50"), link("https://api.run.pivotal.io/v3/packages?page=3&per_page=50")),
+                Paginated.getRemainingPages(link("https://api.run.pivotal.io/v3/packages?page=3&per_page=50")));
+        assertEquals(Collections.singletonList(link("https://api.run.pivotal.io/v3/packages?per_page=50&page=2")),
+                Paginated.getRemainingPages(link("https://api.run.pivotal.io/v3/packages?per_page=50&page=2")));
+        assertEquals(Collections.<Link>emptyList(), Paginated.getRemainingPages(link("https://api.run.pivotal.io/v3/packages?page=1&per_page=50")));
+        assertNull(Paginated.getRemainingPages(link("https://api.run.pivotal.io/v3/packages?per_page=50")));
+        assertNull(Paginated.getRemainingPages(link("https://api.run.pivotal.io/v3/packages")));
+        assertNull(Paginated.getRemainingPages(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidConcurrency() {
+        Paginated.requestResources(page(1, 3, true), linkSupplier(3, true), 0);
+    }
+
+    @Test
+    public void lastKnown() {
+        List<ListPackagesResponse.Resource> actual = Paginated
+                .requestResources(page(1, 3, true), linkSupplier(3, true))
+                .toList().get();
+
+        assertEquals(Arrays.asList(resource(1), resource(2), resource(3)), actual);
+    }
+
+    @Test
+    public void lastUnknown() {
+        List<ListPackagesResponse.Resource> actual = Paginated
+                .requestResources(page(1, 3, false), linkSupplier(3, false))
+                .toList().get();
+
+        assertEquals(Arrays.asList(resource(1), resource(2), resource(3)), actual);
+    }
+
+    @Test
+    public void lastUnknownManyPages() {
+        List<ListPackagesResponse.Resource> actual = Paginated
+                .requestResources(page(1, 10_000, false), linkSupplier(10_000, false))
+                .toList().get();
+
+        assertEquals(10_000, actual.size());
+        assertEquals(resource(10_000), actual.get(9_999));
+    }
+
+    @Test
+    public void singlePage() {
+        List<ListPackagesResponse.Resource> actual = Paginated
+                .requestResources(page(1, 1, true), linkSupplier(1, true))
+                .toList().get();
+
+        assertEquals(Collections.singletonList(resource(1)), actual);
+    }
+
+    private static Link link(String href) {
+        return Link.builder()
+                .href(href)
+                .build();
+    }
+
+    private static Function<Link, Mono<ListPackagesResponse>> linkSupplier(final int totalPages, final boolean lastKnown) {
+        return new Function<Link, Mono<ListPackagesResponse>>() {
+
+            @Override
+            public Mono<ListPackagesResponse> apply(Link link) {
+                String href = link.getHref();
+                return page(Integer.parseInt(href.substring(href.lastIndexOf("page=") + "page=".length())), totalPages, lastKnown);
+            }
+
+        };
+    }
+
+    private static Mono<ListPackagesResponse> page(int page, int totalPages, boolean lastKnown) {
+        PaginatedResponse.Pagination.PaginationBuilder pagination = PaginatedResponse.Pagination.builder()
+                .first(link("https://api.run.pivotal.io/v3/packages?per_page=1&page=1"))
+                .totalResults(totalPages);
+
+        if (lastKnown) {
+            pagination.last(link(String.format("https://api.run.pivotal.io/v3/packages?per_page=1&page=%d", totalPages)));
+        }
+
+        if (page < totalPages) {
+            pagination.next(link(String.format("https://api.run.pivotal.io/v3/packages?per_page=1&page=%d", page + 1)));
+        }
+
+        return Mono.just(ListPackagesResponse.builder()
+                .pagination(pagination.build())
+                .resource(resource(page))
+                .build());
+    }
+
+    private static ListPackagesResponse.Resource resource(int i) {
+        return ListPackagesResponse.Resource.builder()
+                .id("test-id-" + i)
+                .build();
+    }
+
+}
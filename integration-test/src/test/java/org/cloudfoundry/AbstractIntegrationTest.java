@@ -17,8 +17,6 @@
 package org.cloudfoundry;
 
 import org.cloudfoundry.client.CloudFoundryClient;
-import org.cloudfoundry.client.v2.applications.DeleteApplicationRequest;
-import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v2.domains.DeleteDomainRequest;
 import org.cloudfoundry.client.v2.domains.ListDomainsRequest;
 import org.cloudfoundry.client.v2.organizations.DeleteOrganizationRequest;
@@ -27,6 +25,10 @@ import org.cloudfoundry.client.v2.routes.DeleteRouteRequest;
 import org.cloudfoundry.client.v2.routes.ListRoutesRequest;
 import org.cloudfoundry.client.v2.spaces.DeleteSpaceRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v3.applications.DeleteApplicationRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.links.FollowLinkRequest;
 import org.cloudfoundry.operations.CloudFoundryOperations;
 import org.cloudfoundry.operations.util.v2.Paginated;
 import org.cloudfoundry.operations.util.v2.Resources;
@@ -114,20 +116,23 @@ public abstract class AbstractIntegrationTest {
     }
 
     private static Stream<Void> cleanupApplications(CloudFoundryClient cloudFoundryClient) {
-        return Paginated
-                .requestResources(page -> {
-                    ListApplicationsRequest request = ListApplicationsRequest.builder()
-                            .page(page)
+        ListApplicationsRequest listRequest = ListApplicationsRequest.builder()
+                .build();
+
+        return org.cloudfoundry.operations.util.v3.Paginated
+                .requestResources(cloudFoundryClient.applicationsV3().list(listRequest), link -> {
+                    FollowLinkRequest request = FollowLinkRequest.builder()
+                            .link(link)
                             .build();
 
-                    return cloudFoundryClient.applicationsV2().list(request);
+                    return cloudFoundryClient.links().follow(request, ListApplicationsResponse.class);
                 })
                 .flatMap(response -> {
                     DeleteApplicationRequest request = DeleteApplicationRequest.builder()
-                            .id(Resources.getId(response))
+                            .id(response.getId())
                             .build();
 
-                    return cloudFoundryClient.applicationsV2().delete(request);
+                    return cloudFoundryClient.applicationsV3().delete(request);
                 });
     }
 